@@ -0,0 +1,68 @@
+import java.io.*;
+
+/**************************************************
+ * Measures the heap retained by a large parsed and type checked AST, for
+ * comparing changes to node layout (e.g. shared Types/Kinds descriptors).
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar AstFootprintBenchmark [methods]
+ ****************************************************/
+
+class AstFootprintBenchmark
+{
+	// One method with plenty of expressions, repeated to build a big tree
+	static final String CHUNK =
+		"\tint f%d(int a, int b) {\n" +
+		"\t\tint i; int j = 3; float x = 1.5; bool done = false;\n" +
+		"\t\tfor (i = 0; i < 100; i++) {\n" +
+		"\t\t\tx = x * 2.0 + 0.5 - x / 3.0;\n" +
+		"\t\t\tj = (j + a) * (b - i) / (j + 1) + i * i - a;\n" +
+		"\t\t\tif (x >= 1000.0 && !done || i == j) done = true; endif\n" +
+		"\t\t}\n" +
+		"\t\treturn a + i - 42 * j;\n" +
+		"\t}\n";
+
+	public static void main(String args[]) throws Exception
+	{
+		int methods = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+
+		StringBuilder source = new StringBuilder("class bench {\n");
+		for (int i = 0; i < methods; i++) {
+			source.append(String.format(CHUNK, i));
+		}
+		source.append("\tvoid main() { }\n}\n");
+
+		measure(source.toString(), methods);
+	} // main
+
+	static void measure(String source, int methods) throws Exception
+	{
+		PrintStream quiet = new PrintStream(OutputStream.nullOutputStream());
+		long before = usedHeap();
+
+		CompilationContext ctx = new CompilationContext(quiet);
+		Scanner scanner = new Scanner();
+		scanner.reset(new StringReader(source), quiet);
+		classNode root = (classNode) new parser(scanner, ctx).parse().value;
+		boolean ok = root.isTypeCorrect(ctx);
+
+		long retained = usedHeap() - before;
+		System.out.printf("%,d methods (%s): %,d bytes retained, %.1f bytes per method%n", methods,
+				ok ? "type correct" : "type errors", retained, retained / (double) methods);
+
+		// Keep the tree reachable until after the measurement
+		if (root.hashCode() == 0) {
+			System.out.println();
+		}
+	} // measure
+
+	static long usedHeap() throws InterruptedException
+	{
+		Runtime rt = Runtime.getRuntime();
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		return rt.totalMemory() - rt.freeMemory();
+	} // usedHeap
+} // class AstFootprintBenchmark
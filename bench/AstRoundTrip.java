@@ -0,0 +1,134 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**************************************************
+ * Compares the size of each file's tree encoded by AstWriter with its
+ * source, then times reading a large generated program back from its
+ * encoding against lexing and parsing it with either parser. Each is run
+ * ROUNDS times and the median shown. That trees come back the same is
+ * checked by test/AstRoundTripTest. Give the JVM a fixed heap, or the
+ * times are mostly the collector clearing the trees of earlier rounds.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -Xms4g -Xmx4g -XX:+UseParallelGC -cp bin:lib/java-cup-10l.jar AstRoundTrip [--methods N] [Tests]
+ ****************************************************/
+
+class AstRoundTrip
+{
+	static final PrintStream QUIET = new PrintStream(OutputStream.nullOutputStream());
+	static final int ROUNDS = 11;
+
+	public static void main(String args[]) throws Exception
+	{
+		// Trees are walked recursively, and list nodes nest as deep as the list is long
+		Thread worker = new Thread(null, () -> {
+			try {
+				run(args);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		}, "roundtrip", 1L << 30);
+		worker.start();
+		worker.join();
+	} // main
+
+	static void run(String args[]) throws Exception
+	{
+		int methods = 20000;
+		List<String> files = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("--methods") && i + 1 < args.length) {
+				methods = Integer.parseInt(args[++i]);
+			} else {
+				P4.expandArgument(args[i], files);
+			}
+		}
+
+		long sourceBytes = 0;
+		long treeBytes = 0;
+		for (String file : files) {
+			String source = new String(Files.readAllBytes(Paths.get(file)), "US-ASCII");
+			classNode tree = parse(source, false);
+			if (tree != null) {
+				sourceBytes += source.length();
+				treeBytes += encode(tree).length;
+			}
+		}
+		if (!files.isEmpty()) {
+			System.out.printf("%d files: %,d bytes of source, %,d bytes encoded (%.0f%%)%n", files.size(),
+					sourceBytes, treeBytes, 100.0 * treeBytes / Math.max(1, sourceBytes));
+		}
+
+		timeLargeProgram(methods);
+	} // run
+
+	static void timeLargeProgram(int methods) throws Exception
+	{
+		StringBuilder program = new StringBuilder("class bench {\n");
+		for (int i = 0; i < methods; i++) {
+			program.append(String.format(AstFootprintBenchmark.CHUNK, i));
+		}
+		program.append("\tvoid main() { }\n}\n");
+		String source = program.toString();
+
+		byte[] encoded = encode(parse(source, true));
+		System.out.printf("%,d methods: %,d bytes of source, %,d bytes encoded (%.0f%%)%n", methods, source.length(),
+				encoded.length, 100.0 * encoded.length / source.length());
+
+		double[] cup = new double[ROUNDS];
+		double[] descent = new double[ROUNDS];
+		double[] write = new double[ROUNDS];
+		double[] read = new double[ROUNDS];
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			parse(source, false);
+			cup[round] = (System.nanoTime() - start) / 1e6;
+
+			start = System.nanoTime();
+			classNode tree = parse(source, true);
+			descent[round] = (System.nanoTime() - start) / 1e6;
+
+			start = System.nanoTime();
+			encode(tree);
+			write[round] = (System.nanoTime() - start) / 1e6;
+
+			start = System.nanoTime();
+			new AstReader(new ByteArrayInputStream(encoded)).readTree();
+			read[round] = (System.nanoTime() - start) / 1e6;
+		}
+		System.out.printf("median of %d: lex+parse %.1f ms (cup), %.1f ms (descent); write %.1f ms, read %.1f ms%n",
+				ROUNDS, median(cup), median(descent), median(write), median(read));
+	} // timeLargeProgram
+
+	static double median(double[] times)
+	{
+		double[] sorted = times.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	static classNode parse(String source, boolean descent) throws Exception
+	{
+		CompilationContext ctx = new CompilationContext(QUIET);
+		Scanner scanner = new Scanner();
+		scanner.reset(new StringReader(source), QUIET);
+		try {
+			if (descent) {
+				return new DescentParser(scanner, ctx).parse();
+			}
+			return (classNode) new parser(scanner, ctx).parse().value;
+		} catch (SyntaxErrorException e) {
+			return null;
+		}
+	} // parse
+
+	static byte[] encode(ASTNode tree) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		AstWriter writer = new AstWriter(bytes);
+		writer.writeTree(tree);
+		writer.flush();
+		return bytes.toByteArray();
+	} // encode
+} // class AstRoundTrip
@@ -0,0 +1,84 @@
+import java.io.*;
+
+/**************************************************
+ * Times checking a large program again after one method is edited, in full
+ * and with an IncrementalChecker that saw the program before the edit, and
+ * checks that both print exactly the same. Every tenth method has a type
+ * error so there are diagnostics to carry over. The edits change a body
+ * in place, add lines to a body (moving every later method), add a type
+ * error, and change a method header (which makes the check a full one).
+ * The incremental time includes reading the text and finding the edit.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar IncrementalBenchmark [methods] [rounds]
+ ****************************************************/
+
+class IncrementalBenchmark
+{
+	// A method with a type error: an int can't be assigned a bool
+	static final String BAD_CHUNK =
+		"\tint f%d(int a, int b) {\n" +
+		"\t\tint i = 0;\n" +
+		"\t\ti = a < b;\n" +
+		"\t\treturn i;\n" +
+		"\t}\n";
+
+	public static void main(String args[]) throws Exception
+	{
+		int methods = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		P4.descent = true; // The faster parser, so checking is a bigger share of each run
+
+		StringBuilder program = new StringBuilder("class bench {\n");
+		for (int i = 0; i < methods; i++) {
+			program.append(String.format(i % 10 == 0 ? BAD_CHUNK : AstFootprintBenchmark.CHUNK, i));
+		}
+		program.append("\tvoid main() { }\n}\n");
+		String original = program.toString();
+
+		String target = "int f" + (methods / 2 + 1) + "(";
+		String[][] edits = {
+			{ "body", "return a + i - 42 * j;", "return a + i - 43 * j;" },
+			{ "lines", "return a + i - 42 * j;", "j = j + 1;\n\t\treturn a + i - 42 * j;" },
+			{ "error", "return a + i - 42 * j;", "return a + i - 42 * done;" },
+			{ "header", "(int a, int b) {", "(int a, int c) {\n\t\tint b = c;" },
+		};
+
+		boolean same = true;
+		for (int r = 1; r <= rounds; r++) {
+			for (String[] edit : edits) {
+				int at = original.indexOf(edit[1], original.indexOf(target));
+				String edited = original.substring(0, at) + edit[2] + original.substring(at + edit[1].length());
+
+				IncrementalChecker checker = new IncrementalChecker();
+				check(original, checker);
+
+				long start = System.nanoTime();
+				String full = check(edited, null);
+				long fullNanos = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				String incremental = check(edited, checker);
+				long incrementalNanos = System.nanoTime() - start;
+
+				same &= full.equals(incremental);
+				System.out.printf("%-6s round %d: full %.1f ms, incremental %.1f ms (%s, %d bodies re-checked, %d reused)%s%n",
+						edit[0], r, fullNanos / 1e6, incrementalNanos / 1e6,
+						checker.reparsed < 0 ? "parsed in full" : checker.reparsed + " methods parsed",
+						checker.rechecked, checker.reused,
+						full.equals(incremental) ? "" : ", OUTPUT DIFFERS");
+			}
+		}
+		System.exit(same ? 0 : 1);
+	} // main
+
+	/* What P4 prints for source, checked incrementally if checker isn't null */
+	static String check(String source, IncrementalChecker checker) throws Exception
+	{
+		ByteArrayOutputStream text = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(text);
+		P4.compile("bench.csx", new StringReader(source), out, checker);
+		out.flush();
+		return text.toString();
+	} // check
+} // class IncrementalBenchmark
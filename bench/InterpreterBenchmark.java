@@ -0,0 +1,153 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**************************************************
+ * Times the Interpreter running programs with its variables in frame
+ * slots (Frame) against the same programs with them in a map from names
+ * to boxed values (MapFrame). Both must print exactly the same. Without
+ * arguments it runs LOOPS, which spends its time in loops over ints,
+ * floats and arrays, and a generated program; otherwise the files named.
+ * Each program is parsed and checked once and then run over and over.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar InterpreterBenchmark [file.csx ...]
+ ****************************************************/
+
+class InterpreterBenchmark
+{
+	// A sieve, a doubly nested loop of recursive calls and a float accumulation
+	static final String LOOPS = """
+			class Loops {
+				int sieve[20000];
+				int primes = 0;
+				float sum = 0.0;
+
+				int gcd(int a, int b) {
+					if (b == 0)
+						return a;
+					endif
+					return gcd(b, a - a / b * b);
+				}
+
+				void countPrimes() {
+					int i = 0;
+					int j = 0;
+					primes = 0;
+					for (i = 0; i < 20000; i++)
+						sieve[i] = 1;
+					i = 2;
+					scan: while (i < 20000) {
+						if (sieve[i] == 0) {
+							i++;
+							continue scan;
+						}
+						endif
+						primes++;
+						j = i * i;
+						mark: while (j < 20000) {
+							sieve[j] = 0;
+							j = j + i;
+						}
+						i++;
+					}
+				}
+
+				void gcds() {
+					int a = 0;
+					int b = 0;
+					int total = 0;
+					for (a = 1; a < 120; a++)
+						for (b = 1; b < 120; b++)
+							total = total + gcd(a, b);
+					print(total, '\\n');
+				}
+
+				void accumulate() {
+					int i = 0;
+					float x = 0.0;
+					sum = 0.0;
+					while (i < 100000) {
+						sum = sum + x * 0.5;
+						x = x + 1.0;
+						i++;
+					}
+				}
+
+				void main() {
+					countPrimes();
+					gcds();
+					accumulate();
+					print(primes, '\\n', sum, '\\n');
+				}
+			}
+			""";
+
+	static final int RUNS = 20;
+
+	public static void main(String args[]) throws Exception
+	{
+		Map<String, String> programs = new LinkedHashMap<String, String>();
+		if (args.length == 0) {
+			programs.put("LOOPS", LOOPS);
+			programs.put("generated 256 KB", new ProgramGenerator(1).generate(256 << 10));
+		}
+		for (String arg : args) {
+			programs.put(arg, new String(Files.readAllBytes(Paths.get(arg)), "ISO-8859-1"));
+		}
+
+		System.out.println("program                      slots ms/run   map ms/run   map/slots");
+		for (Map.Entry<String, String> program : programs.entrySet()) {
+			classNode tree = check(program.getValue());
+			String slotOutput = run(tree, false);
+			if (!slotOutput.equals(run(tree, true))) {
+				throw new IllegalStateException(program.getKey() + " prints differently from a MapFrame");
+			}
+
+			// Warm both up, then alternate so neither gets the JIT to itself
+			double slots = 0;
+			double map = 0;
+			for (int i = 0; i < RUNS; i++) {
+				time(tree, false);
+				time(tree, true);
+			}
+			for (int i = 0; i < RUNS; i++) {
+				slots += time(tree, false);
+				map += time(tree, true);
+			}
+			System.out.printf("%-28s %12.2f %12.2f %11.2f%n", program.getKey(), slots / RUNS, map / RUNS, map / slots);
+		}
+	} // main
+
+	/* The tree of a program that must parse and type check cleanly */
+	static classNode check(String source) throws Exception
+	{
+		classNode tree = AstRoundTrip.parse(source, false);
+		if (tree == null || !tree.isTypeCorrect(new CompilationContext(AstRoundTrip.QUIET))) {
+			throw new IllegalArgumentException("The program has errors, so it can't be run");
+		}
+		return tree;
+	} // check
+
+	/* Runs a checked program with no input, returning what it printed */
+	static String run(classNode program, boolean map)
+	{
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer);
+		Interpreter interpreter = new Interpreter(program, Reader.nullReader(), out);
+		Frame globals = map ? new MapFrame(interpreter) : new Frame(interpreter, program.layout);
+		if (!interpreter.run(globals)) {
+			throw new IllegalStateException("Runtime error: " + buffer.toString().trim());
+		}
+		out.flush();
+		return buffer.toString();
+	} // run
+
+	/* Milliseconds one run takes */
+	static double time(classNode program, boolean map)
+	{
+		long start = System.nanoTime();
+		run(program, map);
+		return (System.nanoTime() - start) / 1e6;
+	} // time
+} // class InterpreterBenchmark
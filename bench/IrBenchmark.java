@@ -0,0 +1,91 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**************************************************
+ * Times programs lowered to the register IR and run by IrInterpreter,
+ * unoptimized and with every IrOptimizer pass, against the same programs
+ * run on the tree by the Interpreter. All must print exactly the same.
+ * Without arguments it runs InterpreterBenchmark.LOOPS and a generated
+ * program; otherwise the files named. Each program is parsed, checked and
+ * lowered once and then run over and over; the instructions left after
+ * each pass set are shown next to the times.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar IrBenchmark [file.csx ...]
+ ****************************************************/
+
+class IrBenchmark
+{
+	static final int RUNS = 20;
+
+	public static void main(String args[]) throws Exception
+	{
+		Map<String, String> programs = new LinkedHashMap<String, String>();
+		if (args.length == 0) {
+			programs.put("LOOPS", InterpreterBenchmark.LOOPS);
+			programs.put("generated 256 KB", new ProgramGenerator(1).generate(256 << 10));
+		}
+		for (String arg : args) {
+			programs.put(arg, new String(Files.readAllBytes(Paths.get(arg)), "ISO-8859-1"));
+		}
+
+		System.out.println("program                   instrs  optimized   tree ms/run   ir ms/run   opt ms/run   tree/opt");
+		for (Map.Entry<String, String> program : programs.entrySet()) {
+			classNode tree = InterpreterBenchmark.check(program.getValue());
+			IrProgram plain = lower(tree, "none");
+			IrProgram optimized = lower(tree, "all");
+			String expected = InterpreterBenchmark.run(tree, false);
+			if (!run(plain).equals(expected) || !run(optimized).equals(expected)) {
+				throw new IllegalStateException(program.getKey() + " prints differently from the IR");
+			}
+
+			// Warm all three up, then alternate so none gets the JIT to itself
+			double interpreted = 0;
+			double unoptimized = 0;
+			double ir = 0;
+			for (int i = 0; i < RUNS; i++) {
+				InterpreterBenchmark.time(tree, false);
+				time(plain);
+				time(optimized);
+			}
+			for (int i = 0; i < RUNS; i++) {
+				interpreted += InterpreterBenchmark.time(tree, false);
+				unoptimized += time(plain);
+				ir += time(optimized);
+			}
+			System.out.printf("%-24s %7d %10d %13.2f %11.2f %12.2f %10.2f%n", program.getKey(),
+					plain.instructions(), optimized.instructions(), interpreted / RUNS,
+					unoptimized / RUNS, ir / RUNS, interpreted / ir);
+		}
+	} // main
+
+	/* A checked program lowered, optimized with the passes named (as for --passes) and linked */
+	static IrProgram lower(classNode program, String passes)
+	{
+		IrProgram lowered = IrProgram.lower(program);
+		new IrOptimizer(IrOptimizer.passes(passes)).optimize(lowered);
+		lowered.link();
+		return lowered;
+	}
+
+	/* Runs a lowered program with no input, returning what it printed */
+	static String run(IrProgram program)
+	{
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer);
+		if (!new IrInterpreter(program, Reader.nullReader(), out).run()) {
+			throw new IllegalStateException("Runtime error: " + buffer.toString().trim());
+		}
+		out.flush();
+		return buffer.toString();
+	}
+
+	/* Milliseconds one run takes */
+	static double time(IrProgram program)
+	{
+		long start = System.nanoTime();
+		run(program);
+		return (System.nanoTime() - start) / 1e6;
+	}
+} // class IrBenchmark
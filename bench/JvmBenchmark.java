@@ -0,0 +1,88 @@
+import java.io.*;
+import java.lang.reflect.Method;
+import java.nio.file.*;
+import java.util.*;
+
+/**************************************************
+ * Times programs compiled to JVM bytecode by JvmBackend against the same
+ * programs run by the Interpreter, with its variables in frame slots.
+ * Both must print exactly the same. Without arguments it runs
+ * InterpreterBenchmark.LOOPS and a generated program; otherwise the files
+ * named. Each program is parsed, checked and compiled once and then run
+ * over and over; the time to generate and load the class is shown apart.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar JvmBenchmark [file.csx ...]
+ ****************************************************/
+
+class JvmBenchmark
+{
+	static final int RUNS = 20;
+
+	public static void main(String args[]) throws Exception
+	{
+		Map<String, String> programs = new LinkedHashMap<String, String>();
+		if (args.length == 0) {
+			programs.put("LOOPS", InterpreterBenchmark.LOOPS);
+			programs.put("generated 256 KB", new ProgramGenerator(1).generate(256 << 10));
+		}
+		for (String arg : args) {
+			programs.put(arg, new String(Files.readAllBytes(Paths.get(arg)), "ISO-8859-1"));
+		}
+
+		System.out.println("program                   compile ms   interp ms/run   jvm ms/run   interp/jvm");
+		for (Map.Entry<String, String> program : programs.entrySet()) {
+			classNode tree = InterpreterBenchmark.check(program.getValue());
+			long start = System.nanoTime();
+			Method compiled = compile(tree);
+			double compile = (System.nanoTime() - start) / 1e6;
+			if (!run(compiled).equals(InterpreterBenchmark.run(tree, false))) {
+				throw new IllegalStateException(program.getKey() + " prints differently when compiled");
+			}
+
+			// Warm both up, then alternate so neither gets the JIT to itself
+			double interpreted = 0;
+			double jvm = 0;
+			for (int i = 0; i < RUNS; i++) {
+				InterpreterBenchmark.time(tree, false);
+				time(compiled);
+			}
+			for (int i = 0; i < RUNS; i++) {
+				interpreted += InterpreterBenchmark.time(tree, false);
+				jvm += time(compiled);
+			}
+			System.out.printf("%-24s %11.2f %15.2f %12.2f %12.2f%n", program.getKey(), compile,
+					interpreted / RUNS, jvm / RUNS, interpreted / jvm);
+		}
+	} // main
+
+	/* A checked program compiled and loaded, ready for run */
+	static Method compile(classNode program) throws ReflectiveOperationException
+	{
+		return JvmBackend.load(program, null);
+	}
+
+	/* Runs a compiled program with no input, returning what it printed */
+	static String run(Method program)
+	{
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer);
+		try {
+			if (!JvmBackend.run(program, Reader.nullReader(), out)) {
+				throw new IllegalStateException("Runtime error: " + buffer.toString().trim());
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+		out.flush();
+		return buffer.toString();
+	} // run
+
+	/* Milliseconds one run takes */
+	static double time(Method program)
+	{
+		long start = System.nanoTime();
+		run(program);
+		return (System.nanoTime() - start) / 1e6;
+	}
+} // class JvmBenchmark
@@ -0,0 +1,69 @@
+import java.util.HashMap;
+
+/**************************************************
+ * A Frame that ignores the slots the type checker gave out and keeps
+ * every variable, boxed, in a HashMap under its name, the way a simple
+ * interpreter keeps its environment. InterpreterBenchmark runs programs
+ * in these to measure what the slots save.
+ *
+ * Fields live in the map of the outermost frame. Since every call gets a
+ * map of its own and a method's variables all have different names, this
+ * gives the same results as the slots do.
+ ****************************************************/
+
+class MapFrame extends Frame
+{
+	private static final FrameLayout NO_SLOTS = new FrameLayout(false);
+
+	private final HashMap<String, Object> values = new HashMap<String, Object>();
+
+	MapFrame(Interpreter interpreter)
+	{
+		super(interpreter, NO_SLOTS);
+	}
+
+	MapFrame(Frame caller)
+	{
+		super(caller, NO_SLOTS);
+	}
+
+	Frame enter(methodDeclNode method)
+	{
+		return new MapFrame(this);
+	}
+
+	private HashMap<String, Object> scope(SymbolInfo v)
+	{
+		return v.global ? ((MapFrame) globals).values : values;
+	}
+
+	int loadInt(SymbolInfo v)
+	{
+		return (Integer) scope(v).get(v.name());
+	}
+
+	void storeInt(SymbolInfo v, int value)
+	{
+		scope(v).put(v.name(), value);
+	}
+
+	float loadFloat(SymbolInfo v)
+	{
+		return (Float) scope(v).get(v.name());
+	}
+
+	void storeFloat(SymbolInfo v, float value)
+	{
+		scope(v).put(v.name(), value);
+	}
+
+	Object loadArray(SymbolInfo v)
+	{
+		return scope(v).get(v.name());
+	}
+
+	void storeArray(SymbolInfo v, Object value)
+	{
+		scope(v).put(v.name(), value);
+	}
+} // class MapFrame
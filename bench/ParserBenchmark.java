@@ -0,0 +1,105 @@
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java_cup.runtime.Symbol;
+
+/**************************************************
+ * Times the CUP parser against DescentParser on a large generated program.
+ * The program is lexed once and its tokens replayed from an array, so the
+ * "parse" rows measure the parsers alone; the "lex+parse" rows include
+ * scanning the text as P4 does. Each row also gives the bytes the parse
+ * allocated, as counted by the JVM for the current thread.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar ParserBenchmark [methods] [rounds]
+ ****************************************************/
+
+class ParserBenchmark
+{
+	/* Hands out a token list that was lexed ahead of time */
+	static class Replay implements java_cup.runtime.Scanner
+	{
+		private final Symbol[] tokens;
+		private int next = 0;
+
+		/* CUP marks the symbols it reads and won't take one twice, so each replay gets fresh ones */
+		Replay(Symbol[] lexed)
+		{
+			tokens = new Symbol[lexed.length];
+			for (int i = 0; i < lexed.length; i++) {
+				Symbol t = lexed[i];
+				tokens[i] = new Symbol(t.sym, t.left, t.right, t.value);
+			}
+		}
+
+		/* More EOFs if a parser reads past the end, as a real scanner would give */
+		public Symbol next_token()
+		{
+			return next < tokens.length ? tokens[next++] : new Symbol(sym.EOF);
+		}
+	} // class Replay
+
+	static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	static final PrintStream QUIET = new PrintStream(OutputStream.nullOutputStream());
+
+	public static void main(String args[]) throws Exception
+	{
+		int methods = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		StringBuilder program = new StringBuilder("class bench {\n");
+		for (int i = 0; i < methods; i++) {
+			program.append(String.format(AstFootprintBenchmark.CHUNK, i));
+		}
+		program.append("\tvoid main() { }\n}\n");
+		String source = program.toString();
+
+		List<Symbol> lexed = new ArrayList<Symbol>();
+		Scanner scanner = new Scanner();
+		scanner.reset(new StringReader(source), QUIET);
+		Symbol t;
+		do {
+			t = scanner.next_token();
+			lexed.add(t);
+		} while (t.sym != sym.EOF);
+		Symbol[] tokens = lexed.toArray(new Symbol[0]);
+		System.out.printf("%,d chars, %,d tokens%n", source.length(), tokens.length);
+
+		for (int r = 1; r <= rounds; r++) {
+			for (boolean descent : new boolean[] { false, true }) {
+				Replay replay = new Replay(tokens);
+				long bytes = THREADS.getCurrentThreadAllocatedBytes();
+				long start = System.nanoTime();
+				parse(replay, descent);
+				report("parse", descent, r, tokens.length, System.nanoTime() - start,
+						THREADS.getCurrentThreadAllocatedBytes() - bytes);
+			}
+			for (boolean descent : new boolean[] { false, true }) {
+				long bytes = THREADS.getCurrentThreadAllocatedBytes();
+				long start = System.nanoTime();
+				scanner.reset(new StringReader(source), QUIET);
+				parse(scanner, descent);
+				report("lex+parse", descent, r, tokens.length, System.nanoTime() - start,
+						THREADS.getCurrentThreadAllocatedBytes() - bytes);
+			}
+		}
+	} // main
+
+	static classNode parse(java_cup.runtime.Scanner tokens, boolean descent) throws Exception
+	{
+		CompilationContext ctx = new CompilationContext(QUIET);
+		if (descent) {
+			return new DescentParser(tokens, ctx).parse();
+		}
+		return (classNode) new parser(tokens, ctx).parse().value;
+	} // parse
+
+	static void report(String what, boolean descent, int round, int tokens, long nanos, long bytes)
+	{
+		double seconds = nanos / 1e9;
+		System.out.printf("%-9s %-7s round %d: %.3f s, %.1f M tokens/s, %,d bytes allocated%n", what,
+				descent ? "descent" : "cup", round, seconds, tokens / 1e6 / seconds, bytes);
+	} // report
+} // class ParserBenchmark
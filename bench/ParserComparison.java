@@ -0,0 +1,187 @@
+import java.io.*;
+import java.lang.reflect.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**************************************************
+ * Checks that DescentParser and the CUP parser agree: for each file without
+ * syntax errors both must print the same text and build the same tree,
+ * compared field by field (node classes, line and column numbers, literal
+ * values and names). For a file with syntax errors both must report the
+ * first one at the same line; how they recover after it may differ, so
+ * that is only counted. With --mutate N each file is also checked in N
+ * randomly damaged variants to cover the error paths.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar ParserComparison [--mutate N] [--seed S] Tests
+ ****************************************************/
+
+class ParserComparison
+{
+	// Fragments spliced into source by --mutate, so damage is usually a token or two
+	static final String[] FRAGMENTS = { ";", "{", "}", "(", ")", "[", "]", ",", "=", "+", "<", "!", "x",
+			"int", "void", "if", "else", "endif", "while", "return", "1", "'c'", "\"s\"", "++", "const" };
+
+	static int checked = 0;
+	static int failed = 0;
+	static int withErrors = 0; // Inputs with syntax errors
+	static int recoveredAlike = 0; // ... where both parsers printed exactly the same
+
+	/* What one parser made of an input */
+	static class Parsed
+	{
+		String text;
+		classNode tree; // Null if the parse gave up
+		int syntaxErrors;
+	} // class Parsed
+
+	public static void main(String args[]) throws Exception
+	{
+		// Trees are compared recursively, and list nodes nest as deep as the list is long
+		Thread worker = new Thread(null, () -> {
+			try {
+				run(args);
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		}, "compare", 1L << 30);
+		worker.start();
+		worker.join();
+		System.exit(failed == 0 ? 0 : 1);
+	} // main
+
+	static void run(String args[]) throws Exception
+	{
+		int mutations = 0;
+		long seed = 1;
+		List<String> files = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("--mutate") && i + 1 < args.length) {
+				mutations = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("--seed") && i + 1 < args.length) {
+				seed = Long.parseLong(args[++i]);
+			} else {
+				P4.expandArgument(args[i], files);
+			}
+		}
+
+		Random random = new Random(seed);
+		for (String file : files) {
+			String source = new String(Files.readAllBytes(Paths.get(file)), "US-ASCII");
+			compare(file, source);
+			for (int m = 0; m < mutations; m++) {
+				compare(file + " (mutation " + m + ")", mutate(source, random));
+			}
+		}
+
+		System.out.println(checked + " inputs compared, " + failed + " differences.");
+		System.out.println(withErrors + " had syntax errors, and both parsers printed the same for "
+				+ recoveredAlike + " of them.");
+	} // run
+
+	static void compare(String label, String source) throws Exception
+	{
+		checked++;
+		Parsed cup = parse(source, false);
+		Parsed descent = parse(source, true);
+
+		String difference = null;
+		if (cup.syntaxErrors > 0 || descent.syntaxErrors > 0) {
+			withErrors++;
+			if (cup.syntaxErrors == 0 || descent.syntaxErrors == 0) {
+				difference = "only one parser found a syntax error";
+			} else if (!firstLine(cup.text).equals(firstLine(descent.text))) {
+				difference = "first error differs:\n--- cup\n" + cup.text + "--- descent\n" + descent.text;
+			} else if (cup.text.equals(descent.text)) {
+				recoveredAlike++;
+			}
+		} else if (!cup.text.equals(descent.text)) {
+			difference = "output differs:\n--- cup\n" + cup.text + "--- descent\n" + descent.text;
+		} else {
+			difference = sameTree(cup.tree, descent.tree);
+			difference = difference == null ? null : "class" + difference;
+		}
+
+		if (difference != null) {
+			failed++;
+			System.out.println(label + ": " + difference);
+		}
+	} // compare
+
+	static Parsed parse(String source, boolean descent) throws Exception
+	{
+		ByteArrayOutputStream text = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(text);
+		CompilationContext ctx = new CompilationContext(out);
+		Scanner scanner = new Scanner();
+		scanner.reset(new StringReader(source), out);
+		Parsed parsed = new Parsed();
+		try {
+			if (descent) {
+				parsed.tree = new DescentParser(scanner, ctx).parse();
+			} else {
+				parsed.tree = (classNode) new parser(scanner, ctx).parse().value;
+			}
+		} catch (SyntaxErrorException e) {
+			parsed.tree = null;
+		}
+		out.flush();
+		parsed.text = text.toString();
+		parsed.syntaxErrors = ctx.syntaxErrors;
+		return parsed;
+	} // parse
+
+	static String firstLine(String text)
+	{
+		int end = text.indexOf('\n');
+		return end < 0 ? text : text.substring(0, end);
+	} // firstLine
+
+	/* Null if the two subtrees match, otherwise the field path to where they differ and how */
+	static String sameTree(Object a, Object b) throws IllegalAccessException
+	{
+		if (a == b) {
+			return null;
+		}
+		if (a == null || b == null || a.getClass() != b.getClass()) {
+			return ": " + describe(a) + " vs " + describe(b);
+		}
+		if (a instanceof Name) {
+			return a.toString().equals(b.toString()) ? null : ": " + a + " vs " + b;
+		}
+		if (!(a instanceof ASTNode)) {
+			return a.equals(b) ? null : ": " + a + " vs " + b;
+		}
+
+		for (Class<?> c = a.getClass(); c != Object.class; c = c.getSuperclass()) {
+			for (Field f : c.getDeclaredFields()) {
+				if (Modifier.isStatic(f.getModifiers())) {
+					continue;
+				}
+				f.setAccessible(true);
+				String difference = sameTree(f.get(a), f.get(b));
+				if (difference != null) {
+					return "." + f.getName() + difference;
+				}
+			}
+		}
+		return null;
+	} // sameTree
+
+	static String describe(Object o)
+	{
+		return o == null ? "null" : o.getClass().getSimpleName();
+	} // describe
+
+	/* Deletes a stretch of source, or splices in a fragment, at a random spot */
+	static String mutate(String source, Random random)
+	{
+		int at = random.nextInt(source.length() + 1);
+		if (random.nextBoolean() && at < source.length()) {
+			int end = Math.min(source.length(), at + 1 + random.nextInt(8));
+			return source.substring(0, at) + source.substring(end);
+		}
+		String fragment = FRAGMENTS[random.nextInt(FRAGMENTS.length)];
+		return source.substring(0, at) + " " + fragment + " " + source.substring(at);
+	} // mutate
+} // class ParserComparison
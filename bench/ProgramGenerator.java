@@ -0,0 +1,1133 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**************************************************
+ * Writes synthetic CSX programs of any size from 1 KB up, for the
+ * benchmarks, load tests of the compile server and tracking memory
+ * footprint. The program depends only on the seed and the settings, so
+ * a test can regenerate it instead of storing it.
+ *
+ * Programs cover the whole grammar: fields, arrays and consts in the class
+ * and in methods, methods with many parameters, calls, nested if, while
+ * and for with labelled break and continue, read and print, casts and
+ * expression trees of up to --deep nodes. By default a program type
+ * checks without errors and also runs to completion: every loop counts to
+ * at most 3 and a method only calls methods of a lower level than its own.
+ *
+ * With --errors P, each declaration and statement is swapped, with chance
+ * P, for one with exactly one type error (or a method for a redeclared
+ * one). The number swapped in is printed at the end, so a test can check
+ * that P4 reports exactly that many.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar ProgramGenerator [--seed N] [--size 10MB] [--errors P]
+ *     [--max-args N] [--nesting N] [--deep N] [-o file]
+ ****************************************************/
+
+class ProgramGenerator
+{
+	static final int[] SCALARS = { Types.Integer, Types.Character, Types.Boolean, Types.Real };
+	static final int TOP_LEVEL = 3; // Level of main, which may call any method
+	static final String[] ESCAPES = { "\\n", "\\t", "\\\\" };
+
+	// Settings; change them before calling write
+	double errorRate = 0; // Chance of a type error in each declaration and statement
+	int maxArgs = 12; // Most parameters a method takes
+	int maxNesting = 3; // Deepest nesting of if, while, for and blocks
+	int deepExpression = 64; // Nodes in the occasional very deep expression
+	int maxLoopCount = 3; // Most times any loop goes round
+
+	/* A field, local, parameter, array or const that is in scope */
+	private static class Var
+	{
+		final String name;
+		final int type;
+		final int kind;
+		final int size; // Elements of an array
+		final int frame; // Which type checker scope it is declared in
+		final boolean readOnly; // Consts, and variables the generator relies on
+
+		Var(String name, int type, int kind, int size, int frame, boolean readOnly)
+		{
+			this.name = name;
+			this.type = type;
+			this.kind = kind;
+			this.size = size;
+			this.frame = frame;
+			this.readOnly = readOnly;
+		}
+
+		boolean array()
+		{
+			return kind == Kinds.Array || kind == Kinds.ArrayParm;
+		}
+
+		boolean assignable()
+		{
+			return !readOnly && (kind == Kinds.Var || kind == Kinds.ScalarParm);
+		}
+	} // class Var
+
+	private static class Method
+	{
+		final String name;
+		final int type;
+		final int[] params;
+		final boolean arrayParams; // Such a method can't be called, since no argument may be an array
+		final int level; // Only methods of a lower level are called from it
+
+		Method(String name, int type, int[] params, boolean arrayParams, int level)
+		{
+			this.name = name;
+			this.type = type;
+			this.params = params;
+			this.arrayParams = arrayParams;
+			this.level = level;
+		}
+	} // class Method
+
+	private final Random random;
+	private int nextId = 0;
+	private long written = 0;
+	private int methodCount = 0;
+	private int injected = 0;
+
+	private final ArrayList<Var> scope = new ArrayList<Var>(); // Innermost last
+	private final ArrayList<Method> methods = new ArrayList<Method>();
+	private Method current; // Null while writing fields
+	private StringBuilder counters; // Declarations of the current method's loop counters
+	private final ArrayList<String> loops = new ArrayList<String>(); // Labels of the enclosing while loops
+	private final ArrayList<ArrayList<String>> frames = new ArrayList<ArrayList<String>>(); // Finished labels
+	private boolean literalsOnly = false;
+
+	ProgramGenerator(long seed)
+	{
+		random = new Random(seed);
+	}
+
+	public static void main(String args[]) throws IOException
+	{
+		long seed = 1;
+		long size = 1 << 20;
+		String output = null;
+		double errorRate = 0;
+		int maxArgs = -1;
+		int nesting = -1;
+		int deep = -1;
+		for (int i = 0; i < args.length; i++) {
+			if (i + 1 == args.length) {
+				usage();
+			}
+			switch (args[i]) {
+			case "--seed":
+				seed = Long.parseLong(args[++i]);
+				break;
+			case "--size":
+				size = parseSize(args[++i]);
+				break;
+			case "--errors":
+				errorRate = Double.parseDouble(args[++i]);
+				break;
+			case "--max-args":
+				maxArgs = Integer.parseInt(args[++i]);
+				break;
+			case "--nesting":
+				nesting = Integer.parseInt(args[++i]);
+				break;
+			case "--deep":
+				deep = Integer.parseInt(args[++i]);
+				break;
+			case "-o":
+				output = args[++i];
+				break;
+			default:
+				usage();
+			}
+		}
+
+		ProgramGenerator generator = new ProgramGenerator(seed);
+		generator.errorRate = errorRate;
+		if (maxArgs >= 0) {
+			generator.maxArgs = maxArgs;
+		}
+		if (nesting >= 0) {
+			generator.maxNesting = nesting;
+		}
+		if (deep > 0) {
+			generator.deepExpression = deep;
+		}
+
+		Writer out = output == null
+				? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII), 1 << 16)
+				: Files.newBufferedWriter(Paths.get(output), StandardCharsets.US_ASCII);
+		try {
+			generator.write(out, size);
+		} finally {
+			out.close();
+		}
+		System.err.printf("%,d bytes, %,d methods, %,d type errors%n", generator.written(), generator.methods(),
+				generator.injected());
+	} // main
+
+	static void usage()
+	{
+		System.err.println("usage: java ProgramGenerator [--seed N] [--size N[KB|MB|GB]] [--errors P]"
+				+ " [--max-args N] [--nesting N] [--deep N] [-o file]");
+		System.exit(1);
+	}
+
+	/* A byte count such as 4096, 64KB, 10MB or 1GB */
+	static long parseSize(String text)
+	{
+		String digits = text.toUpperCase().replaceAll("B$", "");
+		long unit = 1;
+		if (digits.endsWith("K")) {
+			unit = 1L << 10;
+		} else if (digits.endsWith("M")) {
+			unit = 1L << 20;
+		} else if (digits.endsWith("G")) {
+			unit = 1L << 30;
+		}
+		if (unit != 1) {
+			digits = digits.substring(0, digits.length() - 1);
+		}
+		return Long.parseLong(digits) * unit;
+	} // parseSize
+
+	/* A whole program of about size bytes, for sizes that fit in a String */
+	String generate(int size)
+	{
+		StringWriter out = new StringWriter(size + 4096);
+		try {
+			write(out, size);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // A StringWriter doesn't fail
+		}
+		return out.toString();
+	}
+
+	/*
+	 * Writes a program of about size bytes to out, a method at a time, so
+	 * no more than one method is ever held in memory. It ends with main as
+	 * soon as that would take it past size, so it may fall short by a few
+	 * hundred bytes or go over by one method.
+	 */
+	void write(Writer out, long size) throws IOException
+	{
+		StringBuilder text = new StringBuilder(1 << 12);
+		text.append("class program").append(id()).append(" {\n");
+		frames.add(new ArrayList<String>());
+		int fields = 2 + random.nextInt(8);
+		for (int i = 0; i < fields; i++) {
+			declaration(text, 1, false);
+		}
+		emit(out, text);
+
+		while (written + 600 < size) {
+			method(text, size - written);
+			emit(out, text);
+		}
+
+		current = new Method("main", Types.Void, new int[0], false, TOP_LEVEL);
+		body(text, new int[0], false, 1 + random.nextInt(6));
+		text.append("}\n");
+		emit(out, text);
+		out.flush();
+	} // write
+
+	long written()
+	{
+		return written;
+	}
+
+	int methods()
+	{
+		return methodCount;
+	}
+
+	/* Type errors put in on purpose; each makes P4 report exactly one error */
+	int injected()
+	{
+		return injected;
+	}
+
+	private void emit(Writer out, StringBuilder text) throws IOException
+	{
+		out.append(text);
+		written += text.length();
+		text.setLength(0);
+	}
+
+	private int id()
+	{
+		return nextId++;
+	}
+
+	private boolean chance(double p)
+	{
+		return random.nextDouble() < p;
+	}
+
+	private <T> T pick(List<T> from)
+	{
+		return from.get(random.nextInt(from.size()));
+	}
+
+	private static String typeName(int type)
+	{
+		switch (type) {
+		case Types.Integer:
+			return "int";
+		case Types.Character:
+			return "char";
+		case Types.Boolean:
+			return "bool";
+		case Types.Real:
+			return "float";
+		default:
+			return "void";
+		}
+	} // typeName
+
+	private int scalarType()
+	{
+		return SCALARS[random.nextInt(SCALARS.length)];
+	}
+
+	private static void indent(StringBuilder out, int indent)
+	{
+		for (int i = 0; i < indent; i++) {
+			out.append('\t');
+		}
+	}
+
+	/*******************************************************************
+	 * Methods
+	 *******************************************************************/
+
+	/* A method other than main, smaller when little of the program is left to write */
+	private void method(StringBuilder out, long remaining)
+	{
+		if (errorRate > 0 && !methods.isEmpty() && chance(errorRate)) {
+			// Only the header of a redeclared method is checked, so its body can be anything
+			Method original = pick(methods);
+			injected++;
+			out.append('\t').append(typeName(original.type)).append(' ').append(original.name).append("() {\n");
+			out.append("\t\tprint(\"redeclared\");\n");
+			if (original.type != Types.Void) {
+				out.append("\t\treturn ");
+				value(out, original.type);
+				out.append(";\n");
+			}
+			out.append("\t}\n");
+			return;
+		}
+
+		int type = random.nextInt(4) == 0 ? Types.Void : scalarType();
+		boolean arrayParams = random.nextInt(8) == 0;
+		int count = random.nextInt(4) == 0 ? random.nextInt(maxArgs + 1) : random.nextInt(Math.min(4, maxArgs + 1));
+		if (arrayParams && count == 0) {
+			count = 1;
+		}
+		int[] params = new int[count];
+		for (int i = 0; i < count; i++) {
+			params[i] = scalarType();
+		}
+		current = new Method("m" + id(), type, params, arrayParams, random.nextInt(TOP_LEVEL));
+
+		out.append('\t').append(typeName(type)).append(' ').append(current.name).append('(');
+		int statements = 1 + random.nextInt((int) Math.max(1, Math.min(10, remaining / 200)));
+		body(out, params, arrayParams, statements);
+		methods.add(current);
+		methodCount++;
+	} // method
+
+	/* The parameter list (after the open parenthesis) and body of the current method */
+	private void body(StringBuilder out, int[] params, boolean arrayParams, int statements)
+	{
+		int mark = scope.size();
+		frames.add(new ArrayList<String>());
+		int frame = frames.size() - 1;
+		if (!current.name.equals("main")) {
+			for (int i = 0; i < params.length; i++) {
+				boolean array = arrayParams && (i == 0 || random.nextInt(3) == 0);
+				String name = "p" + id();
+				if (i > 0) {
+					out.append(", ");
+				}
+				out.append(typeName(params[i])).append(' ').append(name).append(array ? "[]" : "");
+				scope.add(new Var(name, params[i], array ? Kinds.ArrayParm : Kinds.ScalarParm, 0, frame, false));
+			}
+			out.append(") {\n");
+		} else {
+			out.append("\tvoid main() {\n");
+		}
+
+		counters = new StringBuilder();
+		StringBuilder text = new StringBuilder();
+		int declarations = random.nextInt(6);
+		for (int i = 0; i < declarations; i++) {
+			declaration(text, 2, true);
+		}
+		for (int i = 0; i < statements; i++) {
+			statement(text, 2, 0);
+		}
+		if (current.type != Types.Void) {
+			text.append("\t\treturn ");
+			value(text, current.type);
+			text.append(";\n");
+		}
+		out.append(counters).append(text).append("\t}\n");
+
+		frames.remove(frame);
+		truncate(mark);
+	} // body
+
+	private void truncate(int mark)
+	{
+		while (scope.size() > mark) {
+			scope.remove(scope.size() - 1);
+		}
+	}
+
+	/*******************************************************************
+	 * Declarations
+	 *******************************************************************/
+
+	private void declaration(StringBuilder out, int indent, boolean inMethod)
+	{
+		if (inMethod && errorRate > 0 && chance(errorRate) && badDeclaration(out, indent)) {
+			return;
+		}
+		indent(out, indent);
+		int frame = frames.size() - 1;
+		int roll = random.nextInt(100);
+		int type = scalarType();
+		if (roll < 20) {
+			String name = "a" + id();
+			int size = 1 + random.nextInt(16);
+			out.append(typeName(type)).append(' ').append(name).append('[').append(size).append("];\n");
+			scope.add(new Var(name, type, Kinds.Array, size, frame, false));
+		} else if (roll < 35) {
+			String name = "k" + id();
+			out.append("const ").append(name).append(" = ");
+			literalsOnly = true;
+			expr(out, type, 1 + random.nextInt(4));
+			literalsOnly = false;
+			out.append(";\n");
+			scope.add(new Var(name, type, Kinds.Value, 0, frame, true));
+		} else {
+			String name = "v" + id();
+			out.append(typeName(type)).append(' ').append(name);
+			if (roll < 85) {
+				out.append(" = ");
+				expr(out, type, budget());
+			}
+			out.append(";\n");
+			scope.add(new Var(name, type, Kinds.Var, 0, frame, false));
+		}
+	} // declaration
+
+	/* A declaration with one type error, or false if none fits here */
+	private boolean badDeclaration(StringBuilder out, int indent)
+	{
+		StringBuilder text = new StringBuilder();
+		indent(text, indent);
+		int type = scalarType();
+		switch (random.nextInt(6)) {
+		case 0: // Initial value of another type
+			text.append(typeName(type)).append(" v").append(id()).append(" = ");
+			literal(text, otherType(type));
+			text.append(";\n");
+			break;
+		case 1: { // Declared twice in the same scope
+			List<Var> here = new ArrayList<Var>();
+			for (Var v : scope) {
+				if (v.frame == frames.size() - 1) {
+					here.add(v);
+				}
+			}
+			if (here.isEmpty()) {
+				return false;
+			}
+			text.append(typeName(type)).append(' ').append(pick(here).name).append(";\n");
+			break;
+		}
+		case 2:
+			text.append("bool v").append(id()).append(" = !").append(random.nextInt(10)).append(";\n");
+			break;
+		case 3: // Only int, char and bool values can be cast
+			text.append(typeName(type)).append(" v").append(id()).append(" = (").append(typeName(type)).append(") ");
+			literal(text, Types.Real);
+			text.append(";\n");
+			break;
+		case 4:
+			text.append("bool v").append(id()).append(" = (").append(random.nextInt(10)).append(" && true);\n");
+			break;
+		default: // Arithmetic on a bool; a const has no type to disagree with it
+			text.append("const k").append(id()).append(" = (").append(random.nextInt(10)).append(" + false);\n");
+			break;
+		}
+		out.append(text);
+		injected++;
+		return true;
+	} // badDeclaration
+
+	/*******************************************************************
+	 * Statements
+	 *******************************************************************/
+
+	private void statement(StringBuilder out, int indent, int depth)
+	{
+		if (errorRate > 0 && chance(errorRate) && badStatement(out, indent)) {
+			return;
+		}
+		boolean nest = depth < maxNesting;
+		int roll = random.nextInt(100);
+		if (nest && roll < 10) {
+			ifStatement(out, indent, depth);
+		} else if (nest && roll < 18) {
+			whileStatement(out, indent, depth);
+		} else if (nest && roll < 25) {
+			forStatement(out, indent, depth);
+		} else if (nest && roll < 28) {
+			block(out, indent, depth + 1, false);
+		} else if (roll < 38 && callStatement(out, indent)) {
+			return;
+		} else if (roll < 46) {
+			print(out, indent);
+		} else if (roll < 48 && read(out, indent)) {
+			return;
+		} else if (roll < 56 && increment(out, indent)) {
+			return;
+		} else if (roll < 61 && jump(out, indent)) {
+			return;
+		} else if (roll < 63 && arrayAssignment(out, indent)) {
+			return;
+		} else if (!assignment(out, indent)) {
+			print(out, indent);
+		}
+	} // statement
+
+	/* A block or, now and then, a single statement as the body of an if or loop */
+	private void body(StringBuilder out, int indent, int depth)
+	{
+		if (random.nextInt(5) == 0) {
+			statement(out, indent + 1, depth + 1);
+		} else {
+			block(out, indent, depth + 1, true);
+		}
+	}
+
+	private void block(StringBuilder out, int indent, int depth, boolean trailing)
+	{
+		int mark = scope.size();
+		indent(out, indent);
+		out.append("{\n");
+		int declarations = random.nextInt(3);
+		for (int i = 0; i < declarations; i++) {
+			declaration(out, indent + 1, true);
+		}
+		int statements = random.nextInt(4);
+		for (int i = 0; i < statements; i++) {
+			statement(out, indent + 1, depth);
+		}
+		indent(out, indent);
+		out.append(trailing || random.nextBoolean() ? "}\n" : "};\n");
+		truncate(mark);
+	} // block
+
+	/* The type checker gives if and else parts and loop bodies their own scope */
+	private void scoped(StringBuilder out, int indent, int depth)
+	{
+		frames.add(new ArrayList<String>());
+		body(out, indent, depth);
+		frames.remove(frames.size() - 1);
+	}
+
+	private void ifStatement(StringBuilder out, int indent, int depth)
+	{
+		indent(out, indent);
+		out.append("if (");
+		expr(out, Types.Boolean, budget());
+		out.append(")\n");
+		scoped(out, indent, depth);
+		if (random.nextBoolean()) {
+			indent(out, indent);
+			out.append("else\n");
+			scoped(out, indent, depth);
+		}
+		indent(out, indent);
+		out.append("endif\n");
+	} // ifStatement
+
+	/* A new method-level int that counts a loop's trips, declared ahead of the statements */
+	private String counter()
+	{
+		String name = "c" + id();
+		counters.append("\t\tint ").append(name).append(" = 0;\n");
+		return name;
+	}
+
+	/* Counts its trips first thing in the body, so continue can't skip the count */
+	private void whileStatement(StringBuilder out, int indent, int depth)
+	{
+		String count = counter();
+		String label = random.nextInt(3) == 0 ? null : "L" + id();
+		indent(out, indent);
+		if (label != null) {
+			out.append(label).append(": ");
+		}
+		out.append("while (").append(count).append(" < ").append(1 + random.nextInt(maxLoopCount));
+		if (random.nextBoolean()) {
+			out.append(" && ");
+			expr(out, Types.Boolean, budget());
+		}
+		out.append(") {\n");
+		indent(out, indent + 1);
+		out.append(count).append("++;\n");
+
+		frames.add(new ArrayList<String>());
+		if (label != null) {
+			loops.add(label);
+		}
+		int statements = random.nextInt(4);
+		for (int i = 0; i < statements; i++) {
+			statement(out, indent + 1, depth + 1);
+		}
+		if (label != null) {
+			loops.remove(loops.size() - 1);
+		}
+		frames.remove(frames.size() - 1);
+
+		indent(out, indent);
+		out.append("}\n");
+		if (label != null) {
+			frames.get(frames.size() - 1).add(label);
+		}
+	} // whileStatement
+
+	private void forStatement(StringBuilder out, int indent, int depth)
+	{
+		String count = counter();
+		indent(out, indent);
+		out.append("for (").append(count).append(" = 0; ").append(count).append(" < ")
+			.append(1 + random.nextInt(maxLoopCount)).append("; ");
+		out.append(random.nextBoolean() ? count + "++" : count + " = " + count + " + 1").append(")\n");
+		scoped(out, indent, depth);
+	} // forStatement
+
+	/* A break or continue out of an enclosing labelled while */
+	private boolean jump(StringBuilder out, int indent)
+	{
+		if (loops.isEmpty()) {
+			return false;
+		}
+		indent(out, indent);
+		out.append(random.nextBoolean() ? "break " : "continue ").append(pick(loops)).append(";\n");
+		return true;
+	}
+
+	private boolean callStatement(StringBuilder out, int indent)
+	{
+		Method m = callee(-1);
+		if (m == null) {
+			return false;
+		}
+		indent(out, indent);
+		call(out, m);
+		out.append(";\n");
+		return true;
+	}
+
+	private void print(StringBuilder out, int indent)
+	{
+		indent(out, indent);
+		out.append("print(");
+		int items = 1 + random.nextInt(4);
+		for (int i = 0; i < items; i++) {
+			if (i > 0) {
+				out.append(", ");
+			}
+			Var chars = random.nextInt(8) == 0 ? find(v -> v.array() && v.type == Types.Character) : null;
+			if (chars != null) {
+				out.append(chars.name);
+			} else {
+				expr(out, scalarType(), budget());
+			}
+		}
+		out.append(");\n");
+	} // print
+
+	private boolean read(StringBuilder out, int indent)
+	{
+		List<Var> targets = all(v -> (v.type == Types.Integer || v.type == Types.Character)
+				&& (v.assignable() || v.kind == Kinds.Array));
+		if (targets.isEmpty()) {
+			return false;
+		}
+		indent(out, indent);
+		out.append("read(");
+		int items = 1 + random.nextInt(3);
+		for (int i = 0; i < items; i++) {
+			if (i > 0) {
+				out.append(", ");
+			}
+			element(out, pick(targets));
+		}
+		out.append(");\n");
+		return true;
+	} // read
+
+	private boolean increment(StringBuilder out, int indent)
+	{
+		Var v = find(x -> x.assignable() && x.type == Types.Integer);
+		if (v == null) {
+			return false;
+		}
+		indent(out, indent);
+		switch (random.nextInt(4)) {
+		case 0:
+			out.append(v.name).append("++;\n");
+			break;
+		case 1:
+			out.append("++").append(v.name).append(";\n");
+			break;
+		case 2:
+			out.append(v.name).append("--;\n");
+			break;
+		default:
+			out.append("--").append(v.name).append(";\n");
+			break;
+		}
+		return true;
+	} // increment
+
+	private boolean assignment(StringBuilder out, int indent)
+	{
+		Var target = find(v -> v.assignable() || v.kind == Kinds.Array);
+		if (target == null) {
+			return false;
+		}
+		indent(out, indent);
+		element(out, target);
+		out.append(" = ");
+		expr(out, target.type, budget());
+		out.append(";\n");
+		return true;
+	}
+
+	/* One whole array copied to another of the same type and size */
+	private boolean arrayAssignment(StringBuilder out, int indent)
+	{
+		Var target = find(v -> v.kind == Kinds.Array);
+		if (target == null) {
+			return false;
+		}
+		Var source = find(v -> v.kind == Kinds.Array && v != target && v.type == target.type && v.size == target.size);
+		if (source == null) {
+			return false;
+		}
+		indent(out, indent);
+		out.append(target.name).append(" = ").append(source.name).append(";\n");
+		return true;
+	}
+
+	/* A statement with exactly one type error, or false if none fits here */
+	private boolean badStatement(StringBuilder out, int indent)
+	{
+		StringBuilder text = new StringBuilder();
+		indent(text, indent);
+		switch (random.nextInt(14)) {
+		case 0:
+			text.append("if (").append(random.nextInt(10)).append(") { } endif\n");
+			break;
+		case 1:
+			text.append("while (").append(random.nextInt(10)).append(") { }\n");
+			break;
+		case 2: {
+			String count = counter();
+			text.append("for (").append(count).append(" = 0; ").append(random.nextInt(10)).append("; ")
+				.append(count).append("++) { }\n");
+			break;
+		}
+		case 3: { // Only ints and chars can be read
+			Var v = find(x -> x.assignable() && (x.type == Types.Boolean || x.type == Types.Real));
+			if (v == null) {
+				return false;
+			}
+			text.append("read(").append(v.name).append(");\n");
+			break;
+		}
+		case 4: { // Only char arrays can be printed whole
+			Var v = find(x -> x.array() && x.type != Types.Character);
+			if (v == null) {
+				return false;
+			}
+			text.append("print(").append(v.name).append(");\n");
+			break;
+		}
+		case 5:
+			text.append("u").append(id()).append("();\n");
+			break;
+		case 6:
+			text.append("u").append(id()).append(" = ").append(random.nextInt(10)).append(";\n");
+			break;
+		case 7: { // Value of another type
+			Var v = find(x -> x.assignable());
+			if (v == null) {
+				return false;
+			}
+			text.append(v.name).append(" = ");
+			literal(text, otherType(v.type));
+			text.append(";\n");
+			break;
+		}
+		case 8: { // Assigning to a const
+			Var v = find(x -> x.kind == Kinds.Value);
+			if (v == null) {
+				return false;
+			}
+			text.append(v.name).append(" = ");
+			literal(text, v.type);
+			text.append(";\n");
+			break;
+		}
+		case 9: { // Only ints can be incremented or decremented
+			Var v = find(x -> x.assignable() && x.type != Types.Integer);
+			if (v == null) {
+				return false;
+			}
+			text.append(random.nextBoolean() ? v.name + "++;\n" : "--" + v.name + ";\n");
+			break;
+		}
+		case 10:
+			if (!badCall(text)) {
+				return false;
+			}
+			break;
+		case 11: // The checker gives string literals no type, so none can be printed
+			text.append("print(");
+			string(text);
+			text.append(");\n");
+			break;
+		case 12:
+			text.append("return ");
+			literal(text, current.type == Types.Void ? scalarType() : otherType(current.type));
+			text.append(";\n");
+			break;
+		default: { // A label whose loop is over
+			List<String> finished = frames.get(frames.size() - 1);
+			if (finished.isEmpty()) {
+				return false;
+			}
+			text.append(random.nextBoolean() ? "break " : "continue ").append(pick(finished)).append(";\n");
+			break;
+		}
+		}
+		out.append(text);
+		injected++;
+		return true;
+	} // badStatement
+
+	/* A call with one argument of the wrong type, one too few or one too many */
+	private boolean badCall(StringBuilder out)
+	{
+		List<Method> callable = new ArrayList<Method>();
+		for (Method m : methods) {
+			if (!m.arrayParams) {
+				callable.add(m);
+			}
+		}
+		if (callable.isEmpty()) {
+			return false;
+		}
+		Method m = pick(callable);
+		int[] types = m.params;
+		int roll = random.nextInt(3);
+		if (roll == 0 && types.length > 0) {
+			types = types.clone();
+			int wrong = random.nextInt(types.length);
+			types[wrong] = otherType(types[wrong]);
+		} else if (roll == 1 && types.length > 1) {
+			// With no arguments at all the checker doesn't notice, so leave at least one
+			types = Arrays.copyOf(types, types.length - 1);
+		} else {
+			types = Arrays.copyOf(types, types.length + 1);
+			types[types.length - 1] = scalarType();
+		}
+		out.append(m.name).append('(');
+		for (int i = 0; i < types.length; i++) {
+			if (i > 0) {
+				out.append(", ");
+			}
+			literal(out, types[i]);
+		}
+		out.append(");\n");
+		return true;
+	} // badCall
+
+	/*******************************************************************
+	 * Expressions
+	 *******************************************************************/
+
+	/* Nodes for the next expression: mostly a few, now and then a very deep tree */
+	private int budget()
+	{
+		return random.nextInt(40) == 0 ? deepExpression : 1 + random.nextInt(8);
+	}
+
+	/*
+	 * An expression of type made of about budget nodes. Binary operations
+	 * are always parenthesized, so the text parses to exactly this tree.
+	 * Big trees are mostly chains, so their depth grows with their size.
+	 */
+	private void expr(StringBuilder out, int type, int budget)
+	{
+		if (budget <= 1 || type == Types.Character && random.nextInt(4) != 0) {
+			leaf(out, type);
+			return;
+		}
+		int right = budget > 16 && random.nextBoolean() ? 1 : 1 + random.nextInt(budget - 1);
+		int left = budget - right;
+		int roll = random.nextInt(10);
+		switch (type) {
+		case Types.Integer:
+		case Types.Real:
+			out.append('(');
+			expr(out, type, left);
+			if (roll < 3) {
+				// Divide only by a literal that isn't zero, so the program still runs
+				out.append(" / ");
+				if (type == Types.Integer) {
+					out.append(1 + random.nextInt(9));
+				} else {
+					out.append(1 + random.nextInt(9)).append('.').append(random.nextInt(10));
+				}
+			} else {
+				out.append(roll < 6 ? " + " : roll < 8 ? " - " : " * ");
+				expr(out, type, right);
+			}
+			out.append(')');
+			break;
+		case Types.Character:
+			out.append('(');
+			expr(out, type, left);
+			out.append(" + ");
+			expr(out, type, right);
+			out.append(')');
+			break;
+		default:
+			if (roll < 2) {
+				out.append('!');
+				expr(out, Types.Boolean, budget - 1);
+			} else if (roll < 6) {
+				out.append('(');
+				expr(out, Types.Boolean, left);
+				out.append(roll < 4 ? " && " : " || ");
+				expr(out, Types.Boolean, right);
+				out.append(')');
+			} else {
+				int operands = roll < 8 ? Types.Integer : roll < 9 ? Types.Real : Types.Character;
+				String[] ops = { " < ", " > ", " <= ", " >= ", " == ", " != " };
+				out.append('(');
+				expr(out, operands, left);
+				out.append(ops[random.nextInt(ops.length)]);
+				expr(out, operands, right);
+				out.append(')');
+			}
+			break;
+		}
+	} // expr
+
+	/* An expression of type that is a value (not a variable), as return needs */
+	private void value(StringBuilder out, int type)
+	{
+		if (type != Types.Character) {
+			expr(out, type, 2 + random.nextInt(6));
+		} else if (random.nextBoolean()) {
+			literal(out, type);
+		} else {
+			out.append("(char) ").append(32 + random.nextInt(95));
+		}
+	}
+
+	private void leaf(StringBuilder out, int type)
+	{
+		int roll = random.nextInt(10);
+		if (!literalsOnly && roll < 5 && name(out, type)) {
+			return;
+		}
+		if (!literalsOnly && roll == 5) {
+			Method m = callee(type);
+			if (m != null) {
+				call(out, m);
+				return;
+			}
+		}
+		if (roll == 6) {
+			// The checker only allows casts of literals
+			out.append('(').append(typeName(type)).append(") ");
+			switch (random.nextInt(3)) {
+			case 0:
+				out.append(random.nextInt(128));
+				break;
+			case 1:
+				literal(out, Types.Character);
+				break;
+			default:
+				out.append(random.nextBoolean() ? "true" : "false");
+				break;
+			}
+			return;
+		}
+		literal(out, type);
+	} // leaf
+
+	/* A variable, parameter, const or array element of type */
+	private boolean name(StringBuilder out, int type)
+	{
+		Var v = find(x -> x.type == type);
+		if (v == null) {
+			return false;
+		}
+		element(out, v);
+		return true;
+	}
+
+	/* The name of a scalar, or an element of an array with an index that is in bounds */
+	private void element(StringBuilder out, Var v)
+	{
+		out.append(v.name);
+		if (v.array()) {
+			out.append('[').append(v.kind == Kinds.Array ? random.nextInt(v.size) : 0).append(']');
+		}
+	}
+
+	private void literal(StringBuilder out, int type)
+	{
+		switch (type) {
+		case Types.Integer:
+			out.append(random.nextInt(8) == 0 ? "~" : "").append(random.nextInt(1000));
+			break;
+		case Types.Real:
+			out.append(random.nextInt(8) == 0 ? "~" : "").append(random.nextInt(100)).append('.')
+				.append(random.nextInt(100));
+			break;
+		case Types.Boolean:
+			out.append(random.nextBoolean() ? "true" : "false");
+			break;
+		default:
+			out.append('\'');
+			if (random.nextInt(10) == 0) {
+				out.append(ESCAPES[random.nextInt(ESCAPES.length)]);
+			} else {
+				out.append(printable());
+			}
+			out.append('\'');
+			break;
+		}
+	} // literal
+
+	/*
+	 * A string literal. It has no escapes: the lexer takes an escape just
+	 * before the closing quote for the start of a runaway string.
+	 */
+	private void string(StringBuilder out)
+	{
+		out.append('"');
+		int length = random.nextInt(24);
+		for (int i = 0; i < length; i++) {
+			out.append(printable());
+		}
+		out.append('"');
+	} // string
+
+	/* A printable character that needs no escape in a char or string literal */
+	private char printable()
+	{
+		char c;
+		do {
+			c = (char) (32 + random.nextInt(95));
+		} while (c == '\'' || c == '"' || c == '\\');
+		return c;
+	}
+
+	private int otherType(int type)
+	{
+		int other;
+		do {
+			other = scalarType();
+		} while (other == type);
+		return other;
+	}
+
+	/*******************************************************************
+	 * Calls
+	 *******************************************************************/
+
+	/* A method the current one may call that returns type (any type for -1), or null */
+	private Method callee(int type)
+	{
+		if (current == null || methods.isEmpty()) {
+			return null;
+		}
+		// Look at a few at random rather than all of them, which would be quadratic in a big program
+		for (int tries = 0; tries < 8; tries++) {
+			Method m = pick(methods);
+			if (m.level < current.level && !m.arrayParams && (type == -1 ? true : m.type == type)) {
+				return m;
+			}
+		}
+		return null;
+	}
+
+	private void call(StringBuilder out, Method m)
+	{
+		out.append(m.name).append('(');
+		for (int i = 0; i < m.params.length; i++) {
+			if (i > 0) {
+				out.append(", ");
+			}
+			expr(out, m.params[i], 1 + random.nextInt(3));
+		}
+		out.append(')');
+	}
+
+	/*******************************************************************
+	 * Scope
+	 *******************************************************************/
+
+	private interface Test
+	{
+		boolean accept(Var v);
+	}
+
+	/* A random variable in scope that passes test, or null */
+	private Var find(Test test)
+	{
+		// Try the innermost ones first, they're the likeliest to be used
+		int size = scope.size();
+		for (int tries = 0; tries < 6 && size > 0; tries++) {
+			Var v = scope.get(size - 1 - random.nextInt(Math.min(size, 16)));
+			if (test.accept(v)) {
+				return v;
+			}
+		}
+		List<Var> all = all(test);
+		return all.isEmpty() ? null : pick(all);
+	}
+
+	private List<Var> all(Test test)
+	{
+		List<Var> all = new ArrayList<Var>();
+		for (Var v : scope) {
+			if (test.accept(v)) {
+				all.add(v);
+			}
+		}
+		return all;
+	}
+} // class ProgramGenerator
@@ -0,0 +1,103 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**************************************************
+ * Measures start-up cost on a small file, each run in a fresh JVM: the
+ * time from main() to the first token and to the first type error being
+ * printed, the time the parser class takes to get its tables ready once
+ * the CUP runtime is loaded, and the wall time of the whole process.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar StartupBenchmark [runs]
+ ****************************************************/
+
+class StartupBenchmark
+{
+	static final String SOURCE =
+		"class startup {\n" +
+		"\tint count = 0;\n" +
+		"\tvoid main() {\n" +
+		"\t\tbool done;\n" +
+		"\t\tdone = count + 1;\n" +
+		"\t}\n" +
+		"}\n";
+
+	public static void main(String args[]) throws Exception
+	{
+		if (args.length == 2) {
+			probe(args[0], args[1]);
+			return;
+		}
+
+		int runs = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+		Path file = Files.createTempFile("startup", ".csx");
+		file.toFile().deleteOnExit();
+		Files.write(file, SOURCE.getBytes());
+
+		for (String phase : new String[] { "token", "tables", "diagnostic" }) {
+			long[] inside = new long[runs];
+			long[] wall = new long[runs];
+			for (int r = 0; r < runs; r++) {
+				long start = System.nanoTime();
+				Process child = new ProcessBuilder(javaCommand(), "-cp", System.getProperty("java.class.path"),
+						"StartupBenchmark", phase, file.toString()).redirectErrorStream(true).start();
+				String line;
+				try (BufferedReader out = new BufferedReader(new InputStreamReader(child.getInputStream()))) {
+					line = out.readLine();
+				}
+				child.waitFor();
+				wall[r] = System.nanoTime() - start;
+				inside[r] = Long.parseLong(line.trim());
+			}
+			System.out.printf("%-10s median %.2f ms, process median %.1f ms (%d runs)%n", phase,
+					median(inside) / 1e6, median(wall) / 1e6, runs);
+		}
+	} // main
+
+	/* Runs in the child JVM and prints the nanoseconds the phase took */
+	static void probe(String phase, String path) throws Exception
+	{
+		if (phase.equals("tables")) {
+			Class.forName("java_cup.runtime.lr_parser"); // Opening the CUP jar isn't part of the tables
+			long start = System.nanoTime();
+			new parser().action_table();
+			System.out.println(System.nanoTime() - start);
+			return;
+		}
+
+		long start = System.nanoTime();
+		PrintStream quiet = new PrintStream(OutputStream.nullOutputStream());
+
+		if (phase.equals("token")) {
+			Scanner scanner = new Scanner();
+			scanner.reset(new FileInputStream(path), quiet);
+			scanner.next_token();
+			System.out.println(System.nanoTime() - start);
+			return;
+		}
+
+		final long[] firstError = { 0 };
+		PrintStream watch = new PrintStream(OutputStream.nullOutputStream()) {
+			public void println(String s) {
+				if (firstError[0] == 0 && s.startsWith("Error")) {
+					firstError[0] = System.nanoTime();
+				}
+			}
+		};
+		P4.compile(path, watch);
+		System.out.println(firstError[0] - start);
+	} // probe
+
+	static String javaCommand()
+	{
+		return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+	} // javaCommand
+
+	static long median(long[] values)
+	{
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	} // median
+} // class StartupBenchmark
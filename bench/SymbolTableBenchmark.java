@@ -0,0 +1,87 @@
+/**************************************************
+ * Compares SymbolTable against the old LinkedListSymbolTable on deeply
+ * nested scopes. At each depth it opens that many scopes with a few
+ * declarations in each, then times lookups from the innermost scope of a
+ * name declared in the outermost one (the worst case for a scope walk),
+ * and finally closes every scope.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar SymbolTableBenchmark
+ ****************************************************/
+
+class SymbolTableBenchmark
+{
+	static final int[] DEPTHS = { 10, 100, 1000, 10000 };
+	static final int NAMES_PER_SCOPE = 4;
+
+	public static void main(String args[]) throws Exception
+	{
+		// Warm both tables up before measuring anything
+		for (int i = 0; i < 5; i++) {
+			runNew(1000, 1000);
+			runOld(1000, 100);
+		}
+
+		System.out.println("depth   lookups   SymbolTable ns/lookup   LinkedListSymbolTable ns/lookup");
+		for (int depth : DEPTHS) {
+			// The old table is quadratic in depth, so give it fewer lookups at big depths
+			int lookups = 1000000 / depth + 10;
+			double newNs = runNew(depth, lookups);
+			double oldNs = runOld(depth, lookups);
+			System.out.printf("%5d %9d %23.1f %33.1f%n", depth, lookups, newNs, oldNs);
+		}
+	} // main
+
+	/* Builds depth scopes and returns nanoseconds per global lookup */
+	static double runNew(int depth, int lookups) throws Exception
+	{
+		NameTable names = new NameTable();
+		SymbolTable st = new SymbolTable();
+		for (int d = 0; d < depth; d++) {
+			st.openScope();
+			for (int n = 0; n < NAMES_PER_SCOPE; n++) {
+				st.insert(new SymbolInfo(names.lookup("v" + d + "_" + n), Kinds.Var, Types.Integer, false));
+			}
+		}
+
+		Name outermost = names.lookup("v0_0");
+		long start = System.nanoTime();
+		for (int i = 0; i < lookups; i++) {
+			if (st.globalLookup(outermost) == null) {
+				throw new RuntimeException("lookup failed");
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+
+		for (int d = 0; d < depth; d++) {
+			st.closeScope();
+		}
+		return (double) elapsed / lookups;
+	} // runNew
+
+	static double runOld(int depth, int lookups) throws Exception
+	{
+		NameTable names = new NameTable();
+		LinkedListSymbolTable st = new LinkedListSymbolTable();
+		for (int d = 0; d < depth; d++) {
+			st.openScope();
+			for (int n = 0; n < NAMES_PER_SCOPE; n++) {
+				st.insert(new SymbolInfo(names.lookup("v" + d + "_" + n), Kinds.Var, Types.Integer, false));
+			}
+		}
+
+		Name outermost = names.lookup("v0_0");
+		long start = System.nanoTime();
+		for (int i = 0; i < lookups; i++) {
+			if (st.globalLookup(outermost) == null) {
+				throw new RuntimeException("lookup failed");
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+
+		for (int d = 0; d < depth; d++) {
+			st.closeScope();
+		}
+		return (double) elapsed / lookups;
+	} // runOld
+} // class SymbolTableBenchmark
@@ -0,0 +1,63 @@
+import java.io.*;
+import java.nio.file.*;
+
+/**************************************************
+ * Times unparsing a large program three ways: print by print into a
+ * PrintStream set up like System.out (autoflush on every line), through
+ * a CodeWriter into a file, and through a CodeWriter into memory.
+ *
+ * javac -cp lib/java-cup-10l.jar -d bin src/*.java bench/*.java
+ * java -cp bin:lib/java-cup-10l.jar UnparseBenchmark [methods] [rounds]
+ ****************************************************/
+
+class UnparseBenchmark
+{
+	public static void main(String args[]) throws Exception
+	{
+		int methods = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		StringBuilder source = new StringBuilder("class bench {\n");
+		for (int i = 0; i < methods; i++) {
+			source.append(String.format(AstFootprintBenchmark.CHUNK, i));
+		}
+		source.append("\tvoid main() { }\n}\n");
+
+		PrintStream quiet = new PrintStream(OutputStream.nullOutputStream());
+		Scanner scanner = new Scanner();
+		scanner.reset(new StringReader(source.toString()), quiet);
+		classNode root = (classNode) new parser(scanner, new CompilationContext(quiet)).parse().value;
+
+		Path file = Files.createTempFile("unparse", ".csx");
+		file.toFile().deleteOnExit();
+
+		for (int r = 1; r <= rounds; r++) {
+			long start = System.nanoTime();
+			PrintStream console = new PrintStream(new BufferedOutputStream(new FileOutputStream(file.toFile())), true);
+			CodeWriter direct = new CodeWriter(console, 0);
+			root.Unparse(direct, 0);
+			direct.close();
+			report("console", r, Files.size(file), System.nanoTime() - start);
+
+			start = System.nanoTime();
+			CodeWriter toFile = CodeWriter.toFile(file.toString());
+			root.Unparse(toFile, 0);
+			toFile.close();
+			report("file", r, Files.size(file), System.nanoTime() - start);
+
+			start = System.nanoTime();
+			StringBuilder memory = new StringBuilder();
+			CodeWriter toMemory = new CodeWriter(memory);
+			root.Unparse(toMemory, 0);
+			toMemory.flush();
+			report("memory", r, memory.length(), System.nanoTime() - start);
+		}
+	} // main
+
+	static void report(String sink, int round, long chars, long nanos)
+	{
+		double seconds = nanos / 1e9;
+		System.out.printf("%-7s round %d: %,d chars in %.3f s, %.1f MB/s%n", sink, round, chars, seconds,
+				chars / (1024.0 * 1024.0) / seconds);
+	} // report
+} // class UnparseBenchmark
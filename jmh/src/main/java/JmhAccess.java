@@ -0,0 +1,146 @@
+import java.io.*;
+import java_cup.runtime.Symbol;
+
+/**************************************************
+ * Implements csx.jmh.CompilerAccess for the JMH benchmarks, which can't
+ * name the compiler's classes themselves (see CompilerAccess). Everything
+ * here calls the compiler the way P4 does, with all output thrown away.
+ ****************************************************/
+
+public class JmhAccess implements csx.jmh.CompilerAccess
+{
+	static final PrintStream QUIET = new PrintStream(OutputStream.nullOutputStream());
+
+	private static class Lexer implements csx.jmh.CompilerAccess.Lexer
+	{
+		private final String source;
+		private final Yylex lex = new Yylex((Reader) null);
+
+		Lexer(String source)
+		{
+			this.source = source;
+			lex.out = QUIET;
+			lex.reset(new StringReader(source));
+		}
+
+		public Symbol next() throws IOException
+		{
+			Symbol t = lex.yylex();
+			if (t.sym == sym.EOF) {
+				lex.reset(new StringReader(source));
+			}
+			return t;
+		}
+	} // class Lexer
+
+	private static class Scopes implements csx.jmh.CompilerAccess.Scopes
+	{
+		private final SymbolTable st = new SymbolTable();
+		private final SymbolInfo[] extra;
+		private final Name outermost;
+		private final Name local;
+		private final Name missing;
+
+		Scopes(int depth, int namesPerScope) throws Exception
+		{
+			NameTable names = new NameTable();
+			for (int d = 0; d < depth; d++) {
+				st.openScope();
+				for (int n = 0; n < namesPerScope; n++) {
+					st.insert(new SymbolInfo(names.lookup("v" + d + "_" + n), Kinds.Var, Types.Integer, false));
+				}
+			}
+			extra = new SymbolInfo[namesPerScope];
+			for (int n = 0; n < namesPerScope; n++) {
+				extra[n] = new SymbolInfo(names.lookup("t" + n), Kinds.Var, Types.Integer, false);
+			}
+			outermost = names.lookup("v0_0");
+			local = names.lookup("v" + (depth - 1) + "_0");
+			missing = names.lookup("missing");
+		} // Scopes
+
+		public void insertScope() throws Exception
+		{
+			st.openScope();
+			for (SymbolInfo s : extra) {
+				st.insert(s);
+			}
+			st.closeScope();
+		}
+
+		public Object lookupOutermost()
+		{
+			return st.globalLookup(outermost);
+		}
+
+		public Object lookupLocal()
+		{
+			return st.localLookup(local);
+		}
+
+		public Object lookupMissing()
+		{
+			return st.globalLookup(missing);
+		}
+	} // class Scopes
+
+	public csx.jmh.CompilerAccess.Lexer lexer(String source)
+	{
+		return new Lexer(source);
+	}
+
+	public Object parse(String source, boolean descent) throws Exception
+	{
+		return AstRoundTrip.parse(source, descent);
+	}
+
+	public boolean typeCheck(Object tree)
+	{
+		return ((classNode) tree).isTypeCorrect(new CompilationContext(QUIET));
+	}
+
+	public csx.jmh.CompilerAccess.Scopes scopes(int depth, int namesPerScope) throws Exception
+	{
+		return new Scopes(depth, namesPerScope);
+	}
+
+	public String program(int bytes)
+	{
+		return new ProgramGenerator(1).generate(bytes);
+	}
+
+	public String loopProgram()
+	{
+		return InterpreterBenchmark.LOOPS;
+	}
+
+	public Object check(String source) throws Exception
+	{
+		return InterpreterBenchmark.check(source);
+	}
+
+	public String run(Object program, boolean map)
+	{
+		return InterpreterBenchmark.run((classNode) program, map);
+	}
+
+	public Object compile(Object program) throws Exception
+	{
+		return JvmBenchmark.compile((classNode) program);
+	}
+
+	public String runCompiled(Object compiled)
+	{
+		return JvmBenchmark.run((java.lang.reflect.Method) compiled);
+	}
+
+	public Object lowerIr(Object program, String passes)
+	{
+		return IrBenchmark.lower((classNode) program, passes);
+	}
+
+	public String runIr(Object lowered)
+	{
+		return IrBenchmark.run((IrProgram) lowered);
+	}
+} // class JmhAccess
@@ -0,0 +1,83 @@
+package csx.jmh;
+
+import java.io.IOException;
+import java_cup.runtime.Symbol;
+
+/**************************************************
+ * What the benchmarks need from the compiler. JMH won't generate code for a
+ * benchmark in the default package, and code in a named package can't name
+ * the compiler's classes, which are all in the default package. So the
+ * benchmarks go through this interface, and JmhAccess (in the default
+ * package, next to the compiler) implements it. Trees and the like are
+ * passed around as Object.
+ ****************************************************/
+
+public interface CompilerAccess
+{
+	/* Scans source over and over, starting again from the top after EOF */
+	interface Lexer
+	{
+		Symbol next() throws IOException;
+	}
+
+	/* A symbol table with scopes open and names declared in each */
+	interface Scopes
+	{
+		/* Opens a scope, declares a few names in it and closes it again */
+		void insertScope() throws Exception;
+
+		/* Looks up, from the innermost scope, a name declared in the outermost one */
+		Object lookupOutermost();
+
+		/* Looks up a name declared in the innermost scope, in that scope only */
+		Object lookupLocal();
+
+		/* Looks up a name that isn't declared anywhere */
+		Object lookupMissing();
+	}
+
+	Lexer lexer(String source);
+
+	/* The tree of source, from the CUP parser or the descent one; null if it has syntax errors */
+	Object parse(String source, boolean descent) throws Exception;
+
+	/* Type checks a tree from parse in a fresh compilation context */
+	boolean typeCheck(Object tree);
+
+	Scopes scopes(int depth, int namesPerScope) throws Exception;
+
+	/* A generated program of about bytes bytes with no errors in it (see bench/ProgramGenerator) */
+	String program(int bytes);
+
+	/* A program that spends its time in loops (bench/InterpreterBenchmark.LOOPS) */
+	String loopProgram();
+
+	/* Parses and type checks a program that must have no errors, ready for run */
+	Object check(String source) throws Exception;
+
+	/* Runs a program from check with no input and returns what it printed; with map
+	   its variables are kept by name in a MapFrame rather than in frame slots */
+	String run(Object program, boolean map);
+
+	/* Compiles a program from check to JVM bytecode and loads it, ready for runCompiled */
+	Object compile(Object program) throws Exception;
+
+	/* Runs a program from compile with no input and returns what it printed */
+	String runCompiled(Object compiled);
+
+	/* Lowers a program from check to the register IR, optimizes it with the passes
+	   named (as for P4's --passes) and links it, ready for runIr */
+	Object lowerIr(Object program, String passes);
+
+	/* Runs a program from lowerIr on IrInterpreter with no input and returns what it printed */
+	String runIr(Object lowered);
+
+	static CompilerAccess get()
+	{
+		try {
+			return (CompilerAccess) Class.forName("JmhAccess").getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("JmhAccess isn't on the class path", e);
+		}
+	}
+} // interface CompilerAccess
@@ -0,0 +1,43 @@
+package csx.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**************************************************
+ * The Interpreter running an already checked program, with its variables
+ * in frame slots or, for comparison, by name in a map (bench/MapFrame).
+ * One operation is one whole run. "loops" is InterpreterBenchmark.LOOPS,
+ * the others are generated programs of that size.
+ ****************************************************/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterpreterBenchmark
+{
+	@Param({ "loops", "small", "medium" })
+	public String program;
+
+	@Param({ "slots", "map" })
+	public String env;
+
+	private Object tree;
+	private boolean map;
+
+	@Setup
+	public void setUp() throws Exception
+	{
+		String source = program.equals("loops") ? Programs.CSX.loopProgram() : Programs.ofSize(program);
+		tree = Programs.CSX.check(source);
+		map = env.equals("map");
+	}
+
+	@Benchmark
+	public String run()
+	{
+		return Programs.CSX.run(tree, map);
+	}
+} // class InterpreterBenchmark
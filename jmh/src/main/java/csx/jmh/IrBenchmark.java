@@ -0,0 +1,46 @@
+package csx.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**************************************************
+ * An already checked program run on the tree by the Interpreter or lowered
+ * to the register IR (once, in setUp) and run by IrInterpreter, with no
+ * IrOptimizer passes or with all of them. One operation is one whole run.
+ * "loops" is InterpreterBenchmark.LOOPS, the others are generated
+ * programs of that size.
+ ****************************************************/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IrBenchmark
+{
+	@Param({ "loops", "small", "medium" })
+	public String program;
+
+	@Param({ "tree", "none", "all" })
+	public String passes;
+
+	private Object tree;
+	private Object lowered;
+
+	@Setup
+	public void setUp() throws Exception
+	{
+		String source = program.equals("loops") ? Programs.CSX.loopProgram() : Programs.ofSize(program);
+		tree = Programs.CSX.check(source);
+		if (!passes.equals("tree")) {
+			lowered = Programs.CSX.lowerIr(tree, passes);
+		}
+	}
+
+	@Benchmark
+	public String run()
+	{
+		return lowered == null ? Programs.CSX.run(tree, false) : Programs.CSX.runIr(lowered);
+	}
+} // class IrBenchmark
@@ -0,0 +1,45 @@
+package csx.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**************************************************
+ * An already checked program run by the Interpreter or compiled to JVM
+ * bytecode by JvmBackend (compiled once, in setUp). One operation is one
+ * whole run. "loops" is InterpreterBenchmark.LOOPS, the others are
+ * generated programs of that size.
+ ****************************************************/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JvmBackendBenchmark
+{
+	@Param({ "loops", "small", "medium" })
+	public String program;
+
+	@Param({ "interpreter", "jvm" })
+	public String engine;
+
+	private Object tree;
+	private Object compiled;
+
+	@Setup
+	public void setUp() throws Exception
+	{
+		String source = program.equals("loops") ? Programs.CSX.loopProgram() : Programs.ofSize(program);
+		tree = Programs.CSX.check(source);
+		if (engine.equals("jvm")) {
+			compiled = Programs.CSX.compile(tree);
+		}
+	}
+
+	@Benchmark
+	public String run()
+	{
+		return compiled == null ? Programs.CSX.run(tree, false) : Programs.CSX.runCompiled(compiled);
+	}
+} // class JvmBackendBenchmark
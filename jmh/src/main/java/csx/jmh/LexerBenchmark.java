@@ -0,0 +1,33 @@
+package csx.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java_cup.runtime.Symbol;
+import org.openjdk.jmh.annotations.*;
+
+/**************************************************
+ * Token throughput of Yylex.yylex: one operation is one token, so ops/s is
+ * tokens per second. The lexer scans a medium program over and over.
+ ****************************************************/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LexerBenchmark
+{
+	private CompilerAccess.Lexer lexer;
+
+	@Setup
+	public void setUp()
+	{
+		lexer = Programs.CSX.lexer(Programs.ofSize("medium"));
+	}
+
+	@Benchmark
+	public Symbol yylex() throws Exception
+	{
+		return lexer.next();
+	}
+} // class LexerBenchmark
@@ -0,0 +1,41 @@
+package csx.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**************************************************
+ * Lexing and parsing a whole in-memory program into its tree, with the CUP
+ * parser (parser.parse) or the hand-written descent one. One operation is
+ * one program.
+ ****************************************************/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark
+{
+	@Param({ "small", "medium", "huge" })
+	public String size;
+
+	@Param({ "cup", "descent" })
+	public String parser;
+
+	private String source;
+	private boolean descent;
+
+	@Setup
+	public void setUp()
+	{
+		source = Programs.ofSize(size);
+		descent = parser.equals("descent");
+	}
+
+	@Benchmark
+	public Object parse() throws Exception
+	{
+		return Programs.CSX.parse(source, descent);
+	}
+} // class ParserBenchmark
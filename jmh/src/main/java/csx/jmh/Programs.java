@@ -0,0 +1,26 @@
+package csx.jmh;
+
+/**************************************************
+ * The sizes of generated program the benchmarks take as their size
+ * parameter. The programs come from ProgramGenerator with a fixed seed,
+ * so every run measures the same source.
+ ****************************************************/
+
+final class Programs
+{
+	static final CompilerAccess CSX = CompilerAccess.get();
+
+	static String ofSize(String size)
+	{
+		switch (size) {
+		case "small":
+			return CSX.program(4 << 10);
+		case "medium":
+			return CSX.program(256 << 10);
+		case "huge":
+			return CSX.program(4 << 20);
+		default:
+			throw new IllegalArgumentException("No program size " + size);
+		}
+	} // ofSize
+} // class Programs
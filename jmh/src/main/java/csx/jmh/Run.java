@@ -0,0 +1,32 @@
+package csx.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**************************************************
+ * Main class of benchmarks.jar. Takes the usual JMH options, but turns the
+ * GC profiler on when no profiler is asked for, so every result comes with
+ * gc.alloc.rate.norm, the bytes allocated per operation.
+ ****************************************************/
+
+public class Run
+{
+	public static void main(String args[]) throws Exception
+	{
+		CommandLineOptions options = new CommandLineOptions(args);
+		if (options.shouldHelp() || options.shouldList() || options.shouldListWithParams()
+				|| options.shouldListProfilers() || options.shouldListResultFormats()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+		if (options.getProfilers().isEmpty()) {
+			builder.addProfiler(GCProfiler.class);
+		}
+		new Runner(builder.build()).run();
+	} // main
+} // class Run
@@ -0,0 +1,55 @@
+package csx.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**************************************************
+ * SymbolTable with depth scopes open and four names declared in each.
+ * insertScope opens one more scope, declares four names and closes it;
+ * the lookups are the worst-case global lookup (a name from the outermost
+ * scope), a local hit and a global miss.
+ ****************************************************/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymbolTableBenchmark
+{
+	@Param({ "1", "10", "100", "1000" })
+	public int depth;
+
+	private CompilerAccess.Scopes scopes;
+
+	@Setup
+	public void setUp() throws Exception
+	{
+		scopes = Programs.CSX.scopes(depth, 4);
+	}
+
+	@Benchmark
+	public void insertScope() throws Exception
+	{
+		scopes.insertScope();
+	}
+
+	@Benchmark
+	public Object lookupOutermost()
+	{
+		return scopes.lookupOutermost();
+	}
+
+	@Benchmark
+	public Object lookupLocal()
+	{
+		return scopes.lookupLocal();
+	}
+
+	@Benchmark
+	public Object lookupMissing()
+	{
+		return scopes.lookupMissing();
+	}
+} // class SymbolTableBenchmark
@@ -0,0 +1,38 @@
+package csx.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**************************************************
+ * isTypeCorrect on an already parsed program, in a fresh compilation
+ * context each time. One operation is one whole program.
+ ****************************************************/
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeCheckBenchmark
+{
+	@Param({ "small", "medium", "huge" })
+	public String size;
+
+	private Object tree;
+
+	@Setup
+	public void setUp() throws Exception
+	{
+		tree = Programs.CSX.parse(Programs.ofSize(size), true);
+	}
+
+	@Benchmark
+	public boolean isTypeCorrect()
+	{
+		if (!Programs.CSX.typeCheck(tree)) {
+			throw new IllegalStateException("The generated program has type errors");
+		}
+		return true;
+	}
+} // class TypeCheckBenchmark
@@ -0,0 +1,550 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**************************************************
+ * Rebuilds a tree written by AstWriter. Each slot of a node is read by the
+ * method for the kind of node it holds, which is how a Null tag becomes
+ * the right null node. Lists are read into an array and linked up from
+ * the end, so a long list doesn't recurse. Identifiers come back as Names
+ * shared by every occurrence, as the lexer would hand them out.
+ *
+ * A damaged or foreign stream ends in an IOException, never a tree that
+ * is only partly right.
+ ****************************************************/
+
+class AstReader
+{
+	private final InputStream src;
+	private final byte[] buf = new byte[1 << 16];
+	private int next = 0;
+	private int end = 0;
+
+	private int lastLine = 0;
+	private int lastCol = 0;
+	private int move; // How the position moved, from the top bits of the last tag read
+	private final List<Name> names = new ArrayList<Name>();
+	private final List<String> strings = new ArrayList<String>();
+	private final List<Float> floats = new ArrayList<Float>();
+
+	// Position of the node being read, from its position()
+	private int line;
+	private int col;
+
+	AstReader(InputStream src)
+	{
+		this.src = src;
+	}
+
+	/* Reads the header and the tree written by AstWriter.writeTree */
+	ASTNode readTree() throws IOException
+	{
+		for (byte b : AstWriter.MAGIC) {
+			if (get() != b) {
+				throw new IOException("Not a CSX tree");
+			}
+		}
+		int version = count();
+		if (version != AstWriter.VERSION) {
+			throw new IOException("CSX tree format " + version + ", expected " + AstWriter.VERSION);
+		}
+
+		int tag = tag();
+		try {
+			switch (tag) {
+				case AstTags.Class:
+					return classNode();
+				case AstTags.CsxLite:
+					position();
+					int l = line, c = col;
+					return new csxLiteNode(fieldDecls(), stmts(), l, c);
+				default:
+					throw malformed(tag);
+			}
+		} catch (ClassCastException | IndexOutOfBoundsException e) {
+			throw new IOException("Malformed CSX tree", e);
+		}
+	} // readTree
+
+	private classNode classNode() throws IOException
+	{
+		position();
+		int l = line, c = col;
+		identNode id = ident();
+		expect(AstTags.MemberDecls);
+		position();
+		int ml = line, mc = col;
+		memberDeclsNode members = new memberDeclsNode(fieldDecls(), methodDecls(), ml, mc);
+		return new classNode(id, members, l, c, line());
+	} // classNode
+
+	private fieldDeclsNode fieldDecls() throws IOException
+	{
+		int tag = tag();
+		if (tag == AstTags.Null) {
+			return fieldDeclsNode.NULL;
+		} else if (tag != AstTags.FieldDecls) {
+			throw malformed(tag);
+		}
+
+		Cells cells = cells(this::decl);
+		fieldDeclsNode list = fieldDeclsNode.NULL;
+		for (int i = cells.count - 1; i >= 0; i--) {
+			list = new fieldDeclsNode((declNode) cells.elements[i], list, cells.lines[i], cells.cols[i]);
+		}
+		return list;
+	} // fieldDecls
+
+	private declNode decl() throws IOException
+	{
+		int tag = tag();
+		position();
+		int l = line, c = col;
+		switch (tag) {
+			case AstTags.VarDecl:
+				return new varDeclNode(ident(), type(), expr(), l, c);
+			case AstTags.ConstDecl:
+				return new constDeclNode(ident(), expr(), l, c);
+			case AstTags.ArrayDecl:
+				return new arrayDeclNode(ident(), type(), (intLitNode) expr(), l, c);
+			default:
+				throw malformed(tag);
+		}
+	} // decl
+
+	private typeNode type() throws IOException
+	{
+		int tag = tag();
+		position();
+		switch (tag) {
+			case AstTags.IntType:
+				return new intTypeNode(line, col);
+			case AstTags.FloatType:
+				return new floatTypeNode(line, col);
+			case AstTags.BoolType:
+				return new boolTypeNode(line, col);
+			case AstTags.CharType:
+				return new charTypeNode(line, col);
+			case AstTags.VoidType:
+				return new voidTypeNode(line, col);
+			default:
+				throw malformed(tag);
+		}
+	} // type
+
+	private methodDeclsNode methodDecls() throws IOException
+	{
+		int tag = tag();
+		if (tag == AstTags.Null) {
+			return methodDeclsNode.NULL;
+		} else if (tag != AstTags.MethodDecls) {
+			throw malformed(tag);
+		}
+
+		Cells cells = cells(this::methodDecl);
+		methodDeclsNode list = methodDeclsNode.NULL;
+		for (int i = cells.count - 1; i >= 0; i--) {
+			list = new methodDeclsNode((methodDeclNode) cells.elements[i], list, cells.lines[i], cells.cols[i]);
+		}
+		return list;
+	} // methodDecls
+
+	private methodDeclNode methodDecl() throws IOException
+	{
+		expect(AstTags.MethodDecl);
+		position();
+		int l = line, c = col;
+		identNode id = ident();
+		argDeclsNode args = argDecls();
+		typeNode returnType = type();
+		fieldDeclsNode decls = fieldDecls();
+		stmtsNode stmts = stmts();
+		methodDeclNode m = new methodDeclNode(id, args, returnType, decls, stmts, l, c, line());
+		int flags = get();
+		m.hasSyntaxErrors = (flags & 1) != 0;
+		m.argsUnknown = (flags & 2) != 0;
+		return m;
+	} // methodDecl
+
+	private argDeclsNode argDecls() throws IOException
+	{
+		int tag = tag();
+		if (tag == AstTags.Null) {
+			return argDeclsNode.NULL;
+		} else if (tag != AstTags.ArgDecls) {
+			throw malformed(tag);
+		}
+
+		Cells cells = cells(this::argDecl);
+		argDeclsNode list = argDeclsNode.NULL;
+		for (int i = cells.count - 1; i >= 0; i--) {
+			list = new argDeclsNode((argDeclNode) cells.elements[i], list, cells.lines[i], cells.cols[i]);
+		}
+		return list;
+	} // argDecls
+
+	private argDeclNode argDecl() throws IOException
+	{
+		int tag = tag();
+		position();
+		int l = line, c = col;
+		if (tag == AstTags.ArrayArgDecl) {
+			return new arrayArgDeclNode(ident(), type(), l, c);
+		} else if (tag == AstTags.ValArgDecl) {
+			return new valArgDeclNode(ident(), type(), l, c);
+		}
+		throw malformed(tag);
+	} // argDecl
+
+	private stmtsNode stmts() throws IOException
+	{
+		int tag = tag();
+		if (tag == AstTags.Null) {
+			return stmtsNode.NULL;
+		} else if (tag != AstTags.Stmts) {
+			throw malformed(tag);
+		}
+
+		Cells cells = cells(this::stmt);
+		stmtsNode list = stmtsNode.NULL;
+		for (int i = cells.count - 1; i >= 0; i--) {
+			list = new stmtsNode((stmtNode) cells.elements[i], list, cells.lines[i], cells.cols[i]);
+		}
+		return list;
+	} // stmts
+
+	private stmtNode stmt() throws IOException
+	{
+		int tag = tag();
+		if (tag == AstTags.Null) {
+			return stmtNode.NULL;
+		} else if (tag == AstTags.Read) {
+			return reads();
+		} else if (tag == AstTags.Print) {
+			return prints();
+		}
+
+		position();
+		int l = line, c = col;
+		switch (tag) {
+			case AstTags.Asg:
+				return new asgNode((nameNode) expr(), expr(), l, c);
+			case AstTags.IfThen:
+				return new ifThenNode(expr(), stmt(), stmt(), l, c, line());
+			case AstTags.While:
+				return new whileNode(expr(), expr(), stmt(), l, c);
+			case AstTags.For:
+				return new forNode(ident(), expr(), expr(), stmt(), stmt(), l, c);
+			case AstTags.Call:
+				return new callNode(ident(), args(), l, c);
+			case AstTags.Return:
+				return new returnNode(expr(), l, c);
+			case AstTags.Block:
+				return new blockNode(fieldDecls(), stmts(), l, c, line());
+			case AstTags.Break:
+				return new breakNode(ident(), l, c);
+			case AstTags.Continue:
+				return new continueNode(ident(), l, c);
+			case AstTags.PreIncr:
+				return new preIncrStmtNode((nameNode) expr(), l, c);
+			case AstTags.PostIncr:
+				return new postIncrStmtNode((nameNode) expr(), l, c);
+			case AstTags.PreDec:
+				return new preDecStmtNode((nameNode) expr(), l, c);
+			case AstTags.PostDec:
+				return new postDecStmtNode((nameNode) expr(), l, c);
+			default:
+				throw malformed(tag);
+		}
+	} // stmt
+
+	/* The cells of a read statement, after its tag */
+	private readNode reads() throws IOException
+	{
+		Cells cells = cells(this::expr);
+		readNode list = readNode.NULL;
+		for (int i = cells.count - 1; i >= 0; i--) {
+			list = new readNode((nameNode) cells.elements[i], list, cells.lines[i], cells.cols[i]);
+		}
+		return list;
+	} // reads
+
+	/* The cells of a print statement, after its tag */
+	private printNode prints() throws IOException
+	{
+		Cells cells = cells(this::expr);
+		printNode list = printNode.NULL;
+		for (int i = cells.count - 1; i >= 0; i--) {
+			list = new printNode((exprNode) cells.elements[i], list, cells.lines[i], cells.cols[i]);
+		}
+		return list;
+	} // prints
+
+	private argsNode args() throws IOException
+	{
+		int tag = tag();
+		if (tag == AstTags.Null) {
+			return argsNode.NULL;
+		} else if (tag != AstTags.Args) {
+			throw malformed(tag);
+		}
+
+		Cells cells = cells(this::expr);
+		argsNode list = argsNode.NULL;
+		for (int i = cells.count - 1; i >= 0; i--) {
+			list = new argsNode((exprNode) cells.elements[i], list, cells.lines[i], cells.cols[i]);
+		}
+		return list;
+	} // args
+
+	// Reads one element of a list
+	private interface Element
+	{
+		ASTNode read() throws IOException;
+	}
+
+	// The cells of a list, before they are linked up
+	private static class Cells
+	{
+		final int count;
+		final int[] lines;
+		final int[] cols;
+		final ASTNode[] elements;
+
+		Cells(int count)
+		{
+			this.count = count;
+			lines = new int[count];
+			cols = new int[count];
+			elements = new ASTNode[count];
+		}
+	} // class Cells
+
+	/* Reads a list's count and then each cell's position, unless it is its element's, and element */
+	private Cells cells(Element element) throws IOException
+	{
+		int packed = count();
+		boolean atElements = (packed & 1) != 0;
+		Cells cells = new Cells(packed >>> 1);
+		for (int i = 0; i < cells.count; i++) {
+			if (!atElements) {
+				packedPosition();
+				cells.lines[i] = line;
+				cells.cols[i] = col;
+			}
+			ASTNode e = element.read();
+			cells.elements[i] = e;
+			if (atElements) {
+				cells.lines[i] = e.linenum;
+				cells.cols[i] = e.colnum;
+			}
+		}
+		return cells;
+	} // cells
+
+	/* An identifier in a slot that only holds identifiers, written without a tag */
+	private identNode ident() throws IOException
+	{
+		packedPosition();
+		int l = line, c = col;
+		return new identNode(name(), l, c);
+	}
+
+	private exprNode expr() throws IOException
+	{
+		int tag = tag();
+		if (tag == AstTags.Null) {
+			return exprNode.NULL;
+		}
+
+		position();
+		int l = line, c = col;
+		switch (tag) {
+			case AstTags.Ident:
+				return new identNode(name(), l, c);
+			case AstTags.NameExpr:
+				return new nameNode(ident(), expr(), l, c);
+			case AstTags.Variable:
+				return new nameNode(new identNode(name(), l, c), exprNode.NULL, l, c);
+			case AstTags.IntLit:
+				return new intLitNode(integer(), l, c);
+			case AstTags.FloatLit:
+				return new floatLitNode(real(), l, c);
+			case AstTags.CharLit:
+				return new charLitNode((char) integer(), l, c);
+			case AstTags.StrLit:
+				return new strLitNode(string(), l, c);
+			case AstTags.True:
+				return new trueNode(l, c);
+			case AstTags.False:
+				return new falseNode(l, c);
+			case AstTags.BinaryOp: {
+				exprNode left = expr();
+				int op = integer();
+				return new binaryOpNode(left, op, expr(), l, c);
+			}
+			case AstTags.UnaryOp: {
+				int op = integer();
+				return new unaryOpNode(op, expr(), l, c);
+			}
+			case AstTags.Cast:
+				return new castNode(type(), expr(), l, c);
+			case AstTags.FctCall:
+				return new fctCallNode(ident(), args(), l, c);
+			default:
+				throw malformed(tag);
+		}
+	} // expr
+
+	private void expect(int tag) throws IOException
+	{
+		int found = tag();
+		if (found != tag) {
+			throw malformed(found);
+		}
+	}
+
+	private IOException malformed(int tag)
+	{
+		return new IOException("Malformed CSX tree: unexpected tag " + tag);
+	}
+
+	/* The tag of the next node, keeping how its position moved for position() */
+	private int tag() throws IOException
+	{
+		int b = get();
+		move = b >>> AstWriter.TAG_BITS;
+		return b & AstWriter.TAG_MASK;
+	}
+
+	/* Sets line and col to the position of the node whose tag was just read */
+	private void position() throws IOException
+	{
+		if (move == AstWriter.COLUMN) {
+			lastCol += integer();
+		} else if (move == AstWriter.NEXT_LINE) {
+			lastLine++;
+			lastCol = integer();
+		} else if (move == AstWriter.LINE) {
+			lastLine += integer();
+			lastCol = integer();
+		}
+		line = lastLine;
+		col = lastCol;
+	} // position
+
+	/* Sets line and col to the position of a node written without a tag */
+	private void packedPosition() throws IOException
+	{
+		int packed = varint();
+		int moved = (packed >>> 3) ^ -((packed >>> 2) & 1);
+		switch (packed & 3) {
+			case AstWriter.COLUMN:
+				lastCol += moved;
+				break;
+			case AstWriter.NEXT_LINE:
+				lastLine++;
+				lastCol = moved;
+				break;
+			case AstWriter.LINE:
+				lastLine += moved;
+				lastCol = integer();
+				break;
+		}
+		line = lastLine;
+		col = lastCol;
+	} // packedPosition
+
+	private int line() throws IOException
+	{
+		lastLine += integer();
+		return lastLine;
+	}
+
+	private int count() throws IOException
+	{
+		int n = varint();
+		if (n < 0) {
+			throw new IOException("Malformed CSX tree: negative count");
+		}
+		return n;
+	}
+
+	private int integer() throws IOException
+	{
+		int v = varint();
+		return (v >>> 1) ^ -(v & 1);
+	}
+
+	private Name name() throws IOException
+	{
+		int index = varint();
+		if (index == 0) {
+			Name name = new Name(text(), names.size());
+			names.add(name);
+			return name;
+		}
+		return names.get(index - 1);
+	}
+
+	private String string() throws IOException
+	{
+		int index = varint();
+		if (index == 0) {
+			String s = text();
+			strings.add(s);
+			return s;
+		}
+		return strings.get(index - 1);
+	}
+
+	private float real() throws IOException
+	{
+		int index = varint();
+		if (index == 0) {
+			int bits = 0;
+			for (int i = 0; i < 4; i++) {
+				bits = (bits << 8) | get();
+			}
+			float f = Float.intBitsToFloat(bits);
+			floats.add(f);
+			return f;
+		}
+		return floats.get(index - 1);
+	}
+
+	private String text() throws IOException
+	{
+		byte[] bytes = new byte[count()];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) get();
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private int varint() throws IOException
+	{
+		int v = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = get();
+			v |= (b & 0x7f) << shift;
+			if ((b & 0x80) == 0) {
+				return v;
+			}
+		}
+		throw new IOException("Malformed CSX tree: varint too long");
+	}
+
+	private int get() throws IOException
+	{
+		if (next == end) {
+			end = src.read(buf, 0, buf.length);
+			next = 0;
+			if (end <= 0) {
+				end = 0;
+				throw new EOFException("CSX tree ends early");
+			}
+		}
+		return buf[next++] & 0xff;
+	}
+} // class AstReader
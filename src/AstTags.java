@@ -0,0 +1,60 @@
+/**************************************************
+ * Tags that start each node in the binary tree format written by AstWriter
+ * and read by AstReader. Null is written for any of the null nodes; the
+ * reader knows from the slot which one it stands for. Append new tags at
+ * the end and bump AstWriter.VERSION if the meaning of one changes. Tags
+ * must stay below 64, as the top two bits of a tag byte hold the move to
+ * the node's position.
+ ****************************************************/
+
+class AstTags
+{
+	public static final int Null = 0;
+	public static final int Class = 1;
+	public static final int CsxLite = 2;
+	public static final int MemberDecls = 3;
+	public static final int FieldDecls = 4;
+	public static final int VarDecl = 5;
+	public static final int ConstDecl = 6;
+	public static final int ArrayDecl = 7;
+	public static final int IntType = 8;
+	public static final int FloatType = 9;
+	public static final int BoolType = 10;
+	public static final int CharType = 11;
+	public static final int VoidType = 12;
+	public static final int MethodDecls = 13;
+	public static final int MethodDecl = 14;
+	public static final int ArgDecls = 15;
+	public static final int ArrayArgDecl = 16;
+	public static final int ValArgDecl = 17;
+	public static final int Stmts = 18;
+	public static final int Asg = 19;
+	public static final int IfThen = 20;
+	public static final int While = 21;
+	public static final int For = 22;
+	public static final int Read = 23;
+	public static final int Print = 24;
+	public static final int Call = 25;
+	public static final int Return = 26;
+	public static final int Block = 27;
+	public static final int Break = 28;
+	public static final int Continue = 29;
+	public static final int Args = 30;
+	public static final int StrLit = 31;
+	public static final int BinaryOp = 32;
+	public static final int UnaryOp = 33;
+	public static final int Cast = 34;
+	public static final int FctCall = 35;
+	public static final int Ident = 36;
+	public static final int NameExpr = 37;
+	public static final int IntLit = 38;
+	public static final int FloatLit = 39;
+	public static final int CharLit = 40;
+	public static final int True = 41;
+	public static final int False = 42;
+	public static final int PreIncr = 43;
+	public static final int PostIncr = 44;
+	public static final int PreDec = 45;
+	public static final int PostDec = 46;
+	public static final int Variable = 47; // A NameExpr with no subscript, at its identifier
+} // class AstTags
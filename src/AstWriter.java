@@ -0,0 +1,287 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**************************************************
+ * Writes a parsed tree in a compact binary form that AstReader turns back
+ * into the same tree without scanning or parsing. Nodes write themselves
+ * (ASTNode.serialize) as the tree is walked, so nothing but the pools
+ * below is held in memory.
+ *
+ * The stream is "CSXA", the format version, then the root node. A node is
+ * its AstTags tag, then its fields in a fixed order. Positions are written
+ * as the move from the one written before: the top two bits of the tag
+ * byte say whether the node is where the last one was (nothing more is
+ * written, which is true of about half the nodes), further along the same
+ * line (the column change follows), on the next line (its column follows)
+ * or elsewhere (the line change and column follow). An identifier in a
+ * slot that can only hold one, and a list cell, have no tag, so their
+ * move is packed into the low bits of a varint instead.
+ *
+ * Lists are a tag, then a count with a flag for whether every cell is
+ * where its element is, in which case the cells' positions are left out.
+ * A variable with no subscript, at its identifier's position, is written
+ * as a single Variable tag and the name. Numbers are varints; signed ones
+ * are zigzag encoded first. Identifiers, string literals and float
+ * literals are pooled: the first occurrence is written out in full and
+ * later ones as its index.
+ *
+ * The tree is written as the parser built it. Anything type checking
+ * adds to it (symbol table entries, types of expressions) is not written.
+ ****************************************************/
+
+class AstWriter implements Closeable
+{
+	static final byte[] MAGIC = { 'C', 'S', 'X', 'A' };
+	static final int VERSION = 2;
+
+	// How a position moved since the last one, in a tag's top bits or a varint's low bits
+	static final int SAME = 0;
+	static final int COLUMN = 1;
+	static final int NEXT_LINE = 2;
+	static final int LINE = 3;
+	static final int TAG_BITS = 6;
+	static final int TAG_MASK = (1 << TAG_BITS) - 1;
+
+	private final OutputStream dest;
+	private final byte[] buf = new byte[1 << 16];
+	private int used = 0;
+
+	private int lastLine = 0;
+	private int lastCol = 0;
+	private int nodes = 0; // Every node but the shared null ones, whether or not its position is written
+	private final HashMap<String, Integer> names = new HashMap<String, Integer>();
+	private final HashMap<String, Integer> strings = new HashMap<String, Integer>();
+	private final HashMap<Integer, Integer> floats = new HashMap<Integer, Integer>();
+
+	AstWriter(OutputStream dest)
+	{
+		this.dest = dest;
+	}
+
+	/* Writes the header and the whole tree under root */
+	void writeTree(ASTNode root) throws IOException
+	{
+		for (byte b : MAGIC) {
+			put(b);
+		}
+		count(VERSION);
+		try {
+			node(root);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	} // writeTree
+
+	/* Nodes written so far, not counting null nodes */
+	int nodes()
+	{
+		return nodes;
+	}
+
+	void node(ASTNode n)
+	{
+		n.serialize(this);
+	}
+
+	/* A null node, which has no position */
+	void none()
+	{
+		put(AstTags.Null);
+	}
+
+	/* Starts node n: its tag, with how its position moved in the top bits */
+	void start(int tag, ASTNode n)
+	{
+		nodes++;
+		int move = move(n);
+		put(tag | move << TAG_BITS);
+		if (move == COLUMN) {
+			integer(n.colnum - lastCol);
+		} else if (move == NEXT_LINE) {
+			integer(n.colnum);
+		} else if (move == LINE) {
+			integer(n.linenum - lastLine);
+			integer(n.colnum);
+		}
+		lastLine = n.linenum;
+		lastCol = n.colnum;
+	} // start
+
+	/* The position of a node written without a tag, packed into one varint where it can be */
+	void position(ASTNode n)
+	{
+		nodes++;
+		int move = move(n);
+		if (move == COLUMN) {
+			varint(zigzag(n.colnum - lastCol) << 2 | move);
+		} else if (move == NEXT_LINE) {
+			varint(zigzag(n.colnum) << 2 | move);
+		} else if (move == LINE) {
+			varint(zigzag(n.linenum - lastLine) << 2 | move);
+			integer(n.colnum);
+		} else {
+			put(SAME);
+		}
+		lastLine = n.linenum;
+		lastCol = n.colnum;
+	} // position
+
+	private int move(ASTNode n)
+	{
+		if (n.linenum == lastLine) {
+			return n.colnum == lastCol ? SAME : COLUMN;
+		}
+		return n.linenum == lastLine + 1 ? NEXT_LINE : LINE;
+	}
+
+	/* Whether element can stand for cell's position, so that it needn't be written */
+	static boolean atElement(ASTNode cell, ASTNode element)
+	{
+		return !element.isNull() && cell.linenum == element.linenum && cell.colnum == element.colnum;
+	}
+
+	/* A list of count cells; atElements says every cell is where its element is */
+	void list(int tag, int count, boolean atElements)
+	{
+		put(tag);
+		varint(count << 1 | (atElements ? 1 : 0));
+	}
+
+	/* A list cell, whose position is only written if the list's cells aren't at their elements */
+	void cell(ASTNode c, boolean atElements)
+	{
+		if (atElements) {
+			nodes++;
+		} else {
+			position(c);
+		}
+	}
+
+	/* An identifier in a slot that can hold nothing else, so without a tag */
+	void ident(identNode id)
+	{
+		position(id);
+		name(id.idname);
+	}
+
+	/* An identifier at the position of the node just started, written as only its name */
+	void identHere(identNode id)
+	{
+		nodes++;
+		name(id.idname);
+	}
+
+	/* A line number other than a node's own, such as where a block closes */
+	void line(int line)
+	{
+		integer(line - lastLine);
+		lastLine = line;
+	}
+
+	void count(int n)
+	{
+		varint(n);
+	}
+
+	void integer(int i)
+	{
+		varint(zigzag(i));
+	}
+
+	private static int zigzag(int i)
+	{
+		return (i << 1) ^ (i >> 31);
+	}
+
+	void flags(boolean first, boolean second)
+	{
+		put((first ? 1 : 0) | (second ? 2 : 0));
+	}
+
+	void name(Name name)
+	{
+		pooled(names, name.text);
+	}
+
+	void string(String s)
+	{
+		pooled(strings, s);
+	}
+
+	void real(float f)
+	{
+		int bits = Float.floatToRawIntBits(f);
+		Integer index = floats.get(bits);
+		if (index != null) {
+			varint(index + 1);
+			return;
+		}
+		floats.put(bits, floats.size());
+		varint(0);
+		for (int shift = 24; shift >= 0; shift -= 8) {
+			put(bits >>> shift);
+		}
+	} // real
+
+	/* A pool index plus one, or 0 and the text the first time it is seen */
+	private void pooled(HashMap<String, Integer> pool, String text)
+	{
+		Integer index = pool.get(text);
+		if (index != null) {
+			varint(index + 1);
+			return;
+		}
+		pool.put(text, pool.size());
+		varint(0);
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		varint(bytes.length);
+		for (byte b : bytes) {
+			put(b);
+		}
+	} // pooled
+
+	private void varint(int v)
+	{
+		while ((v & ~0x7f) != 0) {
+			put((v & 0x7f) | 0x80);
+			v >>>= 7;
+		}
+		put(v);
+	}
+
+	private void put(int b)
+	{
+		if (used == buf.length) {
+			drain();
+		}
+		buf[used++] = (byte) b;
+	}
+
+	/* Nodes can't throw IOException, so a failed write travels up unchecked */
+	private void drain()
+	{
+		try {
+			dest.write(buf, 0, used);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		used = 0;
+	}
+
+	void flush() throws IOException
+	{
+		try {
+			drain();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		dest.flush();
+	}
+
+	public void close() throws IOException
+	{
+		flush();
+		dest.close();
+	}
+} // class AstWriter
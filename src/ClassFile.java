@@ -0,0 +1,450 @@
+import java.io.*;
+import java.util.*;
+
+/**************************************************
+ * Assembles a JVM class file: the constant pool, static fields and static
+ * methods, each method's code built through a Code. Jumps go to Labels,
+ * which are patched once the code is laid out, and the stack depth is
+ * followed instruction by instruction to give max_stack.
+ *
+ * Classes are written as version 49 (Java 5). The JVM checks those with
+ * the verifier that infers types itself, so no StackMapTable frames are
+ * needed; the generated code keeps every local to one type, and the
+ * stack is always empty between statements.
+ ****************************************************/
+
+class ClassFile
+{
+	static final int VERSION = 49;
+	static final int ACC_PUBLIC = 0x0001;
+	static final int ACC_PRIVATE = 0x0002;
+	static final int ACC_STATIC = 0x0008;
+	static final int ACC_SUPER = 0x0020;
+
+	// Jumps are written with 16-bit signed offsets, so no method's code can be longer
+	static final int MAX_CODE = Short.MAX_VALUE;
+	// Constant pool indices are 16 bits
+	static final int MAX_POOL = 0xFFFF;
+
+	final String name; // Internal name, as in csx/Demo
+	private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+	private final DataOutputStream poolOut = new DataOutputStream(pool);
+	private final Map<String, Integer> entries = new HashMap<String, Integer>();
+	private int poolCount = 1;
+	private final List<byte[]> fields = new ArrayList<byte[]>();
+	private final List<byte[]> methods = new ArrayList<byte[]>();
+	private String sourceFile;
+
+	/* A place in a method's code that jumps can go to */
+	static class Label
+	{
+		int position = -1;
+		int depth = -1; // Stack depth on arrival, once a jump to it or its placing has set it
+		private final List<Integer> jumps = new ArrayList<Integer>(); // Where the offsets to patch are
+	} // class Label
+
+	/* The code of one method, written one instruction at a time */
+	class Code
+	{
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		private final List<Label> labels = new ArrayList<Label>();
+		private final ByteArrayOutputStream lines = new ByteArrayOutputStream();
+		private final DataOutputStream linesOut = new DataOutputStream(lines);
+		private int lineCount;
+		private int lastLine = -1;
+		private int depth; // -1 after a goto or return, until the next label
+		private int maxStack;
+		int maxLocals;
+
+		private void move(int change)
+		{
+			if (depth < 0) {
+				depth = 0; // Code no jump reaches; the verifier never looks at it
+			}
+			depth += change;
+			maxStack = Math.max(maxStack, depth);
+		}
+
+		private void u1(int value)
+		{
+			bytes.write(value);
+		}
+
+		private void u2(int value)
+		{
+			bytes.write(value >> 8);
+			bytes.write(value);
+		}
+
+		int position()
+		{
+			return bytes.size();
+		}
+
+		/* An instruction with no operands */
+		void op(int op)
+		{
+			move(Opcodes.stackEffect(op));
+			u1(op);
+			if (op == Opcodes.GOTO || (op >= Opcodes.IRETURN && op <= Opcodes.RETURN)) {
+				depth = -1;
+			}
+		}
+
+		void push(int value)
+		{
+			move(1);
+			if (value >= -1 && value <= 5) {
+				u1(Opcodes.ICONST_0 + value);
+			} else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+				u1(Opcodes.BIPUSH);
+				u1(value);
+			} else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+				u1(Opcodes.SIPUSH);
+				u2(value);
+			} else {
+				constant(integer(value));
+			}
+		}
+
+		void push(float value)
+		{
+			move(1);
+			if (value == 0 && 1 / value > 0) {
+				u1(Opcodes.FCONST_0);
+			} else if (value == 1) {
+				u1(Opcodes.FCONST_1);
+			} else if (value == 2) {
+				u1(Opcodes.FCONST_2);
+			} else {
+				constant(real(value));
+			}
+		}
+
+		void push(String value)
+		{
+			move(1);
+			constant(string(value));
+		}
+
+		private void constant(int index)
+		{
+			if (index < 256) {
+				u1(Opcodes.LDC);
+				u1(index);
+			} else {
+				u1(Opcodes.LDC_W);
+				u2(index);
+			}
+		}
+
+		/* A load or store of local variable index */
+		void local(int op, int index)
+		{
+			move(op < Opcodes.ISTORE ? 1 : -1);
+			if (index > 255) {
+				u1(Opcodes.WIDE);
+				u1(op);
+				u2(index);
+			} else {
+				u1(op);
+				u1(index);
+			}
+			maxLocals = Math.max(maxLocals, index + 1);
+		}
+
+		void iinc(int index, int by)
+		{
+			if (index > 255) {
+				u1(Opcodes.WIDE);
+				u1(Opcodes.IINC);
+				u2(index);
+				u2(by);
+			} else {
+				u1(Opcodes.IINC);
+				u1(index);
+				u1(by);
+			}
+			maxLocals = Math.max(maxLocals, index + 1);
+		}
+
+		void newArray(int elementType)
+		{
+			u1(Opcodes.NEWARRAY);
+			u1(elementType);
+		}
+
+		/* GETSTATIC or PUTSTATIC of a field of this class */
+		void field(int op, String field, String descriptor)
+		{
+			move(op == Opcodes.GETSTATIC ? 1 : -1);
+			u1(op);
+			u2(fieldRef(name, field, descriptor));
+		}
+
+		void invokeStatic(String owner, String method, String descriptor)
+		{
+			move(returnSize(descriptor) - argumentCount(descriptor));
+			u1(Opcodes.INVOKESTATIC);
+			u2(methodRef(owner, method, descriptor));
+		}
+
+		/* A GOTO or conditional jump to target */
+		void jump(int op, Label target)
+		{
+			if (op == Opcodes.GOTO) {
+				move(0);
+			} else {
+				move(op >= Opcodes.IF_ICMPEQ ? -2 : -1);
+			}
+			target.depth = depth;
+			target.jumps.add(position() + 1);
+			u1(op);
+			u2(0);
+			if (op == Opcodes.GOTO) {
+				depth = -1;
+			}
+		}
+
+		void place(Label label)
+		{
+			label.position = position();
+			if (label.depth >= 0) {
+				depth = label.depth;
+			} else {
+				label.depth = Math.max(depth, 0);
+			}
+			labels.add(label);
+		}
+
+		/* Marks the code from here on as coming from source line */
+		void line(int line)
+		{
+			if (line > 0 && line != lastLine) {
+				try {
+					linesOut.writeShort(position());
+					linesOut.writeShort(line);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e); // Byte arrays don't fail
+				}
+				lineCount++;
+				lastLine = line;
+			}
+		}
+
+		/* The laid-out code of method, which it names in the exception if it is too long */
+		byte[] toBytes(String method)
+		{
+			byte[] code = bytes.toByteArray();
+			if (code.length > MAX_CODE) {
+				throw new ClassTooLargeException("method " + method + " compiles to " + code.length
+						+ " bytes of bytecode, more than the " + MAX_CODE + " its jumps can span");
+			}
+			for (Label label : labels) {
+				for (int at : label.jumps) {
+					int offset = label.position - (at - 1);
+					code[at] = (byte) (offset >> 8);
+					code[at + 1] = (byte) offset;
+				}
+				label.jumps.clear();
+			}
+			return code;
+		}
+	} // class Code
+
+	ClassFile(String name)
+	{
+		this.name = name;
+	}
+
+	void setSourceFile(String sourceFile)
+	{
+		this.sourceFile = sourceFile;
+	}
+
+	void addField(int access, String field, String descriptor)
+	{
+		ByteArrayOutputStream member = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(member);
+		try {
+			out.writeShort(access);
+			out.writeShort(utf8(field));
+			out.writeShort(utf8(descriptor));
+			out.writeShort(0);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		fields.add(member.toByteArray());
+	}
+
+	void addMethod(int access, String method, String descriptor, Code code)
+	{
+		ByteArrayOutputStream member = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(member);
+		try {
+			byte[] bytes = code.toBytes(method);
+			byte[] lines = code.lines.toByteArray();
+			out.writeShort(access);
+			out.writeShort(utf8(method));
+			out.writeShort(utf8(descriptor));
+			out.writeShort(1);
+			out.writeShort(utf8("Code"));
+			int lineTable = code.lineCount == 0 ? 0 : 8 + lines.length;
+			out.writeInt(12 + bytes.length + lineTable);
+			out.writeShort(code.maxStack);
+			out.writeShort(Math.max(code.maxLocals, argumentCount(descriptor)));
+			out.writeInt(bytes.length);
+			out.write(bytes);
+			out.writeShort(0); // No exception handlers
+			if (code.lineCount == 0) {
+				out.writeShort(0);
+			} else {
+				out.writeShort(1);
+				out.writeShort(utf8("LineNumberTable"));
+				out.writeInt(2 + lines.length);
+				out.writeShort(code.lineCount);
+				out.write(lines);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		methods.add(member.toByteArray());
+	}
+
+	byte[] toBytes()
+	{
+		try {
+			int thisClass = classRef(name);
+			int superClass = classRef("java/lang/Object");
+			int sourceName = sourceFile == null ? 0 : utf8(sourceFile);
+			int sourceAttribute = sourceFile == null ? 0 : utf8("SourceFile");
+			if (poolCount > MAX_POOL) {
+				throw new ClassTooLargeException("class " + name + " needs " + (poolCount - 1)
+						+ " constant pool entries, more than the " + (MAX_POOL - 1) + " a class can have");
+			}
+
+			ByteArrayOutputStream file = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(file);
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0);
+			out.writeShort(VERSION);
+			out.writeShort(poolCount);
+			pool.writeTo(out);
+			out.writeShort(ACC_PUBLIC | ACC_SUPER);
+			out.writeShort(thisClass);
+			out.writeShort(superClass);
+			out.writeShort(0); // No interfaces
+			out.writeShort(fields.size());
+			for (byte[] field : fields) {
+				out.write(field);
+			}
+			out.writeShort(methods.size());
+			for (byte[] method : methods) {
+				out.write(method);
+			}
+			if (sourceFile == null) {
+				out.writeShort(0);
+			} else {
+				out.writeShort(1);
+				out.writeShort(sourceAttribute);
+				out.writeInt(2);
+				out.writeShort(sourceName);
+			}
+			return file.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	} // toBytes
+
+	/* The pool index of an entry, adding it the first time it is asked for */
+	private int entry(String key, int tag, Object... parts)
+	{
+		Integer index = entries.get(key);
+		if (index != null) {
+			return index;
+		}
+		try {
+			poolOut.writeByte(tag);
+			for (Object part : parts) {
+				if (part instanceof String) {
+					poolOut.writeUTF((String) part);
+				} else if (part instanceof Float) {
+					poolOut.writeFloat((Float) part);
+				} else if (tag == 3) {
+					poolOut.writeInt((Integer) part);
+				} else {
+					poolOut.writeShort((Integer) part);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		entries.put(key, poolCount);
+		return poolCount++;
+	}
+
+	int utf8(String text)
+	{
+		return entry("U" + text, 1, text);
+	}
+
+	int integer(int value)
+	{
+		return entry("I" + value, 3, value);
+	}
+
+	int real(float value)
+	{
+		return entry("F" + Float.floatToRawIntBits(value), 4, value);
+	}
+
+	int classRef(String internalName)
+	{
+		return entry("C" + internalName, 7, utf8(internalName));
+	}
+
+	int string(String value)
+	{
+		return entry("S" + value, 8, utf8(value));
+	}
+
+	int nameAndType(String member, String descriptor)
+	{
+		return entry("N" + member + ":" + descriptor, 12, utf8(member), utf8(descriptor));
+	}
+
+	int fieldRef(String owner, String field, String descriptor)
+	{
+		return entry("f" + owner + "." + field + ":" + descriptor, 9, classRef(owner),
+				nameAndType(field, descriptor));
+	}
+
+	int methodRef(String owner, String method, String descriptor)
+	{
+		return entry("m" + owner + "." + method + descriptor, 10, classRef(owner),
+				nameAndType(method, descriptor));
+	}
+
+	/* Stack slots taken by the arguments of a method descriptor; every type used here takes one */
+	static int argumentCount(String descriptor)
+	{
+		int count = 0;
+		int i = 1;
+		while (descriptor.charAt(i) != ')') {
+			while (descriptor.charAt(i) == '[') {
+				i++;
+			}
+			if (descriptor.charAt(i) == 'L') {
+				i = descriptor.indexOf(';', i);
+			}
+			i++;
+			count++;
+		}
+		return count;
+	}
+
+	static int returnSize(String descriptor)
+	{
+		return descriptor.endsWith(")V") ? 0 : 1;
+	}
+} // class ClassFile
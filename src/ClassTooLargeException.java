@@ -0,0 +1,9 @@
+class ClassTooLargeException extends RuntimeException {
+	// Raised by ClassFile when a type-correct program goes beyond a limit of the class
+	//  file format, e.g. a method too long for 16-bit jump offsets
+	static final long serialVersionUID = 1L;
+
+	ClassTooLargeException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,134 @@
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+/**************************************************
+ * Buffered text sink for the unparser. Unparse() makes many tiny print
+ * calls (often a single tab or comma), so they are collected here and
+ * handed to the destination in large chunks. The destination can be any
+ * Appendable: a PrintStream, a Writer over a file, or a StringBuilder
+ * when the output is wanted in memory.
+ ****************************************************/
+
+class CodeWriter implements Closeable
+{
+	static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	// Enough tabs for any indent seen in practice; deeper indents are written in pieces
+	private static final String TABS = "\t\t\t\t\t\t\t\t\t\t\t\t\t\t\t\t";
+
+	private final Appendable dest;
+	private final StringBuilder buf;
+	private final int limit; // Buffered characters that trigger a drain to dest
+
+	CodeWriter(Appendable dest)
+	{
+		this(dest, DEFAULT_BUFFER_SIZE);
+	}
+
+	/* bufferSize 0 hands every print straight to dest */
+	CodeWriter(Appendable dest, int bufferSize)
+	{
+		this.dest = dest;
+		limit = bufferSize;
+		buf = new StringBuilder(Math.max(bufferSize, 16));
+	}
+
+	/* A writer for a file, written through its FileChannel */
+	static CodeWriter toFile(String path) throws IOException
+	{
+		FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		return new CodeWriter(new BufferedWriter(Channels.newWriter(channel, StandardCharsets.US_ASCII),
+				DEFAULT_BUFFER_SIZE));
+	}
+
+	void print(String s)
+	{
+		buf.append(s);
+		drainIfFull();
+	}
+
+	void print(char c)
+	{
+		buf.append(c);
+		drainIfFull();
+	}
+
+	void print(int i)
+	{
+		buf.append(i);
+		drainIfFull();
+	}
+
+	void print(Object o)
+	{
+		buf.append(o);
+		drainIfFull();
+	}
+
+	void println()
+	{
+		buf.append('\n');
+		drainIfFull();
+	}
+
+	void println(String s)
+	{
+		buf.append(s).append('\n');
+		drainIfFull();
+	}
+
+	/* Writes indent tabs */
+	void indent(int indent)
+	{
+		while (indent > TABS.length()) {
+			buf.append(TABS);
+			indent -= TABS.length();
+		}
+		if (indent > 0) {
+			buf.append(TABS, 0, indent);
+		}
+		drainIfFull();
+	}
+
+	private void drainIfFull()
+	{
+		if (buf.length() >= limit) {
+			drain();
+		}
+	}
+
+	/* Hands everything buffered so far to the destination */
+	private void drain()
+	{
+		try {
+			dest.append(buf);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		buf.setLength(0);
+	}
+
+	/* Drains the buffer and flushes the destination if it can be flushed */
+	void flush()
+	{
+		drain();
+		if (dest instanceof Flushable) {
+			try {
+				((Flushable) dest).flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	public void close() throws IOException
+	{
+		flush();
+		if (dest instanceof Closeable) {
+			((Closeable) dest).close();
+		}
+	}
+} // class CodeWriter
@@ -0,0 +1,53 @@
+import java.io.*;
+
+/**************************************************
+ * Holds all of the state that belongs to a single compilation unit (the
+ * symbol table, current method and diagnostics) so that several
+ * files can be scanned, parsed and type checked at the same time
+ ****************************************************/
+
+class CompilationContext
+{
+	public final SymbolTable st;
+	public final PrintStream out; // Where output for this unit is written
+	public final Diagnostics diagnostics; // Type errors found in this unit
+	public methodDeclNode currentMethod;
+	public FrameLayout layout; // Gives the declarations being checked their interpreter slots
+	public int syntaxErrors; // Syntax errors the parser reported and recovered from
+	public IncrementalChecker incremental; // Set when unchanged method bodies may be skipped
+	private int lastSyntaxErrorLine = -1;
+
+	CompilationContext(PrintStream out)
+	{
+		this(out, 0);
+	}
+
+	/* maxErrors stops type checking after that many errors, 0 for no limit */
+	CompilationContext(PrintStream out, int maxErrors)
+	{
+		this.out = out;
+		st = new SymbolTable();
+		diagnostics = new Diagnostics(out, maxErrors);
+		currentMethod = null;
+	}
+
+	/* Reports a syntax error found at line; both parsers report through here */
+	void reportSyntaxError(int line)
+	{
+		syntaxErrors++;
+		lastSyntaxErrorLine = line;
+		out.println("CSX syntax error at line " + line);
+	}
+
+	/* Whether a syntax error has been reported at or after line */
+	boolean syntaxErrorSince(int line)
+	{
+		return lastSyntaxErrorLine >= line;
+	}
+
+	/* Reports an Errors code at where's position, building the message only now that a check failed */
+	void reportError(ASTNode where, int code, Object arg)
+	{
+		diagnostics.report(code, where.linenum, where.colnum, arg);
+	}
+} // class CompilationContext
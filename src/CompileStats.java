@@ -0,0 +1,241 @@
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java_cup.runtime.Symbol;
+
+/**************************************************
+ * Where a compilation spends its time and memory, collected by P4 --stats.
+ * Each phase gets the wall time it took and the bytes the compiling thread
+ * allocated during it. Lexing and parsing interleave (the parser asks for
+ * one token at a time), so the scanner is timed token by token and what
+ * is left of the parse is counted as parsing. Table setup is decoding the
+ * CUP parse tables, done once per JVM before the first CUP parse.
+ *
+ * Each file is counted into its own instance and added to the run's total,
+ * so in a parallel batch the phase times are summed over the threads.
+ ****************************************************/
+
+class CompileStats
+{
+	static final int TABLES = 0;
+	static final int LEXING = 1;
+	static final int PARSING = 2;
+	static final int CHECKING = 3;
+	static final String[] PHASES = { "tables", "lexing", "parsing", "checking" };
+
+	// Null when the JVM can't count allocations per thread
+	private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+	final long[] nanos = new long[PHASES.length];
+	final long[] bytes = new long[PHASES.length];
+	long files;
+	long tokens;
+	long nodes;
+	long scopesOpened;
+	long deepestScope;
+	long inserts;
+	long localHits;
+	long localMisses;
+	long globalHits;
+	long globalMisses;
+
+	// Lowering to the IR (--run-ir, --dump-ir) and the passes over it
+	long loweringNanos;
+	long irInstructions; // As lowered, before the passes
+	long irOptimized; // After them
+	final long[] passNanos = new long[IrOptimizer.PASSES.length];
+	final long[] passChanges = new long[IrOptimizer.PASSES.length];
+
+	/* Passes tokens through to the parser, timing the scanner as it goes */
+	private class TimedScanner implements java_cup.runtime.Scanner
+	{
+		private final java_cup.runtime.Scanner tokenSource;
+
+		TimedScanner(java_cup.runtime.Scanner tokenSource)
+		{
+			this.tokenSource = tokenSource;
+		}
+
+		public Symbol next_token() throws Exception
+		{
+			long start = System.nanoTime();
+			long allocated = allocated();
+			Symbol t = tokenSource.next_token();
+			nanos[LEXING] += System.nanoTime() - start;
+			bytes[LEXING] += allocated() - allocated;
+			if (t.sym != sym.EOF) {
+				tokens++;
+			}
+			return t;
+		}
+	} // class TimedScanner
+
+	/* A scanner that counts its time into this file's lexing phase */
+	java_cup.runtime.Scanner timed(java_cup.runtime.Scanner tokenSource)
+	{
+		return new TimedScanner(tokenSource);
+	}
+
+	/* Counts the time since start (and bytes since allocated) into phase */
+	void phase(int phase, long start, long allocated)
+	{
+		nanos[phase] += System.nanoTime() - start;
+		bytes[phase] += allocated() - allocated;
+	}
+
+	/* Counts the parse that began at start as parsing, less the scanner's share of it */
+	void parsed(long start, long allocated)
+	{
+		phase(PARSING, start, allocated);
+		nanos[PARSING] -= nanos[LEXING];
+		bytes[PARSING] -= bytes[LEXING];
+	}
+
+	/* Counts the nodes of a freshly parsed tree */
+	void countNodes(ASTNode root)
+	{
+		AstWriter walker = new AstWriter(OutputStream.nullOutputStream());
+		try {
+			walker.writeTree(root);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); // A null stream doesn't fail
+		}
+		nodes += walker.nodes();
+	}
+
+	void countSymbolTable(SymbolTable st)
+	{
+		scopesOpened += st.scopesOpened;
+		deepestScope = Math.max(deepestScope, st.deepest);
+		inserts += st.inserts;
+		localHits += st.localHits;
+		localMisses += st.localMisses;
+		globalHits += st.globalHits;
+		globalMisses += st.globalMisses;
+	}
+
+	/* Counts a lowering that took nanos and the passes optimizer ran after it */
+	void countIr(long nanos, int lowered, int optimized, IrOptimizer optimizer)
+	{
+		loweringNanos += nanos;
+		irInstructions += lowered;
+		irOptimized += optimized;
+		for (int i = 0; i < passNanos.length; i++) {
+			passNanos[i] += optimizer.nanos[i];
+			passChanges[i] += optimizer.changes[i];
+		}
+	}
+
+	/* Decodes the CUP parse tables now, if no parser has yet, and times it */
+	void setUpTables()
+	{
+		long start = System.nanoTime();
+		long allocated = allocated();
+		if (new parser().action_table().length == 0) {
+			throw new IllegalStateException("Empty parse tables");
+		}
+		phase(TABLES, start, allocated);
+	}
+
+	synchronized void add(CompileStats file)
+	{
+		for (int i = 0; i < PHASES.length; i++) {
+			nanos[i] += file.nanos[i];
+			bytes[i] += file.bytes[i];
+		}
+		files += file.files;
+		tokens += file.tokens;
+		nodes += file.nodes;
+		scopesOpened += file.scopesOpened;
+		deepestScope = Math.max(deepestScope, file.deepestScope);
+		inserts += file.inserts;
+		localHits += file.localHits;
+		localMisses += file.localMisses;
+		globalHits += file.globalHits;
+		globalMisses += file.globalMisses;
+		loweringNanos += file.loweringNanos;
+		irInstructions += file.irInstructions;
+		irOptimized += file.irOptimized;
+		for (int i = 0; i < passNanos.length; i++) {
+			passNanos[i] += file.passNanos[i];
+			passChanges[i] += file.passChanges[i];
+		}
+	} // add
+
+	synchronized String text()
+	{
+		StringBuilder text = new StringBuilder();
+		text.append(String.format("Compile statistics for %,d files:%n", files));
+		for (int i = 0; i < PHASES.length; i++) {
+			text.append(String.format("  %-9s %10.2f ms %,16d bytes%n", PHASES[i], nanos[i] / 1e6, bytes[i]));
+		}
+		text.append(String.format("  %,d tokens, %,d AST nodes%n", tokens, nodes));
+		text.append(String.format("  %,d scopes opened, nested at most %d deep%n", scopesOpened, deepestScope));
+		text.append(String.format("  %,d symbol inserts; local lookups %,d hits, %,d misses;"
+				+ " global lookups %,d hits, %,d misses%n", inserts, localHits, localMisses, globalHits, globalMisses));
+		if (irInstructions > 0) {
+			text.append(String.format("  IR lowered in %.2f ms to %,d instructions, %,d after the passes%n",
+					loweringNanos / 1e6, irInstructions, irOptimized));
+			for (int i = 0; i < passNanos.length; i++) {
+				text.append(String.format("    %-7s %10.2f ms %,16d changes%n", IrOptimizer.PASSES[i], passNanos[i] / 1e6,
+						passChanges[i]));
+			}
+		}
+		if (THREADS == null) {
+			text.append("  (this JVM doesn't count allocated bytes, so they are all 0)\n");
+		}
+		return text.toString();
+	} // text
+
+	synchronized String json()
+	{
+		StringBuilder json = new StringBuilder("{\n");
+		json.append("  \"files\": ").append(files).append(",\n");
+		json.append("  \"phases\": {\n");
+		for (int i = 0; i < PHASES.length; i++) {
+			json.append("    \"").append(PHASES[i]).append("\": { \"nanos\": ").append(nanos[i])
+				.append(", \"bytes\": ").append(bytes[i]).append(" }").append(i + 1 < PHASES.length ? ",\n" : "\n");
+		}
+		json.append("  },\n");
+		json.append("  \"allocationsCounted\": ").append(THREADS != null).append(",\n");
+		json.append("  \"tokens\": ").append(tokens).append(",\n");
+		json.append("  \"astNodes\": ").append(nodes).append(",\n");
+		json.append("  \"scopesOpened\": ").append(scopesOpened).append(",\n");
+		json.append("  \"deepestScope\": ").append(deepestScope).append(",\n");
+		json.append("  \"symbolInserts\": ").append(inserts).append(",\n");
+		json.append("  \"localLookups\": { \"hits\": ").append(localHits).append(", \"misses\": ")
+			.append(localMisses).append(" },\n");
+		json.append("  \"globalLookups\": { \"hits\": ").append(globalHits).append(", \"misses\": ")
+			.append(globalMisses).append(" },\n");
+		json.append("  \"ir\": { \"loweringNanos\": ").append(loweringNanos).append(", \"instructions\": ")
+			.append(irInstructions).append(", \"optimized\": ").append(irOptimized).append(", \"passes\": {\n");
+		for (int i = 0; i < passNanos.length; i++) {
+			json.append("    \"").append(IrOptimizer.PASSES[i]).append("\": { \"nanos\": ").append(passNanos[i])
+				.append(", \"changes\": ").append(passChanges[i]).append(" }")
+				.append(i + 1 < passNanos.length ? ",\n" : "\n");
+		}
+		json.append("  } }\n");
+		json.append("}\n");
+		return json.toString();
+	} // json
+
+	/* Bytes the current thread has allocated so far, or 0 if that isn't counted */
+	static long allocated()
+	{
+		return THREADS == null ? 0 : THREADS.getCurrentThreadAllocatedBytes();
+	}
+
+	private static com.sun.management.ThreadMXBean allocationCounter()
+	{
+		try {
+			java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+			if (threads instanceof com.sun.management.ThreadMXBean
+					&& ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+				((com.sun.management.ThreadMXBean) threads).setThreadAllocatedMemoryEnabled(true);
+				return (com.sun.management.ThreadMXBean) threads;
+			}
+		} catch (RuntimeException | LinkageError e) {
+			// Not a HotSpot-like JVM
+		}
+		return null;
+	}
+} // class CompileStats
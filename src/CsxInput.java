@@ -0,0 +1,51 @@
+import java.io.*;
+
+/**************************************************
+ * The input READ takes its values from: an int, optionally signed and
+ * after any white space, or a single char. Both give 0 at the end of the
+ * input. Used by the Interpreter and by compiled programs (CsxRuntime).
+ ****************************************************/
+
+class CsxInput
+{
+	private final PushbackReader in;
+
+	CsxInput(Reader in)
+	{
+		this.in = new PushbackReader(in);
+	}
+
+	/* Throws NumberFormatException if the next thing in the input isn't an int */
+	int readInt() throws IOException
+	{
+		int c = in.read();
+		while (c != -1 && Character.isWhitespace(c)) {
+			c = in.read();
+		}
+		if (c == -1) {
+			return 0;
+		}
+		boolean negative = c == '-';
+		if (negative) {
+			c = in.read();
+		}
+		if (c < '0' || c > '9') {
+			throw new NumberFormatException("the input isn't an int");
+		}
+		int value = 0;
+		while (c >= '0' && c <= '9') {
+			value = value * 10 + (c - '0');
+			c = in.read();
+		}
+		if (c != -1) {
+			in.unread(c);
+		}
+		return negative ? -value : value;
+	} // readInt
+
+	int readChar() throws IOException
+	{
+		int c = in.read();
+		return c == -1 ? 0 : c;
+	}
+} // class CsxInput
@@ -0,0 +1,132 @@
+import java.io.*;
+
+/**************************************************
+ * What programs compiled by JvmBackend call for READ, PRINT and the few
+ * operations that are more than an instruction or two. A compiled class
+ * names this one, so it must be on the class path wherever the class is
+ * run. Output is buffered; a class's own main calls main here, which runs
+ * the class and flushes the output, and JvmBackend points out and in
+ * elsewhere to run a class in-process.
+ *
+ * It is public, with public members, because compiled classes are in the
+ * csx package and could not reach it otherwise.
+ ****************************************************/
+
+public class CsxRuntime
+{
+	static PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16));
+	static CsxInput in = new CsxInput(new InputStreamReader(System.in));
+
+	public static void print(int value)
+	{
+		out.print(value);
+	}
+
+	public static void print(char value)
+	{
+		out.print(value);
+	}
+
+	public static void print(boolean value)
+	{
+		out.print(value);
+	}
+
+	public static void print(float value)
+	{
+		out.print(value);
+	}
+
+	public static void print(char[] value)
+	{
+		out.print(value);
+	}
+
+	public static void print(String value)
+	{
+		out.print(value);
+	}
+
+	public static int readInt()
+	{
+		try {
+			return in.readInt();
+		} catch (NumberFormatException e) {
+			throw new CsxRuntimeException(e.getMessage());
+		} catch (IOException e) {
+			throw new CsxRuntimeException("the input can't be read: " + e.getMessage());
+		}
+	}
+
+	public static char readChar()
+	{
+		try {
+			return (char) in.readChar();
+		} catch (IOException e) {
+			throw new CsxRuntimeException("the input can't be read: " + e.getMessage());
+		}
+	}
+
+	/* Index i of the array called name, checked here so a bad one is reported as the interpreter does */
+	public static int index(int[] array, int i, String name)
+	{
+		return index(i, array.length, name);
+	}
+
+	public static int index(float[] array, int i, String name)
+	{
+		return index(i, array.length, name);
+	}
+
+	public static int index(char[] array, int i, String name)
+	{
+		return index(i, array.length, name);
+	}
+
+	public static int index(boolean[] array, int i, String name)
+	{
+		return index(i, array.length, name);
+	}
+
+	private static int index(int i, int length, String name)
+	{
+		if (i < 0 || i >= length) {
+			throw new CsxRuntimeException("index " + i + " is outside " + name + "[" + length + "]");
+		}
+		return i;
+	}
+
+	/* Assigns array from (called fromName) to array to (toName), element by element */
+	public static void copy(Object from, Object to, String toName, String fromName)
+	{
+		int length = java.lang.reflect.Array.getLength(to);
+		if (java.lang.reflect.Array.getLength(from) != length) {
+			throw new CsxRuntimeException("arrays " + toName + " and " + fromName + " differ in length");
+		}
+		System.arraycopy(from, 0, to, 0, length);
+	}
+
+	/* For code that can't run, found only when it was compiled */
+	public static void fail(String message)
+	{
+		throw new CsxRuntimeException(message);
+	}
+
+	/* As above, reported against line rather than the line of the call */
+	public static void fail(String message, int line)
+	{
+		throw new CsxRuntimeException(line, message);
+	}
+
+	/* The main of a compiled class, named className: runs it as --run-jvm
+	   would, exiting with 1 after a runtime error */
+	public static void main(String className) throws ReflectiveOperationException
+	{
+		java.lang.reflect.Method run = Class.forName(className).getMethod("$run");
+		boolean finished = JvmBackend.run(run, new InputStreamReader(System.in), out);
+		out.flush();
+		if (!finished) {
+			System.exit(1);
+		}
+	}
+} // class CsxRuntime
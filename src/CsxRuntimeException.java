@@ -0,0 +1,22 @@
+class CsxRuntimeException extends RuntimeException {
+	// Raised by the Interpreter (or IrInterpreter, or CsxRuntime) when a checked program fails as it runs,
+	//  e.g. an index outside its array or a division by zero
+	static final long serialVersionUID = 1L;
+
+	final int line; // Line of the statement or expression that failed
+
+	CsxRuntimeException(ASTNode where, String message) {
+		super(message);
+		line = where.linenum;
+	}
+
+	CsxRuntimeException(int line, String message) {
+		super(message);
+		this.line = line;
+	}
+
+	// Raised by CsxRuntime for a compiled class; JvmBackend finds the line in its stack trace
+	CsxRuntimeException(String message) {
+		this(-1, message);
+	}
+}
@@ -0,0 +1,968 @@
+import java_cup.runtime.Symbol;
+
+/**************************************************
+ * Hand-written recursive-descent parser for CSX, an alternative to the
+ * CUP generated parser (P4 --parser descent). It follows csx.cup rule for
+ * rule and builds the same nodes with the same line and column numbers,
+ * but without a Symbol per reduction, a parse stack or the action switch.
+ *
+ * The grammar is LL(1) once the rules that start with "type ident" or
+ * "ident" are left factored, so one token of lookahead is enough. Every
+ * token is checked before the next one is read, so a syntax error is
+ * reported at the same token, and with the same message, as CUP's.
+ * Lists are collected iteratively and linked up from the end, so their
+ * length doesn't use up the Java stack.
+ *
+ * After a syntax error the innermost rule that csx.cup gives an error
+ * production catches it and skips to the same tokens that production
+ * resynchronizes at. CUP test-parses a few tokens before trusting a
+ * resynchronization, where this only checks the next token or two, so
+ * after the first error the two parsers sometimes recover differently.
+ ****************************************************/
+
+class DescentParser
+{
+	private final java_cup.runtime.Scanner scanner;
+	private final CompilationContext ctx;
+
+	private Symbol token; // The lookahead
+	private int kind; // token.sym
+	private Symbol[] ahead = new Symbol[2]; // Tokens after it that error recovery has looked at
+	private int aheadCount = 0;
+
+	// Scratch stack the list rules collect their elements on before linking them
+	private ASTNode[] pending = new ASTNode[64];
+	private int pendingTop = 0;
+
+	/* Unwinds to the nearest rule that can recover; the error was already reported */
+	private static final class Mismatch extends RuntimeException
+	{
+		static final long serialVersionUID = 1L;
+
+		Mismatch()
+		{
+			super(null, null, false, false); // Recovery is routine, so no stack trace
+		}
+	} // class Mismatch
+
+	DescentParser(java_cup.runtime.Scanner s, CompilationContext ctx)
+	{
+		scanner = s;
+		this.ctx = ctx;
+	}
+
+	/* Parses a whole compilation unit, recovering from the syntax errors it reports where
+	   it can; throws SyntaxErrorException after one it can't recover from */
+	classNode parse() throws Exception
+	{
+		try {
+			read();
+			classNode prog = prog();
+			expect(sym.EOF);
+			return prog;
+		} catch (Mismatch e) {
+			// Outside any rule with an error production
+			throw unrecoverable();
+		}
+	} // parse
+
+	/* Parses a stretch of a class body that is only method declarations, and then the
+	   class's closing brace if closesClass, up to the end of the input; for parsing again
+	   just the methods an edit touched. Returns null if the stretch isn't that; errors
+	   recovered from inside a method are only counted in ctx, like in parse() */
+	methodDeclsNode methods(boolean closesClass) throws Exception
+	{
+		int start = pendingTop;
+		try {
+			read();
+			while (kind == sym.rw_VOID || isType(kind)) {
+				typeNode t = kind == sym.rw_VOID ? voidType() : type();
+				push(methodRest(t, ident()));
+			}
+			if (closesClass) {
+				expect(sym.RBRACE);
+			}
+			expect(sym.EOF);
+		} catch (Mismatch | SyntaxErrorException e) {
+			truncate(start);
+			return null;
+		}
+
+		methodDeclsNode methods = methodDeclsNode.NULL;
+		while (pendingTop > start) {
+			methodDeclNode m = (methodDeclNode) pop();
+			methods = new methodDeclsNode(m, methods, m.linenum, m.colnum);
+		}
+		return methods;
+	} // methods
+
+	// prog ::= CLASS ident LBRACE memberdecls RBRACE
+	private classNode prog() throws Exception
+	{
+		CSXToken c = expect(sym.rw_CLASS);
+		identNode id = ident();
+		expect(sym.LBRACE);
+		memberDeclsNode m = memberdecls();
+		CSXToken rb = expect(sym.RBRACE);
+		return new classNode(id, m, c.linenum, c.colnum, rb.linenum);
+	} // prog
+
+	// memberdecls ::= fielddecl memberdecls | error SEMI memberdecls | methoddecls
+	// A field and a non-void method both start with "type ident", so those two
+	// tokens are read before deciding which one this is
+	private memberDeclsNode memberdecls() throws Exception
+	{
+		int start = pendingTop;
+		typeNode methodType = null;
+		identNode methodName = null;
+
+		while (true) {
+			int mark = pendingTop;
+			try {
+				if (kind == sym.rw_CONST) {
+					push(constDecl());
+				} else if (isType(kind)) {
+					typeNode t = type();
+					identNode id = ident();
+					if (kind == sym.LPAREN) {
+						methodType = t;
+						methodName = id;
+						break;
+					}
+					push(fieldRestOrRecover(t, id));
+				} else if (kind == sym.rw_VOID || kind == sym.RBRACE) {
+					break;
+				} else {
+					throw syntaxError();
+				}
+			} catch (Mismatch e) {
+				truncate(mark);
+				// Either a field is dropped, or (as methoddecl ::= error RBRACE) a method
+				while (!(kind == sym.SEMI && startsMember(1)) && !(kind == sym.RBRACE && followsMethod(1))) {
+					if (kind == sym.EOF) {
+						throw unrecoverable();
+					}
+					read();
+				}
+				boolean droppedField = kind == sym.SEMI;
+				read();
+				if (!droppedField) {
+					optionalsemi();
+					break;
+				}
+			}
+		}
+
+		fieldDeclsNode fields = fieldDeclsNode.NULL;
+		while (pendingTop > start) {
+			declNode f = (declNode) pop();
+			fields = new fieldDeclsNode(f, fields, f.linenum, f.colnum);
+		}
+
+		methodDeclsNode methods = methoddecls(methodType, methodName);
+		return new memberDeclsNode(fields, methods, methods.linenum, methods.colnum);
+	} // memberdecls
+
+	// methoddecls ::= methoddecl methoddecls | (empty), always followed by RBRACE
+	// firstType and firstName are the already read start of the first method, if any
+	private methodDeclsNode methoddecls(typeNode firstType, identNode firstName) throws Exception
+	{
+		int start = pendingTop;
+
+		if (firstType != null) {
+			push(methodRest(firstType, firstName));
+		}
+		while (kind != sym.RBRACE) {
+			int mark = pendingTop;
+			try {
+				if (kind != sym.rw_VOID && !isType(kind)) {
+					throw syntaxError();
+				}
+				typeNode t = kind == sym.rw_VOID ? voidType() : type();
+				push(methodRest(t, ident()));
+			} catch (Mismatch e) {
+				// methoddecl ::= error RBRACE optionalsemi, which leaves no method
+				truncate(mark);
+				skipPast(sym.RBRACE, this::followsMethod);
+				optionalsemi();
+			}
+		}
+
+		methodDeclsNode methods = methodDeclsNode.NULL;
+		while (pendingTop > start) {
+			methodDeclNode m = (methodDeclNode) pop();
+			methods = new methodDeclsNode(m, methods, m.linenum, m.colnum);
+		}
+		return methods;
+	} // methoddecls
+
+	// methoddecl ::= (void | type) ident LPAREN [argdecls] RPAREN LBRACE fielddecls stmts RBRACE optionalsemi
+	// where only void methods may leave out stmts
+	private methodDeclNode methodRest(typeNode t, identNode id) throws Exception
+	{
+		expect(sym.LPAREN);
+		argDeclsNode args = argDeclsNode.NULL;
+		int mark = pendingTop;
+		try {
+			if (kind != sym.RPAREN) {
+				args = argdecls();
+			}
+			expect(sym.RPAREN);
+			expect(sym.LBRACE);
+		} catch (Mismatch e) {
+			// methoddecl ::= (void | type) ident LPAREN error RBRACE optionalsemi
+			truncate(mark);
+			CSXToken rb = skipPast(sym.RBRACE, this::followsMethod);
+			optionalsemi();
+			methodDeclNode m = new methodDeclNode(id, argDeclsNode.NULL, t, fieldDeclsNode.NULL, stmtsNode.NULL,
+					t.linenum, t.colnum, rb.linenum);
+			m.hasSyntaxErrors = true;
+			m.argsUnknown = true;
+			return m;
+		}
+
+		fieldDeclsNode decls = fielddecls();
+		stmtsNode stmts = stmtsNode.NULL;
+		if (kind != sym.RBRACE || !(t instanceof voidTypeNode)) {
+			stmts = stmts();
+		}
+		CSXToken rb = expect(sym.RBRACE);
+		optionalsemi();
+		methodDeclNode m = new methodDeclNode(id, args, t, decls, stmts, t.linenum, t.colnum, rb.linenum);
+		m.hasSyntaxErrors = ctx.syntaxErrorSince(m.linenum);
+		return m;
+	} // methodRest
+
+	// optionalsemi ::= SEMI | (empty)
+	private void optionalsemi() throws Exception
+	{
+		if (kind == sym.SEMI) {
+			read();
+		}
+	} // optionalsemi
+
+	// argdecls ::= argdecl COMMA argdecls | argdecl
+	private argDeclsNode argdecls() throws Exception
+	{
+		int start = pendingTop;
+		push(argdecl());
+		while (kind == sym.COMMA) {
+			read();
+			push(argdecl());
+		}
+
+		argDeclsNode args = argDeclsNode.NULL;
+		while (pendingTop > start) {
+			argDeclNode a = (argDeclNode) pop();
+			args = new argDeclsNode(a, args, a.linenum, a.colnum);
+		}
+		return args;
+	} // argdecls
+
+	// argdecl ::= type ident | type ident LBRACKET RBRACKET
+	private argDeclNode argdecl() throws Exception
+	{
+		typeNode t = type();
+		identNode id = ident();
+		if (kind == sym.LBRACKET) {
+			read();
+			expect(sym.RBRACKET);
+			return new arrayArgDeclNode(id, t, t.linenum, t.colnum);
+		}
+		return new valArgDeclNode(id, t, t.linenum, t.colnum);
+	} // argdecl
+
+	// fielddecls ::= fielddecl fielddecls | error SEMI fielddecls | (empty), followed by stmts or RBRACE
+	private fieldDeclsNode fielddecls() throws Exception
+	{
+		int start = pendingTop;
+		while (kind != sym.RBRACE && !isStmtStart(kind)) {
+			int mark = pendingTop;
+			try {
+				if (kind == sym.rw_CONST) {
+					push(constDecl());
+				} else {
+					typeNode t = type();
+					push(fieldRestOrRecover(t, ident()));
+				}
+			} catch (Mismatch e) {
+				truncate(mark);
+				skipPast(sym.SEMI, this::followsDecl);
+			}
+		}
+
+		fieldDeclsNode fields = fieldDeclsNode.NULL;
+		while (pendingTop > start) {
+			declNode f = (declNode) pop();
+			fields = new fieldDeclsNode(f, fields, f.linenum, f.colnum);
+		}
+		return fields;
+	} // fielddecls
+
+	// fielddecl ::= type ident SEMI | type ident ASG expr SEMI | type ident LBRACKET intlit RBRACKET SEMI
+	private declNode fieldRest(typeNode t, identNode id) throws Exception
+	{
+		switch (kind) {
+		case sym.SEMI:
+			read();
+			return new varDeclNode(id, t, exprNode.NULL, t.linenum, t.colnum);
+		case sym.ASG:
+			read();
+			exprNode e = expr();
+			expect(sym.SEMI);
+			return new varDeclNode(id, t, e, t.linenum, t.colnum);
+		case sym.LBRACKET:
+			read();
+			CSXToken i = expect(sym.INTLIT);
+			intLitNode lit = new intLitNode(((CSXIntLitToken) i).intValue, i.linenum, i.colnum);
+			expect(sym.RBRACKET);
+			expect(sym.SEMI);
+			return new arrayDeclNode(id, t, lit, t.linenum, t.colnum);
+		default:
+			throw syntaxError();
+		}
+	} // fieldRest
+
+	// fielddecl ::= type ident error SEMI, which still declares the variable
+	private declNode fieldRestOrRecover(typeNode t, identNode id) throws Exception
+	{
+		int mark = pendingTop;
+		try {
+			return fieldRest(t, id);
+		} catch (Mismatch e) {
+			truncate(mark);
+			skipPast(sym.SEMI, this::followsDecl);
+			return new varDeclNode(id, t, exprNode.NULL, t.linenum, t.colnum);
+		}
+	} // fieldRestOrRecover
+
+	// fielddecl ::= CONST ident ASG expr SEMI
+	private declNode constDecl() throws Exception
+	{
+		CSXToken c = expect(sym.rw_CONST);
+		identNode id = ident();
+		expect(sym.ASG);
+		exprNode e = expr();
+		expect(sym.SEMI);
+		return new constDeclNode(id, e, c.linenum, c.colnum);
+	} // constDecl
+
+	// stmts ::= stmt stmts | stmt, always followed by RBRACE
+	private stmtsNode stmts() throws Exception
+	{
+		int start = pendingTop;
+		do {
+			push(stmtOrRecover());
+		} while (kind != sym.RBRACE);
+
+		stmtsNode stmts = stmtsNode.NULL;
+		while (pendingTop > start) {
+			stmtNode s = (stmtNode) pop();
+			stmts = new stmtsNode(s, stmts, s.linenum, s.colnum);
+		}
+		return stmts;
+	} // stmts
+
+	// stmt ::= error SEMI | error, resynchronizing after a semicolon or before a
+	// closing brace or something that looks like the start of a statement
+	private stmtNode stmtOrRecover() throws Exception
+	{
+		int mark = pendingTop;
+		try {
+			return stmt();
+		} catch (Mismatch e) {
+			truncate(mark);
+			while (!(kind == sym.SEMI && followsStmt(1)) && !endsBody(0) && !startsStmt(0)) {
+				if (kind == sym.EOF) {
+					throw unrecoverable();
+				}
+				read();
+			}
+			if (kind == sym.SEMI) {
+				read();
+			}
+			return stmtNode.NULL;
+		}
+	} // stmtOrRecover
+
+	private stmtNode stmt() throws Exception
+	{
+		CSXToken t;
+		exprNode e;
+		stmtNode s;
+
+		switch (kind) {
+		case sym.rw_IF:
+			t = take();
+			expect(sym.LPAREN);
+			e = expr();
+			expect(sym.RPAREN);
+			s = stmtOrRecover();
+			stmtNode elsePart = stmtNode.NULL;
+			if (kind == sym.rw_ELSE) {
+				read();
+				elsePart = stmtOrRecover();
+			}
+			CSXToken endif = expect(sym.rw_ENDIF);
+			return new ifThenNode(e, s, elsePart, t.linenum, t.colnum, endif.linenum);
+
+		case sym.rw_WHILE:
+			t = take();
+			expect(sym.LPAREN);
+			e = expr();
+			expect(sym.RPAREN);
+			s = stmtOrRecover();
+			return new whileNode(exprNode.NULL, e, s, t.linenum, t.colnum);
+
+		case sym.IDENTIFIER:
+			return identStmt();
+
+		case sym.rw_READ:
+			read();
+			expect(sym.LPAREN);
+			readNode reads = readlist();
+			expect(sym.RPAREN);
+			expect(sym.SEMI);
+			return reads;
+
+		case sym.rw_PRINT:
+			read();
+			expect(sym.LPAREN);
+			printNode prints = printlist();
+			expect(sym.RPAREN);
+			expect(sym.SEMI);
+			return prints;
+
+		case sym.INC:
+		case sym.DEC:
+			s = update();
+			expect(sym.SEMI);
+			return s;
+
+		case sym.rw_RETURN:
+			t = take();
+			e = exprNode.NULL;
+			if (kind != sym.SEMI) {
+				e = expr();
+			}
+			expect(sym.SEMI);
+			return new returnNode(e, t.linenum, t.colnum);
+
+		case sym.rw_BREAK:
+			t = take();
+			identNode breakLabel = ident();
+			expect(sym.SEMI);
+			return new breakNode(breakLabel, t.linenum, t.colnum);
+
+		case sym.rw_CONTINUE:
+			t = take();
+			identNode continueLabel = ident();
+			expect(sym.SEMI);
+			return new continueNode(continueLabel, t.linenum, t.colnum);
+
+		case sym.LBRACE:
+			t = take();
+			fieldDeclsNode decls = fielddecls();
+			stmtsNode stmts = stmtsNode.NULL;
+			if (kind != sym.RBRACE) {
+				stmts = stmts();
+			}
+			CSXToken rb = expect(sym.RBRACE);
+			optionalsemi();
+			return new blockNode(decls, stmts, t.linenum, t.colnum, rb.linenum);
+
+		case sym.rw_FOR:
+			t = take();
+			expect(sym.LPAREN);
+			identNode loopVar = ident();
+			expect(sym.ASG);
+			exprNode init = expr();
+			expect(sym.SEMI);
+			exprNode cond = expr();
+			expect(sym.SEMI);
+			stmtNode up = update();
+			expect(sym.RPAREN);
+			s = stmtOrRecover();
+			return new forNode(loopVar, init, cond, up, s, t.linenum, t.colnum);
+
+		default:
+			throw syntaxError();
+		}
+	} // stmt
+
+	// The statements that start with an identifier: a labeled while, a call, or an update
+	private stmtNode identStmt() throws Exception
+	{
+		identNode id = ident();
+
+		if (kind == sym.COLON) {
+			read();
+			expect(sym.rw_WHILE);
+			expect(sym.LPAREN);
+			exprNode e = expr();
+			expect(sym.RPAREN);
+			stmtNode s = stmtOrRecover();
+			return new whileNode(id, e, s, id.linenum, id.colnum);
+		}
+
+		if (kind == sym.LPAREN) {
+			read();
+			argsNode a = argsNode.NULL;
+			if (kind != sym.RPAREN) {
+				a = args();
+			}
+			expect(sym.RPAREN);
+			expect(sym.SEMI);
+			return new callNode(id, a, id.linenum, id.colnum);
+		}
+
+		stmtNode u = updateRest(nameRest(id));
+		expect(sym.SEMI);
+		return u;
+	} // identStmt
+
+	// update ::= INC name | DEC name | name INC | name DEC | name ASG expr
+	private stmtNode update() throws Exception
+	{
+		CSXToken t;
+		switch (kind) {
+		case sym.INC:
+			t = take();
+			return new preIncrStmtNode(name(), t.linenum, t.colnum);
+		case sym.DEC:
+			t = take();
+			return new preDecStmtNode(name(), t.linenum, t.colnum);
+		default:
+			return updateRest(name());
+		}
+	} // update
+
+	private stmtNode updateRest(nameNode n) throws Exception
+	{
+		switch (kind) {
+		case sym.INC:
+			read();
+			return new postIncrStmtNode(n, n.linenum, n.colnum);
+		case sym.DEC:
+			read();
+			return new postDecStmtNode(n, n.linenum, n.colnum);
+		case sym.ASG:
+			read();
+			return new asgNode(n, expr(), n.linenum, n.colnum);
+		default:
+			throw syntaxError();
+		}
+	} // updateRest
+
+	// type ::= INT | CHAR | BOOL | FLOAT
+	private typeNode type() throws Exception
+	{
+		CSXToken t;
+		switch (kind) {
+		case sym.rw_INT:
+			t = take();
+			return new intTypeNode(t.linenum, t.colnum);
+		case sym.rw_CHAR:
+			t = take();
+			return new charTypeNode(t.linenum, t.colnum);
+		case sym.rw_BOOL:
+			t = take();
+			return new boolTypeNode(t.linenum, t.colnum);
+		case sym.rw_FLOAT:
+			t = take();
+			return new floatTypeNode(t.linenum, t.colnum);
+		default:
+			throw syntaxError();
+		}
+	} // type
+
+	private voidTypeNode voidType() throws Exception
+	{
+		CSXToken v = expect(sym.rw_VOID);
+		return new voidTypeNode(v.linenum, v.colnum);
+	} // voidType
+
+	// args ::= expr COMMA args | expr
+	private argsNode args() throws Exception
+	{
+		int start = pendingTop;
+		push(expr());
+		while (kind == sym.COMMA) {
+			read();
+			push(expr());
+		}
+
+		argsNode args = argsNode.NULL;
+		while (pendingTop > start) {
+			exprNode e = (exprNode) pop();
+			args = new argsNode(e, args, e.linenum, e.colnum);
+		}
+		return args;
+	} // args
+
+	// readlist ::= name COMMA readlist | name
+	private readNode readlist() throws Exception
+	{
+		int start = pendingTop;
+		push(name());
+		while (kind == sym.COMMA) {
+			read();
+			push(name());
+		}
+
+		readNode reads = readNode.NULL;
+		while (pendingTop > start) {
+			nameNode n = (nameNode) pop();
+			reads = new readNode(n, reads, n.linenum, n.colnum);
+		}
+		return reads;
+	} // readlist
+
+	// printlist ::= expr COMMA printlist | expr
+	private printNode printlist() throws Exception
+	{
+		int start = pendingTop;
+		push(expr());
+		while (kind == sym.COMMA) {
+			read();
+			push(expr());
+		}
+
+		printNode prints = printNode.NULL;
+		while (pendingTop > start) {
+			exprNode e = (exprNode) pop();
+			prints = new printNode(e, prints, e.linenum, e.colnum);
+		}
+		return prints;
+	} // printlist
+
+	// expr ::= expr COR term | expr CAND term | term
+	private exprNode expr() throws Exception
+	{
+		exprNode l = term();
+		while (kind == sym.COR || kind == sym.CAND) {
+			int op = kind;
+			read();
+			l = new binaryOpNode(l, op, term(), l.linenum, l.colnum);
+		}
+		return l;
+	} // expr
+
+	// term ::= factor (LT | GT | LEQ | GEQ | EQ | NOTEQ) factor | factor
+	private exprNode term() throws Exception
+	{
+		exprNode l = factor();
+		switch (kind) {
+		case sym.LT:
+		case sym.GT:
+		case sym.LEQ:
+		case sym.GEQ:
+		case sym.EQ:
+		case sym.NOTEQ:
+			int op = kind;
+			read();
+			return new binaryOpNode(l, op, factor(), l.linenum, l.colnum);
+		default:
+			return l;
+		}
+	} // term
+
+	// factor ::= factor PLUS pri | factor MINUS pri | pri
+	private exprNode factor() throws Exception
+	{
+		exprNode l = pri();
+		while (kind == sym.PLUS || kind == sym.MINUS) {
+			int op = kind;
+			read();
+			l = new binaryOpNode(l, op, pri(), l.linenum, l.colnum);
+		}
+		return l;
+	} // factor
+
+	// pri ::= pri TIMES unary | pri SLASH unary | unary
+	private exprNode pri() throws Exception
+	{
+		exprNode l = unary();
+		while (kind == sym.TIMES || kind == sym.SLASH) {
+			int op = kind;
+			read();
+			l = new binaryOpNode(l, op, unary(), l.linenum, l.colnum);
+		}
+		return l;
+	} // pri
+
+	// unary ::= NOT unary | LPAREN type RPAREN unary | unit
+	// A parenthesized expression (from unit) is also handled here, since it
+	// can only be told apart from a cast by the token after the LPAREN
+	private exprNode unary() throws Exception
+	{
+		if (kind == sym.NOT) {
+			read();
+			exprNode u = unary();
+			return new unaryOpNode(sym.NOT, u, u.linenum, u.colnum);
+		}
+
+		if (kind == sym.LPAREN) {
+			CSXToken l = take();
+			if (isType(kind)) {
+				typeNode t = type();
+				expect(sym.RPAREN);
+				return new castNode(t, unary(), l.linenum, l.colnum);
+			}
+			exprNode e = expr();
+			expect(sym.RPAREN);
+			return e;
+		}
+
+		return unit();
+	} // unary
+
+	// unit ::= name | ident LPAREN [args] RPAREN | INTLIT | CHARLIT | FLOATLIT | STRLIT | TRUE | FALSE
+	private exprNode unit() throws Exception
+	{
+		CSXToken t;
+		switch (kind) {
+		case sym.IDENTIFIER:
+			identNode id = ident();
+			if (kind == sym.LPAREN) {
+				read();
+				argsNode a = argsNode.NULL;
+				if (kind != sym.RPAREN) {
+					a = args();
+				}
+				expect(sym.RPAREN);
+				return new fctCallNode(id, a, id.linenum, id.colnum);
+			}
+			return nameRest(id);
+		case sym.INTLIT:
+			t = take();
+			return new intLitNode(((CSXIntLitToken) t).intValue, t.linenum, t.colnum);
+		case sym.CHARLIT:
+			t = take();
+			return new charLitNode(((CSXCharLitToken) t).charValue, t.linenum, t.colnum);
+		case sym.FLOATLIT:
+			t = take();
+			return new floatLitNode(((CSXFloatLitToken) t).floatValue, t.linenum, t.colnum);
+		case sym.STRLIT:
+			t = take();
+			return new strLitNode(((CSXStringLitToken) t).stringValue, t.linenum, t.colnum);
+		case sym.rw_TRUE:
+			t = take();
+			return new trueNode(t.linenum, t.colnum);
+		case sym.rw_FALSE:
+			t = take();
+			return new falseNode(t.linenum, t.colnum);
+		default:
+			throw syntaxError();
+		}
+	} // unit
+
+	// ident ::= IDENTIFIER
+	private identNode ident() throws Exception
+	{
+		CSXIdentifierToken i = (CSXIdentifierToken) expect(sym.IDENTIFIER);
+		return new identNode(i.identifierValue, i.linenum, i.colnum);
+	} // ident
+
+	// name ::= ident | ident LBRACKET expr RBRACKET
+	private nameNode name() throws Exception
+	{
+		return nameRest(ident());
+	} // name
+
+	private nameNode nameRest(identNode id) throws Exception
+	{
+		exprNode index = exprNode.NULL;
+		if (kind == sym.LBRACKET) {
+			read();
+			index = expr();
+			expect(sym.RBRACKET);
+		}
+		return new nameNode(id, index, id.linenum, id.colnum);
+	} // nameRest
+
+	private static boolean isType(int kind)
+	{
+		return kind == sym.rw_INT || kind == sym.rw_CHAR || kind == sym.rw_BOOL || kind == sym.rw_FLOAT;
+	} // isType
+
+	private static boolean isStmtStart(int kind)
+	{
+		switch (kind) {
+		case sym.rw_IF:
+		case sym.rw_WHILE:
+		case sym.IDENTIFIER:
+		case sym.rw_READ:
+		case sym.rw_PRINT:
+		case sym.INC:
+		case sym.DEC:
+		case sym.rw_RETURN:
+		case sym.rw_BREAK:
+		case sym.rw_CONTINUE:
+		case sym.LBRACE:
+		case sym.rw_FOR:
+			return true;
+		default:
+			return false;
+		}
+	} // isStmtStart
+
+	// Checks on the tokens after the one error recovery would resynchronize at,
+	// standing in for the few tokens CUP parses ahead before it resumes. at is
+	// how many tokens after the lookahead to look (0 is the lookahead itself).
+
+	/* Whether a statement could start at, judged by its first two tokens */
+	private boolean startsStmt(int at) throws Exception
+	{
+		int next = kindAt(at + 1);
+		switch (kindAt(at)) {
+		case sym.IDENTIFIER:
+			return next == sym.ASG || next == sym.LPAREN || next == sym.LBRACKET || next == sym.COLON
+					|| next == sym.INC || next == sym.DEC;
+		case sym.rw_IF:
+		case sym.rw_WHILE:
+		case sym.rw_READ:
+		case sym.rw_PRINT:
+		case sym.rw_FOR:
+			return next == sym.LPAREN;
+		case sym.INC:
+		case sym.DEC:
+		case sym.rw_BREAK:
+		case sym.rw_CONTINUE:
+			return next == sym.IDENTIFIER;
+		case sym.rw_RETURN:
+		case sym.LBRACE:
+			return true;
+		default:
+			return false;
+		}
+	} // startsStmt
+
+	/* Whether a closing brace at could end a block or method, rather than being stray */
+	private boolean endsBody(int at) throws Exception
+	{
+		return kindAt(at) == sym.RBRACE && (followsMethod(at + 1) || followsStmt(at + 1));
+	} // endsBody
+
+	private boolean startsMember(int at) throws Exception
+	{
+		int k = kindAt(at);
+		return k == sym.rw_CONST || k == sym.rw_VOID || isType(k) || k == sym.RBRACE;
+	} // startsMember
+
+	private boolean followsMethod(int at) throws Exception
+	{
+		int k = kindAt(at);
+		return k == sym.rw_VOID || isType(k) || k == sym.RBRACE || k == sym.SEMI;
+	} // followsMethod
+
+	private boolean followsDecl(int at) throws Exception
+	{
+		int k = kindAt(at);
+		return k == sym.rw_CONST || isType(k) || k == sym.RBRACE || startsStmt(at);
+	} // followsDecl
+
+	private boolean followsStmt(int at) throws Exception
+	{
+		int k = kindAt(at);
+		return k == sym.RBRACE || k == sym.rw_ENDIF || k == sym.rw_ELSE || startsStmt(at);
+	} // followsStmt
+
+	/* The kind of the token at places after the lookahead, reading ahead as far as that */
+	private int kindAt(int at) throws Exception
+	{
+		if (at == 0) {
+			return kind;
+		}
+		while (aheadCount < at) {
+			ahead[aheadCount++] = scanner.next_token();
+		}
+		return ahead[at - 1].sym;
+	} // kindAt
+
+	/* Moves to the next token */
+	private void read() throws Exception
+	{
+		if (aheadCount > 0) {
+			token = ahead[0];
+			ahead[0] = ahead[1];
+			ahead[1] = null;
+			aheadCount--;
+		} else {
+			token = scanner.next_token();
+		}
+		kind = token.sym;
+	} // read
+
+	/* Returns the current token and moves past it */
+	private CSXToken take() throws Exception
+	{
+		CSXToken t = (CSXToken) token.value;
+		read();
+		return t;
+	} // take
+
+	/* As take(), but the current token must be of the given kind */
+	private CSXToken expect(int expected) throws Exception
+	{
+		if (kind != expected) {
+			throw syntaxError();
+		}
+		return take();
+	} // expect
+
+	private void push(ASTNode node)
+	{
+		if (pendingTop == pending.length) {
+			pending = java.util.Arrays.copyOf(pending, pending.length * 2);
+		}
+		pending[pendingTop++] = node;
+	} // push
+
+	private ASTNode pop()
+	{
+		ASTNode node = pending[--pendingTop];
+		pending[pendingTop] = null;
+		return node;
+	} // pop
+
+	/* Drops the list elements collected since mark, when the rule they were for failed */
+	private void truncate(int mark)
+	{
+		while (pendingTop > mark) {
+			pending[--pendingTop] = null;
+		}
+	} // truncate
+
+	/* One of the checks above */
+	private interface Resume
+	{
+		boolean test(int at) throws Exception;
+	} // interface Resume
+
+	/* Discards tokens up to and including the next one of kind sync that resume accepts what follows */
+	private CSXToken skipPast(int sync, Resume resume) throws Exception
+	{
+		while (kind != sync || !resume.test(1)) {
+			if (kind == sym.EOF) {
+				throw unrecoverable();
+			}
+			read();
+		}
+		return take();
+	} // skipPast
+
+	/* Reports an error at the current token the way the CUP parser does */
+	private Mismatch syntaxError()
+	{
+		ctx.reportSyntaxError(((CSXToken) token.value).linenum);
+		return new Mismatch();
+	} // syntaxError
+
+	/* Gives up the parse, as CUP does when error recovery reaches the end of the input */
+	private SyntaxErrorException unrecoverable()
+	{
+		ctx.out.println("Couldn't repair and continue parse");
+		return new SyntaxErrorException();
+	} // unrecoverable
+} // class DescentParser
@@ -0,0 +1,26 @@
+/**************************************************
+ * One type error found in a compilation unit
+ ****************************************************/
+
+class Diagnostic
+{
+	public final int code; // One of the Errors codes
+	public final int line;
+	public final int column;
+	public final String message;
+	public final Object arg; // What the message was built with, e.g. the name involved
+
+	Diagnostic(int code, int line, int column, String message, Object arg)
+	{
+		this.code = code;
+		this.line = line;
+		this.column = column;
+		this.message = message;
+		this.arg = arg;
+	}
+
+	public String toString()
+	{
+		return message;
+	}
+} // class Diagnostic
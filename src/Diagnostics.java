@@ -0,0 +1,46 @@
+import java.io.*;
+import java.util.*;
+
+/**************************************************
+ * Collects the type errors of one compilation unit. Each error is kept
+ * with its code and position and written to the unit's output stream.
+ * Once maxErrors have been reported, checking is abandoned with a
+ * TooManyErrorsException so a pathological file can't flood the output.
+ ****************************************************/
+
+class Diagnostics
+{
+	private final PrintStream out;
+	private final int maxErrors; // 0 means no limit
+	private final List<Diagnostic> reported;
+
+	Diagnostics(PrintStream out, int maxErrors)
+	{
+		this.out = out;
+		this.maxErrors = maxErrors;
+		reported = new ArrayList<Diagnostic>();
+	}
+
+	/* Records and prints an error; the message is only built here, after the check failed */
+	void report(int code, int line, int column, Object arg)
+	{
+		Diagnostic d = new Diagnostic(code, line, column, Errors.message(code, line, arg), arg);
+		reported.add(d);
+		out.println(d.message);
+
+		if (maxErrors > 0 && reported.size() >= maxErrors) {
+			out.println("Reached the limit of " + maxErrors + " errors, type checking stopped.");
+			throw new TooManyErrorsException();
+		}
+	}
+
+	int errorCount()
+	{
+		return reported.size();
+	}
+
+	List<Diagnostic> all()
+	{
+		return Collections.unmodifiableList(reported);
+	}
+} // class Diagnostics
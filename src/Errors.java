@@ -0,0 +1,112 @@
+/**************************************************
+ * Codes for the type errors the checker reports. Checks pass a code (and
+ * at most one argument) instead of a finished message, and the message is
+ * only built here once a check has actually failed.
+ ****************************************************/
+
+class Errors
+{
+	public static final int IncompatibleInitializer = 0;
+	public static final int IncompatibleAssignment = 1;
+	public static final int AlreadyDeclared = 2;
+	public static final int LastMethodNotMain = 3;
+	public static final int MainNotVoid = 4;
+	public static final int MethodAlreadyDeclared = 5;
+	public static final int IfConditionNotBoolean = 6;
+	public static final int LabelAlreadyDefined = 7;
+	public static final int WhileConditionNotBoolean = 8;
+	public static final int ForConditionNotBoolean = 9;
+	public static final int InvalidReadTarget = 10;
+	public static final int InvalidPrintValue = 11;
+	public static final int NotDeclared = 12;
+	public static final int MethodArgumentMismatch = 13;
+	public static final int MethodTooFewArguments = 14;
+	public static final int MethodTooManyArguments = 15;
+	public static final int ReturnTypeMismatch = 16;
+	public static final int LabelNotVisible = 17;
+	public static final int IncompatibleOperands = 18;
+	public static final int NonBooleanOperands = 19;
+	public static final int NonBooleanNot = 20;
+	public static final int InvalidCastTarget = 21;
+	public static final int InvalidCastSource = 22;
+	public static final int FunctionArgumentMismatch = 23;
+	public static final int FunctionTooFewArguments = 24;
+	public static final int FunctionTooManyArguments = 25;
+	public static final int NotYetDeclared = 26;
+	public static final int InvalidIncrement = 27;
+	public static final int InvalidDecrement = 28;
+
+	/* Builds the full message for an error at the given line; arg fills in the name or operator */
+	static String message(int code, int line, Object arg)
+	{
+		String prefix = "Error (line " + line + "): ";
+
+		switch (code)
+		{
+			case IncompatibleInitializer:
+				return prefix + "LHS and RHS are not compatible for assignment";
+			case IncompatibleAssignment:
+				return prefix + "Both the left and right hand sides of an assignment must have compatible types.";
+			case AlreadyDeclared:
+				return prefix + arg + " is already declared.";
+			case LastMethodNotMain:
+				return prefix + "Last method declaration must be the main method";
+			case MainNotVoid:
+				return prefix + "main method must have return type of VOID.";
+			case MethodAlreadyDeclared:
+				return prefix + "ID " + arg + " was already declared.";
+			case IfConditionNotBoolean:
+				return prefix + "The control expression of an if statement must be a boolean.";
+			case LabelAlreadyDefined:
+				return prefix + "Label: " + arg + " was already defined in this scope.";
+			case WhileConditionNotBoolean:
+				return prefix + "The control expression of a while loop must be a boolean.";
+			case ForConditionNotBoolean:
+				return prefix + "The control expression of a for loop must be a boolean.";
+			case InvalidReadTarget:
+				return prefix + "Only integer or character variables or scalar parameters are allowed to be read into.";
+			case InvalidPrintValue:
+				return prefix + "The following are valid for printing: INT, BOOL, REAL, "
+						+ "CHAR, and STRING variables, values, and scalar parameters."
+						+ " CHAR arrays and array parameters.";
+			case NotDeclared:
+				return prefix + arg + " is not declared.";
+			case MethodArgumentMismatch:
+				return prefix + "Method call parameters did not match the method signature.";
+			case MethodTooFewArguments:
+				return prefix + "Not enough arguments in the method call.";
+			case MethodTooManyArguments:
+				return prefix + "There were too many arguments in the method call.";
+			case ReturnTypeMismatch:
+				return "Return type did not match the method signature return type.";
+			case LabelNotVisible:
+				return prefix + "Label: " + arg + " is no longer visible.";
+			case IncompatibleOperands:
+				return prefix + "Left and right operand are not compatible for operator: "
+						+ binaryOpNode.getOpString((Integer) arg);
+			case NonBooleanOperands:
+				return prefix + "Left and right operands of the operator: " + binaryOpNode.getOpString((Integer) arg)
+						+ " requires both sides to be of type boolean.";
+			case NonBooleanNot:
+				return prefix + "NOT operator requires a boolean operand.";
+			case InvalidCastTarget:
+				return prefix + "Only valid casts are to FLOAT, CHAR, INT, and BOOL.";
+			case InvalidCastSource:
+				return prefix + "Only source types to cast from are CHAR, INT, and BOOL.";
+			case FunctionArgumentMismatch:
+				return prefix + "Function call parameters did not match the method signature.";
+			case FunctionTooFewArguments:
+				return prefix + "Not enough arguments in the function call.";
+			case FunctionTooManyArguments:
+				return prefix + "There were too many arguments in the function call.";
+			case NotYetDeclared:
+				return prefix + "ID " + arg + " was referenced but was not yet declared.";
+			case InvalidIncrement:
+				return prefix + "Increment statements can only be applied to parameter or variable integers";
+			case InvalidDecrement:
+				return prefix + "Decrement statements can only be applied to parameter or variable integers";
+			default:
+				throw new RuntimeException("Errors.message() code: " + code + " was not included in switch statement.");
+		}
+	}
+}
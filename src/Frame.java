@@ -0,0 +1,80 @@
+/**************************************************
+ * The variables of one running method call, or of the class's fields.
+ * Values sit in primitive arrays at the slots FrameLayout gave their
+ * declarations, so a variable is read or written with one array access
+ * and no lookup. A field is reached through globals, the frame the
+ * Interpreter made for the class.
+ *
+ * The loads and stores take the variable's SymbolInfo rather than its
+ * slot so that another kind of frame can keep the values elsewhere (the
+ * benchmarks compare this one against a map from names to values).
+ ****************************************************/
+
+class Frame
+{
+	final Interpreter interpreter;
+	final Frame globals; // This frame itself when it holds the fields
+	final int[] ints;
+	final float[] floats;
+	final Object[] arrays; // int[] or float[], by element type
+
+	int intResult; // What the method returned, for int, char and bool methods
+	float floatResult; // What the method returned, for float methods
+	Name jump; // Label of the loop a break or continue in flight is leaving
+
+	/* The frame of the class's fields */
+	Frame(Interpreter interpreter, FrameLayout layout)
+	{
+		this.interpreter = interpreter;
+		globals = this;
+		ints = new int[layout.ints];
+		floats = new float[layout.floats];
+		arrays = new Object[layout.arrays];
+	}
+
+	/* The frame of a method that caller is calling */
+	Frame(Frame caller, FrameLayout layout)
+	{
+		interpreter = caller.interpreter;
+		globals = caller.globals;
+		ints = new int[layout.ints];
+		floats = new float[layout.floats];
+		arrays = new Object[layout.arrays];
+	}
+
+	/* A new frame for a call from this frame to method */
+	Frame enter(methodDeclNode method)
+	{
+		return new Frame(this, method.layout);
+	}
+
+	int loadInt(SymbolInfo v)
+	{
+		return (v.global ? globals : this).ints[v.slot];
+	}
+
+	void storeInt(SymbolInfo v, int value)
+	{
+		(v.global ? globals : this).ints[v.slot] = value;
+	}
+
+	float loadFloat(SymbolInfo v)
+	{
+		return (v.global ? globals : this).floats[v.slot];
+	}
+
+	void storeFloat(SymbolInfo v, float value)
+	{
+		(v.global ? globals : this).floats[v.slot] = value;
+	}
+
+	Object loadArray(SymbolInfo v)
+	{
+		return (v.global ? globals : this).arrays[v.slot];
+	}
+
+	void storeArray(SymbolInfo v, Object value)
+	{
+		(v.global ? globals : this).arrays[v.slot] = value;
+	}
+} // class Frame
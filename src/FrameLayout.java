@@ -0,0 +1,55 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**************************************************
+ * Where the variables of one method, or the class's fields, are kept in
+ * a Frame. Each declaration is given the next free slot of the array its
+ * values live in as it is type checked (SymbolInfo.slot), so the
+ * interpreter reaches every variable by index instead of by name.
+ * int, char and bool values share the int slots.
+ *
+ * Each variable also gets an index among all the layout's variables, in
+ * the order they are declared (parameters first), which JvmBackend uses
+ * as its JVM local variable.
+ ****************************************************/
+
+class FrameLayout
+{
+	static final int INTS = 0;
+	static final int FLOATS = 1;
+	static final int ARRAYS = 2;
+
+	final boolean global; // Whether this lays out the class's fields
+	int ints;
+	int floats;
+	int arrays;
+	final List<SymbolInfo> variables = new ArrayList<SymbolInfo>();
+
+	FrameLayout(boolean global)
+	{
+		this.global = global;
+	}
+
+	/* Gives info a slot of its own in this layout */
+	void place(SymbolInfo info)
+	{
+		info.global = global;
+		info.local = variables.size();
+		variables.add(info);
+		if (info.kind.val == Kinds.Array || info.kind.val == Kinds.ArrayParm) {
+			info.storage = ARRAYS;
+			info.slot = arrays++;
+		} else if (info.type.val == Types.Real) {
+			info.storage = FLOATS;
+			info.slot = floats++;
+		} else {
+			info.storage = INTS;
+			info.slot = ints++;
+		}
+	}
+
+	public String toString()
+	{
+		return ints + " ints, " + floats + " floats, " + arrays + " arrays";
+	}
+} // class FrameLayout
@@ -0,0 +1,304 @@
+import java.io.*;
+import java.util.*;
+
+/**************************************************
+ * Type checks one file over and over as it is edited, scanning, parsing and
+ * checking again only the methods an edit touched.
+ *
+ * After a check without syntax errors the checker keeps the text, its tree,
+ * where each method starts in the text and what checking each body found.
+ * The next text is compared with that one from both ends. If what differs
+ * lies after the start of the first method, only the methods it touches are
+ * scanned and parsed again: the scanner starts at the first of them, where
+ * it would be in a full scan, and DescentParser parses just that stretch.
+ * They take the place of the old ones in the tree, and the methods after
+ * them keep their nodes, moved by the lines the edit added or removed.
+ *
+ * The tree is then checked as usual, except for the bodies of the methods
+ * that weren't parsed again: what they found last time is reported again,
+ * moved to where the method now is. That is sound while the symbol table a
+ * body is checked against is the same, so the new methods' headers must
+ * be token for token those they replace. Anything else (an edit of a field
+ * or a header, a method added or removed, a stretch that doesn't parse on
+ * its own, a lexical warning) is scanned, parsed and checked in full.
+ *
+ * Only the headers of moved methods are moved, so their bodies must not be
+ * checked, run or unparsed. An instance is meant for one file and must not
+ * check two at once.
+ ****************************************************/
+
+class IncrementalChecker
+{
+	static final PrintStream QUIET = new PrintStream(OutputStream.nullOutputStream());
+
+	/* A method of the tree last checked */
+	private static class Method
+	{
+		final methodDeclNode node;
+		final int start; // Characters before its first token
+		final long header; // Fingerprint of its header's tokens
+		List<Diagnostic> diagnostics; // What checking its body found, or null if it wasn't
+		int line; // Where it started when its body was checked
+
+		Method(methodDeclNode node, int start, long header)
+		{
+			this.node = node;
+			this.start = start;
+			this.header = header;
+		}
+
+		/* This method, now starting chars further on, keeping what its body found */
+		Method movedBy(int chars)
+		{
+			Method m = new Method(node, start + chars, header);
+			m.diagnostics = diagnostics;
+			m.line = line;
+			return m;
+		}
+	} // class Method
+
+	// The names in the tree, shared by every scan of the file so a method parsed again
+	// has the same Name for an identifier as the rest of the tree
+	private final NameTable names = new NameTable();
+	private Scanner reader; // The scanner the last full parse read from
+
+	// The last check, if it had no syntax errors
+	private String text;
+	private classNode tree;
+	private Method[] methods = new Method[0];
+
+	// The check in progress
+	private final IdentityHashMap<methodDeclNode, Method> index = new IdentityHashMap<methodDeclNode, Method>();
+	private String nextText;
+	private classNode nextTree;
+	private Method[] next;
+
+	// How the last check went
+	int reparsed; // Methods scanned and parsed again, or -1 if the whole file was
+	int reused;
+	int rechecked;
+
+	/* The tree of text, made from the last one by parsing again only the methods the
+	   edit touched, or null if text must be parsed in full (see reset and begin) */
+	classNode splice(String text, Scanner scanner) throws Exception
+	{
+		index.clear();
+		if (this.text == null) {
+			return null;
+		}
+		String old = this.text;
+
+		// What lies between an unchanged start and an unchanged end was edited
+		int limit = Math.min(old.length(), text.length());
+		int prefix = 0;
+		while (prefix < limit && old.charAt(prefix) == text.charAt(prefix)) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < limit - prefix
+				&& old.charAt(old.length() - 1 - suffix) == text.charAt(text.length() - 1 - suffix)) {
+			suffix++;
+		}
+		int edited = old.length() - suffix; // Where the unchanged end starts in old
+		int shift = text.length() - old.length();
+
+		// The methods from first up to after start in the edit, or in the
+		// last method's stretch, which runs to the end of the class
+		int first = methods.length - 1;
+		while (first >= 0 && methods[first].start > prefix) {
+			first--;
+		}
+		if (first < 0) {
+			return null; // The fields or the class header were edited
+		}
+		int after = first + 1;
+		while (after < methods.length && methods[after].start <= edited) {
+			after++;
+		}
+		for (int i = 0; i < methods.length; i++) {
+			if ((i < first || i >= after) && methods[i].diagnostics == null) {
+				return null; // The last check stopped before this body
+			}
+		}
+
+		boolean closesClass = after == methods.length;
+		int from = methods[first].start;
+		int to = closesClass ? text.length() : methods[after].start + shift;
+		if (!closesClass && !endsInLineBreak(text, from, to)) {
+			return null;
+		}
+
+		methodDeclNode resumed = methods[first].node;
+		scanner.reset(new StringReader(text.substring(from, to)), QUIET, names, resumed.linenum, resumed.colnum);
+		TokenRecorder tokens = new TokenRecorder(scanner, scanner);
+		CompilationContext scratch = new CompilationContext(QUIET);
+		methodDeclsNode parsed = new DescentParser(tokens, scratch).methods(closesClass);
+		if (parsed == null || scratch.syntaxErrors > 0 || scanner.warnings() > 0) {
+			return null;
+		}
+
+		List<methodDeclNode> fresh = new ArrayList<methodDeclNode>();
+		parsed.addTo(fresh);
+		if (fresh.size() != after - first) {
+			return null;
+		}
+		Method[] spliced = new Method[methods.length];
+		for (int i = 0; i < fresh.size(); i++) {
+			methodDeclNode m = fresh.get(i);
+			int at = tokens.indexAt(m.linenum, m.colnum);
+			spliced[first + i] = new Method(m, from + tokens.offset(at), header(tokens, at));
+			if (spliced[first + i].header != methods[first + i].header) {
+				return null;
+			}
+		}
+
+		int closingLine;
+		int lines = 0;
+		if (closesClass) {
+			closingLine = tokens.line(tokens.count() - 1);
+		} else {
+			// The scanner stopped where the next method starts, so it says where that now is
+			methodDeclNode moved = methods[after].node;
+			if (scanner.column() != moved.colnum) {
+				return null;
+			}
+			lines = scanner.line() - moved.linenum;
+			closingLine = tree.closingLine() + lines;
+		}
+
+		for (int i = 0; i < first; i++) {
+			spliced[i] = methods[i];
+		}
+		for (int i = after; i < methods.length; i++) {
+			if (lines != 0) {
+				methods[i].node.moveBy(lines);
+			}
+			spliced[i] = methods[i].movedBy(shift);
+		}
+		methodDeclsNode list = methodDeclsNode.NULL;
+		for (int i = spliced.length - 1; i >= 0; i--) {
+			methodDeclNode m = spliced[i].node;
+			list = new methodDeclsNode(m, list, m.linenum, m.colnum);
+			index.put(m, spliced[i]);
+		}
+
+		nextText = text;
+		nextTree = tree.withMethods(list, closingLine);
+		next = spliced;
+		reparsed = fresh.size();
+		reused = 0;
+		rechecked = 0;
+		return nextTree;
+	} // splice
+
+	/* Whether only white space, with a line break, follows the last token in text from
+	   from up to to, so that no comment or literal there could run on past to */
+	private static boolean endsInLineBreak(String text, int from, int to)
+	{
+		boolean lineBreak = false;
+		for (int i = to - 1; i >= from; i--) {
+			char c = text.charAt(i);
+			if (c == '\n') {
+				lineBreak = true;
+			} else if (c != ' ' && c != '\t' && c != '\r') {
+				break;
+			}
+		}
+		return lineBreak;
+	} // endsInLineBreak
+
+	/* Fingerprint of the tokens of the method header at token at, up to its body's brace */
+	private static long header(TokenRecorder tokens, int at)
+	{
+		int body = at;
+		while (body < tokens.count() - 1 && tokens.kind(body) != sym.LBRACE) {
+			body++;
+		}
+		return tokens.fingerprint(at, body + 1, 0);
+	} // header
+
+	/* Points scanner at the start of text, for parsing it in full */
+	void reset(Scanner scanner, String text, PrintStream out)
+	{
+		reader = scanner;
+		index.clear();
+		names.clear();
+		scanner.reset(new StringReader(text), out, names, 1, 1);
+	} // reset
+
+	/* Notes where the methods of root, just parsed in full from text, start */
+	void begin(classNode root, String text, TokenRecorder tokens)
+	{
+		List<methodDeclNode> nodes = root.methods();
+		next = new Method[nodes.size()];
+		// The scanner writes its warnings itself, so methods that aren't scanned
+		// again wouldn't get theirs; a file with any is always parsed in full
+		nextText = reader.warnings() == 0 ? text : null;
+		nextTree = root;
+		for (int i = 0; i < next.length; i++) {
+			methodDeclNode m = nodes.get(i);
+			int at = tokens.indexAt(m.linenum, m.colnum);
+			if (at < 0) {
+				nextText = null; // Can't happen for a tree parsed from these tokens
+				break;
+			}
+			next[i] = new Method(m, tokens.offset(at), header(tokens, at));
+			index.put(m, next[i]);
+		}
+		reparsed = -1;
+		reused = 0;
+		rechecked = 0;
+	} // begin
+
+	/* Reports m's diagnostics from the last check if its body wasn't parsed again */
+	boolean replay(methodDeclNode m, CompilationContext ctx)
+	{
+		Method last = index.get(m);
+		if (last == null || last.diagnostics == null) {
+			return false;
+		}
+
+		reused++;
+		int shift = m.linenum - last.line;
+		for (Diagnostic d : last.diagnostics) {
+			ctx.diagnostics.report(d.code, d.line + shift, d.column, d.arg);
+		}
+		return true;
+	} // replay
+
+	/* Keeps the diagnostics m's body just produced, from the first'th on */
+	void record(methodDeclNode m, CompilationContext ctx, int first)
+	{
+		Method method = index.get(m);
+		if (method != null) {
+			List<Diagnostic> all = ctx.diagnostics.all();
+			method.diagnostics = new ArrayList<Diagnostic>(all.subList(first, all.size()));
+			method.line = m.linenum;
+			rechecked++;
+		}
+	} // record
+
+	/* Makes this check the one the next check starts from */
+	void finish()
+	{
+		text = nextText;
+		tree = nextTree;
+		methods = next;
+		nextText = null;
+		nextTree = null;
+		next = null;
+		index.clear();
+	} // finish
+
+	/* Drops everything, so the next check is a full one */
+	void forget()
+	{
+		text = null;
+		tree = null;
+		methods = new Method[0];
+		nextText = null;
+		nextTree = null;
+		next = null;
+		index.clear();
+	} // forget
+} // class IncrementalChecker
@@ -0,0 +1,69 @@
+import java.io.*;
+
+/**************************************************
+ * Runs a type-correct CSX class: its fields are initialized in the order
+ * they are declared, then main (the last method) is called. The tree is
+ * walked as it is, each node running itself (stmtNode.exec and the
+ * exprNode eval methods), with every variable at the Frame slot its
+ * declaration was given while it was checked.
+ *
+ * READ takes an int or a single char from in (see CsxInput). PRINT
+ * writes its values to out with nothing between them. A runtime error
+ * stops the program with a message naming the line it happened on.
+ ****************************************************/
+
+class Interpreter
+{
+	private final classNode program;
+	private final CsxInput in;
+	final PrintStream out;
+
+	Interpreter(classNode program, Reader in, PrintStream out)
+	{
+		this.program = program;
+		this.in = new CsxInput(in);
+		this.out = out;
+	}
+
+	/* Runs the program, returning whether it finished without a runtime error */
+	boolean run()
+	{
+		return run(new Frame(this, program.layout));
+	}
+
+	/* As above, keeping the fields in globals */
+	boolean run(Frame globals)
+	{
+		try {
+			program.run(globals);
+			return true;
+		} catch (CsxRuntimeException e) {
+			out.println();
+			out.println("Runtime error (line " + e.line + "): " + e.getMessage() + ".");
+		} catch (StackOverflowError e) {
+			out.println();
+			out.println("Runtime error: method calls nested too deeply.");
+		}
+		return false;
+	} // run
+
+	int readInt(ASTNode where)
+	{
+		try {
+			return in.readInt();
+		} catch (NumberFormatException e) {
+			throw new CsxRuntimeException(where, e.getMessage());
+		} catch (IOException e) {
+			throw new CsxRuntimeException(where, "the input can't be read: " + e.getMessage());
+		}
+	}
+
+	int readChar(ASTNode where)
+	{
+		try {
+			return in.readChar();
+		} catch (IOException e) {
+			throw new CsxRuntimeException(where, "the input can't be read: " + e.getMessage());
+		}
+	}
+} // class Interpreter
@@ -0,0 +1,107 @@
+/**************************************************
+ * The instructions of the intermediate representation (see IrFunction).
+ * Every instruction is four ints, the opcode and operands a, b and c, and
+ * FORMAT says what each operand is:
+ *   d  a register the instruction sets (-1 for none, e.g. a call whose
+ *      result is thrown away)
+ *   r  a register it reads
+ *   A  an array register it sets
+ *   a  an array it reads: an array register, or ~g for global array g
+ *   g  a global scalar
+ *   k  an int constant, F the bits of a float constant
+ *   l  a label, which linking turns into an instruction index
+ *   f  a function, s a string, n a count, - nothing
+ * Registers hold ints, chars and bools as ints and floats as their bits,
+ * so every arithmetic and comparison instruction says which it works on.
+ ****************************************************/
+
+class Ir
+{
+	static final int NOP = 0;
+	static final int LABEL = 1; // Marks label a; gone after linking
+	static final int CONST = 2;
+	static final int FCONST = 3;
+	static final int MOV = 4;
+	static final int IADD = 5;
+	static final int ISUB = 6;
+	static final int IMUL = 7;
+	static final int IDIV = 8;
+	static final int FADD = 9;
+	static final int FSUB = 10;
+	static final int FMUL = 11;
+	static final int FDIV = 12;
+	static final int CHR = 13; // d = r & 0xFFFF
+	static final int BOOL = 14; // d = r != 0
+	static final int I2F = 15;
+	static final int NOT = 16;
+	static final int ILT = 17; // ILT to INE compare ints, FLT to FNE floats, giving 1 or 0
+	static final int ILE = 18;
+	static final int IGT = 19;
+	static final int IGE = 20;
+	static final int IEQ = 21;
+	static final int INE = 22;
+	static final int FLT = 23;
+	static final int FLE = 24;
+	static final int FGT = 25;
+	static final int FGE = 26;
+	static final int FEQ = 27;
+	static final int FNE = 28;
+	static final int JMP = 29;
+	static final int JZ = 30;
+	static final int JNZ = 31;
+	static final int LOAD = 32; // d = a[r] of an int, char or bool array
+	static final int FLOAD = 33;
+	static final int STORE = 34; // a[r] = r
+	static final int FSTORE = 35;
+	static final int NEWI = 36; // A = a new int, char or bool array of r elements
+	static final int NEWF = 37;
+	static final int ACOPY = 38; // Copies all of the second array into the first
+	static final int GET = 39;
+	static final int PUT = 40;
+	static final int ARG = 41; // Passes r as argument n of the next CALL
+	static final int CALL = 42;
+	static final int RET = 43;
+	static final int RETV = 44;
+	static final int READI = 45;
+	static final int READC = 46;
+	static final int PRINTI = 47;
+	static final int PRINTC = 48;
+	static final int PRINTB = 49;
+	static final int PRINTF = 50;
+	static final int PRINTA = 51;
+	static final int PRINTS = 52;
+	static final int FAIL = 53; // Stops the program with string s as a runtime error
+
+	static final int WIDTH = 4; // ints per instruction
+
+	static final String[] NAMES = {
+		"nop", "label", "const", "fconst", "mov", "iadd", "isub", "imul", "idiv",
+		"fadd", "fsub", "fmul", "fdiv", "chr", "bool", "i2f", "not",
+		"ilt", "ile", "igt", "ige", "ieq", "ine", "flt", "fle", "fgt", "fge", "feq", "fne",
+		"jmp", "jz", "jnz", "load", "fload", "store", "fstore", "newi", "newf", "acopy",
+		"get", "put", "arg", "call", "ret", "retv", "readi", "readc",
+		"printi", "printc", "printb", "printf", "printa", "prints", "fail"
+	};
+
+	static final String[] FORMAT = {
+		"---", "l--", "dk-", "dF-", "dr-", "drr", "drr", "drr", "drr",
+		"drr", "drr", "drr", "drr", "dr-", "dr-", "dr-", "dr-",
+		"drr", "drr", "drr", "drr", "drr", "drr", "drr", "drr", "drr", "drr", "drr", "drr",
+		"l--", "rl-", "rl-", "dar", "dar", "arr", "arr", "Ar-", "Ar-", "aa-",
+		"dg-", "gr-", "rn-", "df-", "r--", "---", "d--", "d--",
+		"r--", "r--", "r--", "r--", "a--", "s--", "s--"
+	};
+
+	/* Whether op computes its register from its operands and nothing else,
+	   so it can be dropped when unused or moved out of a loop */
+	static boolean isPure(int op)
+	{
+		return op >= CONST && op <= FNE && op != IDIV;
+	}
+
+	/* Whether control never goes on from op to the instruction after it */
+	static boolean endsBlock(int op)
+	{
+		return op == JMP || op == RET || op == RETV || op == FAIL;
+	}
+} // class Ir
@@ -0,0 +1,159 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**************************************************
+ * What the AST nodes use while they lower one method to the intermediate
+ * representation (stmtNode.lower and the exprNode lower methods): the
+ * function being built, the source line its instructions come from and
+ * the labelled loops around the code being lowered, for break and
+ * continue.
+ *
+ * An expression lowers to the register that holds its value. A local
+ * variable is its own register, so reading one costs no instruction;
+ * everything else, constants included, goes to a fresh temporary, and
+ * IrOptimizer cleans up after that.
+ ****************************************************/
+
+class IrBuilder
+{
+	final IrProgram program;
+	final IrFunction function;
+	private int line;
+	private final int declared; // Line the method is declared on
+
+	/* A labelled while loop the code being lowered is inside */
+	private static class Loop
+	{
+		final Name label;
+		final int exit;
+		final int next;
+
+		Loop(Name label, int exit, int next)
+		{
+			this.label = label;
+			this.exit = exit;
+			this.next = next;
+		}
+	} // class Loop
+
+	private final List<Loop> loops = new ArrayList<Loop>();
+
+	IrBuilder(IrProgram program, IrFunction function)
+	{
+		this(program, function, 0);
+	}
+
+	IrBuilder(IrProgram program, IrFunction function, int declared)
+	{
+		this.program = program;
+		this.function = function;
+		this.declared = declared;
+		line = declared;
+	}
+
+	/* Gives the instructions that follow this source line */
+	void line(int line)
+	{
+		this.line = line;
+	}
+
+	void emit(int op, int a, int b, int c)
+	{
+		function.append(op, a, b, c, line);
+	}
+
+	int temp()
+	{
+		return function.registers++;
+	}
+
+	/* Emits op into a fresh temporary, returning it */
+	int value(int op, int b, int c)
+	{
+		int d = temp();
+		emit(op, d, b, c);
+		return d;
+	}
+
+	int constant(int value)
+	{
+		return value(Ir.CONST, value, 0);
+	}
+
+	int constant(float value)
+	{
+		return value(Ir.FCONST, Float.floatToRawIntBits(value), 0);
+	}
+
+	/* The register of an int, char or bool value, widened to a float */
+	int toFloat(int register, exprNode value)
+	{
+		return value.type.val == Types.Real ? register : value(Ir.I2F, register, 0);
+	}
+
+	int label()
+	{
+		return function.labels++;
+	}
+
+	void place(int label)
+	{
+		emit(Ir.LABEL, label, 0, 0);
+	}
+
+	/* Whole scalar v; a global is read into a temporary, as calls may change it */
+	int load(SymbolInfo v)
+	{
+		return v.global ? value(Ir.GET, v.local, 0) : v.local;
+	}
+
+	/* Sets whole scalar v to register value, widening an int for a float variable */
+	void store(SymbolInfo v, int value, exprNode from)
+	{
+		if (v.storage == FrameLayout.FLOATS) {
+			value = toFloat(value, from);
+		}
+		store(v, value);
+	}
+
+	void store(SymbolInfo v, int value)
+	{
+		if (v.global) {
+			emit(Ir.PUT, v.local, value, 0);
+		} else {
+			emit(Ir.MOV, v.local, value, 0);
+		}
+	}
+
+	/* The array operand of array variable v */
+	int array(SymbolInfo v)
+	{
+		return v.global ? ~v.local : v.local;
+	}
+
+	void enterLoop(Name label, int exit, int next)
+	{
+		loops.add(new Loop(label, exit, next));
+	}
+
+	void exitLoop()
+	{
+		loops.remove(loops.size() - 1);
+	}
+
+	/* Jumps out of (or, with next, on to the next turn of) the loop labelled label */
+	void leave(Name label, boolean next)
+	{
+		for (int i = loops.size() - 1; i >= 0; i--) {
+			Loop loop = loops.get(i);
+			if (loop.label == label) {
+				emit(Ir.JMP, next ? loop.next : loop.exit, 0, 0);
+				return;
+			}
+		}
+		// The checker doesn't see labels that no loop around the break has. The
+		// interpreter finds that out as it leaves the method, and reports it there
+		function.append(Ir.FAIL, program.string("no loop labelled " + label + " to leave in " + function.name), 0, 0,
+				declared);
+	}
+} // class IrBuilder
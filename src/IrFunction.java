@@ -0,0 +1,266 @@
+import java.io.PrintStream;
+import java.util.List;
+
+/**************************************************
+ * One method (or the class's field initializers) lowered to the
+ * intermediate representation: a linear list of three-address
+ * instructions kept in int arrays, Ir.WIDTH ints each (see Ir for what
+ * they are), with the source line of each in lines. Nothing here is an
+ * object per instruction, so a pass walks the code as an array and a
+ * function is a few arrays however large it is.
+ *
+ * Registers 0 to locals - 1 are the method's variables, numbered as in
+ * its FrameLayout (SymbolInfo.local, parameters first); those above are
+ * temporaries. An array variable's register is in a separate file of
+ * array registers, at the same number.
+ *
+ * Until link is called, jumps name labels, which LABEL instructions
+ * mark, so passes can add and drop instructions freely; link then turns
+ * labels into instruction indices for IrInterpreter. loops holds the
+ * header and exit label of each while and for, inner loops first.
+ ****************************************************/
+
+class IrFunction
+{
+	final String name;
+	final int params;
+	final int locals;
+	final String[] names; // Of the variables, for dumps and runtime errors
+	final boolean arrays; // Whether any variable is an array
+	int registers;
+	int labels;
+
+	int[] code = new int[16 * Ir.WIDTH];
+	int[] lines = new int[16];
+	int size; // Instructions in code
+
+	int[] loops = new int[8];
+	int loopCount;
+
+	boolean linked;
+
+	IrFunction(String name, int params, List<SymbolInfo> variables)
+	{
+		this.name = name;
+		this.params = params;
+		locals = variables.size();
+		registers = locals;
+		names = new String[locals];
+		boolean arrays = false;
+		for (SymbolInfo v : variables) {
+			names[v.local] = v.name();
+			arrays |= v.storage == FrameLayout.ARRAYS;
+		}
+		this.arrays = arrays;
+	}
+
+	int op(int i)
+	{
+		return code[i * Ir.WIDTH];
+	}
+
+	/* Operand k (0 for a, 1 for b, 2 for c) of instruction i */
+	int operand(int i, int k)
+	{
+		return code[i * Ir.WIDTH + 1 + k];
+	}
+
+	void setOperand(int i, int k, int value)
+	{
+		code[i * Ir.WIDTH + 1 + k] = value;
+	}
+
+	void set(int i, int op, int a, int b, int c)
+	{
+		int at = i * Ir.WIDTH;
+		code[at] = op;
+		code[at + 1] = a;
+		code[at + 2] = b;
+		code[at + 3] = c;
+	}
+
+	void append(int op, int a, int b, int c, int line)
+	{
+		if (size == lines.length) {
+			grow(size * 2);
+		}
+		set(size, op, a, b, c);
+		lines[size++] = line;
+	}
+
+	/* Puts count instructions from code at before the one at i */
+	void insert(int i, int[] instructions, int[] instructionLines, int count)
+	{
+		if (size + count > lines.length) {
+			grow(Math.max(size * 2, size + count));
+		}
+		System.arraycopy(code, i * Ir.WIDTH, code, (i + count) * Ir.WIDTH, (size - i) * Ir.WIDTH);
+		System.arraycopy(lines, i, lines, i + count, size - i);
+		System.arraycopy(instructions, 0, code, i * Ir.WIDTH, count * Ir.WIDTH);
+		System.arraycopy(instructionLines, 0, lines, i, count);
+		size += count;
+	}
+
+	private void grow(int capacity)
+	{
+		code = java.util.Arrays.copyOf(code, capacity * Ir.WIDTH);
+		lines = java.util.Arrays.copyOf(lines, capacity);
+	}
+
+	/* Drops the NOPs passes have left */
+	void compact()
+	{
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			if (op(i) != Ir.NOP) {
+				System.arraycopy(code, i * Ir.WIDTH, code, kept * Ir.WIDTH, Ir.WIDTH);
+				lines[kept++] = lines[i];
+			}
+		}
+		size = kept;
+	}
+
+	void addLoop(int header, int exit)
+	{
+		if (loopCount * 2 == loops.length) {
+			loops = java.util.Arrays.copyOf(loops, loops.length * 2);
+		}
+		loops[loopCount * 2] = header;
+		loops[loopCount * 2 + 1] = exit;
+		loopCount++;
+	}
+
+	/* Where each label is, -1 for one no longer in the code */
+	int[] labelPositions()
+	{
+		int[] at = new int[labels];
+		java.util.Arrays.fill(at, -1);
+		for (int i = 0; i < size; i++) {
+			if (op(i) == Ir.LABEL) {
+				at[operand(i, 0)] = i;
+			}
+		}
+		return at;
+	}
+
+	/* Replaces labels by the indices of the instructions they mark, and
+	   numbers the temporaries that are left densely after the variables */
+	void link()
+	{
+		int[] target = new int[labels];
+		int[] renamed = new int[registers];
+		java.util.Arrays.fill(renamed, -1);
+		for (int r = 0; r < locals; r++) {
+			renamed[r] = r;
+		}
+		int next = locals;
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			int op = op(i);
+			if (op == Ir.LABEL) {
+				target[operand(i, 0)] = kept;
+			} else if (op != Ir.NOP) {
+				kept++;
+				String format = Ir.FORMAT[op];
+				for (int k = 0; k < 3; k++) {
+					char kind = format.charAt(k);
+					int r = operand(i, k);
+					if ((kind == 'd' || kind == 'r') && r >= 0 && renamed[r] < 0) {
+						renamed[r] = next++;
+					}
+				}
+			}
+		}
+
+		kept = 0;
+		for (int i = 0; i < size; i++) {
+			int op = op(i);
+			if (op == Ir.LABEL || op == Ir.NOP) {
+				continue;
+			}
+			String format = Ir.FORMAT[op];
+			for (int k = 0; k < 3; k++) {
+				char kind = format.charAt(k);
+				int r = operand(i, k);
+				if (kind == 'l') {
+					setOperand(i, k, target[r] * Ir.WIDTH);
+				} else if ((kind == 'd' || kind == 'r') && r >= 0) {
+					setOperand(i, k, renamed[r]);
+				}
+			}
+			System.arraycopy(code, i * Ir.WIDTH, code, kept * Ir.WIDTH, Ir.WIDTH);
+			lines[kept++] = lines[i];
+		}
+		size = kept;
+		registers = next;
+		linked = true;
+	} // link
+
+	/* Prints the code one instruction a line, with labels on lines of their own */
+	void dump(IrProgram program, PrintStream out)
+	{
+		StringBuilder line = new StringBuilder();
+		line.append("function ").append(name).append('(');
+		for (int r = 0; r < params; r++) {
+			line.append(r > 0 ? ", " : "").append(names[r]);
+		}
+		line.append("): ").append(size).append(" instructions, ").append(registers).append(" registers");
+		out.println(line);
+		for (int i = 0; i < size; i++) {
+			line.setLength(0);
+			int op = op(i);
+			if (op == Ir.LABEL) {
+				out.println("  L" + operand(i, 0) + ":");
+				continue;
+			}
+			line.append(String.format("%6d  %-7s", i, Ir.NAMES[op]));
+			String format = Ir.FORMAT[op];
+			for (int k = 0; k < 3 && format.charAt(k) != '-'; k++) {
+				line.append(k > 0 ? ", " : "");
+				operand(program, format.charAt(k), operand(i, k), line);
+			}
+			while (line.length() < 40) {
+				line.append(' ');
+			}
+			out.println(line.append("  ; line ").append(lines[i]));
+		}
+	} // dump
+
+	private void operand(IrProgram program, char kind, int value, StringBuilder out)
+	{
+		switch (kind) {
+		case 'd':
+		case 'r':
+			out.append(value < 0 ? "_" : register(value));
+			break;
+		case 'A':
+		case 'a':
+			out.append(value < 0 ? "@" + program.globals[~value] : names[value]);
+			break;
+		case 'g':
+			out.append('@').append(program.globals[value]);
+			break;
+		case 'F':
+			out.append(Float.intBitsToFloat(value));
+			break;
+		case 'l':
+			out.append(linked ? "#" + value / Ir.WIDTH : "L" + value);
+			break;
+		case 'f':
+			out.append(program.functions.get(value).name);
+			break;
+		case 's':
+			String text = program.strings.get(value);
+			out.append('"').append(text.replace("\t", "\\t").replace("\r", "\\r").replace("\n", "\\n")).append('"');
+			break;
+		default:
+			out.append(value);
+			break;
+		}
+	}
+
+	String register(int r)
+	{
+		return r < locals ? names[r] : "t" + r;
+	}
+} // class IrFunction
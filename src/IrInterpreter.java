@@ -0,0 +1,308 @@
+import java.io.*;
+
+/**************************************************
+ * Runs a linked IrProgram: init, then main (the last method), just as the
+ * Interpreter runs the tree, with the same output and runtime errors.
+ * Each call gets an int array of registers (and, if the function has
+ * array variables, an array of those), and the instructions are decoded
+ * straight from the function's int array, so no object is touched per
+ * instruction.
+ *
+ * Globals live in this interpreter, so it can run its program once at a
+ * time; run starts them afresh each time.
+ ****************************************************/
+
+class IrInterpreter
+{
+	private final IrProgram program;
+	private final IrFunction[] functions;
+	private final String[] strings;
+	private final CsxInput in;
+	final PrintStream out;
+	private final int[] globals;
+	private final Object[] globalArrays;
+	private final int[] args; // What ARG has passed to the next CALL
+
+	IrInterpreter(IrProgram program, Reader in, PrintStream out)
+	{
+		if (!program.init.linked) {
+			throw new IllegalArgumentException("The program must be linked before it is run");
+		}
+		this.program = program;
+		functions = program.functions.toArray(new IrFunction[0]);
+		strings = program.strings.toArray(new String[0]);
+		this.in = new CsxInput(in);
+		this.out = out;
+		globals = new int[program.globals.length];
+		globalArrays = new Object[program.globals.length];
+		int params = 0;
+		for (IrFunction function : functions) {
+			params = Math.max(params, function.params);
+		}
+		args = new int[params];
+	}
+
+	/* Runs the program, returning whether it finished without a runtime error */
+	boolean run()
+	{
+		java.util.Arrays.fill(globals, 0);
+		java.util.Arrays.fill(globalArrays, null);
+		try {
+			call(program.init);
+			if (program.main >= 0) {
+				call(functions[program.main]);
+			}
+			return true;
+		} catch (CsxRuntimeException e) {
+			out.println();
+			out.println("Runtime error (line " + e.line + "): " + e.getMessage() + ".");
+		} catch (StackOverflowError e) {
+			out.println();
+			out.println("Runtime error: method calls nested too deeply.");
+		}
+		return false;
+	} // run
+
+	/* Runs f with the arguments ARG has passed, returning its result (0 for none) */
+	private int call(IrFunction f)
+	{
+		int[] r = new int[f.registers];
+		System.arraycopy(args, 0, r, 0, f.params);
+		Object[] arrays = f.arrays ? new Object[f.locals] : null;
+		int[] code = f.code;
+		int pc = 0;
+		for (;;) {
+			int a = code[pc + 1];
+			int b = code[pc + 2];
+			int c = code[pc + 3];
+			switch (code[pc]) {
+			case Ir.CONST:
+			case Ir.FCONST:
+				r[a] = b;
+				break;
+			case Ir.MOV:
+				r[a] = r[b];
+				break;
+			case Ir.IADD:
+				r[a] = r[b] + r[c];
+				break;
+			case Ir.ISUB:
+				r[a] = r[b] - r[c];
+				break;
+			case Ir.IMUL:
+				r[a] = r[b] * r[c];
+				break;
+			case Ir.IDIV:
+				if (r[c] == 0) {
+					throw error(f, pc, "division by zero");
+				}
+				r[a] = r[b] / r[c];
+				break;
+			case Ir.FADD:
+				r[a] = Float.floatToRawIntBits(Float.intBitsToFloat(r[b]) + Float.intBitsToFloat(r[c]));
+				break;
+			case Ir.FSUB:
+				r[a] = Float.floatToRawIntBits(Float.intBitsToFloat(r[b]) - Float.intBitsToFloat(r[c]));
+				break;
+			case Ir.FMUL:
+				r[a] = Float.floatToRawIntBits(Float.intBitsToFloat(r[b]) * Float.intBitsToFloat(r[c]));
+				break;
+			case Ir.FDIV:
+				r[a] = Float.floatToRawIntBits(Float.intBitsToFloat(r[b]) / Float.intBitsToFloat(r[c]));
+				break;
+			case Ir.CHR:
+				r[a] = r[b] & 0xFFFF;
+				break;
+			case Ir.BOOL:
+				r[a] = r[b] != 0 ? 1 : 0;
+				break;
+			case Ir.I2F:
+				r[a] = Float.floatToRawIntBits(r[b]);
+				break;
+			case Ir.NOT:
+				r[a] = r[b] == 0 ? 1 : 0;
+				break;
+			case Ir.ILT:
+				r[a] = r[b] < r[c] ? 1 : 0;
+				break;
+			case Ir.ILE:
+				r[a] = r[b] <= r[c] ? 1 : 0;
+				break;
+			case Ir.IGT:
+				r[a] = r[b] > r[c] ? 1 : 0;
+				break;
+			case Ir.IGE:
+				r[a] = r[b] >= r[c] ? 1 : 0;
+				break;
+			case Ir.IEQ:
+				r[a] = r[b] == r[c] ? 1 : 0;
+				break;
+			case Ir.INE:
+				r[a] = r[b] != r[c] ? 1 : 0;
+				break;
+			case Ir.FLT:
+				r[a] = Float.intBitsToFloat(r[b]) < Float.intBitsToFloat(r[c]) ? 1 : 0;
+				break;
+			case Ir.FLE:
+				r[a] = Float.intBitsToFloat(r[b]) <= Float.intBitsToFloat(r[c]) ? 1 : 0;
+				break;
+			case Ir.FGT:
+				r[a] = Float.intBitsToFloat(r[b]) > Float.intBitsToFloat(r[c]) ? 1 : 0;
+				break;
+			case Ir.FGE:
+				r[a] = Float.intBitsToFloat(r[b]) >= Float.intBitsToFloat(r[c]) ? 1 : 0;
+				break;
+			case Ir.FEQ:
+				r[a] = Float.intBitsToFloat(r[b]) == Float.intBitsToFloat(r[c]) ? 1 : 0;
+				break;
+			case Ir.FNE:
+				r[a] = Float.intBitsToFloat(r[b]) != Float.intBitsToFloat(r[c]) ? 1 : 0;
+				break;
+			case Ir.JMP:
+				pc = a;
+				continue;
+			case Ir.JZ:
+				if (r[a] == 0) {
+					pc = b;
+					continue;
+				}
+				break;
+			case Ir.JNZ:
+				if (r[a] != 0) {
+					pc = b;
+					continue;
+				}
+				break;
+			case Ir.LOAD: {
+				int[] array = (int[]) array(arrays, b);
+				r[a] = array[index(f, pc, b, array.length, r[c])];
+				break;
+			}
+			case Ir.FLOAD: {
+				float[] array = (float[]) array(arrays, b);
+				r[a] = Float.floatToRawIntBits(array[index(f, pc, b, array.length, r[c])]);
+				break;
+			}
+			case Ir.STORE: {
+				int[] array = (int[]) array(arrays, a);
+				array[index(f, pc, a, array.length, r[b])] = r[c];
+				break;
+			}
+			case Ir.FSTORE: {
+				float[] array = (float[]) array(arrays, a);
+				array[index(f, pc, a, array.length, r[b])] = Float.intBitsToFloat(r[c]);
+				break;
+			}
+			case Ir.NEWI:
+				setArray(arrays, a, new int[r[b]]);
+				break;
+			case Ir.NEWF:
+				setArray(arrays, a, new float[r[b]]);
+				break;
+			case Ir.ACOPY: {
+				Object to = array(arrays, a);
+				Object from = array(arrays, b);
+				int length = java.lang.reflect.Array.getLength(to);
+				if (java.lang.reflect.Array.getLength(from) != length) {
+					throw error(f, pc, "arrays " + arrayName(f, a) + " and " + arrayName(f, b) + " differ in length");
+				}
+				System.arraycopy(from, 0, to, 0, length);
+				break;
+			}
+			case Ir.GET:
+				r[a] = globals[b];
+				break;
+			case Ir.PUT:
+				globals[a] = r[b];
+				break;
+			case Ir.ARG:
+				args[b] = r[a];
+				break;
+			case Ir.CALL: {
+				int result = call(functions[b]);
+				if (a >= 0) {
+					r[a] = result;
+				}
+				break;
+			}
+			case Ir.RET:
+				return r[a];
+			case Ir.RETV:
+				return 0;
+			case Ir.READI:
+				try {
+					r[a] = in.readInt();
+				} catch (NumberFormatException e) {
+					throw error(f, pc, e.getMessage());
+				} catch (IOException e) {
+					throw error(f, pc, "the input can't be read: " + e.getMessage());
+				}
+				break;
+			case Ir.READC:
+				try {
+					r[a] = in.readChar();
+				} catch (IOException e) {
+					throw error(f, pc, "the input can't be read: " + e.getMessage());
+				}
+				break;
+			case Ir.PRINTI:
+				out.print(r[a]);
+				break;
+			case Ir.PRINTC:
+				out.print((char) r[a]);
+				break;
+			case Ir.PRINTB:
+				out.print(r[a] != 0);
+				break;
+			case Ir.PRINTF:
+				out.print(Float.intBitsToFloat(r[a]));
+				break;
+			case Ir.PRINTA:
+				for (int ch : (int[]) array(arrays, a)) {
+					out.print((char) ch);
+				}
+				break;
+			case Ir.PRINTS:
+				out.print(strings[a]);
+				break;
+			case Ir.FAIL:
+				throw error(f, pc, strings[a]);
+			default:
+				throw new IllegalStateException("No IR instruction " + code[pc]);
+			}
+			pc += Ir.WIDTH;
+		}
+	} // call
+
+	private Object array(Object[] arrays, int operand)
+	{
+		return operand >= 0 ? arrays[operand] : globalArrays[~operand];
+	}
+
+	private void setArray(Object[] arrays, int operand, Object array)
+	{
+		if (operand >= 0) {
+			arrays[operand] = array;
+		} else {
+			globalArrays[~operand] = array;
+		}
+	}
+
+	private int index(IrFunction f, int pc, int operand, int length, int i)
+	{
+		if (i < 0 || i >= length) {
+			throw error(f, pc, "index " + i + " is outside " + arrayName(f, operand) + "[" + length + "]");
+		}
+		return i;
+	}
+
+	private String arrayName(IrFunction f, int operand)
+	{
+		return operand >= 0 ? f.names[operand] : program.globals[~operand];
+	}
+
+	private static CsxRuntimeException error(IrFunction f, int pc, String message)
+	{
+		return new CsxRuntimeException(f.lines[pc / Ir.WIDTH], message);
+	}
+} // class IrInterpreter
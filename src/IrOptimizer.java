@@ -0,0 +1,456 @@
+/**************************************************
+ * The passes run over each IrFunction before it is linked, in this order,
+ * each of which can be left out (P4 --passes):
+ *   fold   evaluates instructions whose operands are all constants known
+ *          in the same block, literal arithmetic above all, and turns a
+ *          conditional jump on a known value into a jump or nothing. An
+ *          int division by a constant zero is left to fail when it runs.
+ *   copy   computes straight into the variable a temporary was only
+ *          moved to, replaces a register copied with MOV by the original
+ *          within a block, and drops temporaries nothing reads.
+ *   dead   drops what can't be reached (the code after a return, break,
+ *          continue or a folded jump) and jumps to the next instruction.
+ *   hoist  moves instructions that give the same value on every turn of
+ *          a while or for loop to just before it, inner loops first.
+ * Nothing looks beyond a block but dead and hoist, so no pass needs more
+ * than a few int arrays as long as the function's registers or code.
+ *
+ * Each pass's time and the instructions it changed are added up here
+ * over every function it runs on.
+ ****************************************************/
+
+class IrOptimizer
+{
+	static final int FOLD = 0;
+	static final int COPY = 1;
+	static final int DEAD = 2;
+	static final int HOIST = 3;
+	static final String[] PASSES = { "fold", "copy", "dead", "hoist" };
+
+	final boolean[] enabled;
+	final long[] nanos = new long[PASSES.length];
+	final long[] changes = new long[PASSES.length]; // Instructions rewritten, removed or moved
+
+	IrOptimizer(boolean[] enabled)
+	{
+		this.enabled = enabled;
+	}
+
+	/* Which passes list names, separated by commas: "all", "none" or pass names */
+	static boolean[] passes(String list)
+	{
+		boolean[] enabled = new boolean[PASSES.length];
+		for (String name : list.split(",")) {
+			if (name.equals("all")) {
+				java.util.Arrays.fill(enabled, true);
+			} else if (!name.equals("none")) {
+				int pass = java.util.Arrays.asList(PASSES).indexOf(name);
+				if (pass < 0) {
+					throw new IllegalArgumentException("No IR pass " + name + "; the passes are "
+							+ String.join(", ", PASSES));
+				}
+				enabled[pass] = true;
+			}
+		}
+		return enabled;
+	} // passes
+
+	void optimize(IrProgram program)
+	{
+		for (IrFunction function : program.all()) {
+			optimize(function);
+		}
+	}
+
+	void optimize(IrFunction f)
+	{
+		for (int pass = 0; pass < PASSES.length; pass++) {
+			if (!enabled[pass]) {
+				continue;
+			}
+			long start = System.nanoTime();
+			switch (pass) {
+			case FOLD:
+				changes[pass] += fold(f);
+				break;
+			case COPY:
+				changes[pass] += copy(f);
+				break;
+			case DEAD:
+				changes[pass] += dead(f);
+				break;
+			default:
+				changes[pass] += hoist(f);
+				break;
+			}
+			nanos[pass] += System.nanoTime() - start;
+		}
+	} // optimize
+
+	/* Folds constants block by block; see the header */
+	static int fold(IrFunction f)
+	{
+		int[] value = new int[f.registers];
+		int[] knownIn = new int[f.registers]; // The block a register's value is known in; 0 for none
+		boolean[] isFloat = new boolean[f.registers];
+		int block = 1;
+		int changes = 0;
+		for (int i = 0; i < f.size; i++) {
+			int op = f.op(i);
+			int a = f.operand(i, 0);
+			int b = f.operand(i, 1);
+			int c = f.operand(i, 2);
+			if (op == Ir.LABEL) {
+				block++;
+				continue;
+			}
+			if (op == Ir.CONST || op == Ir.FCONST) {
+				value[a] = b;
+				knownIn[a] = block;
+				isFloat[a] = op == Ir.FCONST;
+				continue;
+			}
+			if ((op == Ir.JZ || op == Ir.JNZ) && knownIn[a] == block) {
+				if ((value[a] == 0) == (op == Ir.JZ)) {
+					f.set(i, Ir.JMP, b, 0, 0);
+				} else {
+					f.set(i, Ir.NOP, 0, 0, 0);
+				}
+				changes++;
+				continue;
+			}
+
+			String format = Ir.FORMAT[op];
+			if (format.charAt(0) != 'd' || a < 0) {
+				continue;
+			}
+			boolean known = (Ir.isPure(op) || op == Ir.IDIV)
+					&& (format.charAt(1) != 'r' || knownIn[b] == block)
+					&& (format.charAt(2) != 'r' || knownIn[c] == block)
+					&& !(op == Ir.IDIV && value[c] == 0);
+			if (!known) {
+				knownIn[a] = 0;
+				continue;
+			}
+			int result = evaluate(op, value[b], format.charAt(2) == 'r' ? value[c] : 0);
+			boolean real = op == Ir.MOV ? isFloat[b] : (op >= Ir.FADD && op <= Ir.FDIV) || op == Ir.I2F;
+			f.set(i, real ? Ir.FCONST : Ir.CONST, a, result, 0);
+			value[a] = result;
+			knownIn[a] = block;
+			isFloat[a] = real;
+			changes++;
+		}
+		return changes;
+	} // fold
+
+	/* What pure instruction op gives for operands x and y, as the IrInterpreter computes it */
+	static int evaluate(int op, int x, int y)
+	{
+		float fx = Float.intBitsToFloat(x);
+		float fy = Float.intBitsToFloat(y);
+		switch (op) {
+		case Ir.MOV:
+			return x;
+		case Ir.IADD:
+			return x + y;
+		case Ir.ISUB:
+			return x - y;
+		case Ir.IMUL:
+			return x * y;
+		case Ir.IDIV:
+			return x / y;
+		case Ir.FADD:
+			return Float.floatToRawIntBits(fx + fy);
+		case Ir.FSUB:
+			return Float.floatToRawIntBits(fx - fy);
+		case Ir.FMUL:
+			return Float.floatToRawIntBits(fx * fy);
+		case Ir.FDIV:
+			return Float.floatToRawIntBits(fx / fy);
+		case Ir.CHR:
+			return x & 0xFFFF;
+		case Ir.BOOL:
+			return x != 0 ? 1 : 0;
+		case Ir.I2F:
+			return Float.floatToRawIntBits(x);
+		case Ir.NOT:
+			return x == 0 ? 1 : 0;
+		case Ir.ILT:
+			return x < y ? 1 : 0;
+		case Ir.ILE:
+			return x <= y ? 1 : 0;
+		case Ir.IGT:
+			return x > y ? 1 : 0;
+		case Ir.IGE:
+			return x >= y ? 1 : 0;
+		case Ir.IEQ:
+			return x == y ? 1 : 0;
+		case Ir.INE:
+			return x != y ? 1 : 0;
+		case Ir.FLT:
+			return fx < fy ? 1 : 0;
+		case Ir.FLE:
+			return fx <= fy ? 1 : 0;
+		case Ir.FGT:
+			return fx > fy ? 1 : 0;
+		case Ir.FGE:
+			return fx >= fy ? 1 : 0;
+		case Ir.FEQ:
+			return fx == fy ? 1 : 0;
+		case Ir.FNE:
+			return fx != fy ? 1 : 0;
+		default:
+			throw new IllegalArgumentException(Ir.NAMES[op] + " can't be evaluated ahead of time");
+		}
+	} // evaluate
+
+	/* Coalesces moves, propagates copies and drops unread temporaries; see the header */
+	static int copy(IrFunction f)
+	{
+		int n = f.registers;
+		int changes = 0;
+		int[] defs = new int[n];
+		int[] uses = new int[n];
+		count(f, 0, f.size, defs, uses);
+
+		// t = x + y; MOV v, t  becomes  v = x + y
+		for (int i = 1; i < f.size; i++) {
+			if (f.op(i) != Ir.MOV) {
+				continue;
+			}
+			int target = f.operand(i, 0);
+			int t = f.operand(i, 1);
+			if (t >= f.locals && defs[t] == 1 && uses[t] == 1
+					&& Ir.FORMAT[f.op(i - 1)].charAt(0) == 'd' && f.operand(i - 1, 0) == t) {
+				f.setOperand(i - 1, 0, target);
+				f.set(i, Ir.NOP, 0, 0, 0);
+				changes++;
+			}
+		}
+
+		// A copy holds while its source keeps the version it had when copied
+		int[] copyOf = new int[n];
+		int[] copiedVersion = new int[n];
+		int[] copiedIn = new int[n];
+		int[] version = new int[n];
+		int block = 1;
+		for (int i = 0; i < f.size; i++) {
+			int op = f.op(i);
+			if (op == Ir.LABEL) {
+				block++;
+				continue;
+			}
+			String format = Ir.FORMAT[op];
+			for (int k = 0; k < 3; k++) {
+				int x = f.operand(i, k);
+				if (format.charAt(k) == 'r' && copiedIn[x] == block && version[copyOf[x]] == copiedVersion[x]) {
+					f.setOperand(i, k, copyOf[x]);
+					changes++;
+				}
+			}
+			int a = f.operand(i, 0);
+			if (op == Ir.MOV && a == f.operand(i, 1)) {
+				f.set(i, Ir.NOP, 0, 0, 0);
+				changes++;
+			} else if (format.charAt(0) == 'd' && a >= 0) {
+				version[a]++;
+				copiedIn[a] = 0;
+				int source = f.operand(i, 1);
+				if (op == Ir.MOV) {
+					copyOf[a] = source;
+					copiedVersion[a] = version[source];
+					copiedIn[a] = block;
+				}
+			}
+		}
+
+		// Backwards, so dropping an instruction frees the ones its operands came from
+		java.util.Arrays.fill(defs, 0);
+		java.util.Arrays.fill(uses, 0);
+		count(f, 0, f.size, defs, uses);
+		for (int i = f.size - 1; i >= 0; i--) {
+			int op = f.op(i);
+			int a = f.operand(i, 0);
+			if (Ir.FORMAT[op].charAt(0) != 'd' || a < f.locals || uses[a] > 0) {
+				continue;
+			}
+			if (Ir.isPure(op)) {
+				String format = Ir.FORMAT[op];
+				for (int k = 1; k < 3; k++) {
+					if (format.charAt(k) == 'r') {
+						uses[f.operand(i, k)]--;
+					}
+				}
+				f.set(i, Ir.NOP, 0, 0, 0);
+				changes++;
+			} else if (op == Ir.CALL) {
+				f.setOperand(i, 0, -1);
+			}
+		}
+		f.compact();
+		return changes;
+	} // copy
+
+	/* Adds up how often each register is set and read in instructions from to to - 1 */
+	private static void count(IrFunction f, int from, int to, int[] defs, int[] uses)
+	{
+		for (int i = from; i < to; i++) {
+			String format = Ir.FORMAT[f.op(i)];
+			for (int k = 0; k < 3; k++) {
+				int x = f.operand(i, k);
+				if (format.charAt(k) == 'd' && x >= 0) {
+					defs[x]++;
+				} else if (format.charAt(k) == 'r') {
+					uses[x]++;
+				}
+			}
+		}
+	}
+
+	/* Drops unreachable code and needless jumps; see the header */
+	static int dead(IrFunction f)
+	{
+		int[] at = f.labelPositions();
+		boolean[] reachable = new boolean[f.size];
+		int[] pending = new int[f.size];
+		int count = 0;
+		int changes = 0;
+		if (f.size > 0) {
+			reachable[0] = true;
+			pending[count++] = 0;
+		}
+		while (count > 0) {
+			int i = pending[--count];
+			int op = f.op(i);
+			int target = -1;
+			if (op == Ir.JMP) {
+				target = at[f.operand(i, 0)];
+			} else if (op == Ir.JZ || op == Ir.JNZ) {
+				target = at[f.operand(i, 1)];
+			}
+			if (target >= 0 && !reachable[target]) {
+				reachable[target] = true;
+				pending[count++] = target;
+			}
+			if (!Ir.endsBlock(op) && i + 1 < f.size && !reachable[i + 1]) {
+				reachable[i + 1] = true;
+				pending[count++] = i + 1;
+			}
+		}
+
+		boolean[] jumpedTo = new boolean[f.labels];
+		for (int l = 0; l < f.loopCount * 2; l++) {
+			jumpedTo[f.loops[l]] = true;
+		}
+		for (int i = 0; i < f.size; i++) {
+			int op = f.op(i);
+			if (!reachable[i]) {
+				if (op != Ir.NOP && op != Ir.LABEL) {
+					changes++;
+				}
+				f.set(i, Ir.NOP, 0, 0, 0);
+				continue;
+			}
+			if (op != Ir.JMP && op != Ir.JZ && op != Ir.JNZ) {
+				continue;
+			}
+			int label = f.operand(i, op == Ir.JMP ? 0 : 1);
+			int next = i + 1;
+			while (next < at[label] && (f.op(next) == Ir.LABEL || f.op(next) == Ir.NOP)) {
+				next++;
+			}
+			if (next == at[label]) {
+				f.set(i, Ir.NOP, 0, 0, 0);
+				changes++;
+			} else {
+				jumpedTo[label] = true;
+			}
+		}
+
+		// Labels nothing jumps to any more only split blocks
+		for (int i = 0; i < f.size; i++) {
+			if (f.op(i) == Ir.LABEL && !jumpedTo[f.operand(i, 0)]) {
+				f.set(i, Ir.NOP, 0, 0, 0);
+			}
+		}
+		f.compact();
+		return changes;
+	} // dead
+
+	/* Moves loop-invariant instructions out of loops; see the header */
+	static int hoist(IrFunction f)
+	{
+		if (f.loopCount == 0) {
+			return 0;
+		}
+		int n = f.registers;
+		int[] defs = new int[n];
+		int[] uses = new int[n];
+		count(f, 0, f.size, defs, uses);
+
+		int changes = 0;
+		int[] defsIn = new int[n];
+		int[] usesIn = new int[n];
+		for (int l = 0; l < f.loopCount; l++) {
+			int[] at = f.labelPositions();
+			int header = at[f.loops[l * 2]];
+			int exit = at[f.loops[l * 2 + 1]];
+			if (header < 0 || exit < header) {
+				continue; // The loop was unreachable
+			}
+
+			java.util.Arrays.fill(defsIn, 0);
+			java.util.Arrays.fill(usesIn, 0);
+			count(f, header, exit, defsIn, usesIn);
+			boolean calls = false;
+			java.util.Set<Integer> stored = new java.util.HashSet<Integer>();
+			for (int i = header; i < exit; i++) {
+				if (f.op(i) == Ir.CALL) {
+					calls = true;
+				} else if (f.op(i) == Ir.PUT) {
+					stored.add(f.operand(i, 0));
+				}
+			}
+
+			// Moving one instruction can make those that read it invariant too
+			int[] moved = new int[16 * Ir.WIDTH];
+			int[] movedLines = new int[16];
+			int count = 0;
+			boolean moving = true;
+			while (moving) {
+				moving = false;
+				for (int i = header; i < exit; i++) {
+					int op = f.op(i);
+					int d = f.operand(i, 0);
+					boolean invariant = Ir.isPure(op)
+							|| (op == Ir.GET && !calls && !stored.contains(f.operand(i, 1)));
+					if (!invariant || d < f.locals || defs[d] != 1 || usesIn[d] != uses[d]) {
+						continue;
+					}
+					String format = Ir.FORMAT[op];
+					for (int k = 1; k < 3; k++) {
+						if (format.charAt(k) == 'r' && defsIn[f.operand(i, k)] > 0) {
+							invariant = false;
+						}
+					}
+					if (!invariant) {
+						continue;
+					}
+					if (count == movedLines.length) {
+						moved = java.util.Arrays.copyOf(moved, count * 2 * Ir.WIDTH);
+						movedLines = java.util.Arrays.copyOf(movedLines, count * 2);
+					}
+					System.arraycopy(f.code, i * Ir.WIDTH, moved, count * Ir.WIDTH, Ir.WIDTH);
+					movedLines[count++] = f.lines[i];
+					f.set(i, Ir.NOP, 0, 0, 0);
+					defsIn[d]--;
+					moving = true;
+					changes++;
+				}
+			}
+			f.insert(header, moved, movedLines, count);
+		}
+		f.compact();
+		return changes;
+	} // hoist
+} // class IrOptimizer
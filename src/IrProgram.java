@@ -0,0 +1,105 @@
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**************************************************
+ * A type-correct CSX class lowered to the intermediate representation:
+ * a function for each method, in the order they are declared, and init,
+ * which initializes the fields. Globals are the fields, numbered as in
+ * the class's FrameLayout. Strings PRINT writes and the messages of FAIL
+ * are kept once each in strings.
+ *
+ * lower builds it from the checked tree, each node lowering itself
+ * (stmtNode.lower and the exprNode lower methods, through an IrBuilder);
+ * IrOptimizer then improves the functions and IrInterpreter runs them
+ * once link has resolved their labels.
+ ****************************************************/
+
+class IrProgram
+{
+	final String name;
+	final String[] globals;
+	final List<IrFunction> functions = new ArrayList<IrFunction>();
+	final List<String> strings = new ArrayList<String>();
+	IrFunction init;
+	int main = -1; // The last method, which is run after init; -1 if there are none
+
+	private final Map<MethodSymbolInfo, Integer> indices = new IdentityHashMap<MethodSymbolInfo, Integer>();
+	private final Map<String, Integer> stringIndices = new java.util.HashMap<String, Integer>();
+
+	IrProgram(String name, List<SymbolInfo> fields)
+	{
+		this.name = name;
+		globals = new String[fields.size()];
+		for (SymbolInfo field : fields) {
+			globals[field.local] = field.name();
+		}
+	}
+
+	static IrProgram lower(classNode program)
+	{
+		IrProgram lowered = new IrProgram(program.name(), program.layout.variables);
+		program.lower(lowered);
+		return lowered;
+	}
+
+	/* Gives each method its function index before any is lowered, so calls can name methods declared later */
+	void declare(List<methodDeclNode> methods)
+	{
+		for (methodDeclNode method : methods) {
+			indices.put(method.info, indices.size());
+		}
+		main = methods.size() - 1;
+	}
+
+	int function(MethodSymbolInfo method)
+	{
+		return indices.get(method);
+	}
+
+	int string(String text)
+	{
+		Integer index = stringIndices.get(text);
+		if (index == null) {
+			index = strings.size();
+			strings.add(text);
+			stringIndices.put(text, index);
+		}
+		return index;
+	}
+
+	/* Every function, init first */
+	List<IrFunction> all()
+	{
+		List<IrFunction> all = new ArrayList<IrFunction>(functions.size() + 1);
+		all.add(init);
+		all.addAll(functions);
+		return all;
+	}
+
+	void link()
+	{
+		for (IrFunction function : all()) {
+			function.link();
+		}
+	}
+
+	int instructions()
+	{
+		int count = 0;
+		for (IrFunction function : all()) {
+			count += function.size;
+		}
+		return count;
+	}
+
+	void dump(PrintStream out)
+	{
+		out.println("IR of class " + name + ", " + globals.length + " globals:");
+		for (IrFunction function : all()) {
+			function.dump(this, out);
+		}
+	}
+} // class IrProgram
@@ -0,0 +1,168 @@
+import java.io.*;
+import java.lang.reflect.*;
+import java.nio.file.*;
+import java.util.List;
+
+/**************************************************
+ * Compiles a type-correct CSX class to a JVM class, so that HotSpot's JIT
+ * compiles its loops to machine code. The class is csx.<name>, with
+ *   - each field a private static field;
+ *   - each method a public static method of the same name and signature;
+ *   - $init, which initializes the fields in the order they are declared;
+ *   - $run, which calls $init and then main (the last method, if any);
+ *   - main(String[]), which runs $run through CsxRuntime.main.
+ * Every node generates its own code (see JvmMethod for how variables are
+ * kept). READ, PRINT and array assignment call CsxRuntime.
+ *
+ * run loads the class through a class loader of its own and calls $run
+ * in-process; write saves it as a .class file, which java can run with
+ * the compiler on its class path (for CsxRuntime). A runtime error is
+ * reported with its line, taken from the class's line number table.
+ * A program beyond the limits of the class file format (a method longer
+ * than its 16-bit jumps can span) throws ClassTooLargeException from
+ * compile, and P4 interprets it instead.
+ ****************************************************/
+
+class JvmBackend
+{
+	static final String PACKAGE = "csx/";
+
+	/* Loads the one class it is given and leaves everything else to its parent */
+	private static class Loader extends ClassLoader
+	{
+		Loader()
+		{
+			super(JvmBackend.class.getClassLoader());
+		}
+
+		Class<?> define(String name, byte[] bytes)
+		{
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+	} // class Loader
+
+	/* The class file of program; sourceFile only names the source in stack traces */
+	static byte[] compile(classNode program, String sourceFile)
+	{
+		ClassFile file = new ClassFile(PACKAGE + program.name());
+		if (sourceFile != null) {
+			file.setSourceFile(sourceFile);
+		}
+		program.generate(file);
+
+		ClassFile.Code run = file.new Code();
+		run.invokeStatic(file.name, "$init", "()V");
+		List<methodDeclNode> methods = program.methods();
+		if (!methods.isEmpty()) {
+			MethodSymbolInfo main = methods.get(methods.size() - 1).info;
+			for (SymbolInfo arg : main.Arguments) {
+				// A main with parameters is called with zeros
+				if (arg.storage == FrameLayout.ARRAYS) {
+					run.op(Opcodes.ACONST_NULL);
+				} else if (arg.storage == FrameLayout.FLOATS) {
+					run.push(0f);
+				} else {
+					run.push(0);
+				}
+			}
+			run.invokeStatic(file.name, main.name(), JvmMethod.descriptor(main));
+			if (main.type.val != Types.Void) {
+				run.op(Opcodes.POP);
+			}
+		}
+		run.op(Opcodes.RETURN);
+		file.addMethod(ClassFile.ACC_PUBLIC | ClassFile.ACC_STATIC, "$run", "()V", run);
+
+		ClassFile.Code entry = file.new Code();
+		entry.push(PACKAGE.replace('/', '.') + program.name());
+		entry.invokeStatic("CsxRuntime", "main", "(Ljava/lang/String;)V");
+		entry.op(Opcodes.RETURN);
+		file.addMethod(ClassFile.ACC_PUBLIC | ClassFile.ACC_STATIC, "main", "([Ljava/lang/String;)V", entry);
+		return file.toBytes();
+	} // compile
+
+	/* Compiles program and loads it, returning the class's $run */
+	static Method load(classNode program, String sourceFile) throws ReflectiveOperationException
+	{
+		byte[] bytes = compile(program, sourceFile);
+		Class<?> compiled = new Loader().define((PACKAGE + program.name()).replace('/', '.'), bytes);
+		return compiled.getMethod("$run");
+	} // load
+
+	/* Writes program's class file under dir (as dir/csx/Name.class), returning where */
+	static Path write(classNode program, String sourceFile, Path dir) throws IOException
+	{
+		Path file = dir.resolve(PACKAGE + program.name() + ".class");
+		Files.createDirectories(file.getParent());
+		Files.write(file, compile(program, sourceFile));
+		return file;
+	} // write
+
+	/* Compiles and runs program, returning whether it finished without a runtime error */
+	static boolean run(classNode program, String sourceFile, Reader in, PrintStream out)
+			throws ReflectiveOperationException
+	{
+		return run(load(program, sourceFile), in, out);
+	}
+
+	/* Runs a class from load with the given input and output. Compiled classes
+	   share CsxRuntime's streams, so only one runs at a time */
+	static boolean run(Method run, Reader in, PrintStream out) throws IllegalAccessException
+	{
+		synchronized (CsxRuntime.class) {
+			PrintStream oldOut = CsxRuntime.out;
+			CsxInput oldIn = CsxRuntime.in;
+			CsxRuntime.out = out;
+			CsxRuntime.in = new CsxInput(in);
+			try {
+				run.invoke(null);
+				return true;
+			} catch (InvocationTargetException e) {
+				Throwable failure = e.getCause();
+				out.println();
+				if (failure instanceof StackOverflowError) {
+					out.println("Runtime error: method calls nested too deeply.");
+				} else {
+					String name = run.getDeclaringClass().getName();
+					int line = failure instanceof CsxRuntimeException ? ((CsxRuntimeException) failure).line : -1;
+					if (line < 0) {
+						line = lineOf(failure, name);
+					}
+					out.println("Runtime error (line " + line + "): " + describe(failure) + ".");
+				}
+				return false;
+			} finally {
+				CsxRuntime.out = oldOut;
+				CsxRuntime.in = oldIn;
+			}
+		}
+	} // run
+
+	/* The line of the compiled class where failure was thrown */
+	private static int lineOf(Throwable failure, String className)
+	{
+		for (StackTraceElement frame : failure.getStackTrace()) {
+			if (frame.getClassName().equals(className)) {
+				return frame.getLineNumber();
+			}
+		}
+		return -1;
+	}
+
+	/* The interpreter's wording for failure. CsxRuntime raises most runtime
+	   errors already worded; the JVM itself only divides by zero */
+	private static String describe(Throwable failure)
+	{
+		if (failure instanceof CsxRuntimeException) {
+			return failure.getMessage();
+		}
+		if (failure instanceof ArithmeticException) {
+			return "division by zero";
+		}
+		String message = failure.getMessage();
+		if (message == null) {
+			return failure.toString();
+		}
+		return Character.toLowerCase(message.charAt(0)) + message.substring(1);
+	}
+} // class JvmBackend
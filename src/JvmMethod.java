@@ -0,0 +1,180 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**************************************************
+ * What the AST nodes use while they generate the code of one method for
+ * JvmBackend (stmtNode.generate and the exprNode generate methods): the
+ * code being written, how each variable is reached and the labelled loops
+ * around the code being generated, for break and continue.
+ *
+ * A field of the class is a static field under its own name; everything
+ * else is the JVM local at its SymbolInfo.local. ints, chars and bools are
+ * JVM ints, floats are floats, and arrays are int[], char[], boolean[] or
+ * float[], so nothing is ever boxed.
+ ****************************************************/
+
+class JvmMethod
+{
+	final ClassFile.Code code;
+	final String owner; // Internal name of the class being generated
+	private final String method; // Name of the method being generated, null for $init
+	private final int line; // Line the method is declared on
+
+	/* A labelled while loop the code being generated is inside */
+	private static class Loop
+	{
+		final Name label;
+		final ClassFile.Label exit;
+		final ClassFile.Label next;
+
+		Loop(Name label, ClassFile.Label exit, ClassFile.Label next)
+		{
+			this.label = label;
+			this.exit = exit;
+			this.next = next;
+		}
+	} // class Loop
+
+	private final List<Loop> loops = new ArrayList<Loop>();
+
+	JvmMethod(ClassFile file)
+	{
+		this(file, null, 0);
+	}
+
+	JvmMethod(ClassFile file, String method, int line)
+	{
+		code = file.new Code();
+		owner = file.name;
+		this.method = method;
+		this.line = line;
+	}
+
+	/* Pushes the whole of v */
+	void load(SymbolInfo v)
+	{
+		if (v.global) {
+			code.field(Opcodes.GETSTATIC, v.name(), descriptor(v));
+		} else if (v.storage == FrameLayout.ARRAYS) {
+			code.local(Opcodes.ALOAD, v.local);
+		} else if (v.storage == FrameLayout.FLOATS) {
+			code.local(Opcodes.FLOAD, v.local);
+		} else {
+			code.local(Opcodes.ILOAD, v.local);
+		}
+	}
+
+	/* Pops a value into the whole of v */
+	void store(SymbolInfo v)
+	{
+		if (v.global) {
+			code.field(Opcodes.PUTSTATIC, v.name(), descriptor(v));
+		} else if (v.storage == FrameLayout.ARRAYS) {
+			code.local(Opcodes.ASTORE, v.local);
+		} else if (v.storage == FrameLayout.FLOATS) {
+			code.local(Opcodes.FSTORE, v.local);
+		} else {
+			code.local(Opcodes.ISTORE, v.local);
+		}
+	}
+
+	/* Pops a value into v, widening an int for a float variable */
+	void store(SymbolInfo v, exprNode value)
+	{
+		if (v.storage == FrameLayout.FLOATS && value.type.val != Types.Real) {
+			code.op(Opcodes.I2F);
+		}
+		store(v);
+	}
+
+	void enterLoop(Name label, ClassFile.Label exit, ClassFile.Label next)
+	{
+		loops.add(new Loop(label, exit, next));
+	}
+
+	void exitLoop()
+	{
+		loops.remove(loops.size() - 1);
+	}
+
+	/* Jumps out of (or, with next, on to the next turn of) the loop labelled label */
+	void leave(Name label, boolean next, ASTNode where)
+	{
+		for (int i = loops.size() - 1; i >= 0; i--) {
+			Loop loop = loops.get(i);
+			if (loop.label == label) {
+				code.jump(Opcodes.GOTO, next ? loop.next : loop.exit);
+				return;
+			}
+		}
+		// The checker doesn't see labels that no loop around the break has. The
+		// interpreter finds that out as it leaves the method, and reports it there
+		code.push("no loop labelled " + label + " to leave in " + method);
+		code.push(line);
+		code.invokeStatic("CsxRuntime", "fail", "(Ljava/lang/String;I)V");
+	}
+
+	/* The instruction that loads an element of an array of type */
+	static int arrayLoad(Types type)
+	{
+		switch (type.val) {
+		case Types.Real:
+			return Opcodes.FALOAD;
+		case Types.Character:
+			return Opcodes.CALOAD;
+		case Types.Boolean:
+			return Opcodes.BALOAD;
+		default:
+			return Opcodes.IALOAD;
+		}
+	}
+
+	static int arrayStore(Types type)
+	{
+		return arrayLoad(type) + (Opcodes.IASTORE - Opcodes.IALOAD);
+	}
+
+	static int newArrayType(Types type)
+	{
+		switch (type.val) {
+		case Types.Real:
+			return Opcodes.T_FLOAT;
+		case Types.Character:
+			return Opcodes.T_CHAR;
+		case Types.Boolean:
+			return Opcodes.T_BOOLEAN;
+		default:
+			return Opcodes.T_INT;
+		}
+	}
+
+	static String descriptor(Types type)
+	{
+		switch (type.val) {
+		case Types.Real:
+			return "F";
+		case Types.Character:
+			return "C";
+		case Types.Boolean:
+			return "Z";
+		case Types.Void:
+			return "V";
+		default:
+			return "I";
+		}
+	}
+
+	static String descriptor(SymbolInfo v)
+	{
+		return v.storage == FrameLayout.ARRAYS ? "[" + descriptor(v.type) : descriptor(v.type);
+	}
+
+	static String descriptor(MethodSymbolInfo method)
+	{
+		StringBuilder descriptor = new StringBuilder("(");
+		for (SymbolInfo arg : method.Arguments) {
+			descriptor.append(descriptor(arg));
+		}
+		return descriptor.append(')').append(descriptor(method.type)).toString();
+	}
+} // class JvmMethod
@@ -9,14 +9,24 @@ class Kinds
 	public static final int Label = 6;
 	public static final int Unknown = 7;
 
-	Kinds(int i)
+	// One shared descriptor per kind; nodes hold these, so equal kinds are the same object
+	private static final Kinds[] canonical = new Kinds[Unknown + 1];
+	static
+	{
+		for (int i = 0; i < canonical.length; i++)
+		{
+			canonical[i] = new Kinds(i);
+		}
+	}
+
+	private Kinds(int i)
 	{
 		val = i;
 	}
 
-	Kinds()
+	static Kinds of(int i)
 	{
-		val = Unknown;
+		return canonical[i];
 	}
 
 	public String toString()
@@ -44,5 +54,5 @@ class Kinds
 		}
 	}
 
-	int val;
+	final int val;
 }
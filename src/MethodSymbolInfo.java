@@ -5,15 +5,17 @@ public class MethodSymbolInfo extends SymbolInfo
 {
 	public Types ReturnType;
 	public List<SymbolInfo> Arguments;
+	public boolean ArgumentsUnknown; // Its argument list had a syntax error, so calls aren't checked
+	public methodDeclNode Decl; // The declaration, which the interpreter runs for a call
 	
-	public MethodSymbolInfo(String id, Types t)
+	public MethodSymbolInfo(Name id, Types t)
 	{
-		super(id, new Kinds(Kinds.Method), t, false);
+		super(id, Kinds.of(Kinds.Method), t, false);
 		
 		Arguments = new ArrayList<SymbolInfo>();
 	}
 
-	public MethodSymbolInfo(String id, int t)
+	public MethodSymbolInfo(Name id, int t)
 	{
 		super(id, Kinds.Method, t, false);
 		
@@ -0,0 +1,30 @@
+/**************************************************
+ * Canonical identifier handed out by a NameTable. Every occurrence of the
+ * same identifier in a compilation unit shares one Name, so names compare
+ * by identity and carry their hash and a dense id with them.
+ ****************************************************/
+
+class Name
+{
+	public final String text;
+	public final int id; // Index of this name within its NameTable, 0..size()-1
+	private final int hash;
+
+	Name(String text, int id)
+	{
+		this.text = text;
+		this.id = id;
+		hash = text.hashCode();
+	}
+
+	/* Identity equality is inherited from Object, the hash is precomputed */
+	public int hashCode()
+	{
+		return hash;
+	}
+
+	public String toString()
+	{
+		return text;
+	}
+} // class Name
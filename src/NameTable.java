@@ -0,0 +1,113 @@
+import java.util.*;
+
+/**************************************************
+ * Interns identifiers straight out of the lexer's character buffer. A
+ * String is only built the first time an identifier is seen; every later
+ * occurrence gets back the same Name.
+ ****************************************************/
+
+class NameTable
+{
+	private Name[] slots; // Open addressing, length is always a power of two
+	private Name[] byId;
+	private int count;
+
+	NameTable()
+	{
+		slots = new Name[256];
+		byId = new Name[128];
+		count = 0;
+	}
+
+	/* Returns the Name for the len characters of buf starting at start */
+	public Name lookup(char[] buf, int start, int len)
+	{
+		// Same formula as String.hashCode() so Name can reuse it
+		int hash = 0;
+		for (int i = 0; i < len; i++) {
+			hash = 31 * hash + buf[start + i];
+		}
+
+		int mask = slots.length - 1;
+		int slot = mix(hash) & mask;
+		Name name;
+		while ((name = slots[slot]) != null) {
+			if (name.hashCode() == hash && matches(name.text, buf, start, len)) {
+				return name;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		name = new Name(new String(buf, start, len), count);
+		slots[slot] = name;
+		if (count == byId.length) {
+			byId = Arrays.copyOf(byId, count * 2);
+		}
+		byId[count++] = name;
+
+		// Keep the load factor under one half
+		if (count * 2 > slots.length) {
+			grow();
+		}
+		return name;
+	}
+
+	/* Returns the Name for s, creating it if needed */
+	public Name lookup(String s)
+	{
+		return lookup(s.toCharArray(), 0, s.length());
+	}
+
+	public Name get(int id)
+	{
+		return byId[id];
+	}
+
+	public int size()
+	{
+		return count;
+	}
+
+	/* Forgets every name but keeps the allocated tables for the next file */
+	public void clear()
+	{
+		Arrays.fill(slots, null);
+		Arrays.fill(byId, 0, count, null);
+		count = 0;
+	}
+
+	private static boolean matches(String text, char[] buf, int start, int len)
+	{
+		if (text.length() != len) {
+			return false;
+		}
+		for (int i = 0; i < len; i++) {
+			if (text.charAt(i) != buf[start + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/* Spreads the low bits, short identifiers hash very close together */
+	private static int mix(int hash)
+	{
+		return hash ^ (hash >>> 16);
+	}
+
+	private void grow()
+	{
+		Name[] old = slots;
+		slots = new Name[old.length * 2];
+		int mask = slots.length - 1;
+		for (Name name : old) {
+			if (name != null) {
+				int slot = mix(name.hashCode()) & mask;
+				while (slots[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				slots[slot] = name;
+			}
+		}
+	}
+} // class NameTable
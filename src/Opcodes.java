@@ -0,0 +1,112 @@
+/**************************************************
+ * The JVM instructions JvmBackend generates, with the stack effect of
+ * those that take no operands (JVM specification, chapter 6)
+ ****************************************************/
+
+class Opcodes
+{
+	public static final int ACONST_NULL = 0x01;
+	public static final int ICONST_M1 = 0x02;
+	public static final int ICONST_0 = 0x03;
+	public static final int ICONST_1 = 0x04;
+	public static final int ICONST_5 = 0x08;
+	public static final int FCONST_0 = 0x0b;
+	public static final int FCONST_1 = 0x0c;
+	public static final int FCONST_2 = 0x0d;
+	public static final int BIPUSH = 0x10;
+	public static final int SIPUSH = 0x11;
+	public static final int LDC = 0x12;
+	public static final int LDC_W = 0x13;
+	public static final int ILOAD = 0x15;
+	public static final int FLOAD = 0x17;
+	public static final int ALOAD = 0x19;
+	public static final int IALOAD = 0x2e;
+	public static final int FALOAD = 0x30;
+	public static final int BALOAD = 0x33;
+	public static final int CALOAD = 0x34;
+	public static final int ISTORE = 0x36;
+	public static final int FSTORE = 0x38;
+	public static final int ASTORE = 0x3a;
+	public static final int IASTORE = 0x4f;
+	public static final int FASTORE = 0x51;
+	public static final int BASTORE = 0x54;
+	public static final int CASTORE = 0x55;
+	public static final int POP = 0x57;
+	public static final int DUP2 = 0x5c;
+	public static final int IADD = 0x60;
+	public static final int FADD = 0x62;
+	public static final int ISUB = 0x64;
+	public static final int FSUB = 0x66;
+	public static final int IMUL = 0x68;
+	public static final int FMUL = 0x6a;
+	public static final int IDIV = 0x6c;
+	public static final int FDIV = 0x6e;
+	public static final int IINC = 0x84;
+	public static final int I2F = 0x86;
+	public static final int I2C = 0x92;
+	public static final int FCMPL = 0x95;
+	public static final int FCMPG = 0x96;
+	public static final int IFEQ = 0x99;
+	public static final int IFNE = 0x9a;
+	public static final int IFLT = 0x9b;
+	public static final int IFGE = 0x9c;
+	public static final int IFGT = 0x9d;
+	public static final int IFLE = 0x9e;
+	public static final int IF_ICMPEQ = 0x9f;
+	public static final int IF_ICMPNE = 0xa0;
+	public static final int IF_ICMPLT = 0xa1;
+	public static final int IF_ICMPGE = 0xa2;
+	public static final int IF_ICMPGT = 0xa3;
+	public static final int IF_ICMPLE = 0xa4;
+	public static final int GOTO = 0xa7;
+	public static final int IRETURN = 0xac;
+	public static final int FRETURN = 0xae;
+	public static final int ARETURN = 0xb0;
+	public static final int RETURN = 0xb1;
+	public static final int GETSTATIC = 0xb2;
+	public static final int PUTSTATIC = 0xb3;
+	public static final int INVOKESTATIC = 0xb8;
+	public static final int NEWARRAY = 0xbc;
+	public static final int ARRAYLENGTH = 0xbe;
+	public static final int WIDE = 0xc4;
+
+	// Element types for NEWARRAY
+	public static final int T_BOOLEAN = 4;
+	public static final int T_CHAR = 5;
+	public static final int T_FLOAT = 6;
+	public static final int T_INT = 10;
+
+	// How far each instruction without operands moves the stack
+	private static final int[] stack = new int[256];
+	static
+	{
+		for (int op = ACONST_NULL; op <= ICONST_5; op++)
+		{
+			stack[op] = 1;
+		}
+		stack[FCONST_0] = stack[FCONST_1] = stack[FCONST_2] = 1;
+		stack[IALOAD] = stack[FALOAD] = stack[BALOAD] = stack[CALOAD] = -1;
+		stack[IASTORE] = stack[FASTORE] = stack[BASTORE] = stack[CASTORE] = -3;
+		stack[POP] = -1;
+		stack[DUP2] = 2;
+		stack[IADD] = stack[FADD] = stack[ISUB] = stack[FSUB] = -1;
+		stack[IMUL] = stack[FMUL] = stack[IDIV] = stack[FDIV] = -1;
+		stack[I2F] = stack[I2C] = 0;
+		stack[FCMPL] = stack[FCMPG] = -1;
+		stack[IRETURN] = stack[FRETURN] = stack[ARETURN] = -1;
+		stack[RETURN] = 0;
+		stack[ARRAYLENGTH] = 0;
+	}
+
+	static int stackEffect(int op)
+	{
+		return stack[op];
+	}
+
+	/* The conditional jump taken in exactly the cases op's isn't */
+	static int negate(int op)
+	{
+		// The jumps come in pairs, eq/ne, lt/ge and gt/le, each pair an even opcode apart
+		return (op - IFEQ) % 2 == 0 ? op + 1 : op - 1;
+	}
+}
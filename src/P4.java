@@ -1,41 +1,510 @@
 import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
 import java_cup.runtime.*;
 
 class P4 {
 
+	// Outcome of compiling a single file, used for the batch summary
+	static final int PASSED = 0;
+	static final int TYPE_ERRORS = 1;
+	static final int SYNTAX_ERRORS = 2;
+	static final int UNREADABLE = 3;
+
+	// Each worker thread keeps one scanner and reuses it for every file it checks
+	static final ThreadLocal<Scanner> scanners = ThreadLocal.withInitial(Scanner::new);
+
+	// Type checking of a file stops after this many errors, 0 for no limit (--max-errors N)
+	static int maxErrors = 0;
+
+	// Print each parsed program back out as source before type checking it (--unparse)
+	static boolean unparse = false;
+
+	// Parse with the hand-written DescentParser instead of the CUP parser (--parser descent)
+	static boolean descent = false;
+
+	// Earlier results of byte-identical files are reused from here (--cache dir [--cache-size MB])
+	static ResultCache cache = null;
+
+	// Time, memory and counts for each phase of every file checked (--stats, --stats-json file)
+	static CompileStats stats = null;
+
+	// Run each program that type checks, reading standard input for its READs (--run);
+	// there is one standard input, so a batch is then run one file at a time
+	static boolean run = false;
+	static final java.io.Reader input = new java.io.InputStreamReader(System.in);
+
+	// Run them as JVM bytecode compiled by JvmBackend instead of interpreting them (--run-jvm)
+	static boolean jvm = false;
+
+	// Write the class file of each program that type checks under this directory (--emit-class dir)
+	static Path classDir = null;
+
+	// Run them by lowering them to the IR and interpreting that instead (--run-ir)
+	static boolean ir = false;
+
+	// Print the IR of each program that type checks, after the passes (--dump-ir)
+	static boolean dumpIr = false;
+
+	// The IR passes to run, all unless told otherwise (--passes fold,copy,dead,hoist or none)
+	static boolean[] passes = IrOptimizer.passes("all");
+
 	public static void
 	main(String args[]) throws java.io.IOException,  Exception {
 
-		if (args.length != 1) {
+		// Files are checked in parallel unless told otherwise with -j
+		int jobs = Runtime.getRuntime().availableProcessors();
+		List<String> inputs = new ArrayList<String>();
+		String cacheDir = null;
+		long cacheLimit = ResultCache.DEFAULT_LIMIT;
+		String statsJson = null;
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-j") && i + 1 < args.length) {
+				jobs = Math.max(1, Integer.parseInt(args[++i]));
+			} else if (args[i].equals("--max-errors") && i + 1 < args.length) {
+				maxErrors = Math.max(0, Integer.parseInt(args[++i]));
+			} else if (args[i].equals("--unparse")) {
+				unparse = true;
+			} else if (args[i].equals("--parser") && i + 1 < args.length) {
+				descent = args[++i].equals("descent");
+			} else if (args[i].equals("--cache") && i + 1 < args.length) {
+				cacheDir = args[++i];
+			} else if (args[i].equals("--cache-size") && i + 1 < args.length) {
+				cacheLimit = Long.parseLong(args[++i]) << 20;
+			} else if (args[i].equals("--run")) {
+				run = true;
+			} else if (args[i].equals("--run-jvm")) {
+				run = true;
+				jvm = true;
+			} else if (args[i].equals("--run-ir")) {
+				run = true;
+				ir = true;
+			} else if (args[i].equals("--dump-ir")) {
+				dumpIr = true;
+			} else if (args[i].equals("--passes") && i + 1 < args.length) {
+				passes = IrOptimizer.passes(args[++i]);
+			} else if (args[i].equals("--emit-class") && i + 1 < args.length) {
+				classDir = Paths.get(args[++i]);
+			} else if (args[i].equals("--stats")) {
+				stats = new CompileStats();
+			} else if (args[i].equals("--stats-json") && i + 1 < args.length) {
+				stats = new CompileStats();
+				statsJson = args[++i];
+			} else {
+				inputs.add(args[i]);
+			}
+		}
+		openCache(cacheDir, cacheLimit);
+		if (stats != null && !descent) {
+			stats.setUpTables();
+		}
+
+		if (inputs.isEmpty()) {
 			System.out.println("Error: Input file must be named on command line." );
 			System.exit(-1);
 		}
 
-		java.io.FileInputStream yyin = null;
+		// All output goes through one buffer that is flushed per file rather than per line
+		PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16));
+
+		// A single plain file keeps the original one-shot behavior
+		String first = inputs.get(0);
+		if (inputs.size() == 1 && !first.startsWith("@") && !new File(first).isDirectory()) {
+			int result = compile(first, out);
+			reportStats(out, statsJson);
+			out.flush();
+			if (result == UNREADABLE) {
+				System.exit(-1);
+			}
+			System.exit(0);
+		}
+
+		List<String> files = new ArrayList<String>();
+		for (String input : inputs) {
+			expandArgument(input, files);
+		}
+
+		// Programs run side by side would take each other's input, so they take turns in argument order
+		if (run) {
+			jobs = 1;
+		}
+
+		int[] counts = new int[4];
+		if (jobs == 1) {
+			for (String file : files) {
+				int result = compile(file, out);
+				counts[result]++;
+				out.println(file + ": " + describe(result));
+				out.flush();
+			}
+		} else {
+			ExecutorService pool = Executors.newWorkStealingPool(jobs);
+			List<Future<CompiledFile>> pending = new ArrayList<Future<CompiledFile>>();
+			for (final String file : files) {
+				pending.add(pool.submit(() -> compileBuffered(file)));
+			}
+
+			// Print results in the order the files were named so output is deterministic
+			for (int i = 0; i < files.size(); i++) {
+				CompiledFile compiled = pending.get(i).get();
+				counts[compiled.result]++;
+				out.print(compiled.output);
+				out.println(files.get(i) + ": " + describe(compiled.result));
+				out.flush();
+			}
+			pool.shutdown();
+		}
+
+		out.println("\nChecked " + files.size() + " files: " + counts[PASSED] + " passed, "
+				+ counts[TYPE_ERRORS] + " with type errors, " + counts[SYNTAX_ERRORS] + " with syntax errors, "
+				+ counts[UNREADABLE] + " unreadable.");
+		if (cache != null) {
+			out.println("Result cache: " + cache.counters() + ".");
+		}
+		reportStats(out, statsJson);
+		out.flush();
+
+		System.exit(counts[PASSED] == files.size() ? 0 : 1);
+	} // main
+
+	// Scans, parses and type checks one file, printing its diagnostics to out
+	static int compile(String path, PrintStream out) throws Exception {
+		return compile(path, path, out);
+	} // compile
+
+	// As above, but opens the file at location while naming it path in messages
+	static int compile(String path, String location, PrintStream out) throws Exception {
+		return compile(path, location, out, null);
+	} // compile
+
+	// As above, re-checking only what changed since incremental last saw the file
+	static int compile(String path, String location, PrintStream out, IncrementalChecker incremental)
+			throws Exception {
+		// A run's output depends on its input, so it can't come from the cache,
+		// and a cached result wouldn't write the class file or dump the IR
+		if (cache != null && incremental == null && !run && classDir == null && !dumpIr) {
+			return compileCached(path, location, out);
+		}
+
+		java.io.Reader source = null;
 		try {
-			yyin = new java.io.FileInputStream(args[0]);
-		} catch (FileNotFoundException notFound) {
-			System.out.println ("Error: unable to open input file.");
-			System.exit(-1);
+			source = new java.io.InputStreamReader(new java.io.FileInputStream(location));
+		} catch (IOException notFound) {
+			out.println ("Error: unable to open input file.");
+			return UNREADABLE;
 		}
 
-		Scanner.init(yyin); // Initialize Scanner class for parser
-		final parser csxParser = new parser();
-		System.out.println ("\n\n" + "Begin CSX compilation of " + args[0] + ".\n");
-		Symbol root=null;
 		try {
-			root = csxParser.parse(); // do the parse
-			System.out.println ("CSX program parsed correctly.");
-		} catch (SyntaxErrorException e) {
-			System.out.println ("Compilation terminated due to syntax errors.");
-			System.exit(0);
+			return compile(path, source, out, incremental);
+		} finally {
+			source.close();
 		}
+	} // compile
+
+	// Scans, parses and type checks source read from yyin; name is only used in messages
+	static int compile(String name, java.io.InputStream yyin, PrintStream out) throws Exception {
+		return compile(name, new java.io.InputStreamReader(yyin), out);
+	} // compile
 
-		final boolean ok = ((classNode)root.value).isTypeCorrect();
+	// Scans, parses and type checks source read from in; name is only used in messages
+	static int compile(String name, java.io.Reader in, PrintStream out) throws Exception {
+		return compile(name, in, out, null);
+	} // compile
+
+	// As above; with an IncrementalChecker that has seen an earlier version of
+	// the same file, only the method bodies edited since then are type checked
+	static int compile(String name, java.io.Reader in, PrintStream out, IncrementalChecker incremental)
+			throws Exception {
+		out.println ("\n\n" + "Begin CSX compilation of " + name + ".\n");
+		return check(in, out, incremental);
+	} // compile
+
+	// Does the work of compile(), printing everything that follows the "Begin" line
+	static int check(java.io.Reader in, PrintStream out, IncrementalChecker incremental) throws Exception {
+		if (stats == null) {
+			return check(in, out, incremental, null);
+		}
+		CompileStats file = new CompileStats();
+		file.files = 1;
+		try {
+			return check(in, out, incremental, file);
+		} finally {
+			stats.add(file);
+		}
+	} // check
+
+	// As above, counting each phase into stats unless it is null
+	static int check(java.io.Reader in, PrintStream out, IncrementalChecker incremental, CompileStats stats)
+			throws Exception {
+		// Each file gets its own symbol table and diagnostics
+		CompilationContext ctx = new CompilationContext(out, maxErrors);
+		Scanner scanner = scanners.get();
+		long start = System.nanoTime();
+		long allocated = CompileStats.allocated();
+		classNode root = null;
+		String text = null;
+		TokenRecorder tokens = null;
+		if (incremental != null) {
+			// The checker keeps the text, to find what the next edit changed
+			java.io.StringWriter all = new java.io.StringWriter();
+			in.transferTo(all);
+			text = all.toString();
+			if (!unparse) { // Unparse would print the old lines of the bodies that moved
+				root = incremental.splice(text, scanner);
+			}
+		}
+		if (root == null) {
+			if (incremental == null) {
+				scanner.reset(in, out);
+			} else {
+				incremental.reset(scanner, text, out);
+			}
+			java_cup.runtime.Scanner source = stats == null ? scanner : stats.timed(scanner);
+			if (incremental != null) {
+				tokens = new TokenRecorder(source, scanner);
+				source = tokens;
+			}
+			try {
+				// do the parse
+				if (descent) {
+					root = new DescentParser(source, ctx).parse();
+				} else {
+					root = (classNode) new parser(source, ctx).parse().value;
+				}
+			} catch (SyntaxErrorException e) {
+				// Error recovery couldn't get past an error
+				if (stats != null) {
+					stats.parsed(start, allocated);
+				}
+				if (incremental != null) {
+					incremental.forget();
+				}
+				out.println ("Compilation terminated due to syntax errors.");
+				return SYNTAX_ERRORS;
+			}
+		}
+		if (stats != null) {
+			stats.parsed(start, allocated);
+			stats.countNodes(root);
+		}
+
+		if (ctx.syntaxErrors > 0) {
+			if (incremental != null) {
+				incremental.forget();
+			}
+			// Every error was recovered from, so the methods that parsed
+			// cleanly can still be type checked in this pass
+			typeCheck(root, ctx, stats);
+			out.println ("Compilation terminated due to syntax errors.");
+			return SYNTAX_ERRORS;
+		}
+		out.println ("CSX program parsed correctly.");
+
+		if (unparse) {
+			CodeWriter code = new CodeWriter(out);
+			root.Unparse(code, 0);
+			code.flush();
+		}
+
+		if (incremental != null) {
+			if (tokens != null) {
+				incremental.begin(root, text, tokens);
+			}
+			ctx.incremental = incremental;
+		}
+		final boolean ok = typeCheck(root, ctx, stats);
+		if (incremental != null) {
+			incremental.finish();
+		}
 		if (ok) {
-			System.out.println("No CSX type errors detected.");
+			out.println("No CSX type errors detected.");
+			if (classDir != null && incremental == null) {
+				try {
+					JvmBackend.write(root, null, classDir);
+				} catch (ClassTooLargeException e) {
+					out.println("Error: no class file written, as " + e.getMessage() + ".");
+				}
+			}
+			IrProgram lowered = null;
+			if ((dumpIr || (run && ir)) && incremental == null) {
+				lowered = lower(root, stats);
+				if (dumpIr) {
+					lowered.dump(out);
+				}
+				lowered.link();
+			}
+			if (run && incremental == null) {
+				boolean finished;
+				if (ir) {
+					finished = new IrInterpreter(lowered, input, out).run();
+				} else if (jvm) {
+					finished = runJvm(root, out);
+				} else {
+					finished = new Interpreter(root, input, out).run();
+				}
+				if (finished) {
+					out.println();
+				}
+			}
+			return PASSED;
 		} else {
-			System.out.println("\nCSX compilation halted due to type errors.");
+			out.println("\nCSX compilation halted due to type errors.");
+			return TYPE_ERRORS;
 		}
-	} // main
+	} // check
+
+	// Runs root as JVM bytecode, or in the Interpreter if it doesn't fit in a class file
+	static boolean runJvm(classNode root, PrintStream out) throws ReflectiveOperationException {
+		java.lang.reflect.Method run;
+		try {
+			run = JvmBackend.load(root, null);
+		} catch (ClassTooLargeException e) {
+			out.println("Note: running " + root.name() + " in the interpreter, as " + e.getMessage() + ".");
+			return new Interpreter(root, input, out).run();
+		}
+		return JvmBackend.run(run, input, out);
+	} // runJvm
+
+	// Lowers root to the IR and runs the chosen passes over it, timing both into stats unless it is null
+	static IrProgram lower(classNode root, CompileStats stats) {
+		long start = System.nanoTime();
+		IrProgram program = IrProgram.lower(root);
+		long lowering = System.nanoTime() - start;
+		int lowered = program.instructions();
+		IrOptimizer optimizer = new IrOptimizer(passes);
+		optimizer.optimize(program);
+		if (stats != null) {
+			stats.countIr(lowering, lowered, program.instructions(), optimizer);
+		}
+		return program;
+	} // lower
+
+	// Type checks root, counting the time and the symbol table's work into stats unless it is null
+	static boolean typeCheck(classNode root, CompilationContext ctx, CompileStats stats) {
+		if (stats == null) {
+			return root.isTypeCorrect(ctx);
+		}
+		long start = System.nanoTime();
+		long allocated = CompileStats.allocated();
+		boolean ok = root.isTypeCorrect(ctx);
+		stats.phase(CompileStats.CHECKING, start, allocated);
+		stats.countSymbolTable(ctx.st);
+		return ok;
+	} // typeCheck
+
+	// Compiles the file at location through the result cache: a file compiled
+	// before with the same options is answered from the cache without being checked
+	static int compileCached(String path, String location, PrintStream out) throws Exception {
+		byte[] source;
+		try {
+			source = Files.readAllBytes(Paths.get(location));
+		} catch (IOException notFound) {
+			out.println ("Error: unable to open input file.");
+			return UNREADABLE;
+		}
+
+		out.println ("\n\n" + "Begin CSX compilation of " + path + ".\n");
+		String key = cache.key(source, "max-errors " + maxErrors + ", unparse " + unparse + ", descent " + descent);
+		ResultCache.Entry hit = cache.get(key);
+		if (hit != null) {
+			out.write(hit.output, 0, hit.output.length);
+			return hit.result;
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream captured = new PrintStream(buffer);
+		int result = check(new java.io.InputStreamReader(new ByteArrayInputStream(source)), captured, null);
+		captured.flush();
+		byte[] output = buffer.toByteArray();
+		out.write(output, 0, output.length);
+		try {
+			cache.put(key, result, output);
+		} catch (IOException e) {
+			// A cache that can't be written to only costs the next run a compile
+		}
+		return result;
+	} // compileCached
+
+	// Prints the statistics of the run as text, or writes them as JSON to jsonFile if it isn't null
+	static void reportStats(PrintStream out, String jsonFile) throws IOException {
+		if (stats == null) {
+			return;
+		}
+		if (jsonFile == null) {
+			out.print("\n" + stats.text());
+		} else {
+			Files.write(Paths.get(jsonFile), stats.json().getBytes("US-ASCII"));
+		}
+	} // reportStats
+
+	// Opens the result cache in dir, if one was asked for; without one every file is compiled
+	static void openCache(String dir, long limit) {
+		if (dir == null) {
+			return;
+		}
+		try {
+			cache = new ResultCache(dir, limit);
+		} catch (IOException e) {
+			System.out.println("Warning: not using the result cache: " + e.getMessage());
+		}
+	} // openCache
+
+	// Compiles one file into a private buffer so it can run alongside others
+	static CompiledFile compileBuffered(String path) throws Exception {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer);
+		int result = compile(path, out);
+		out.flush();
+		return new CompiledFile(result, buffer.toString());
+	} // compileBuffered
+
+	// Adds the .csx files named by a command line argument: a file, a directory
+	// (searched recursively) or an @argfile listing one path per line
+	static void expandArgument(String arg, List<String> files) throws IOException {
+		if (arg.startsWith("@")) {
+			for (String line : Files.readAllLines(Paths.get(arg.substring(1)))) {
+				line = line.trim();
+				if (!line.isEmpty() && !line.startsWith("#")) {
+					expandArgument(line, files);
+				}
+			}
+		} else if (new File(arg).isDirectory()) {
+			try (Stream<Path> walk = Files.walk(Paths.get(arg))) {
+				walk.filter(p -> p.toString().endsWith(".csx") && Files.isRegularFile(p))
+					.map(Path::toString)
+					.sorted()
+					.forEach(files::add);
+			}
+		} else {
+			files.add(arg);
+		}
+	} // expandArgument
+
+	static String describe(int result) {
+		switch (result) {
+			case PASSED:
+				return "OK";
+			case TYPE_ERRORS:
+				return "type errors";
+			case SYNTAX_ERRORS:
+				return "syntax errors";
+			case UNREADABLE:
+				return "unreadable";
+			default:
+				throw new RuntimeException("P4.describe() result: " + result + " was not included in switch statement.");
+		}
+	} // describe
 } // class P4
+
+// The result and captured output of a file compiled off the main thread
+class CompiledFile {
+	final int result;
+	final String output;
+
+	CompiledFile(int result, String output) {
+		this.result = result;
+		this.output = output;
+	}
+} // class CompiledFile
@@ -0,0 +1,123 @@
+import java.io.*;
+import java.net.*;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**************************************************
+ * Thin client for P4Server. Takes the same inputs as P4 (files, directories
+ * of .csx files and @argfiles) and prints the same output, but lets a
+ * resident server do the work. When no server is running it falls back to
+ * compiling in this JVM. Options that change how files are checked, such
+ * as --max-errors, are given to P4Server when it is started, since they
+ * hold for every client it serves; the client rejects them.
+ ****************************************************/
+
+class P4Client
+{
+	public static void main(String args[]) throws Exception
+	{
+		int port = P4Server.DEFAULT_PORT;
+		String unixPath = null;
+		List<String> inputs = new ArrayList<String>();
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("--port") && i + 1 < args.length) {
+				port = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("--unix") && i + 1 < args.length) {
+				unixPath = args[++i];
+			} else if (args[i].startsWith("-")) {
+				System.out.println("Usage: java P4Client [--port N | --unix socketPath] file.csx|directory|@argfile ...");
+				System.out.println("Checking options (--max-errors, --parser, --incremental, --cache) are given to P4Server.");
+				System.exit(-1);
+			} else {
+				inputs.add(args[i]);
+			}
+		}
+
+		if (inputs.isEmpty()) {
+			System.out.println("Error: Input file must be named on command line." );
+			System.exit(-1);
+		}
+
+		// Like P4, a single plain file is reported on its own and anything else as a batch
+		String first = inputs.get(0);
+		boolean batch = inputs.size() > 1 || first.startsWith("@") || new File(first).isDirectory();
+		List<String> files = new ArrayList<String>();
+		for (String input : inputs) {
+			P4.expandArgument(input, files);
+		}
+
+		SocketChannel channel;
+		try {
+			if (unixPath != null) {
+				channel = SocketChannel.open(UnixDomainSocketAddress.of(unixPath));
+			} else {
+				channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+			}
+		} catch (IOException noServer) {
+			P4.main(inputs.toArray(new String[0]));
+			return;
+		}
+
+		int[] counts = new int[4];
+		int unanswered = 0;
+		try (SocketChannel server = channel) {
+			InputStream in = new BufferedInputStream(Channels.newInputStream(server));
+			PrintStream out = new PrintStream(Channels.newOutputStream(server), true, "UTF-8");
+
+			// The server may run in another directory, so relative paths are resolved against ours
+			out.println("DIR " + new File("").getAbsolutePath());
+
+			for (String file : files) {
+				out.println("CHECK " + file);
+
+				String line;
+				while ((line = readLine(in)) != null && !line.startsWith("END ")) {
+					System.out.println(line);
+				}
+
+				if (line == null) {
+					System.out.println("Error: lost connection to the P4 server.");
+					System.exit(-1);
+				}
+				int result = Integer.parseInt(line.substring(4));
+				if (result == P4Server.INTERNAL_ERROR) {
+					unanswered++;
+					if (batch) {
+						System.out.println(file + ": not checked");
+					}
+					continue;
+				}
+				counts[result]++;
+				if (batch) {
+					System.out.println(file + ": " + P4.describe(result));
+				}
+			}
+			out.println("QUIT");
+		}
+
+		if (!batch) {
+			System.exit(counts[P4.UNREADABLE] + unanswered > 0 ? -1 : 0);
+		}
+		System.out.println("\nChecked " + files.size() + " files: " + counts[P4.PASSED] + " passed, "
+				+ counts[P4.TYPE_ERRORS] + " with type errors, " + counts[P4.SYNTAX_ERRORS] + " with syntax errors, "
+				+ counts[P4.UNREADABLE] + " unreadable.");
+		System.exit(counts[P4.PASSED] == files.size() ? 0 : 1);
+	} // main
+
+	/* Reads one line of the server's answer, keeping leading blanks that P4 prints */
+	static String readLine(InputStream in) throws IOException
+	{
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int c;
+		while ((c = in.read()) != -1 && c != '\n') {
+			line.write(c);
+		}
+
+		if (c == -1 && line.size() == 0) {
+			return null;
+		}
+		return line.toString(StandardCharsets.UTF_8.name());
+	} // readLine
+} // class P4Client
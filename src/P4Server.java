@@ -0,0 +1,173 @@
+import java.io.*;
+import java.net.*;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+/**************************************************
+ * Resident compile server. Keeps the JVM, the loaded classes and the parse
+ * tables warm between requests so editors and hooks don't pay startup costs
+ * on every check.
+ *
+ * Protocol (one request after another on a connection, lines end in \n):
+ *   DIR <directory>         resolve relative CHECK paths against directory
+ *   CHECK <path>            type check the file at path
+ *   BUFFER <name> <length>  type check the <length> bytes that follow
+ *   QUIT                    close the connection
+ * Each check answers with the same text P4 prints for the file followed by
+ * a line "END <result>", where result is one of P4's result codes (or -1 if
+ * the request could not be handled).
+ *
+ * With --incremental the server remembers what it found in each file (by
+ * resolved path, or by name for BUFFER) and when the file is checked again
+ * only parses and checks the methods that were edited; see IncrementalChecker.
+ ****************************************************/
+
+class P4Server
+{
+	static final int DEFAULT_PORT = 7404;
+	static final int INTERNAL_ERROR = -1;
+
+	// The earlier results of each file checked, when running with --incremental
+	static ConcurrentHashMap<String, IncrementalChecker> checkers = null;
+
+	public static void main(String args[]) throws Exception
+	{
+		int port = DEFAULT_PORT;
+		String unixPath = null;
+		String cacheDir = null;
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("--port") && i + 1 < args.length) {
+				port = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("--unix") && i + 1 < args.length) {
+				unixPath = args[++i];
+			} else if (args[i].equals("--max-errors") && i + 1 < args.length) {
+				P4.maxErrors = Math.max(0, Integer.parseInt(args[++i]));
+			} else if (args[i].equals("--parser") && i + 1 < args.length) {
+				P4.descent = args[++i].equals("descent");
+			} else if (args[i].equals("--incremental")) {
+				checkers = new ConcurrentHashMap<String, IncrementalChecker>();
+			} else if (args[i].equals("--cache") && i + 1 < args.length) {
+				cacheDir = args[++i];
+			} else {
+				System.out.println("Usage: java P4Server [--port N | --unix socketPath] [--max-errors N] [--parser cup|descent] [--incremental] [--cache dir]");
+				System.exit(-1);
+			}
+		}
+		P4.openCache(cacheDir, ResultCache.DEFAULT_LIMIT);
+
+		ServerSocketChannel server;
+		if (unixPath != null) {
+			Files.deleteIfExists(Paths.get(unixPath));
+			server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+			server.bind(UnixDomainSocketAddress.of(unixPath));
+			System.out.println("P4 server listening on " + unixPath);
+		} else {
+			server = ServerSocketChannel.open();
+			server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+			System.out.println("P4 server listening on localhost:" + port);
+		}
+
+		ExecutorService clients = newClientExecutor();
+		while (true) {
+			final SocketChannel client = server.accept();
+			clients.execute(() -> serve(client));
+		}
+	} // main
+
+	/* One thread per client; virtual threads when the JVM has them (JDK 21+) */
+	static ExecutorService newClientExecutor()
+	{
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool();
+		}
+	} // newClientExecutor
+
+	/* Answers requests from one client until it quits or disconnects */
+	static void serve(SocketChannel client)
+	{
+		try (SocketChannel channel = client) {
+			InputStream in = new BufferedInputStream(Channels.newInputStream(channel));
+			PrintStream out = new PrintStream(new BufferedOutputStream(Channels.newOutputStream(channel)), false,
+					"UTF-8");
+
+			Path directory = Paths.get("").toAbsolutePath();
+			String request;
+			while ((request = readLine(in)) != null && !request.equals("QUIT")) {
+				if (request.startsWith("DIR ")) {
+					directory = Paths.get(request.substring(4));
+					continue;
+				}
+
+				int result;
+				try {
+					if (request.startsWith("CHECK ")) {
+						// Report the path as the client named it, like P4 does
+						String path = request.substring(6);
+						String location = directory.resolve(path).toString();
+						IncrementalChecker checker = checkerFor(location);
+						if (checker == null) {
+							result = P4.compile(path, location, out);
+						} else {
+							synchronized (checker) {
+								result = P4.compile(path, location, out, checker);
+							}
+						}
+					} else if (request.startsWith("BUFFER ")) {
+						int split = request.lastIndexOf(' ');
+						String name = request.substring(7, split);
+						byte[] source = in.readNBytes(Integer.parseInt(request.substring(split + 1)));
+						Reader reader = new InputStreamReader(new ByteArrayInputStream(source));
+						IncrementalChecker checker = checkerFor(name);
+						if (checker == null) {
+							result = P4.compile(name, reader, out);
+						} else {
+							synchronized (checker) {
+								result = P4.compile(name, reader, out, checker);
+							}
+						}
+					} else {
+						out.println("Error: unknown request: " + request);
+						result = INTERNAL_ERROR;
+					}
+				} catch (Exception e) {
+					out.println("Error: " + e);
+					result = INTERNAL_ERROR;
+				}
+
+				out.println("END " + result);
+				out.flush();
+			}
+		} catch (IOException e) {
+			// Client went away, nothing left to answer
+		}
+	} // serve
+
+	/* The checker that has the earlier results for file, or null if not incremental */
+	static IncrementalChecker checkerFor(String file)
+	{
+		if (checkers == null) {
+			return null;
+		}
+		return checkers.computeIfAbsent(file, f -> new IncrementalChecker());
+	} // checkerFor
+
+	/* Reads one \n terminated line of the protocol, or null at end of stream */
+	static String readLine(InputStream in) throws IOException
+	{
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int c;
+		while ((c = in.read()) != -1 && c != '\n') {
+			line.write(c);
+		}
+
+		if (c == -1 && line.size() == 0) {
+			return null;
+		}
+		return line.toString(StandardCharsets.UTF_8.name()).trim();
+	} // readLine
+} // class P4Server
@@ -0,0 +1,286 @@
+import java.io.*;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+/**************************************************
+ * On-disk cache of compilation results, so a file that is byte for byte the
+ * same as one compiled before isn't scanned, parsed or type checked again.
+ *
+ * An entry is named by the SHA-256 of the compiler's own class files, the
+ * options that change P4's output and the source bytes, and holds the
+ * result code and everything P4 printed after the "Begin CSX compilation"
+ * line (which is the only place the file's name appears). Entries are
+ * written to a temporary file and renamed into place, so any number of P4
+ * processes can share a directory and a reader never sees half an entry.
+ * Reading an entry touches its modification time; when the entries grow
+ * past the size limit the least recently used are deleted.
+ ****************************************************/
+
+class ResultCache
+{
+	static final long DEFAULT_LIMIT = 256L << 20;
+
+	// First line of every entry, then the result code and the length of the output
+	private static final String MAGIC = "P4-RESULT 1";
+
+	// Evict down to this share of the limit, so eviction doesn't run on every store
+	private static final double EVICT_TO = 0.9;
+
+	// A temporary file this old (in ms) was left by a process that died while storing
+	private static final long ABANDONED_AFTER = 60 * 60 * 1000;
+
+	private final Path dir;
+	private final long limit;
+	private final byte[] compiler;
+
+	private final AtomicLong size = new AtomicLong(-1); // Bytes in the cache as last counted, -1 before the first count
+
+	final AtomicInteger hits = new AtomicInteger();
+	final AtomicInteger misses = new AtomicInteger();
+	final AtomicInteger stores = new AtomicInteger();
+	final AtomicInteger evictions = new AtomicInteger();
+
+	/* What the cache had for a file */
+	static class Entry
+	{
+		final int result;
+		final byte[] output;
+
+		Entry(int result, byte[] output)
+		{
+			this.result = result;
+			this.output = output;
+		}
+	} // class Entry
+
+	/* A cache in dir holding at most limit bytes of entries */
+	ResultCache(String dir, long limit) throws IOException
+	{
+		this.dir = Files.createDirectories(Paths.get(dir));
+		this.limit = limit;
+		compiler = compilerDigest();
+	}
+
+	/* The name of the entry for source compiled with options */
+	String key(byte[] source, String options)
+	{
+		MessageDigest sha = sha256();
+		sha.update(compiler);
+		sha.update(options.getBytes(StandardCharsets.UTF_8));
+		sha.update((byte) 0);
+		sha.update(source);
+
+		StringBuilder hex = new StringBuilder();
+		for (byte b : sha.digest()) {
+			hex.append(String.format("%02x", b));
+		}
+		return hex.toString();
+	} // key
+
+	/* The entry named key, or null if there is none (or it is damaged) */
+	Entry get(String key)
+	{
+		Path file = pathOf(key);
+		byte[] bytes;
+		try {
+			bytes = Files.readAllBytes(file);
+		} catch (IOException e) {
+			misses.incrementAndGet(); // Not there, or evicted by another process while we looked
+			return null;
+		}
+
+		Entry entry = decode(bytes);
+		if (entry == null) {
+			misses.incrementAndGet();
+			deleteQuietly(file);
+			return null;
+		}
+
+		try {
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+		} catch (IOException e) {
+			// Evicted meanwhile; the entry was still good
+		}
+		hits.incrementAndGet();
+		return entry;
+	} // get
+
+	/* Stores output and result as the entry named key, replacing any earlier one */
+	void put(String key, int result, byte[] output) throws IOException
+	{
+		Path file = pathOf(key);
+		Files.createDirectories(file.getParent());
+
+		byte[] header = (MAGIC + "\n" + result + " " + output.length + "\n").getBytes(StandardCharsets.US_ASCII);
+		Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+		try {
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				out.write(header);
+				out.write(output);
+			}
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			deleteQuietly(temp); // Only still there if the move failed
+		}
+		stores.incrementAndGet();
+
+		long added = header.length + output.length;
+		if (size.get() < 0 || size.addAndGet(added) > limit) {
+			evict();
+		}
+	} // put
+
+	/* Counts the entries, deleting the least recently used while they are over the limit */
+	synchronized void evict() throws IOException
+	{
+		// Other processes add and delete files as we list, so nothing found here is certain
+		List<Path> files = new ArrayList<Path>();
+		try (DirectoryStream<Path> shards = Files.newDirectoryStream(dir)) {
+			for (Path shard : shards) {
+				try (DirectoryStream<Path> entries = Files.newDirectoryStream(shard)) {
+					for (Path f : entries) {
+						files.add(f);
+					}
+				} catch (IOException | DirectoryIteratorException e) {
+					// Not a shard directory, or gone
+				}
+			}
+		}
+
+		// Temporary files belong to stores still in progress, unless a process died mid-store
+		long abandoned = System.currentTimeMillis() - ABANDONED_AFTER;
+		for (Iterator<Path> i = files.iterator(); i.hasNext();) {
+			Path f = i.next();
+			if (f.toString().endsWith(".tmp")) {
+				i.remove();
+				try {
+					if (Files.getLastModifiedTime(f).toMillis() < abandoned) {
+						deleteQuietly(f);
+					}
+				} catch (IOException e) {
+					// Finished meanwhile
+				}
+			}
+		}
+
+		Map<Path, Long> used = new HashMap<Path, Long>();
+		Map<Path, Long> lengths = new HashMap<Path, Long>();
+		long total = 0;
+		for (Path f : files) {
+			try {
+				used.put(f, Files.getLastModifiedTime(f).toMillis());
+				lengths.put(f, Files.size(f));
+				total += lengths.get(f);
+			} catch (IOException e) {
+				// Deleted by another process while we walked
+			}
+		}
+
+		if (total > limit) {
+			List<Path> oldestFirst = new ArrayList<Path>(used.keySet());
+			oldestFirst.sort(Comparator.comparing(used::get));
+			for (Path f : oldestFirst) {
+				if (total <= limit * EVICT_TO) {
+					break;
+				}
+				deleteQuietly(f);
+				total -= lengths.get(f);
+				evictions.incrementAndGet();
+			}
+		}
+		size.set(total);
+	} // evict
+
+	String counters()
+	{
+		return hits + " hits, " + misses + " misses, " + stores + " stored, " + evictions + " evicted";
+	}
+
+	private Path pathOf(String key)
+	{
+		return dir.resolve(key.substring(0, 2)).resolve(key.substring(2));
+	}
+
+	/* The entry in bytes, or null if they aren't a whole entry */
+	private static Entry decode(byte[] bytes)
+	{
+		int first = indexOf(bytes, 0);
+		int second = first < 0 ? -1 : indexOf(bytes, first + 1);
+		if (second < 0 || !new String(bytes, 0, first, StandardCharsets.US_ASCII).equals(MAGIC)) {
+			return null;
+		}
+
+		String[] fields = new String(bytes, first + 1, second - first - 1, StandardCharsets.US_ASCII).split(" ");
+		try {
+			int result = Integer.parseInt(fields[0]);
+			int length = Integer.parseInt(fields[1]);
+			if (fields.length != 2 || length != bytes.length - second - 1) {
+				return null;
+			}
+			return new Entry(result, Arrays.copyOfRange(bytes, second + 1, bytes.length));
+		} catch (RuntimeException e) {
+			return null;
+		}
+	} // decode
+
+	/* Index of the first newline at or after from, or -1 */
+	private static int indexOf(byte[] bytes, int from)
+	{
+		for (int i = from; i < bytes.length; i++) {
+			if (bytes[i] == '\n') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static void deleteQuietly(Path file)
+	{
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// Another process got there first, or will
+		}
+	}
+
+	private static MessageDigest sha256()
+	{
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("Every JVM has SHA-256", e);
+		}
+	}
+
+	/* Digest of the jar or class directory P4 was loaded from, so a rebuilt compiler starts afresh */
+	static byte[] compilerDigest() throws IOException
+	{
+		Path home;
+		try {
+			home = Paths.get(P4.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		} catch (URISyntaxException | RuntimeException e) {
+			throw new IOException("Can't tell where the compiler was loaded from", e);
+		}
+
+		MessageDigest sha = sha256();
+		if (Files.isDirectory(home)) {
+			List<Path> classes;
+			try (Stream<Path> walk = Files.walk(home)) {
+				classes = walk.filter(p -> p.toString().endsWith(".class")).sorted().collect(Collectors.toList());
+			}
+			for (Path c : classes) {
+				sha.update(home.relativize(c).toString().getBytes(StandardCharsets.UTF_8));
+				sha.update(Files.readAllBytes(c));
+			}
+		} else {
+			sha.update(Files.readAllBytes(home));
+		}
+		return sha.digest();
+	} // compilerDigest
+} // class ResultCache
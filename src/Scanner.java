@@ -1,27 +1,61 @@
-/* This file probably doesn't need to be changed */
+/* Token source handed to the parser. Each instance owns its own lexer and
+   position, so one JVM can run many of them at once, and reset() lets one
+   be reused for file after file without reallocating the lexer's buffer. */
 
 import java_cup.runtime.*;
 import java.io.*;
 
-class Scanner {
-	private	static Yylex lex = null;
-
-	public static void init(java.io.FileInputStream yyin) {
-		if (lex == null) {
-			lex = new Yylex(yyin);
-		} else {
-			System.err.println("Scanner is already initialized.");
-		}
-	} // init
-
-	public static Symbol next_token() throws IOException {
-		if (lex == null) {
-			System.err.println("Scanner is not yet initialized.");
-			System.exit(-1);
-		} else {
-			return lex.yylex();
-		}
-		return null; // To appease javac
+class Scanner implements java_cup.runtime.Scanner {
+	private final Yylex lex;
+
+	Scanner() {
+		lex = new Yylex((java.io.Reader) null); // No input until reset() is called
+	} // Scanner
+
+	Scanner(java.io.InputStream yyin, PrintStream out) {
+		this();
+		reset(yyin, out);
+	} // Scanner
+
+	/* Points this scanner at the start of a new input */
+	public void reset(java.io.InputStream yyin, PrintStream out) {
+		reset(new java.io.InputStreamReader(yyin), out);
+	} // reset
+
+	/* As above, for input that is already characters (e.g. a buffer sent to P4Server) */
+	public void reset(java.io.Reader in, PrintStream out) {
+		lex.reset(in);
+		lex.out = out; // Lexical warnings go with the rest of this unit's output
+	} // reset
+
+	/* As above, for a stretch of a larger input that starts at line and col; its
+	   identifiers are added to names, which holds those of the rest of the input */
+	public void reset(java.io.Reader in, PrintStream out, NameTable names, int line, int col) {
+		lex.reset(in, names, line, col);
+		lex.out = out;
+	} // reset
+
+	/* Characters in the input before the token last returned */
+	int offset() {
+		return lex.offset();
+	} // offset
+
+	/* The line and column the scanner has got to, past the last token and space it read */
+	int line() {
+		return lex.Pos.line;
+	} // line
+
+	int column() {
+		return lex.Pos.col;
+	} // column
+
+	/* Lexical warnings written since the last reset */
+	int warnings() {
+		return lex.warnings;
+	} // warnings
+
+	public Symbol next_token() throws IOException {
+		return lex.yylex();
 	} // next_token
 
 } // class Scanner
@@ -1,6 +1,7 @@
 class Symb {
-   private final String name;
-   Symb(String n) { name = n;}
-   public String name() {return name;}
-   public String toString() {return name;}
+   private final Name name;
+   Symb(Name n) { name = n;}
+   public String name() {return name.text;}
+   public Name key() {return name;} // What SymbolTable files this symbol under
+   public String toString() {return name.text;}
 }
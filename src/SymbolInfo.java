@@ -9,8 +9,12 @@ class SymbolInfo extends Symb
 	public boolean constant;
 	public Kinds kind;
 	public Types type;
+	public int slot = -1; // Index of this variable in its Frame, given by FrameLayout.place
+	public int storage; // Which of the Frame's arrays holds it (FrameLayout.INTS, FLOATS or ARRAYS)
+	public boolean global; // Kept in the frame of the class's fields rather than the method's
+	public int local; // Position among its layout's variables, the JVM local JvmBackend keeps it in and its IR register
 
-	public SymbolInfo(String id, Kinds k, Types t, boolean constant)
+	public SymbolInfo(Name id, Kinds k, Types t, boolean constant)
 	{
 		super(id);
 		kind = k;
@@ -18,11 +22,11 @@ class SymbolInfo extends Symb
 		this.constant = constant;
 	}
 
-	public SymbolInfo(String id, int k, int t, boolean constant)
+	public SymbolInfo(Name id, int k, int t, boolean constant)
 	{
 		super(id);
-		kind = new Kinds(k);
-		type = new Types(t);
+		kind = Kinds.of(k);
+		type = Types.of(t);
 		this.constant = constant;
 	}
 
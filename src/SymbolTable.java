@@ -4,22 +4,68 @@ import java.util.*;
 class SymbolTable
 {
 
-	// Ref to the list and top scope
-	LinkedList<HashMap<String, Symb>> scopeList;
-	HashMap<String, Symb> currentScope;
+	/*
+	 * Every name has a stack of bindings, innermost first, so a lookup only
+	 * ever looks at the top of one stack. Each scope records which names it
+	 * bound in an undo log so closing it pops exactly those bindings.
+	 * 
+	 * Bindings are indexed by Name.id, so all names in one table must come
+	 * from the same NameTable (one compilation unit).
+	 */
+	private static class Binding
+	{
+		final Symb symb;
+		final int depth; // Scope the symbol was declared in
+		final Binding shadowed; // Binding of the same name in an enclosing scope
+
+		Binding(Symb symb, int depth, Binding shadowed)
+		{
+			this.symb = symb;
+			this.depth = depth;
+			this.shadowed = shadowed;
+		}
+	}
 
-	/* Initalize the List to track the scopes */
+	// Top binding of each name, indexed by Name.id
+	private Binding[] bindings;
+	private Name[] names;
+
+	// Ids bound so far in all open scopes, in order, and where each scope starts in it
+	private int[] undoLog;
+	private int undoTop;
+	private int[] scopeStart;
+	private int depth;
+
+	// Counted for P4 --stats
+	int scopesOpened;
+	int deepest;
+	int inserts;
+	int localHits;
+	int localMisses;
+	int globalHits;
+	int globalMisses;
+
+	/* Initalize the binding stacks and the scope log */
 	SymbolTable()
 	{
-		scopeList = new LinkedList<HashMap<String, Symb>>();
+		bindings = new Binding[64];
+		names = new Name[64];
+		undoLog = new int[64];
+		undoTop = 0;
+		scopeStart = new int[16];
+		depth = 0;
 	}
 	// ///////////////////////////////////////////////////////////////////////////////////////////////
 
-	/** Opens a new scope with an empty hash map and adds to the end of the list **/
+	/** Opens a new, empty scope nested inside the current one **/
 	public void openScope()
 	{
-		currentScope = new HashMap<String, Symb>();
-		scopeList.add(currentScope);
+		if (depth == scopeStart.length) {
+			scopeStart = Arrays.copyOf(scopeStart, depth * 2);
+		}
+		scopeStart[depth++] = undoTop;
+		scopesOpened++;
+		deepest = Math.max(deepest, depth);
 	}
 	// ///////////////////////////////////////////////////////////////////////////////////////////////
 
@@ -30,28 +76,29 @@ class SymbolTable
 		if (!check) {
 			throw new EmptySTException();
 		} else {
-			scopeList.remove(currentScope);
-			currentScope.clear();
-			currentScope = scopeList.peekLast(); // this will set currentScope
-												 // to null if it's empty
-												 // after
+			// Undo every binding this scope made, uncovering what it shadowed
+			int start = scopeStart[--depth];
+			while (undoTop > start) {
+				int id = undoLog[--undoTop];
+				bindings[id] = bindings[id].shadowed;
+			}
 		}
 	}
 
-	/* Helper for close scope, checks for hashmap */
+	/* Helper for close scope, checks that a scope is open */
 	/*
-	 * So if current scope was set to null when closing the previous one, it
-	 * returns false and throw an exception
+	 * So if every scope has been closed, it returns false and callers throw
+	 * an exception
 	 */
 	private boolean scopeIsActive()
 	{
-		return (currentScope != null);
+		return (depth > 0);
 	}
 	// ///////////////////////////////////////////////////////////////////////////////////////////////
 
 	/*
-	 * Inserts the given symb into the table and throws empty exception if it's
-	 * null
+	 * Inserts the given symb into the current scope and throws empty exception
+	 * if no scope is open
 	 */
 	/* Uses same helper function as the close scope check */
 	public void insert(Symb s) throws EmptySTException, DuplicateException
@@ -60,37 +107,49 @@ class SymbolTable
 		if (!check) {
 			throw new EmptySTException();
 		} else {
-			if (currentScope.containsKey(s.name())) { // current scope contains
-													  // the value
+			Name name = s.key();
+			Binding top = top(name);
+			if (top != null && top.depth == depth) { // current scope contains
+													 // the value
 				// Throw exception
 				throw new DuplicateException();
 
 			} else {
 				// add the token
-				currentScope.put(s.name(), s);
+				ensureCapacity(name.id);
+				bindings[name.id] = new Binding(s, depth, top);
+				names[name.id] = name;
+
+				if (undoTop == undoLog.length) {
+					undoLog = Arrays.copyOf(undoLog, undoTop * 2);
+				}
+				undoLog[undoTop++] = name.id;
+				inserts++;
 			}
 		}
 	}
 	// ///////////////////////////////////////////////////////////////////////////////////////////////
 
 	/*
-	 * Local Lookup checks if the current scope hash map contains the given
-	 * string
+	 * Local Lookup checks if the name is bound in the current scope
 	 */
 	/* Uses same helper function as the close scope check */
-	public Symb localLookup(String s)
+	public Symb localLookup(Name s)
 	{
 
 		boolean check = scopeIsActive();
 		if (!check) {
 			return null;
 		} else {
+			Binding top = top(s);
 
-			if (currentScope.containsKey(s)) {
+			if (top != null && top.depth == depth) {
 				// Value is in current scope
-				return currentScope.get(s);
+				localHits++;
+				return top.symb;
 			} else {
 				// Value was not found
+				localMisses++;
 				return null;
 			}
 		}
@@ -98,36 +157,34 @@ class SymbolTable
 	// ///////////////////////////////////////////////////////////////////////////////////////////////
 
 	/*
-	 * Global Lookup checks if the current scope hash map contains the given
-	 * string
-	 */
-	/*
-	 * If it doesn't, it checks all the other scopes until it finds it or hits
-	 * null
+	 * Global Lookup returns the innermost binding of the name in any open
+	 * scope, which is always the top of its binding stack
 	 */
-	public Symb globalLookup(String s)
+	public Symb globalLookup(Name s)
 	{
+		Binding top = top(s);
 
-		/* Found in local scope, return */
-		if (localLookup(s) != null) {
-			return localLookup(s);
-		} else {
-			/* NOT Found in local scope, loop through others */
-			HashMap<String, Symb> tmpMap;
-
-			// go through list in reverse to find first scope that has the token
-			for (int i = scopeList.size() - 1; i >= 0; i--) {
-
-				tmpMap = scopeList.get(i);
+		if (top == null) {
+			globalMisses++;
+			return null;
+		}
+		globalHits++;
+		return top.symb;
+	}
+	// ///////////////////////////////////////////////////////////////////////////////////////////////
 
-				if (tmpMap.containsKey(s)) {
-					// Value is in scope
-					return tmpMap.get(s);
-				}
-			}
+	/* Innermost binding of the name, or null if it isn't bound */
+	private Binding top(Name s)
+	{
+		return (s.id < bindings.length) ? bindings[s.id] : null;
+	}
 
-			// Exited loop without finding anything
-			return null;
+	private void ensureCapacity(int id)
+	{
+		if (id >= bindings.length) {
+			int size = Math.max(bindings.length * 2, id + 1);
+			bindings = Arrays.copyOf(bindings, size);
+			names = Arrays.copyOf(names, size);
 		}
 	}
 	// ///////////////////////////////////////////////////////////////////////////////////////////////
@@ -137,20 +194,36 @@ class SymbolTable
 	public String toString()
 	{
 
-		String outputString = "";
+		StringBuilder outputString = new StringBuilder();
 
-		HashMap<String, Symb> tmpMap;
+		// go through the scopes from innermost to outermost
+		int end = undoTop;
+		for (int scope = depth - 1; scope >= 0; scope--) {
 
-		// go through list in reverse to find first scope that has the token
-		for (int i = scopeList.size() - 1; i >= 0; i--) {
-
-			tmpMap = scopeList.get(i);
-			outputString += tmpMap.toString();
-			outputString += "\n";
+			outputString.append("{");
+			for (int i = scopeStart[scope]; i < end; i++) {
+				Name name = names[undoLog[i]];
+				if (i > scopeStart[scope]) {
+					outputString.append(", ");
+				}
+				outputString.append(name).append("=").append(symbolIn(name, scope + 1));
+			}
+			outputString.append("}\n");
+			end = scopeStart[scope];
 
 		}
 
-		return outputString; // change this
+		return outputString.toString();
+	}
+
+	/* Finds the symbol bound to name in the given scope depth */
+	private Symb symbolIn(Name name, int scopeDepth)
+	{
+		Binding binding = bindings[name.id];
+		while (binding.depth != scopeDepth) {
+			binding = binding.shadowed;
+		}
+		return binding.symb;
 	}
 	// ///////////////////////////////////////////////////////////////////////////////////////////////
 
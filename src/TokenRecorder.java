@@ -0,0 +1,130 @@
+import java.util.*;
+import java_cup.runtime.Symbol;
+
+/**************************************************
+ * Passes tokens from a scanner to the parser and remembers each one's kind,
+ * position, offset in the text and a hash of its kind and value, so that
+ * the parsed text can be split up by method and stretches of the token
+ * stream (a method header) fingerprinted after the parse. Whitespace and
+ * comments never reach the recorder, so they don't change a fingerprint.
+ ****************************************************/
+
+class TokenRecorder implements java_cup.runtime.Scanner
+{
+	private final java_cup.runtime.Scanner tokens;
+	private final Scanner lexer; // Where the tokens come from, for their offsets
+	private int count = 0;
+	private int[] kinds = new int[1024];
+	private int[] lines = new int[1024];
+	private int[] columns = new int[1024];
+	private int[] offsets = new int[1024];
+	private long[] hashes = new long[1024];
+
+	/* Records what tokens (lexer itself, or a wrapper around it) passes on */
+	TokenRecorder(java_cup.runtime.Scanner tokens, Scanner lexer)
+	{
+		this.tokens = tokens;
+		this.lexer = lexer;
+	}
+
+	public Symbol next_token() throws Exception
+	{
+		Symbol t = tokens.next_token();
+		if (t.sym != sym.EOF) {
+			if (count == kinds.length) {
+				kinds = Arrays.copyOf(kinds, count * 2);
+				lines = Arrays.copyOf(lines, count * 2);
+				columns = Arrays.copyOf(columns, count * 2);
+				offsets = Arrays.copyOf(offsets, count * 2);
+				hashes = Arrays.copyOf(hashes, count * 2);
+			}
+			CSXToken token = (CSXToken) t.value;
+			kinds[count] = t.sym;
+			lines[count] = token.linenum;
+			columns[count] = token.colnum;
+			offsets[count] = lexer.offset();
+			hashes[count] = hash(t.sym, token);
+			count++;
+		}
+		return t;
+	}
+
+	/* Tokens recorded, not counting EOF */
+	int count()
+	{
+		return count;
+	}
+
+	int kind(int i)
+	{
+		return kinds[i];
+	}
+
+	int line(int i)
+	{
+		return lines[i];
+	}
+
+	/* Characters in the scanned text before token i */
+	int offset(int i)
+	{
+		return offsets[i];
+	}
+
+	/* Index of the token at line and column, or -1 if no token starts there */
+	int indexAt(int line, int column)
+	{
+		int low = 0;
+		int high = count - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = lines[mid] != line ? Integer.compare(lines[mid], line) : Integer.compare(columns[mid], column);
+			if (cmp == 0) {
+				return mid;
+			} else if (cmp < 0) {
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return -1;
+	}
+
+	/* Hash of tokens from up to (not including) to, by kind and value only */
+	long fingerprint(int from, int to, long seed)
+	{
+		long h = seed;
+		for (int i = from; i < to; i++) {
+			h = mix(h, hashes[i]);
+		}
+		return h;
+	}
+
+	static long mix(long h, long value)
+	{
+		h ^= value;
+		h *= 0x9E3779B97F4A7C15L;
+		return h ^ (h >>> 29);
+	}
+
+	static long hash(int kind, CSXToken token)
+	{
+		long value;
+		if (token instanceof CSXIdentifierToken) {
+			value = ((CSXIdentifierToken) token).identifierValue.toString().hashCode();
+		} else if (token instanceof CSXIntLitToken) {
+			value = ((CSXIntLitToken) token).intValue;
+		} else if (token instanceof CSXFloatLitToken) {
+			value = Float.floatToIntBits(((CSXFloatLitToken) token).floatValue);
+		} else if (token instanceof CSXCharLitToken) {
+			value = ((CSXCharLitToken) token).charValue;
+		} else if (token instanceof CSXStringLitToken) {
+			value = ((CSXStringLitToken) token).stringValue.hashCode();
+		} else if (token instanceof CSXErrorToken) {
+			value = ((CSXErrorToken) token).error.hashCode();
+		} else {
+			value = 0;
+		}
+		return ((long) kind << 32) ^ (value & 0xFFFFFFFFL);
+	}
+} // class TokenRecorder
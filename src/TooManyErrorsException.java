@@ -0,0 +1,5 @@
+class TooManyErrorsException extends RuntimeException {
+	// No content since the limit has already been reported
+	//  by Diagnostics.report()
+	static final long serialVersionUID = 1L;
+}
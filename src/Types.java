@@ -8,8 +8,17 @@ class Types{
  public static final int Real = 6;
  public static final int String = 7;
 
- Types(int i){val = i;}
- Types(){val = Unknown;}
+ // One shared descriptor per type; nodes hold these, so equal types are the same object
+ private static final Types[] canonical = new Types[String + 1];
+ static {
+	for (int i = 0; i < canonical.length; i++) {
+	  canonical[i] = new Types(i);
+	}
+ }
+
+ private Types(int i){val = i;}
+
+ static Types of(int i){return canonical[i];}
 
  public String toString() {
 	switch(val){
@@ -25,6 +34,6 @@ class Types{
 	}
  }
 
- int val;
+ final int val;
 }
 
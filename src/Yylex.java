@@ -1,4 +1,4 @@
-/* The following code was generated by JFlex 1.4.3 on 11/28/15 1:56 PM */
+/* The following code was generated by JFlex 1.4.3 on 10/17/26, 3:32 AM */
 
 import java_cup.runtime.*;
 
@@ -53,8 +53,8 @@ class CSXFloatLitToken extends CSXToken
 //Returned when indentifier tokens are encountered so that we can display the name of the identifier in P2
 class CSXIdentifierToken extends CSXToken
 {
-	String identifierValue;
-	CSXIdentifierToken(String identifierValue, Position p)
+	Name identifierValue;
+	CSXIdentifierToken(Name identifierValue, Position p)
 	{
 		super(p);
 		this.identifierValue = identifierValue;
@@ -123,8 +123,8 @@ class Position
 /**
  * This class is a scanner generated by 
  * <a href="http://www.jflex.de/">JFlex</a> 1.4.3
- * on 11/28/15 1:56 PM from the specification file
- * <tt>F:/dev/Java/TypeChecker/src/csx.flex</tt>
+ * on 10/17/26, 3:32 AM from the specification file
+ * <tt>csx.flex</tt>
  */
 class Yylex {
 
@@ -581,6 +581,37 @@ class Yylex {
 
   /* user code: */
 Position Pos = new Position();
+java.io.PrintStream out = System.out; // Where lexical warnings are written
+int warnings; // Lexical warnings written since the last reset
+private final NameTable ownNames = new NameTable();
+NameTable names = ownNames; // Canonical names for the identifiers in this input
+
+/* Starts scanning a new input from the top, reusing this lexer's buffer */
+void reset(java.io.Reader in) {
+	ownNames.clear();
+	reset(in, ownNames, 1, 1);
+}
+
+/* Starts scanning in as if it were found at line and col of a larger input, adding
+   its identifiers to names, which may already hold those of the rest of that input */
+void reset(java.io.Reader in, NameTable names, int line, int col) {
+	yyreset(in);
+	Pos = new Position();
+	Pos.line = line;
+	Pos.col = col;
+	this.names = names;
+	warnings = 0;
+}
+
+/* Characters in the input before the token just matched */
+int offset() {
+	return yychar;
+}
+
+/* Interns the identifier just matched without copying it out of the buffer first */
+Name identifier() {
+	return names.lookup(zzBuffer, zzStartRead, yylength());
+}
 
 
   /**
@@ -828,6 +859,8 @@ Position Pos = new Position();
     while (true) {
       zzMarkedPosL = zzMarkedPos;
 
+      yychar+= zzMarkedPosL-zzStartRead;
+
       zzAction = -1;
 
       zzCurrentPosL = zzCurrentPos = zzStartRead = zzMarkedPosL;
@@ -880,324 +913,359 @@ Position Pos = new Position();
       zzMarkedPos = zzMarkedPosL;
 
       switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
-        case 58: 
-          { //Reserved word WHILE, case insensitive
+        case 56: 
+          { //Reserved word FLOAT, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_WHILE,
+	Pos.col += yylength();
+	return new Symbol(sym.rw_FLOAT,
 			new CSXToken(Pos));
           }
         case 66: break;
-        case 28: 
-          { //When an identifier is not caught by the identifier rule above, but it is by this rule, then it must be close
-	//to an identifier, but start with a number or underscore
+        case 14: 
+          { // Match on * (multiplication) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.error,
-	new CSXErrorToken("Found invalid Identifier: " + yytext(), Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.TIMES, new CSXToken(Pos));
           }
         case 67: break;
-        case 3: 
-          { //Newline non-printable character including \n and \r\n
+        case 63: 
+          { //Reserved word PRINT, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.line += 1;
-	Pos.col = 1;
+	Pos.col += yylength();
+	return new Symbol(sym.rw_PRINT,
+			new CSXToken(Pos));
           }
         case 68: break;
-        case 32: 
-          { // Match || (boolean or) operator
+        case 47: 
+          { // Match on a block comment that can span multiple lines or just a single line
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.COR,
-			new CSXToken(Pos));
+	
+	// Walk the scanned text in the buffer for any newline characters, if found increment the line and reset the column
+	// If we don't find one, just increment the column
+	int length = yylength();
+	for(int i = 0; i < length; i++)
+	{
+		Pos.col++;
+		if(yycharat(i) == '\n')
+		{
+			Pos.col=1;
+			Pos.line++;
+		}
+	}
           }
         case 69: break;
-        case 41: 
-          { // Duplicate approach as ++, see ++ for details
-	yybegin(YYINITIAL);
+        case 25: 
+          { //Tab non-printable character
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.DEC, new CSXToken(Pos));
+    yybegin(YYINITIAL);
+    Pos.col += 1;
           }
         case 70: break;
-        case 21: 
-          { // Match on ] (closed bracket)
+        case 16: 
+          { // Match on : (colon/seperator)
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.RBRACKET, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.COLON, new CSXToken(Pos));
           }
         case 71: break;
-        case 57: 
-          { //Reserved word FALSE, case insensitive
+        case 60: 
+          { //Reserved word BREAK, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_FALSE,
+	Pos.col += yylength();
+	return new Symbol(sym.rw_BREAK,
 			new CSXToken(Pos));
           }
         case 72: break;
-        case 27: 
-          { // Match on a single line comment, does not include the newline so no need to increment the row
-	yybegin(YYINITIAL);
-	String comment = yytext();
-    //System.out.println("Line Comment: " + comment);
-    Pos.setpos();
-    Pos.col += comment.length();
-    Pos.line ++;
-          }
-        case 73: break;
-        case 23: 
-          { // Match on ) (close parentheses)
-	yybegin(YYINITIAL);
-	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.RPAREN, new CSXToken(Pos));
-          }
-        case 74: break;
         case 44: 
           { // Match any character literal
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	String charString = yytext();
-	Pos.col += charString.length();
+	Pos.col += yylength();
 
-	//Find any escaped characters and parse them
-	char parsedChar;
-	switch(charString)
+	//Find any escaped characters and parse them, reading straight from the buffer
+	char parsedChar = yycharat(1);
+	if(parsedChar == '\\')
 	{
-		case "'\\n'":
-			parsedChar = '\n';
-			break;
-		case "'\\r'":
-			parsedChar = '\r';
-			break;
-		case "'\\t'":
-			parsedChar = '\t';
-			break;
-		case "'\\\\'":
-			parsedChar = '\\';
-			break;
-		case "'\\''":
-			parsedChar = '\'';
-			break;
-		default:
-			//If not an escaped character, just return the one character between the single quotes
-			parsedChar = charString.charAt(1);
-			break;
+		switch(yycharat(2))
+		{
+			case 'n':
+				parsedChar = '\n';
+				break;
+			case 'r':
+				parsedChar = '\r';
+				break;
+			case 't':
+				parsedChar = '\t';
+				break;
+			case '\\':
+				parsedChar = '\\';
+				break;
+			case '\'':
+				parsedChar = '\'';
+				break;
+			default:
+				//Not an escape we translate, keep the backslash like before
+				break;
+		}
 	}
 	
 	return new Symbol(sym.CHARLIT,
 			new CSXCharLitToken(parsedChar, Pos));
           }
-        case 75: break;
-        case 65: 
-          { //Reserved word CONTINUE, case insensitive
+        case 73: break;
+        case 49: 
+          { //Reserved word TRUE, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_CONTINUE,
+	Pos.col += yylength();
+	return new Symbol(sym.rw_TRUE,
 			new CSXToken(Pos));
           }
+        case 74: break;
+        case 6: 
+          { //When we encounter an identifier with this rule, it means we didn't find any increment or decrement
+	//operators before it, so we will enter a state so that we don't error if one follows immediately after
+	yybegin(FoundIdentifier);
+	Pos.setpos();
+	Pos.col += yylength();
+
+	return new Symbol(sym.IDENTIFIER,
+			new CSXIdentifierToken(identifier(), Pos));
+          }
+        case 75: break;
+        case 10: 
+          { // Match on > (greater than) operator
+	yybegin(YYINITIAL);
+	Pos.setpos();
+	Pos.col += yylength();
+	return new Symbol(sym.GT, new CSXToken(Pos));
+          }
         case 76: break;
-        case 52: 
-          { //Reserved word CHAR, case insensitive
+        case 3: 
+          { //Newline non-printable character including \n and \r\n
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_CHAR,
-			new CSXToken(Pos));
+	Pos.line += 1;
+	Pos.col = 1;
           }
         case 77: break;
-        case 22: 
-          { // Match on ( (open parentheses)
+        case 27: 
+          { // Match on a single line comment, does not include the newline so no need to increment the row
 	yybegin(YYINITIAL);
-	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.LPAREN, new CSXToken(Pos));
+    Pos.setpos();
+    Pos.col += yylength();
+    Pos.line ++;
           }
         case 78: break;
-        case 42: 
-          { //Reserved word FOR, case insensitive
+        case 36: 
+          { // Match >= (greater than or equal to) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_FOR,
-			new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.GEQ, new CSXToken(Pos));
           }
         case 79: break;
-        case 59: 
-          { //Reserved word ENDIF, case insensitive
+        case 9: 
+          { // Match on < (less than) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_ENDIF,
-			new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.LT, new CSXToken(Pos));
           }
         case 80: break;
-        case 60: 
-          { //Reserved word BREAK, case insensitive
-	yybegin(YYINITIAL);
+        case 30: 
+          { yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_BREAK,
-			new CSXToken(Pos));
+	Pos.col += yylength();
+
+	return new Symbol(sym.STRLIT,
+			new CSXStringLitToken(yytext(), Pos));
           }
         case 81: break;
-        case 1: 
-          { //Catch anything not caught by any rules above except for EOF and return an error
+        case 8: 
+          { // Match on = (assignment) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.error,
-			new CSXErrorToken("Found invalid token: " + yytext(), Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.ASG, new CSXToken(Pos));
           }
         case 82: break;
-        case 7: 
-          { // Match any runaway character literals
+        case 31: 
+          { //Reserved word IF, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	
-	//Get text, increase column to length of text
-	//Rule does not include newline, so no line increment
-	String parsed = yytext();
-	Pos.col += parsed.length();
-	return new Symbol(sym.error,
-			new CSXErrorToken("Runaway character found: " + parsed, Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.rw_IF,
+			new CSXToken(Pos));
           }
         case 83: break;
-        case 30: 
-          { yybegin(YYINITIAL);
+        case 41: 
+          { // Duplicate approach as ++, see ++ for details
+	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-
-	return new Symbol(sym.STRLIT,
-			new CSXStringLitToken(yytext(), Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.DEC, new CSXToken(Pos));
           }
         case 84: break;
-        case 11: 
-          { // Match on ! (boolean not) operator
+        case 13: 
+          { // Match on - (subtraction) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.NOT, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.MINUS, new CSXToken(Pos));
           }
         case 85: break;
-        case 56: 
-          { //Reserved word FLOAT, case insensitive
+        case 42: 
+          { //Reserved word FOR, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_FLOAT,
+	Pos.col += yylength();
+	return new Symbol(sym.rw_FOR,
 			new CSXToken(Pos));
           }
         case 86: break;
-        case 34: 
-          { // Match == (equality comparison) operator
+        case 40: 
+          { //If we find an identifier without a paired increment or decrement, go into the FoundIdentifier state
+	//so that we know we found an identifier that is eligible for a pair if one of those operators is scanned next
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.EQ,
-			new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.INC, new CSXToken(Pos));
           }
         case 87: break;
-        case 18: 
-          { // Match on { (begin scope) operator
+        case 52: 
+          { //Reserved word CHAR, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.LBRACE, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.rw_CHAR,
+			new CSXToken(Pos));
           }
         case 88: break;
-        case 5: 
-          { yybegin(YYINITIAL);
+        case 34: 
+          { // Match == (equality comparison) operator
+	yybegin(YYINITIAL);
 	Pos.setpos();
-	
-	//Any runaway strings will not contain the newline, so no need to increment line.
-	String parsed = yytext();
-	Pos.col += parsed.length();
-	return new Symbol(sym.error,
-			new CSXErrorToken("Runaway string found: " + parsed, Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.EQ,
+			new CSXToken(Pos));
           }
         case 89: break;
-        case 46: 
-          // lookahead expression with fixed base length
-          zzMarkedPos = zzStartRead + 2;
-          { // Duplicate approach as ++, see ++ for details
-	yybegin(FoundIdentifierMatch);
+        case 11: 
+          { // Match on ! (boolean not) operator
+	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.DEC, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.NOT, new CSXToken(Pos));
           }
         case 90: break;
-        case 6: 
-          { //When we encounter an identifier with this rule, it means we didn't find any increment or decrement
-	//operators before it, so we will enter a state so that we don't error if one follows immediately after
-	yybegin(FoundIdentifier);
+        case 38: 
+          { //If we find an increment any states to differentiate its context, such as a look ahead or that we
+	//found an identifier before it, then fail because it doesn't have a matching identifier
+	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-
-	return new Symbol(sym.IDENTIFIER,
-			new CSXIdentifierToken(yytext(), Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.BADTOKEN,
+			new CSXErrorToken("Could not find matching identifier for \"++\" operator", Pos));
           }
         case 91: break;
-        case 9: 
-          { // Match on < (less than) operator
-	yybegin(YYINITIAL);
+        case 4: 
+          { yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.LT, new CSXToken(Pos));
+	
+	int length = yylength();
+	Pos.col += length;
+	
+	//Accumulate the digits straight from the buffer, a tilde means the literal is negative.
+	//Stop as soon as the magnitude no longer fits in an int
+	boolean negative = yycharat(0) == '~';
+	long limit = negative ? -(long)Integer.MIN_VALUE : Integer.MAX_VALUE;
+	long value = 0;
+	for(int i = negative ? 1 : 0; i < length && value <= limit; i++)
+	{
+		value = value * 10 + (yycharat(i) - '0');
+	}
+
+	if(value <= limit)
+	{
+		return new Symbol(sym.INTLIT,
+				new CSXIntLitToken((int)(negative ? -value : value), Pos));
+	}
+
+	//Only now build the text, so the overflow message matches Integer.parseInt()'s
+	String parsedString = yytext().replace('~', '-');
+	try{
+		Integer.parseInt(parsedString);
+	} catch (NumberFormatException e) {
+		
+		//Print the error and return an IntLitToken with Integer.MAX_VALUE as the value
+		warnings++;
+		out.println("Overflow Error");
+		out.println(e.getMessage());
+	}
+
+	return new Symbol(sym.INTLIT,
+			new CSXIntLitToken(Integer.MAX_VALUE, Pos));
           }
         case 92: break;
-        case 14: 
-          { // Match on * (multiplication) operator
+        case 61: 
+          { //Reserved word CLASS, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.TIMES, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.rw_CLASS,
+			new CSXToken(Pos));
           }
         case 93: break;
-        case 20: 
-          { // Match on [ (open bracket)
+        case 19: 
+          { // Match on } (close scope) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.LBRACKET, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.RBRACE, new CSXToken(Pos));
           }
         case 94: break;
-        case 13: 
-          { // Match on - (subtraction) operator
+        case 23: 
+          { // Match on ) (close parentheses)
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.MINUS, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.RPAREN, new CSXToken(Pos));
           }
         case 95: break;
-        case 47: 
-          { // Match on a block comment that can span multiple lines or just a single line
-	yybegin(YYINITIAL);
+        case 29: 
+          { yybegin(YYINITIAL);
 	Pos.setpos();
+	String parsedString = yytext();
+	Pos.col += parsedString.length();
 	
-	// Parse all the scanned text for any newline characters, if found increment the line and reset the column
-	// If we don't find one, just increment the column
-    int rowsSkipped = 0;
-    String parseString = yytext();
-	for(int i = 0; i < parseString.length(); i++)
-	{
-		Pos.col++;
-		if(parseString.charAt(i) == '\n')
-		{
-			Pos.col=1;
-			Pos.line++;
-		}
-	}
+	//If a tilde was found in parse string, this is supposed to be a negative number.
+	//Replace the tilde with a java recognizable symbol for negation
+	parsedString = parsedString.replace('~', '-');
 	
-	//Print out the comment for debug purposes
-    //System.out.println("Block Comment: " + parseString);
+	//Float.Parse() will return back negative or positive infinity on overflow
+    float parsedFloat = Float.parseFloat(parsedString);
+    if(parsedFloat == Float.NEGATIVE_INFINITY || parsedFloat == Float.POSITIVE_INFINITY)
+    {
+		//Print error, but return Float.MAX_VALUE
+		warnings++;
+		out.println("Float Overflow Error");
+
+		return new Symbol(sym.FLOATLIT,
+				new CSXFloatLitToken(Float.MAX_VALUE, Pos));
+    }
+    else
+    {
+    	//No overflow? Return a FloatLitToken with the parsed float as the value
+		return new Symbol(sym.FLOATLIT,
+			new CSXFloatLitToken(parsedFloat, Pos));
+	}
           }
         case 96: break;
         case 45: 
@@ -1207,140 +1275,143 @@ Position Pos = new Position();
 	//an identifier ahead and we don't want to match the regular identifier rule and be put into "FoundIdentifier" state
 	yybegin(FoundIdentifierMatch);
 	Pos.setpos();
-	Pos.col += yytext().length();
+	Pos.col += yylength();
 	return new Symbol(sym.INC, new CSXToken(Pos));
           }
         case 97: break;
-        case 35: 
-          { // Match <= (less than or equal to) operator
-	yybegin(YYINITIAL);
-	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.LEQ, new CSXToken(Pos));
-          }
-        case 98: break;
         case 62: 
           { //Reserved word CONST, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
+	Pos.col += yylength();
 	return new Symbol(sym.rw_CONST,
 			new CSXToken(Pos));
           }
-        case 99: break;
-        case 53: 
-          { //Reserved word VOID, case insensitive
+        case 98: break;
+        case 43: 
+          { //Reserved word INT, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_VOID,
+	Pos.col += yylength();
+	return new Symbol(sym.rw_INT,
 			new CSXToken(Pos));
           }
-        case 100: break;
+        case 99: break;
         case 12: 
           { // Match on + (addition) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
+	Pos.col += yylength();
 	return new Symbol(sym.PLUS, new CSXToken(Pos));
           }
+        case 100: break;
+        case 18: 
+          { // Match on { (begin scope) operator
+	yybegin(YYINITIAL);
+	Pos.setpos();
+	Pos.col += yylength();
+	return new Symbol(sym.LBRACE, new CSXToken(Pos));
+          }
         case 101: break;
-        case 36: 
-          { // Match >= (greater than or equal to) operator
+        case 51: 
+          { //Reserved word BOOL, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.GEQ, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.rw_BOOL,
+			new CSXToken(Pos));
           }
         case 102: break;
-        case 19: 
-          { // Match on } (close scope) operator
+        case 35: 
+          { // Match <= (less than or equal to) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.RBRACE, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.LEQ, new CSXToken(Pos));
           }
         case 103: break;
-        case 50: 
-          { //Reserved word ELSE, case insensitive
+        case 57: 
+          { //Reserved word FALSE, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_ELSE,
+	Pos.col += yylength();
+	return new Symbol(sym.rw_FALSE,
 			new CSXToken(Pos));
           }
         case 104: break;
-        case 43: 
-          { //Reserved word INT, case insensitive
+        case 21: 
+          { // Match on ] (closed bracket)
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_INT,
-			new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.RBRACKET, new CSXToken(Pos));
           }
         case 105: break;
-        case 2: 
-          { // Match on / (slash)
+        case 1: 
+          { //Catch anything not caught by any rules above except for EOF and return an error
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.SLASH, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.BADTOKEN,
+			new CSXErrorToken("Found invalid token: " + yytext(), Pos));
           }
         case 106: break;
-        case 26: 
-          { //If we found an identifier match already 
+        case 55: 
+          // lookahead expression with fixed base length
+          zzMarkedPos = zzStartRead + 2;
+          { // Duplicate approach as ++, see ++ for details
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-
-	return new Symbol(sym.IDENTIFIER,
-			new CSXIdentifierToken(yytext(), Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.BADTOKEN,
+			new CSXErrorToken("Found reserved word after \"--\" operator without a matching identifier", Pos));
           }
         case 107: break;
-        case 17: 
-          { // Match on , (comma/seperator)
-	yybegin(YYINITIAL);
+        case 5: 
+          { yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.COMMA, new CSXToken(Pos));
+	
+	//Any runaway strings will not contain the newline, so no need to increment line.
+	String parsed = yytext();
+	Pos.col += parsed.length();
+	return new Symbol(sym.BADTOKEN,
+			new CSXErrorToken("Runaway string found: " + parsed, Pos));
           }
         case 108: break;
-        case 55: 
-          // lookahead expression with fixed base length
-          zzMarkedPos = zzStartRead + 2;
-          { // Duplicate approach as ++, see ++ for details
+        case 15: 
+          { // Match on ; (semicolon/statement termination)
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.error,
-			new CSXErrorToken("Found reserved word after \"--\" operator without a matching identifier", Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.SEMI, new CSXToken(Pos));
           }
         case 109: break;
-        case 39: 
-          { // Duplicate approach as ++, see ++ for details
+        case 48: 
+          { //Reserved word READ, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.error,
-			new CSXErrorToken("Could not find matching identifier for \"--\" operator", Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.rw_READ,
+			new CSXToken(Pos));
           }
         case 110: break;
-        case 38: 
-          { //If we find an increment any states to differentiate its context, such as a look ahead or that we
-	//found an identifier before it, then fail because it doesn't have a matching identifier
+        case 28: 
+          { //When an identifier is not caught by the identifier rule above, but it is by this rule, then it must be close
+	//to an identifier, but start with a number or underscore
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.error,
-			new CSXErrorToken("Could not find matching identifier for \"++\" operator", Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.BADTOKEN,
+	new CSXErrorToken("Found invalid Identifier: " + yytext(), Pos));
           }
         case 111: break;
-        case 10: 
-          { // Match on > (greater than) operator
+        case 58: 
+          { //Reserved word WHILE, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.GT, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.rw_WHILE,
+			new CSXToken(Pos));
           }
         case 112: break;
         case 24: 
@@ -1350,192 +1421,161 @@ Position Pos = new Position();
 	Pos.col += 1;
           }
         case 113: break;
-        case 49: 
-          { //Reserved word TRUE, case insensitive
+        case 17: 
+          { // Match on , (comma/seperator)
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_TRUE,
-			new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.COMMA, new CSXToken(Pos));
           }
         case 114: break;
-        case 40: 
-          { //If we find an identifier without a paired increment or decrement, go into the FoundIdentifier state
-	//so that we know we found an identifier that is eligible for a pair if one of those operators is scanned next
+        case 33: 
+          { // Match && (boolean and) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.INC, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.CAND,
+			new CSXToken(Pos));
           }
         case 115: break;
         case 64: 
           { //Reserved word RETURN, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
+	Pos.col += yylength();
 	return new Symbol(sym.rw_RETURN,
 			new CSXToken(Pos));
           }
         case 116: break;
-        case 48: 
-          { //Reserved word READ, case insensitive
+        case 54: 
+          // lookahead expression with fixed base length
+          zzMarkedPos = zzStartRead + 2;
+          { //If we find an increment, and we look ahead and find a reserved word, return an error token so that we don't mistake
+	//the reserved word as an identifier in the rule below
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_READ,
-			new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.BADTOKEN,
+			new CSXErrorToken("Found reserved word after \"++\" operator without a matching identifier", Pos));
           }
         case 117: break;
-        case 31: 
-          { //Reserved word IF, case insensitive
+        case 32: 
+          { // Match || (boolean or) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_IF,
+	Pos.col += yylength();
+	return new Symbol(sym.COR,
 			new CSXToken(Pos));
           }
         case 118: break;
-        case 61: 
-          { //Reserved word CLASS, case insensitive
+        case 26: 
+          { //If we found an identifier match already 
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_CLASS,
-			new CSXToken(Pos));
+	Pos.col += yylength();
+
+	return new Symbol(sym.IDENTIFIER,
+			new CSXIdentifierToken(identifier(), Pos));
           }
         case 119: break;
-        case 37: 
-          { // Match != (not equal) operator
-	yybegin(YYINITIAL);
+        case 46: 
+          // lookahead expression with fixed base length
+          zzMarkedPos = zzStartRead + 2;
+          { // Duplicate approach as ++, see ++ for details
+	yybegin(FoundIdentifierMatch);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.NOTEQ, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.DEC, new CSXToken(Pos));
           }
         case 120: break;
-        case 63: 
-          { //Reserved word PRINT, case insensitive
+        case 50: 
+          { //Reserved word ELSE, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_PRINT,
+	Pos.col += yylength();
+	return new Symbol(sym.rw_ELSE,
 			new CSXToken(Pos));
           }
         case 121: break;
-        case 8: 
-          { // Match on = (assignment) operator
+        case 37: 
+          { // Match != (not equal) operator
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.ASG, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.NOTEQ, new CSXToken(Pos));
           }
         case 122: break;
-        case 15: 
-          { // Match on ; (semicolon/statement termination)
+        case 39: 
+          { // Duplicate approach as ++, see ++ for details
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.SEMI, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.BADTOKEN,
+			new CSXErrorToken("Could not find matching identifier for \"--\" operator", Pos));
           }
         case 123: break;
-        case 25: 
-          { //Tab non-printable character
+        case 59: 
+          { //Reserved word ENDIF, case insensitive
+	yybegin(YYINITIAL);
 	Pos.setpos();
-    yybegin(YYINITIAL);
-    Pos.col += 1;
+	Pos.col += yylength();
+	return new Symbol(sym.rw_ENDIF,
+			new CSXToken(Pos));
           }
         case 124: break;
-        case 16: 
-          { // Match on : (colon/seperator)
+        case 20: 
+          { // Match on [ (open bracket)
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.COLON, new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.LBRACKET, new CSXToken(Pos));
           }
         case 125: break;
-        case 4: 
-          { yybegin(YYINITIAL);
+        case 65: 
+          { //Reserved word CONTINUE, case insensitive
+	yybegin(YYINITIAL);
 	Pos.setpos();
-	
-	String parsedString = yytext();
-	Pos.col += parsedString.length();
-	
-	//Same idea as float, replace tilde with java recognizable negation symbol
-	parsedString = parsedString.replace('~', '-');
-
-	try{
-		//If Integer.parseInt() throws a number format exception, because our rule only finds
-		//a valid integer format, the exception must be due to an overflow error.
-		//If not, return an INTLITToken with that integer as the value
-		return new Symbol(sym.INTLIT,
-				new CSXIntLitToken(Integer.parseInt(parsedString), Pos));
-
-	} catch (NumberFormatException e) {
-		
-		//Print the error and return an IntLitToken with Integer.MAX_VALUE as the value
-		System.out.println("Overflow Error");
-		System.out.println(e.getMessage());
-
-		return new Symbol(sym.INTLIT,
-				new CSXIntLitToken(Integer.MAX_VALUE, Pos));
-	}
+	Pos.col += yylength();
+	return new Symbol(sym.rw_CONTINUE,
+			new CSXToken(Pos));
           }
         case 126: break;
-        case 29: 
-          { yybegin(YYINITIAL);
+        case 22: 
+          { // Match on ( (open parentheses)
+	yybegin(YYINITIAL);
 	Pos.setpos();
-	String parsedString = yytext();
-	Pos.col += parsedString.length();
-	
-	//If a tilde was found in parse string, this is supposed to be a negative number.
-	//Replace the tilde with a java recognizable symbol for negation
-	parsedString = parsedString.replace('~', '-');
-	
-	//Float.Parse() will return back negative or positive infinity on overflow
-    float parsedFloat = Float.parseFloat(parsedString);
-    if(parsedFloat == Float.NEGATIVE_INFINITY || parsedFloat == Float.POSITIVE_INFINITY)
-    {
-		//Print error, but return Float.MAX_VALUE
-		System.out.println("Float Overflow Error");
-
-		return new Symbol(sym.FLOATLIT,
-				new CSXFloatLitToken(Float.MAX_VALUE, Pos));
-    }
-    else
-    {
-    	//No overflow? Return a FloatLitToken with the parsed float as the value
-		return new Symbol(sym.FLOATLIT,
-			new CSXFloatLitToken(parsedFloat, Pos));
-	}
+	Pos.col += yylength();
+	return new Symbol(sym.LPAREN, new CSXToken(Pos));
           }
         case 127: break;
-        case 33: 
-          { // Match && (boolean and) operator
+        case 7: 
+          { // Match any runaway character literals
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.CAND,
-			new CSXToken(Pos));
+	
+	//Get text, increase column to length of text
+	//Rule does not include newline, so no line increment
+	String parsed = yytext();
+	Pos.col += parsed.length();
+	return new Symbol(sym.BADTOKEN,
+			new CSXErrorToken("Runaway character found: " + parsed, Pos));
           }
         case 128: break;
-        case 54: 
-          // lookahead expression with fixed base length
-          zzMarkedPos = zzStartRead + 2;
-          { //If we find an increment, and we look ahead and find a reserved word, return an error token so that we don't mistake
-	//the reserved word as an identifier in the rule below
+        case 53: 
+          { //Reserved word VOID, case insensitive
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.error,
-			new CSXErrorToken("Found reserved word after \"++\" operator without a matching identifier", Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.rw_VOID,
+			new CSXToken(Pos));
           }
         case 129: break;
-        case 51: 
-          { //Reserved word BOOL, case insensitive
+        case 2: 
+          { // Match on / (slash)
 	yybegin(YYINITIAL);
 	Pos.setpos();
-	Pos.col += yytext().length();
-	return new Symbol(sym.rw_BOOL,
-			new CSXToken(Pos));
+	Pos.col += yylength();
+	return new Symbol(sym.SLASH, new CSXToken(Pos));
           }
         case 130: break;
         default: 
@@ -1,22 +1,22 @@
+import java.util.*;
+
 
 abstract class ASTNode {
 
 	int linenum;
 	int colnum;
 
-	static int typeErrors = 0; // Total number of type errors found
-	static methodDeclNode currentMethod = null;
-
-	static void genIndent(int indent) {
-		for (int i = 1; i <= indent; i++) {
-			System.out.print("\t");
+	// Reports the error code against where's line only when the assertion fails,
+	// so passing checks never build a message
+	static void assertTrue(CompilationContext ctx, boolean assertion, ASTNode where, int code) {
+		if (!assertion) {
+			ctx.reportError(where, code, null);
 		}
-	} // genIndent
+	} // mustBe
 
-	static void assertTrue(boolean assertion, String errorMsg) {
+	static void assertTrue(CompilationContext ctx, boolean assertion, ASTNode where, int code, Object arg) {
 		if (!assertion) {
-			System.out.println(errorMsg);
-			typeErrors++;
+			ctx.reportError(where, code, arg);
 		}
 	} // mustBe
 
@@ -30,7 +30,7 @@ abstract class ASTNode {
 				&& (rhsKind == Kinds.Array || rhsKind == Kinds.ArrayParm) && lhsType == rhsType;
 	}
 
-	static void assertAssignmentCompatible(exprNode lhs, exprNode rhs, String errorMsg) {
+	static void assertAssignmentCompatible(CompilationContext ctx, exprNode lhs, exprNode rhs, ASTNode where, int code) {
 		// Don't print a type incompatible error message when the test type is
 		// of type Error
 		if (rhs.type.val != Types.Error) {
@@ -118,7 +118,7 @@ abstract class ASTNode {
 									&& (rhs.kind.val == Kinds.Var || rhs.kind.val == Kinds.ScalarParm
 											|| rhs.kind.val == Kinds.Value))) {
 						// Check that the types are exactly equivalent
-						if (lhs.type.val == rhs.type.val) {
+						if (lhs.type == rhs.type) {
 							compatible = true;
 						}
 					}
@@ -126,13 +126,13 @@ abstract class ASTNode {
 			}
 
 			if (!compatible) {
-				System.out.println(errorMsg);
-				typeErrors++;
+				ctx.reportError(where, code, null);
 			}
 		}
 	}
 
-	static int assertArithmeticCompatible(int lhsKind, int lhsType, int rhsKind, int rhsType, String errorMsg) {
+	static int assertArithmeticCompatible(CompilationContext ctx, int lhsKind, int lhsType, int rhsKind, int rhsType,
+			ASTNode where, int code, int operator) {
 		int returnType = Types.Unknown;
 
 		// Don't print a type incompatible error message when the test type is
@@ -163,50 +163,42 @@ abstract class ASTNode {
 			}
 
 			if (!compatible) {
-				System.out.println(errorMsg);
-				typeErrors++;
+				ctx.reportError(where, code, operator);
 			}
 			break;
 		default:
-			System.out.println(errorMsg);
-			typeErrors++;
+			ctx.reportError(where, code, operator);
 			break;
 		}
 
 		return returnType;
 	}
 
-	static int assertBooleanCompatible(int lhsKind, int lhsType, int rhsKind, int rhsType, String errorMsg) {
+	static int assertBooleanCompatible(CompilationContext ctx, int lhsKind, int lhsType, int rhsKind, int rhsType,
+			ASTNode where, int code, int operator) {
 		if (lhsType == Types.Boolean && rhsType == Types.Boolean
 				&& (lhsKind == Kinds.Var || lhsKind == Kinds.ScalarParm || lhsKind == Kinds.Value)
 				&& (rhsKind == Kinds.Var || rhsKind == Kinds.ScalarParm || rhsKind == Kinds.Value)) {
 			return Types.Boolean;
 		}
 
-		System.out.println(errorMsg);
-		typeErrors++;
+		ctx.reportError(where, code, operator);
 
 		return Types.Error;
 	}
 
-	String error() {
-		return "Error (line " + linenum + "): ";
-	} // error
-
 	// We will run any character through this in order to escape any special
 	// characters.
 	String escapeCharacters(char c) {
-		return escapeCharacters(c);
+		return escapeCharacters(String.valueOf(c));
 	}
 
 	// We will run any string or character through this in order to escape any
 	// special characters.
 	String escapeCharacters(String toEscape) {
-		return toEscape.replaceAll("\t", "\\t").replaceAll("\r", "\\r").replaceAll("\n", "\\n");
+		return toEscape.replace("\t", "\\t").replace("\r", "\\r").replace("\n", "\\n");
 	}
 
-	public static SymbolTable st = new SymbolTable();
-
 	ASTNode() {
 		linenum = -1;
 		colnum = -1;
@@ -221,11 +213,14 @@ abstract class ASTNode {
 		return false;
 	} // Is this node null?
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 	}
 
 	// Explicitly make children implement this to not miss anything by mistake
-	abstract void checkTypes();
+	abstract void checkTypes(CompilationContext ctx);
+
+	// Writes this node and its children for AstReader; see AstWriter for the format
+	abstract void serialize(AstWriter out);
 
 	// This will normally need to be redefined in a subclass
 } // abstract class ASTNode
@@ -240,13 +235,17 @@ class nullNode extends ASTNode {
 		return true;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 		// no action
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// Null nodes are type correct by default (optional semi)
 	}
+
+	void serialize(AstWriter out) {
+		out.none();
+	}
 } // class nullNode
 
 class csxLiteNode extends ASTNode {
@@ -257,33 +256,43 @@ class csxLiteNode extends ASTNode {
 		progStmts = stmts;
 	} // csxLiteNode
 
-	void Unparse(int indent) {
-		System.out.println(linenum + ":" + " {");
-		fields.Unparse(1);
-		progStmts.Unparse(1);
-		System.out.println(linenum + ":" + " } EOF");
+	void Unparse(CodeWriter out, int indent) {
+		out.println(linenum + ":" + " {");
+		fields.Unparse(out, 1);
+		progStmts.Unparse(out, 1);
+		out.println(linenum + ":" + " } EOF");
 	} // Unparse
 
-	void checkTypes() {
-		fields.checkTypes();
-		progStmts.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		fields.checkTypes(ctx);
+		progStmts.checkTypes(ctx);
 	} // checkTypes
 
-	boolean isTypeCorrect() {
-		st.openScope();
-		checkTypes();
+	boolean isTypeCorrect(CompilationContext ctx) {
+		ctx.st.openScope();
+		try {
+			checkTypes(ctx);
+		} catch (TooManyErrorsException e) {
+			// Error limit reached, the rest of the program is left unchecked
+		}
 
 		try {
-			st.closeScope();
+			ctx.st.closeScope();
 		} catch (EmptySTException e) {
 			throw new RuntimeException("Tried to close a scope but no scope was available to close.");
 		}
 		
-		return (typeErrors == 0);
+		return (ctx.diagnostics.errorCount() == 0);
 	} // isTypeCorrect
 
 	private final stmtsNode progStmts;
 	private final fieldDeclsNode fields;
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.CsxLite, this);
+		out.node(fields);
+		out.node(progStmts);
+	}
 } // class csxLiteNode
 
 class classNode extends ASTNode {
@@ -297,40 +306,114 @@ class classNode extends ASTNode {
 	private final identNode className;
 	private final memberDeclsNode members;
 	private int closingLineNum;
+	FrameLayout layout; // Slots of the fields, given as they are checked
 
-	boolean isTypeCorrect() {
-		checkTypes();
-		return (typeErrors == 0);
+	boolean isTypeCorrect(CompilationContext ctx) {
+		try {
+			checkTypes(ctx);
+		} catch (TooManyErrorsException e) {
+			// Error limit reached, the rest of the class is left unchecked
+			return false;
+		}
+		return (ctx.diagnostics.errorCount() == 0);
 	} // isTypeCorrect
 
-	void Unparse(int indent) {
+	// The class's methods in the order they are declared
+	List<methodDeclNode> methods() {
+		List<methodDeclNode> all = new ArrayList<methodDeclNode>();
+		members.methods.addTo(all);
+		return all;
+	} // methods
+
+	String name() {
+		return className.idname.text;
+	}
+
+	int closingLine() {
+		return closingLineNum;
+	}
+
+	// A class with this one's name and fields but methods instead of its own, closing on closingLine
+	classNode withMethods(methodDeclsNode methods, int closingLine) {
+		memberDeclsNode m = new memberDeclsNode(members.fields, methods, methods.linenum, methods.colnum);
+		return new classNode(className, m, linenum, colnum, closingLine);
+	}
+
+	// Adds the fields and methods to file, with $init to initialize the fields
+	void generate(ClassFile file) {
+		for (SymbolInfo field : layout.variables) {
+			file.addField(ClassFile.ACC_PRIVATE | ClassFile.ACC_STATIC, field.name(), JvmMethod.descriptor(field));
+		}
+		JvmMethod init = new JvmMethod(file);
+		members.fields.generate(init);
+		init.code.op(Opcodes.RETURN);
+		file.addMethod(ClassFile.ACC_STATIC, "$init", "()V", init.code);
+
+		for (methodDeclNode method : methods()) {
+			method.generate(file);
+		}
+	} // generate
+
+	// Lowers the field initializers to program.init and each method to a function
+	void lower(IrProgram program) {
+		List<methodDeclNode> all = methods();
+		program.declare(all);
+		program.init = new IrFunction("$init", 0, java.util.Collections.<SymbolInfo>emptyList());
+		IrBuilder init = new IrBuilder(program, program.init);
+		members.fields.lower(init);
+		init.emit(Ir.RETV, 0, 0, 0);
+		for (methodDeclNode method : all) {
+			program.functions.add(method.lower(program));
+		}
+	} // lower
+
+	// Initializes the fields in globals, in the order they are declared, then
+	// calls main (if there are any methods)
+	void run(Frame globals) {
+		members.fields.exec(globals);
+		List<methodDeclNode> all = methods();
+		if (!all.isEmpty()) {
+			all.get(all.size() - 1).invoke(globals, argsNode.NULL);
+		}
+	} // run
+
+	void Unparse(CodeWriter out, int indent) {
 		// Print like:
 		// ##: class name {
 		// members.Unparse
 		// ##: } EOF
-		System.out.print(linenum + ": ");
-		genIndent(indent);
-		System.out.print("class ");
-		className.Unparse(0); // Print class name only, no indent
-		System.out.println(" {");
+		out.print(linenum + ": ");
+		out.indent(indent);
+		out.print("class ");
+		className.Unparse(out, 0); // Print class name only, no indent
+		out.println(" {");
 
-		members.Unparse(indent + 1); // Print members with an additional indent
+		members.Unparse(out, indent + 1); // Print members with an additional indent
 
-		System.out.print(closingLineNum + ": ");
-		genIndent(indent);
-		System.out.println("} EOF");
+		out.print(closingLineNum + ": ");
+		out.indent(indent);
+		out.println("} EOF");
 	}
 
-	void checkTypes() {
-		st.openScope();
-		members.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		layout = new FrameLayout(true);
+		ctx.layout = layout;
+		ctx.st.openScope();
+		members.checkTypes(ctx);
 
 		try {
-			st.closeScope();
+			ctx.st.closeScope();
 		} catch (EmptySTException e) {
 			throw new RuntimeException("Tried to close a scope but no scope was available to close.");
 		}
 	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.Class, this);
+		out.ident(className);
+		out.node(members);
+		out.line(closingLineNum);
+	}
 } // class classNode
 
 class memberDeclsNode extends ASTNode {
@@ -346,14 +429,20 @@ class memberDeclsNode extends ASTNode {
 	// Print like:
 	// fields.Unparse
 	// methods.Unparse
-	void Unparse(int indent) {
-		fields.Unparse(indent);
-		methods.Unparse(indent);
+	void Unparse(CodeWriter out, int indent) {
+		fields.Unparse(out, indent);
+		methods.Unparse(out, indent);
+	}
+
+	void checkTypes(CompilationContext ctx) {
+		fields.checkTypes(ctx);
+		methods.checkTypes(ctx);
 	}
 
-	void checkTypes() {
-		fields.checkTypes();
-		methods.checkTypes();
+	void serialize(AstWriter out) {
+		out.start(AstTags.MemberDecls, this);
+		out.node(fields);
+		out.node(methods);
 	}
 } // class memberDeclsNode
 
@@ -378,14 +467,51 @@ class fieldDeclsNode extends ASTNode {
 	// nextField
 	// ...
 	// lastField
-	void Unparse(int indent) {
-		thisField.Unparse(indent);
-		moreFields.Unparse(indent);
+	// The list is walked in a loop rather than recursively so its length is not bounded by the stack
+	void Unparse(CodeWriter out, int indent) {
+		for (fieldDeclsNode f = this; !f.isNull(); f = f.moreFields) {
+			f.thisField.Unparse(out, indent);
+		}
+	}
+
+	void checkTypes(CompilationContext ctx) {
+		for (fieldDeclsNode f = this; !f.isNull(); f = f.moreFields) {
+			f.thisField.checkTypes(ctx);
+		}
+	}
+
+	void exec(Frame frame) {
+		for (fieldDeclsNode f = this; !f.isNull(); f = f.moreFields) {
+			f.thisField.exec(frame);
+		}
+	}
+
+	void generate(JvmMethod m) {
+		for (fieldDeclsNode f = this; !f.isNull(); f = f.moreFields) {
+			m.code.line(f.thisField.linenum);
+			f.thisField.generate(m);
+		}
+	}
+
+	void lower(IrBuilder b) {
+		for (fieldDeclsNode f = this; !f.isNull(); f = f.moreFields) {
+			b.line(f.thisField.linenum);
+			f.thisField.lower(b);
+		}
 	}
 
-	void checkTypes() {
-		thisField.checkTypes();
-		moreFields.checkTypes();
+	void serialize(AstWriter out) {
+		int count = 0;
+		boolean atElements = true;
+		for (fieldDeclsNode c = this; !c.isNull(); c = c.moreFields) {
+			count++;
+			atElements &= AstWriter.atElement(c, c.thisField);
+		}
+		out.list(AstTags.FieldDecls, count, atElements);
+		for (fieldDeclsNode c = this; !c.isNull(); c = c.moreFields) {
+			out.cell(c, atElements);
+			out.node(c.thisField);
+		}
 	}
 } // class fieldDeclsNode
 
@@ -397,12 +523,16 @@ class nullFieldDeclsNode extends fieldDeclsNode {
 		return true;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// No type checking necessary
 	}
+
+	void serialize(AstWriter out) {
+		out.none();
+	}
 } // class nullFieldDeclsNode
 
 // abstract superclass; only subclasses are actually created
@@ -414,6 +544,15 @@ abstract class declNode extends ASTNode {
 	declNode(int l, int c) {
 		super(l, c);
 	}
+
+	// Gives the declared name its initial value in f
+	abstract void exec(Frame f);
+
+	// Generates the code that gives the declared name its initial value
+	abstract void generate(JvmMethod m);
+
+	// Lowers the code that gives the declared name its initial value
+	abstract void lower(IrBuilder b);
 } // class declNode
 
 class varDeclNode extends declNode {
@@ -430,29 +569,30 @@ class varDeclNode extends declNode {
 
 	// Print like:
 	// ##: type id = expression;
-	void Unparse(int indent) {
-		System.out.print(linenum + ": ");
-		genIndent(indent);
-		varType.Unparse(0);
-		System.out.print(" ");
-		varName.Unparse(0);
-		System.out.print(" = ");
-		rhsExpr.Unparse(0);
-		System.out.println(";");
-	}
-
-	void checkTypes() {
+	void Unparse(CodeWriter out, int indent) {
+		out.print(linenum + ": ");
+		out.indent(indent);
+		varType.Unparse(out, 0);
+		out.print(" ");
+		varName.Unparse(out, 0);
+		out.print(" = ");
+		rhsExpr.Unparse(out, 0);
+		out.println(";");
+	}
+
+	void checkTypes(CompilationContext ctx) {
 		SymbolInfo info;
 		// Make sure id is not already declared
-		info = (SymbolInfo) st.localLookup(varName.idname);
+		info = (SymbolInfo) ctx.st.localLookup(varName.idname);
 		if (info == null) {
-			info = new SymbolInfo(varName.idname, new Kinds(Kinds.Var), varType.type, false);
+			info = new SymbolInfo(varName.idname, Kinds.of(Kinds.Var), varType.type, false);
 
 			// Type check the expression
-			varName.checkTypes();
-			rhsExpr.checkTypes();
+			varName.checkTypes(ctx);
+			rhsExpr.checkTypes(ctx);
 
 			varName.idinfo = info;
+			ctx.layout.place(info);
 			
 			varName.type = info.type;
 			varName.kind = info.kind;
@@ -460,23 +600,56 @@ class varDeclNode extends declNode {
 			if(!(rhsExpr instanceof nullExprNode)){
 				// Make sure that there's no type mismatch between typeNode and
 				// initValue
-				assertAssignmentCompatible(varName, rhsExpr, error() + "LHS and RHS are not compatible for assignment");
+				assertAssignmentCompatible(ctx, varName, rhsExpr, this, Errors.IncompatibleInitializer);
 			}
 
 			try {
-				st.insert(info);
+				ctx.st.insert(info);
 			} catch (DuplicateException d) {
 				throw new RuntimeException("DuplicateException was thrown by st.insert, this \"can't happen\"");
 			} catch (EmptySTException e) {
 				throw new RuntimeException("EmptySTException was thrown by st.insert, this \"can't happen\"");
 			}
 		} else {
-			System.out.println(error() + info.name() + " is already declared.");
-			typeErrors++;
-			varName.type = new Types(Types.Error);
+			ctx.reportError(this, Errors.AlreadyDeclared, info.name());
+			varName.type = Types.of(Types.Error);
+		}
+	}
+
+	void exec(Frame f) {
+		if (rhsExpr.isNull()) {
+			// Run again, as in a loop body, the variable starts over from zero
+			exprNode.assign(f, varName.idinfo, intLitNode.ZERO, f);
+		} else {
+			exprNode.assign(f, varName.idinfo, rhsExpr, f);
+		}
+	}
+
+	void generate(JvmMethod m) {
+		if (rhsExpr.isNull()) {
+			intLitNode.ZERO.generate(m);
+			m.store(varName.idinfo, intLitNode.ZERO);
+		} else {
+			rhsExpr.generate(m);
+			m.store(varName.idinfo, rhsExpr);
+		}
+	}
+
+	void lower(IrBuilder b) {
+		SymbolInfo info = varName.idinfo;
+		if (rhsExpr.isNull()) {
+			b.store(info, info.storage == FrameLayout.FLOATS ? b.constant(0f) : b.constant(0));
+		} else {
+			b.store(info, rhsExpr.lower(b), rhsExpr);
 		}
 	}
 
+	void serialize(AstWriter out) {
+		out.start(AstTags.VarDecl, this);
+		out.ident(varName);
+		out.node(varType);
+		out.node(rhsExpr);
+	}
 } // class varDeclNode
 
 class constDeclNode extends declNode {
@@ -491,31 +664,32 @@ class constDeclNode extends declNode {
 
 	// Print like:
 	// ##: id = expression;
-	void Unparse(int indent) {
-		System.out.print(linenum + ": ");
-		genIndent(indent);
-		constName.Unparse(0);
-		System.out.print(" = ");
-		constValue.Unparse(0);
-		System.out.println(";");
+	void Unparse(CodeWriter out, int indent) {
+		out.print(linenum + ": ");
+		out.indent(indent);
+		constName.Unparse(out, 0);
+		out.print(" = ");
+		constValue.Unparse(out, 0);
+		out.println(";");
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// Get any errors even if the name is already declared
-		constValue.checkTypes();
+		constValue.checkTypes(ctx);
 
-		SymbolInfo info = (SymbolInfo) st.localLookup(constName.idname);
+		SymbolInfo info = (SymbolInfo) ctx.st.localLookup(constName.idname);
 
 		if (info == null) {
 			info = new SymbolInfo(constName.idname, constValue.kind, constValue.type, true);
 
 			constName.idinfo = info;
+			ctx.layout.place(info);
 			
 			constName.type = info.type;
 			constName.kind = info.kind;
 
 			try {
-				st.insert(info);
+				ctx.st.insert(info);
 			} catch (DuplicateException d) {
 				throw new RuntimeException("DuplicateException was thrown by st.insert, this \"can't happen\"");
 			} catch (EmptySTException e) {
@@ -523,11 +697,29 @@ class constDeclNode extends declNode {
 			}
 			
 		} else {
-			System.out.println(error() + info.name() + " is already declared.");
-			typeErrors++;
-			constName.type = new Types(Types.Error);
+			ctx.reportError(this, Errors.AlreadyDeclared, info.name());
+			constName.type = Types.of(Types.Error);
 		}
 	}
+
+	void exec(Frame f) {
+		exprNode.assign(f, constName.idinfo, constValue, f);
+	}
+
+	void generate(JvmMethod m) {
+		constValue.generate(m);
+		m.store(constName.idinfo, constValue);
+	}
+
+	void lower(IrBuilder b) {
+		b.store(constName.idinfo, constValue.lower(b), constValue);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.ConstDecl, this);
+		out.ident(constName);
+		out.node(constValue);
+	}
 } // class constDeclNode
 
 class arrayDeclNode extends declNode {
@@ -544,27 +736,27 @@ class arrayDeclNode extends declNode {
 
 	// Print like:
 	// ##: type id[intlit];
-	void Unparse(int indent) {
-		System.out.print(linenum + ": ");
-		genIndent(indent);
-		elementType.Unparse(0);
-		System.out.print(" ");
-		arrayName.Unparse(0);
-		System.out.print("[");
-		arraySize.Unparse(0);
-		System.out.println("];");
+	void Unparse(CodeWriter out, int indent) {
+		out.print(linenum + ": ");
+		out.indent(indent);
+		elementType.Unparse(out, 0);
+		out.print(" ");
+		arrayName.Unparse(out, 0);
+		out.print("[");
+		arraySize.Unparse(out, 0);
+		out.println("];");
 	}
 
-	void checkTypes() {
-		SymbolInfo info = (SymbolInfo) st.localLookup(arrayName.idname);
+	void checkTypes(CompilationContext ctx) {
+		SymbolInfo info = (SymbolInfo) ctx.st.localLookup(arrayName.idname);
 
 		if (info == null) {
-			arraySize.checkTypes();
+			arraySize.checkTypes(ctx);
 
 			info = new SizedSymbolInfo(arrayName.idname, Kinds.Array, elementType.type.val, arraySize.intval, false);
 
 			try {
-				st.insert(info);
+				ctx.st.insert(info);
 			} catch (DuplicateException d) {
 				throw new RuntimeException("DuplicateException was thrown by st.insert, this \"can't happen\"");
 			} catch (EmptySTException e) {
@@ -572,12 +764,38 @@ class arrayDeclNode extends declNode {
 			}
 
 			arrayName.idinfo = info;
+			ctx.layout.place(info);
+		} else {
+			ctx.reportError(this, Errors.AlreadyDeclared, info.name());
+			elementType.type = Types.of(Types.Error);
+		}
+	}
+
+	void exec(Frame f) {
+		if (elementType.type.val == Types.Real) {
+			f.storeArray(arrayName.idinfo, new float[arraySize.intval]);
 		} else {
-			System.out.println(error() + info.name() + " is already declared.");
-			typeErrors++;
-			elementType.type = new Types(Types.Error);
+			f.storeArray(arrayName.idinfo, new int[arraySize.intval]);
 		}
 	}
+
+	void generate(JvmMethod m) {
+		m.code.push(arraySize.intval);
+		m.code.newArray(JvmMethod.newArrayType(elementType.type));
+		m.store(arrayName.idinfo);
+	}
+
+	void lower(IrBuilder b) {
+		int size = b.constant(arraySize.intval);
+		b.emit(elementType.type.val == Types.Real ? Ir.NEWF : Ir.NEWI, b.array(arrayName.idinfo), size, 0);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.ArrayDecl, this);
+		out.ident(arrayName);
+		out.node(elementType);
+		out.node(arraySize);
+	}
 } // class arrayDeclNode
 
 abstract class typeNode extends ASTNode {
@@ -592,77 +810,97 @@ abstract class typeNode extends ASTNode {
 
 class intTypeNode extends typeNode {
 	intTypeNode(int line, int col) {
-		super(line, col, new Types(Types.Integer));
+		super(line, col, Types.of(Types.Integer));
 	}
 
 	// Just print the data type INT
-	void Unparse(int indent) {
-		System.out.print("INT");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("INT");
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// No type checking needed
 	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.IntType, this);
+	}
 } // class intTypeNode
 
 class floatTypeNode extends typeNode {
 	floatTypeNode(int line, int col) {
-		super(line, col, new Types(Types.Real));
+		super(line, col, Types.of(Types.Real));
 	}
 
 	// Just print the data type FLOAT
-	void Unparse(int indent) {
-		System.out.print("FLOAT");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("FLOAT");
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// No type checking needed
 	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.FloatType, this);
+	}
 } // class floatTypeNode
 
 class boolTypeNode extends typeNode {
 	boolTypeNode(int line, int col) {
-		super(line, col, new Types(Types.Boolean));
+		super(line, col, Types.of(Types.Boolean));
 	}
 
 	// Just print the data type BOOL
-	void Unparse(int indent) {
-		System.out.print("BOOL");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("BOOL");
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// No type checking needed
 	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.BoolType, this);
+	}
 } // class boolTypeNode
 
 class charTypeNode extends typeNode {
 	charTypeNode(int line, int col) {
-		super(line, col, new Types(Types.Character));
+		super(line, col, Types.of(Types.Character));
 	}
 
 	// Just print the data type CHAR
-	void Unparse(int indent) {
-		System.out.print("CHAR");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("CHAR");
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// No type checking needed
 	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.CharType, this);
+	}
 } // class charTypeNode
 
 class voidTypeNode extends typeNode {
 	voidTypeNode(int line, int col) {
-		super(line, col, new Types(Types.Void));
+		super(line, col, Types.of(Types.Void));
 	}
 
 	// Just print the data type VOID
-	void Unparse(int indent) {
-		System.out.print("VOID");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("VOID");
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// No type checking needed
 	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.VoidType, this);
+	}
 } // class voidTypeNode
 
 class methodDeclsNode extends ASTNode {
@@ -686,29 +924,52 @@ class methodDeclsNode extends ASTNode {
 	// nextDeclaration
 	// ...
 	// lastDeclaration
-	void Unparse(int indent) {
-		thisDecl.Unparse(indent);
-		moreDecls.Unparse(indent);
+	void Unparse(CodeWriter out, int indent) {
+		for (methodDeclsNode m = this; !m.isNull(); m = m.moreDecls) {
+			m.thisDecl.Unparse(out, indent);
+		}
 	}
 
-	void checkTypes() {
-		thisDecl.checkTypes();
-		
-		if(moreDecls instanceof nullMethodDeclsNode)
-		{
-			boolean isMainMethod = thisDecl.info.name().equals("main");
-			
-			assertTrue(isMainMethod, 
-					error() + "Last method declaration must be the main method");
+	void addTo(List<methodDeclNode> all) {
+		for (methodDeclsNode m = this; !m.isNull(); m = m.moreDecls) {
+			all.add(m.thisDecl);
+		}
+	}
+
+	void checkTypes(CompilationContext ctx) {
+		for (methodDeclsNode m = this; !m.isNull(); m = m.moreDecls) {
+			methodDeclNode thisDecl = m.thisDecl;
+			thisDecl.checkTypes(ctx);
 			
-			if(isMainMethod)
+			// Error recovery may have dropped the real last method
+			if(m.moreDecls instanceof nullMethodDeclsNode && ctx.syntaxErrors == 0)
 			{
-				assertTrue(thisDecl.info.type.val == Types.Void, 
-						error() + "main method must have return type of VOID.");
+				boolean isMainMethod = thisDecl.info.name().equals("main");
+				
+				assertTrue(ctx, isMainMethod, 
+						m, Errors.LastMethodNotMain);
+				
+				if(isMainMethod)
+				{
+					assertTrue(ctx, thisDecl.info.type.val == Types.Void, 
+							m, Errors.MainNotVoid);
+				}
 			}
 		}
-		
-		moreDecls.checkTypes();
+	}
+
+	void serialize(AstWriter out) {
+		int count = 0;
+		boolean atElements = true;
+		for (methodDeclsNode c = this; !c.isNull(); c = c.moreDecls) {
+			count++;
+			atElements &= AstWriter.atElement(c, c.thisDecl);
+		}
+		out.list(AstTags.MethodDecls, count, atElements);
+		for (methodDeclsNode c = this; !c.isNull(); c = c.moreDecls) {
+			out.cell(c, atElements);
+			out.node(c.thisDecl);
+		}
 	}
 } // class methodDeclsNode
 
@@ -720,12 +981,16 @@ class nullMethodDeclsNode extends methodDeclsNode {
 		return true;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// Don't type check null
 	}
+
+	void serialize(AstWriter out) {
+		out.none();
+	}
 } // class nullMethodDeclsNode
 
 class methodDeclNode extends ASTNode {
@@ -748,64 +1013,161 @@ class methodDeclNode extends ASTNode {
 	private final stmtsNode stmts;
 	private int closingLineNum;
 	public MethodSymbolInfo info;
+	FrameLayout layout; // Slots of the parameters and locals, given as they are checked
+	boolean hasSyntaxErrors; // Set by the parser; only the header of such a method is checked
+	boolean argsUnknown; // Set by the parser when even the argument list didn't parse
 
 	// Print like:
 	// type id(args){
 	// fieldDeclarations
 	// statements
 	// }
-	void Unparse(int indent) {
-		System.out.print(linenum + ": ");
-		genIndent(indent);
-		returnType.Unparse(0);
-		System.out.print(" ");
-		name.Unparse(0);
-		System.out.print("(");
-		args.Unparse(0);
-		System.out.println("){");
-		decls.Unparse(indent + 1);
-		stmts.Unparse(indent + 1);
-		System.out.print(closingLineNum + ": ");
-		genIndent(indent);
-		System.out.println("}");
-	}
-
-	void checkTypes() {
-		SymbolInfo info = (SymbolInfo) st.localLookup(name.idname);
-
-		assertTrue(info == null, 
-				error() + "ID " + name.idname + " was already declared.");
+	void Unparse(CodeWriter out, int indent) {
+		out.print(linenum + ": ");
+		out.indent(indent);
+		returnType.Unparse(out, 0);
+		out.print(" ");
+		name.Unparse(out, 0);
+		out.print("(");
+		args.Unparse(out, 0);
+		out.println("){");
+		decls.Unparse(out, indent + 1);
+		stmts.Unparse(out, indent + 1);
+		out.print(closingLineNum + ": ");
+		out.indent(indent);
+		out.println("}");
+	}
+
+	void checkTypes(CompilationContext ctx) {
+		SymbolInfo info = (SymbolInfo) ctx.st.localLookup(name.idname);
+
+		assertTrue(ctx, info == null, 
+				this, Errors.MethodAlreadyDeclared, name.idname);
 
 		if (info == null) {
 			MethodSymbolInfo methodInfo = new MethodSymbolInfo(name.idname, returnType.type);
 
 			try {
-				st.insert(methodInfo);
+				ctx.st.insert(methodInfo);
 			} catch (DuplicateException d) {
 				throw new RuntimeException("DuplicateException was thrown by st.insert, this \"can't happen\"");
 			} catch (EmptySTException e) {
 				throw new RuntimeException("EmptySTException was thrown by st.insert, this \"can't happen\"");
 			}
 
-			currentMethod = this;
+			ctx.currentMethod = this;
 			
 			this.info = methodInfo;
+			methodInfo.ArgumentsUnknown = argsUnknown;
+			methodInfo.Decl = this;
+			layout = new FrameLayout(false);
+			ctx.layout = layout;
+
+			ctx.st.openScope();
 
-			st.openScope();
+			args.checkTypes(ctx);
 
-			args.checkTypes();
+			// After a syntax error the body is what error recovery left of it,
+			// so checking it would only report noise. An incremental check
+			// replays what an unchanged body reported last time instead
+			if (!hasSyntaxErrors && (ctx.incremental == null || !ctx.incremental.replay(this, ctx))) {
+				int first = ctx.diagnostics.errorCount();
 
-			decls.checkTypes();
+				decls.checkTypes(ctx);
 
-			stmts.checkTypes();
+				stmts.checkTypes(ctx);
+
+				if (ctx.incremental != null) {
+					ctx.incremental.record(this, ctx, first);
+				}
+			}
 
 			try {
-				st.closeScope();
+				ctx.st.closeScope();
 			} catch (EmptySTException e) {
 				throw new RuntimeException("Tried to close a scope but no scope was available to close.");
 			}
 		}
 	}
+
+	// Runs a call to this method from caller's frame, passing args evaluated there.
+	// The callee's frame is returned, holding whatever the method returned
+	Frame invoke(Frame caller, argsNode args) {
+		Frame f = caller.enter(this);
+		List<SymbolInfo> params = info.Arguments;
+		int i = 0;
+		for (argsNode a = args; !a.isNull() && i < params.size(); a = a.moreArgs) {
+			exprNode.assign(f, params.get(i++), a.argVal, caller);
+		}
+
+		decls.exec(f);
+		int status = stmts.exec(f);
+		if (status == stmtNode.BREAK || status == stmtNode.CONTINUE) {
+			// The checker doesn't see labels that no loop around the break has
+			throw new CsxRuntimeException(this, "no loop labelled " + f.jump + " to leave in " + name.idname);
+		}
+		return f;
+	}
+
+	// Adds this method to file as a static method of the same name
+	void generate(ClassFile file) {
+		JvmMethod m = new JvmMethod(file, info.name(), linenum);
+		m.code.line(linenum);
+		decls.generate(m);
+		stmts.generate(m);
+
+		// Running off the end returns zero, as in the interpreter
+		m.code.line(closingLineNum);
+		if (info.type.val == Types.Void) {
+			m.code.op(Opcodes.RETURN);
+		} else if (info.type.val == Types.Real) {
+			m.code.push(0f);
+			m.code.op(Opcodes.FRETURN);
+		} else {
+			m.code.push(0);
+			m.code.op(Opcodes.IRETURN);
+		}
+		file.addMethod(ClassFile.ACC_PUBLIC | ClassFile.ACC_STATIC, info.name(), JvmMethod.descriptor(info), m.code);
+	}
+
+	// Lowers this method to a function of program
+	IrFunction lower(IrProgram program) {
+		IrFunction function = new IrFunction(info.name(), info.Arguments.size(), layout.variables);
+		IrBuilder b = new IrBuilder(program, function, linenum);
+		decls.lower(b);
+		stmts.lower(b);
+
+		// Running off the end returns zero, as in the interpreter
+		b.line(closingLineNum);
+		if (info.type.val == Types.Void) {
+			b.emit(Ir.RETV, 0, 0, 0);
+		} else {
+			b.emit(Ir.RET, info.type.val == Types.Real ? b.constant(0f) : b.constant(0), 0, 0);
+		}
+		return function;
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.MethodDecl, this);
+		out.ident(name);
+		out.node(args);
+		out.node(returnType);
+		out.node(decls);
+		out.node(stmts);
+		out.line(closingLineNum);
+		out.flags(hasSyntaxErrors, argsUnknown);
+	}
+
+	// Moves the method down by lines (up if negative), for when lines were added or
+	// removed above it. Only the header and closing line move, so the body must not be
+	// checked or run again; an incremental check replays its diagnostics moved instead
+	void moveBy(int lines) {
+		linenum += lines;
+		closingLineNum += lines;
+		name.linenum += lines;
+		returnType.linenum += lines;
+		args.moveBy(lines);
+	}
 } // class methodDeclNode
 
 // abstract superclass; only subclasses are actually created
@@ -817,6 +1179,8 @@ abstract class argDeclNode extends ASTNode {
 	argDeclNode(int l, int c) {
 		super(l, c);
 	}
+
+	abstract void moveBy(int lines);
 }
 
 class argDeclsNode extends ASTNode {
@@ -836,20 +1200,42 @@ class argDeclsNode extends ASTNode {
 
 	// Print like:
 	// thisArgDecl, nextArgDecl, nextArgDecl, ... , lastArgDecl
-	void Unparse(int indent) {
-		thisDecl.Unparse(0);
+	void Unparse(CodeWriter out, int indent) {
+		for (argDeclsNode a = this; !a.isNull(); a = a.moreDecls) {
+			a.thisDecl.Unparse(out, 0);
 
-		// Make sure we're not at the end of the decls list
-		if (!(moreDecls instanceof nullArgDeclsNode)) {
-			System.out.print(", ");
+			// Make sure we're not at the end of the decls list
+			if (!(a.moreDecls instanceof nullArgDeclsNode)) {
+				out.print(", ");
+			}
+		}
+	}
+
+	void checkTypes(CompilationContext ctx) {
+		for (argDeclsNode a = this; !a.isNull(); a = a.moreDecls) {
+			a.thisDecl.checkTypes(ctx);
 		}
+	}
 
-		moreDecls.Unparse(0);
+	void serialize(AstWriter out) {
+		int count = 0;
+		boolean atElements = true;
+		for (argDeclsNode c = this; !c.isNull(); c = c.moreDecls) {
+			count++;
+			atElements &= AstWriter.atElement(c, c.thisDecl);
+		}
+		out.list(AstTags.ArgDecls, count, atElements);
+		for (argDeclsNode c = this; !c.isNull(); c = c.moreDecls) {
+			out.cell(c, atElements);
+			out.node(c.thisDecl);
+		}
 	}
 
-	void checkTypes() {
-		thisDecl.checkTypes();
-		moreDecls.checkTypes();
+	void moveBy(int lines) {
+		for (argDeclsNode a = this; !a.isNull(); a = a.moreDecls) {
+			a.linenum += lines;
+			a.thisDecl.moveBy(lines);
+		}
 	}
 } // class argDeclsNode
 
@@ -861,12 +1247,16 @@ class nullArgDeclsNode extends argDeclsNode {
 		return true;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// Don't need to type check a null node
 	}
+
+	void serialize(AstWriter out) {
+		out.none();
+	}
 } // class nullArgDeclsNode
 
 class arrayArgDeclNode extends argDeclNode {
@@ -881,21 +1271,21 @@ class arrayArgDeclNode extends argDeclNode {
 
 	// Print like:
 	// type id[]
-	void Unparse(int indent) {
-		elementType.Unparse(0);
-		System.out.print(" ");
-		arrayName.Unparse(0);
-		System.out.print("[]");
+	void Unparse(CodeWriter out, int indent) {
+		elementType.Unparse(out, 0);
+		out.print(" ");
+		arrayName.Unparse(out, 0);
+		out.print("[]");
 	}
 
-	void checkTypes() {
-		SymbolInfo info = (SymbolInfo) st.localLookup(arrayName.idname);
+	void checkTypes(CompilationContext ctx) {
+		SymbolInfo info = (SymbolInfo) ctx.st.localLookup(arrayName.idname);
 
 		if (info == null) {
 			info = new SizedSymbolInfo(arrayName.idname, Kinds.ArrayParm, elementType.type.val, 0, false);
 
 			try {
-				st.insert(info);
+				ctx.st.insert(info);
 			} catch (DuplicateException d) {
 				throw new RuntimeException("DuplicateException was thrown by st.insert, this \"can't happen\"");
 			} catch (EmptySTException e) {
@@ -903,14 +1293,26 @@ class arrayArgDeclNode extends argDeclNode {
 			}
 
 			arrayName.idinfo = info;
+			ctx.layout.place(info);
 
-			currentMethod.info.Arguments.add(info);
+			ctx.currentMethod.info.Arguments.add(info);
 		} else {
-			System.out.println(error() + info.name() + " is already declared.");
-			typeErrors++;
-			elementType.type = new Types(Types.Error);
+			ctx.reportError(this, Errors.AlreadyDeclared, info.name());
+			elementType.type = Types.of(Types.Error);
 		}
 	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.ArrayArgDecl, this);
+		out.ident(arrayName);
+		out.node(elementType);
+	}
+
+	void moveBy(int lines) {
+		linenum += lines;
+		arrayName.linenum += lines;
+		elementType.linenum += lines;
+	}
 } // class arrayArgDeclNode
 
 class valArgDeclNode extends argDeclNode {
@@ -925,24 +1327,24 @@ class valArgDeclNode extends argDeclNode {
 
 	// Print like:
 	// type id
-	void Unparse(int indent) {
-		argType.Unparse(0);
-		System.out.print(" ");
-		argName.Unparse(0);
+	void Unparse(CodeWriter out, int indent) {
+		argType.Unparse(out, 0);
+		out.print(" ");
+		argName.Unparse(out, 0);
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		SymbolInfo info;
 		// Make sure id is not already declared
-		info = (SymbolInfo) st.localLookup(argName.idname);
+		info = (SymbolInfo) ctx.st.localLookup(argName.idname);
 		if (info == null) {
-			info = new SymbolInfo(argName.idname, new Kinds(Kinds.ScalarParm), argType.type, false);
+			info = new SymbolInfo(argName.idname, Kinds.of(Kinds.ScalarParm), argType.type, false);
 
-			argType.checkTypes();
-			argName.checkTypes();
+			argType.checkTypes(ctx);
+			argName.checkTypes(ctx);
 
 			try {
-				st.insert(info);
+				ctx.st.insert(info);
 			} catch (DuplicateException d) {
 				throw new RuntimeException("DuplicateException was thrown by st.insert, this \"can't happen\"");
 			} catch (EmptySTException e) {
@@ -950,14 +1352,26 @@ class valArgDeclNode extends argDeclNode {
 			}
 
 			argName.idinfo = info;
+			ctx.layout.place(info);
 
-			currentMethod.info.Arguments.add(info);
+			ctx.currentMethod.info.Arguments.add(info);
 		} else {
-			System.out.println(error() + info.name() + " is already declared.");
-			typeErrors++;
-			argName.type = new Types(Types.Error);
+			ctx.reportError(this, Errors.AlreadyDeclared, info.name());
+			argName.type = Types.of(Types.Error);
 		}
 	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.ValArgDecl, this);
+		out.ident(argName);
+		out.node(argType);
+	}
+
+	void moveBy(int lines) {
+		linenum += lines;
+		argName.linenum += lines;
+		argType.linenum += lines;
+	}
 } // class valArgDeclNode
 
 // abstract superclass; only subclasses are actually created
@@ -971,6 +1385,22 @@ abstract class stmtNode extends ASTNode {
 	}
 
 	static nullStmtNode NULL = new nullStmtNode();
+
+	// How a statement run by exec finished; after a BREAK or CONTINUE the
+	// frame's jump names the loop being left
+	static final int NORMAL = 0;
+	static final int BREAK = 1;
+	static final int CONTINUE = 2;
+	static final int RETURN = 3;
+
+	// Runs this statement in f
+	abstract int exec(Frame f);
+
+	// Generates the code of this statement
+	abstract void generate(JvmMethod m);
+
+	// Lowers this statement to the intermediate representation
+	abstract void lower(IrBuilder b);
 }
 
 class nullStmtNode extends stmtNode {
@@ -981,12 +1411,26 @@ class nullStmtNode extends stmtNode {
 		return true;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// Do nothing, we don't need to type check a null node
 	}
+
+	int exec(Frame f) {
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+	}
+
+	void lower(IrBuilder b) {
+	}
+
+	void serialize(AstWriter out) {
+		out.none();
+	}
 } // class nullStmtNode
 
 class stmtsNode extends ASTNode {
@@ -1005,36 +1449,81 @@ class stmtsNode extends ASTNode {
 	// nextStmt
 	// ...
 	// lastStmt
-	void Unparse(int indent) {
-		// Don't print the line number or indent on a block node since the first
-		// thing it does
-		// is print the linenum, indent, and LBRACE
-		if (!(thisStmt instanceof blockNode)) {
-			System.out.print(thisStmt.linenum + ":");
-			genIndent(indent);
+	// Generated methods can hold tens of thousands of statements, so the list
+	// is walked in a loop rather than recursively
+	void Unparse(CodeWriter out, int indent) {
+		for (stmtsNode s = this; !s.isNull(); s = s.moreStmts) {
+			stmtNode thisStmt = s.thisStmt;
+
+			// Don't print the line number or indent on a block node since the first
+			// thing it does
+			// is print the linenum, indent, and LBRACE
+			if (!(thisStmt instanceof blockNode)) {
+				out.print(thisStmt.linenum + ":");
+				out.indent(indent);
+			}
+
+			thisStmt.Unparse(out, indent);
+
+			// If the thenPart is an ifThenNode, we don't want a semicolon to be
+			// printed
+			// or else we will have "endif;"
+			if (!(thisStmt instanceof ifThenNode)) {
+				out.print(";");
+			}
+
+			out.println();
 		}
+	}
 
-		thisStmt.Unparse(indent);
+	void checkTypes(CompilationContext ctx) {
+		for (stmtsNode s = this; !s.isNull(); s = s.moreStmts) {
+			s.thisStmt.checkTypes(ctx);
+		}
+	}
 
-		// If the thenPart is an ifThenNode, we don't want a semicolon to be
-		// printed
-		// or else we will have "endif;"
-		if (!(thisStmt instanceof ifThenNode)) {
-			System.out.print(";");
+	// Runs the statements in order until one of them breaks, continues or returns
+	int exec(Frame f) {
+		for (stmtsNode s = this; !s.isNull(); s = s.moreStmts) {
+			int status = s.thisStmt.exec(f);
+			if (status != stmtNode.NORMAL) {
+				return status;
+			}
 		}
+		return stmtNode.NORMAL;
+	}
 
-		System.out.println();
-		moreStmts.Unparse(indent);
+	void generate(JvmMethod m) {
+		for (stmtsNode s = this; !s.isNull(); s = s.moreStmts) {
+			m.code.line(s.thisStmt.linenum);
+			s.thisStmt.generate(m);
+		}
 	}
 
-	void checkTypes() {
-		thisStmt.checkTypes();
-		moreStmts.checkTypes();
+	void lower(IrBuilder b) {
+		for (stmtsNode s = this; !s.isNull(); s = s.moreStmts) {
+			b.line(s.thisStmt.linenum);
+			s.thisStmt.lower(b);
+		}
 	}
 
 	static nullStmtsNode NULL = new nullStmtsNode();
 	private stmtNode thisStmt;
 	private stmtsNode moreStmts;
+
+	void serialize(AstWriter out) {
+		int count = 0;
+		boolean atElements = true;
+		for (stmtsNode c = this; !c.isNull(); c = c.moreStmts) {
+			count++;
+			atElements &= AstWriter.atElement(c, c.thisStmt);
+		}
+		out.list(AstTags.Stmts, count, atElements);
+		for (stmtsNode c = this; !c.isNull(); c = c.moreStmts) {
+			out.cell(c, atElements);
+			out.node(c.thisStmt);
+		}
+	}
 } // class stmtsNode
 
 class nullStmtsNode extends stmtsNode {
@@ -1045,12 +1534,16 @@ class nullStmtsNode extends stmtsNode {
 		return true;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// No type check needed
 	}
+
+	void serialize(AstWriter out) {
+		out.none();
+	}
 } // class nullStmtsNode
 
 class asgNode extends stmtNode {
@@ -1062,28 +1555,46 @@ class asgNode extends stmtNode {
 
 	// Print like:
 	// ##: type id = expression;
-	void Unparse(int indent) {
-		target.Unparse(0);
-		System.out.print(" = ");
-		source.Unparse(0);
+	void Unparse(CodeWriter out, int indent) {
+		target.Unparse(out, 0);
+		out.print(" = ");
+		source.Unparse(out, 0);
 	}
 
-	void checkTypes() {
-		target.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		target.checkTypes(ctx);
 		
-		SymbolInfo info = (SymbolInfo) st.globalLookup(target.varName.idname);
+		SymbolInfo info = (SymbolInfo) ctx.st.globalLookup(target.varName.idname);
 
 		if (info != null) {
-			source.checkTypes();
+			source.checkTypes(ctx);
 
 			// Make sure
-			assertAssignmentCompatible(target, source, error() + "Both the left and right"
-					+ " hand sides of an assignment must " + "have compatible types.");
+			assertAssignmentCompatible(ctx, target, source, this, Errors.IncompatibleAssignment);
 		}
 	}
 
+	int exec(Frame f) {
+		target.store(f, source);
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+		target.generateStore(m, source);
+	}
+
+	void lower(IrBuilder b) {
+		target.lowerStore(b, source);
+	}
+
 	private final nameNode target;
 	private final exprNode source;
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.Asg, this);
+		out.node(target);
+		out.node(source);
+	}
 } // class asgNode
 
 class ifThenNode extends stmtNode {
@@ -1106,87 +1617,132 @@ class ifThenNode extends stmtNode {
 	// ##: else
 	// stmt
 	// ##: endif
-	void Unparse(int indent) {
-		System.out.print("if (");
-		condition.Unparse(0);
-		System.out.println(")");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("if (");
+		condition.Unparse(out, 0);
+		out.println(")");
 
 		// Don't print the line number or indent on a block node since the first
 		// thing it does
 		// is print the linenum, indent, and LBRACE
 		if (!(thenPart instanceof blockNode)) {
-			System.out.print(thenPart.linenum + ":");
-			genIndent(indent + 1);
+			out.print(thenPart.linenum + ":");
+			out.indent(indent + 1);
 		}
 
-		thenPart.Unparse(indent + 1);
+		thenPart.Unparse(out, indent + 1);
 
 		// If the thenPart is an ifThenNode, we don't want a semicolon to be
 		// printed
 		// or else we will have "endif;"
 		if (!(thenPart instanceof ifThenNode)) {
-			System.out.print(";");
+			out.print(";");
 		}
 
-		System.out.println();
+		out.println();
 
 		// Make sure we actually have an else part before printing
 		if (!(elsePart instanceof nullStmtNode)) {
-			System.out.print(linenum + ":");
-			genIndent(indent);
-			System.out.println("else");
+			out.print(linenum + ":");
+			out.indent(indent);
+			out.println("else");
 
 			// Don't print the line number or indent on a block node since the
 			// first thing it does
 			// is print the linenum, indent, and LBRACE
 			if (!(elsePart instanceof blockNode)) {
-				System.out.print(elsePart.linenum + ":");
-				genIndent(indent + 1);
+				out.print(elsePart.linenum + ":");
+				out.indent(indent + 1);
 			}
 
-			elsePart.Unparse(indent + 1);
+			elsePart.Unparse(out, indent + 1);
 
 			// If the thenPart is an ifThenNode, we don't want a semicolon to be
 			// printed
 			// or else we will have "endif;"
 			if (!(elsePart instanceof ifThenNode)) {
-				System.out.print(";");
+				out.print(";");
 			}
 
-			System.out.println();
+			out.println();
 		}
 
-		System.out.print(endifLineNum + ": ");
-		genIndent(indent);
-		System.out.print("endif");
+		out.print(endifLineNum + ": ");
+		out.indent(indent);
+		out.print("endif");
 	}
 
-	void checkTypes() {
-		condition.checkTypes();
-		assertTrue(condition.type.val == Types.Boolean,
-				error() + "The control expression of an if statement must be a boolean.");
+	void checkTypes(CompilationContext ctx) {
+		condition.checkTypes(ctx);
+		assertTrue(ctx, condition.type.val == Types.Boolean,
+				this, Errors.IfConditionNotBoolean);
 		
-		st.openScope();
+		ctx.st.openScope();
 		
-		thenPart.checkTypes();
+		thenPart.checkTypes(ctx);
 
 		try {
-			st.closeScope();
+			ctx.st.closeScope();
 		} catch (EmptySTException e) {
 			throw new RuntimeException("Tried to close a scope but no scope was available to close.");
 		}
 		
-		st.openScope();
+		ctx.st.openScope();
 		
-		elsePart.checkTypes();
+		elsePart.checkTypes(ctx);
 		
 		try {
-			st.closeScope();
+			ctx.st.closeScope();
 		} catch (EmptySTException e) {
 			throw new RuntimeException("Tried to close a scope but no scope was available to close.");
 		}
 	}
 
+	int exec(Frame f) {
+		if (condition.evalInt(f) != 0) {
+			return thenPart.exec(f);
+		}
+		return elsePart.exec(f);
+	}
+
+	void generate(JvmMethod m) {
+		ClassFile.Label otherwise = new ClassFile.Label();
+		condition.branch(m, false, otherwise);
+		thenPart.generate(m);
+		if (elsePart.isNull()) {
+			m.code.place(otherwise);
+		} else {
+			ClassFile.Label end = new ClassFile.Label();
+			m.code.jump(Opcodes.GOTO, end);
+			m.code.place(otherwise);
+			elsePart.generate(m);
+			m.code.place(end);
+		}
+	}
+
+	void lower(IrBuilder b) {
+		int otherwise = b.label();
+		b.emit(Ir.JZ, condition.lower(b), otherwise, 0);
+		thenPart.lower(b);
+		if (elsePart.isNull()) {
+			b.place(otherwise);
+		} else {
+			int end = b.label();
+			b.emit(Ir.JMP, end, 0, 0);
+			b.place(otherwise);
+			elsePart.lower(b);
+			b.place(end);
+		}
+	}
+
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.IfThen, this);
+		out.node(condition);
+		out.node(thenPart);
+		out.node(elsePart);
+		out.line(endifLineNum);
+	}
 } // class ifThenNode
 
 class whileNode extends stmtNode {
@@ -1195,34 +1751,36 @@ class whileNode extends stmtNode {
 		label = i;
 		condition = e;
 		loopBody = s;
+		labelName = i instanceof identNode ? ((identNode) i).idname : null;
 	}
 
 	private final exprNode label;
+	private final Name labelName; // Null for a loop without a label
 	private final exprNode condition;
 	private final stmtNode loopBody;
 
 	// Print like:
 	// ##: label:while(expression)
 	// stmt
-	void Unparse(int indent) {
-		label.Unparse(0);
-		System.out.print(" : while (");
-		condition.Unparse(0);
-		System.out.println(")");
+	void Unparse(CodeWriter out, int indent) {
+		label.Unparse(out, 0);
+		out.print(" : while (");
+		condition.Unparse(out, 0);
+		out.println(")");
 
 		// Don't print the line number or indent on a block node since the first
 		// thing it does
 		// is print the linenum, indent, and LBRACE
 		if (!(loopBody instanceof blockNode)) {
-			System.out.print(loopBody.linenum + ":");
-			genIndent(indent + 1);
+			out.print(loopBody.linenum + ":");
+			out.indent(indent + 1);
 		}
 
-		loopBody.Unparse(indent + 1);
+		loopBody.Unparse(out, indent + 1);
 	}
 
-	void checkTypes() {
-		label.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		label.checkTypes(ctx);
 
 		identNode labelAsIdent = null;
 
@@ -1232,16 +1790,16 @@ class whileNode extends stmtNode {
 		if (label instanceof identNode) {
 			labelAsIdent = (identNode) label;
 
-			SymbolInfo info = (SymbolInfo) st.localLookup(labelAsIdent.idname);
+			SymbolInfo info = (SymbolInfo) ctx.st.localLookup(labelAsIdent.idname);
 
-			assertTrue(info == null, error() + "Label: " + labelAsIdent.idname + " was already defined in this scope.");
+			assertTrue(ctx, info == null, this, Errors.LabelAlreadyDefined, labelAsIdent.idname);
 
 			if (info == null) {
 				labelInfo = new LabelSymbolInfo(labelAsIdent.idname, Kinds.Label, Types.Void, true);
 			}
 
 			try {
-				st.insert(labelInfo);
+				ctx.st.insert(labelInfo);
 			} catch (DuplicateException d) {
 				throw new RuntimeException("DuplicateException was thrown by st.insert, this \"can't happen\"");
 			} catch (EmptySTException e) {
@@ -1249,17 +1807,17 @@ class whileNode extends stmtNode {
 			}
 		}
 
-		condition.checkTypes();
+		condition.checkTypes(ctx);
 
-		assertTrue(condition.type.val == Types.Boolean,
-				error() + "The control expression of a while loop must be a boolean.");
+		assertTrue(ctx, condition.type.val == Types.Boolean,
+				this, Errors.WhileConditionNotBoolean);
 
-		st.openScope();
+		ctx.st.openScope();
 		
-		loopBody.checkTypes();
+		loopBody.checkTypes(ctx);
 
 		try {
-			st.closeScope();
+			ctx.st.closeScope();
 		} catch (EmptySTException e) {
 			throw new RuntimeException("Tried to close a scope but no scope was available to close.");
 		}
@@ -1268,6 +1826,63 @@ class whileNode extends stmtNode {
 			labelInfo.Visible = false;
 		}
 	}
+
+	int exec(Frame f) {
+		while (condition.evalInt(f) != 0) {
+			int status = loopBody.exec(f);
+			if (status != NORMAL) {
+				if (status == RETURN || f.jump != labelName) {
+					// Leaving a loop further out, or the method
+					return status;
+				}
+				f.jump = null;
+				if (status == BREAK) {
+					break;
+				}
+			}
+		}
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+		ClassFile.Label top = new ClassFile.Label();
+		ClassFile.Label exit = new ClassFile.Label();
+		m.code.place(top);
+		condition.branch(m, false, exit);
+		if (labelName != null) {
+			m.enterLoop(labelName, exit, top);
+		}
+		loopBody.generate(m);
+		if (labelName != null) {
+			m.exitLoop();
+		}
+		m.code.jump(Opcodes.GOTO, top);
+		m.code.place(exit);
+	}
+
+	void lower(IrBuilder b) {
+		int top = b.label();
+		int exit = b.label();
+		b.place(top);
+		b.emit(Ir.JZ, condition.lower(b), exit, 0);
+		if (labelName != null) {
+			b.enterLoop(labelName, exit, top);
+		}
+		loopBody.lower(b);
+		if (labelName != null) {
+			b.exitLoop();
+		}
+		b.emit(Ir.JMP, top, 0, 0);
+		b.place(exit);
+		b.function.addLoop(top, exit);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.While, this);
+		out.node(label);
+		out.node(condition);
+		out.node(loopBody);
+	}
 } // class whileNode
 
 class forNode extends stmtNode {
@@ -1289,39 +1904,101 @@ class forNode extends stmtNode {
 	// Print like:
 	// ##: for (type id = expression; expression; assignment)
 	// stmt
-	void Unparse(int indent) {
-		System.out.print("for (");
-		loopVar.Unparse(0);
-		System.out.print(" = ");
-		initialization.Unparse(0);
-		System.out.print("; ");
-		condition.Unparse(0);
-		System.out.print("; ");
-		update.Unparse(0);
-		System.out.println(")");
-		loopBody.Unparse(indent + 1);
-	}
-
-	void checkTypes() {
-		loopVar.checkTypes();
-		initialization.checkTypes();
-		condition.checkTypes();
+	void Unparse(CodeWriter out, int indent) {
+		out.print("for (");
+		loopVar.Unparse(out, 0);
+		out.print(" = ");
+		initialization.Unparse(out, 0);
+		out.print("; ");
+		condition.Unparse(out, 0);
+		out.print("; ");
+		update.Unparse(out, 0);
+		out.println(")");
+		loopBody.Unparse(out, indent + 1);
+	}
+
+	void checkTypes(CompilationContext ctx) {
+		loopVar.checkTypes(ctx);
+		// Not reported when missing, but the interpreter needs to know where the variable is
+		loopVar.idinfo = (SymbolInfo) ctx.st.globalLookup(loopVar.idname);
+		initialization.checkTypes(ctx);
+		condition.checkTypes(ctx);
 		
-		assertTrue(condition.type.val == Types.Boolean,
-				error() + "The control expression of a for loop must be a boolean.");
+		assertTrue(ctx, condition.type.val == Types.Boolean,
+				this, Errors.ForConditionNotBoolean);
 		
-		update.checkTypes();
+		update.checkTypes(ctx);
 		
-		st.openScope();
+		ctx.st.openScope();
 		
-		loopBody.checkTypes();
+		loopBody.checkTypes(ctx);
 		
 		try {
-			st.closeScope();
+			ctx.st.closeScope();
 		} catch (EmptySTException e) {
 			throw new RuntimeException("Tried to close a scope but no scope was available to close.");
 		}
 	}
+
+	// A for loop has no label, so every break and continue in it is for a loop further out
+	int exec(Frame f) {
+		if (loopVar.idinfo == null) {
+			throw new CsxRuntimeException(this, loopVar.idname + " is not declared");
+		}
+		exprNode.assign(f, loopVar.idinfo, initialization, f);
+		while (condition.evalInt(f) != 0) {
+			int status = loopBody.exec(f);
+			if (status != NORMAL) {
+				return status;
+			}
+			update.exec(f);
+		}
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+		if (loopVar.idinfo == null) {
+			m.code.push(loopVar.idname + " is not declared");
+			m.code.invokeStatic("CsxRuntime", "fail", "(Ljava/lang/String;)V");
+			return;
+		}
+		initialization.generate(m);
+		m.store(loopVar.idinfo, initialization);
+		ClassFile.Label top = new ClassFile.Label();
+		ClassFile.Label exit = new ClassFile.Label();
+		m.code.place(top);
+		condition.branch(m, false, exit);
+		loopBody.generate(m);
+		update.generate(m);
+		m.code.jump(Opcodes.GOTO, top);
+		m.code.place(exit);
+	}
+
+	void lower(IrBuilder b) {
+		if (loopVar.idinfo == null) {
+			b.emit(Ir.FAIL, b.program.string(loopVar.idname + " is not declared"), 0, 0);
+			return;
+		}
+		b.store(loopVar.idinfo, initialization.lower(b), initialization);
+		int top = b.label();
+		int exit = b.label();
+		b.place(top);
+		b.emit(Ir.JZ, condition.lower(b), exit, 0);
+		loopBody.lower(b);
+		update.lower(b);
+		b.emit(Ir.JMP, top, 0, 0);
+		b.place(exit);
+		b.function.addLoop(top, exit);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.For, this);
+		out.ident(loopVar);
+		out.node(initialization);
+		out.node(condition);
+		out.node(update);
+		out.node(loopBody);
+	}
 }
 
 class readNode extends stmtNode {
@@ -1338,41 +2015,81 @@ class readNode extends stmtNode {
 	private nameNode targetVar;
 	private readNode moreReads;
 
-	void Unparse(int indent) {
-		Unparse(indent, true);
-	}
-
 	// Print like:
 	// ##: READ (id1, id2, id3, ... , idN);
-	void Unparse(int indent, boolean rootCalled) {
-		// If it's the first node in the list, print the "READ (" part
-		if (rootCalled) {
-			System.out.print("READ (");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("READ (");
+
+		for (readNode r = this; !r.isNull(); r = r.moreReads) {
+			// Print the current node's expression
+			r.targetVar.Unparse(out, 0);
+
+			// If this is the last node, the next readNode will be
+			// an instance of nullReadNode
+			if (r.moreReads instanceof nullReadNode) {
+				// If so, print the closing ");"
+				out.print(")");
+			} else {
+				// If not, print a separator comma
+				out.print(", ");
+			}
+		}
+	}
+
+	void checkTypes(CompilationContext ctx) {
+		for (readNode r = this; !r.isNull(); r = r.moreReads) {
+			nameNode targetVar = r.targetVar;
+			targetVar.checkTypes(ctx);
+			
+			assertTrue(ctx, (targetVar.type.val == Types.Integer || targetVar.type.val == Types.Character) &&
+							(targetVar.kind.val == Kinds.Var || targetVar.kind.val == Kinds.ScalarParm), 
+							r, Errors.InvalidReadTarget);
 		}
+	}
 
-		// Print the current node's expression
-		targetVar.Unparse(0);
+	int exec(Frame f) {
+		for (readNode r = this; !r.isNull(); r = r.moreReads) {
+			if (r.targetVar.type.val == Types.Integer) {
+				r.targetVar.storeInt(f, f.interpreter.readInt(r));
+			} else {
+				r.targetVar.storeInt(f, f.interpreter.readChar(r));
+			}
+		}
+		return NORMAL;
+	}
 
-		// If this is the last node, the next readNode will be
-		// an instance of nullReadNode
-		if (moreReads instanceof nullReadNode) {
-			// If so, print the closing ");"
-			System.out.print(")");
-		} else {
-			// If not, print a separator comma
-			System.out.print(", ");
-			moreReads.Unparse(0, false);
+	void generate(JvmMethod m) {
+		for (readNode r = this; !r.isNull(); r = r.moreReads) {
+			r.targetVar.generateTarget(m);
+			if (r.targetVar.type.val == Types.Integer) {
+				m.code.invokeStatic("CsxRuntime", "readInt", "()I");
+			} else {
+				m.code.invokeStatic("CsxRuntime", "readChar", "()C");
+			}
+			r.targetVar.generateAssign(m);
 		}
 	}
 
-	void checkTypes() {
-		targetVar.checkTypes();
-		
-		assertTrue((targetVar.type.val == Types.Integer || targetVar.type.val == Types.Character) &&
-						(targetVar.kind.val == Kinds.Var || targetVar.kind.val == Kinds.ScalarParm), 
-						error() + "Only integer or character variables or scalar parameters are allowed to be read into.");
-		
-		moreReads.checkTypes();
+	void lower(IrBuilder b) {
+		for (readNode r = this; !r.isNull(); r = r.moreReads) {
+			int value = b.temp();
+			b.emit(r.targetVar.type.val == Types.Integer ? Ir.READI : Ir.READC, value, 0, 0);
+			r.targetVar.lowerAssign(b, value);
+		}
+	}
+
+	void serialize(AstWriter out) {
+		int count = 0;
+		boolean atElements = true;
+		for (readNode c = this; !c.isNull(); c = c.moreReads) {
+			count++;
+			atElements &= AstWriter.atElement(c, c.targetVar);
+		}
+		out.list(AstTags.Read, count, atElements);
+		for (readNode c = this; !c.isNull(); c = c.moreReads) {
+			out.cell(c, atElements);
+			out.node(c.targetVar);
+		}
 	}
 } // class readNode
 
@@ -1384,17 +2101,31 @@ class nullReadNode extends readNode {
 		return true;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 		// No type check needed
 	}
 	
-	void checkTypes(){
+	void checkTypes(CompilationContext ctx) {
 		// Nothing to see here
 	}
-} // class nullReadNode
 
-class printNode extends stmtNode {
-	printNode() {
+	int exec(Frame f) {
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+	}
+
+	void lower(IrBuilder b) {
+	}
+
+	void serialize(AstWriter out) {
+		out.none();
+	}
+} // class nullReadNode
+
+class printNode extends stmtNode {
+	printNode() {
 	}
 
 	printNode(exprNode val, printNode pn, int line, int col) {
@@ -1408,40 +2139,38 @@ class printNode extends stmtNode {
 	private exprNode outputValue;
 	private printNode morePrints;
 
-	// Use a helper method to unparse the print statement because
-	// the parser buids a linked list and we need to extra formatting
-	// for the first, last and in between nodes
-	void Unparse(int indent) {
-		Unparse(indent, true);
-	}
-
 	// Print like:
 	// PRINT (thisExpr, nextExpr, nextExpr, ... , lastExpr);
-	void Unparse(int indent, boolean rootCalled) {
-		// If it's the first node in the list, print the "PRINT (" part
-		if (rootCalled) {
-			System.out.print("PRINT (");
+	// The parser builds a linked list, which is walked in a loop so that a
+	// PRINT with thousands of values doesn't recurse once per value
+	void Unparse(CodeWriter out, int indent) {
+		out.print("PRINT (");
+
+		for (printNode p = this; !p.isNull(); p = p.morePrints) {
+			// Print the current node's expression
+			p.outputValue.Unparse(out, 0);
+
+			// If this is the last node, the next printNode will be
+			// an instance of nullPrintNode
+			if (p.morePrints instanceof nullPrintNode) {
+				// If so, print the closing ");"
+				out.print(")");
+			} else {
+				// If not, print a separator comma
+				out.print(", ");
+			}
 		}
+	}
 
-		// Print the current node's expression
-		outputValue.Unparse(0);
-
-		// If this is the last node, the next printNode will be
-		// an instance of nullPrintNode
-		if (morePrints instanceof nullPrintNode) {
-			// If so, print the closing ");"
-			System.out.print(")");
-		} else {
-			// If not, print a separator comma
-			System.out.print(", ");
-			morePrints.Unparse(0, false);
+	void checkTypes(CompilationContext ctx) {
+		for (printNode p = this; !p.isNull(); p = p.morePrints) {
+			p.checkValue(ctx);
 		}
 	}
 
-	void checkTypes() {
-		outputValue.checkTypes();
-		assertTrue(
-				(
+	private void checkValue(CompilationContext ctx) {
+		outputValue.checkTypes(ctx);
+		assertTrue(ctx, (
 					(outputValue.type.val == Types.Boolean || 
 						outputValue.type.val == Types.Character || 
 						outputValue.type.val == Types.Integer || 
@@ -1458,10 +2187,95 @@ class printNode extends stmtNode {
 						outputValue.kind.val == Kinds.ArrayParm) && 
 					outputValue.type.val == Types.Character
 				)
-				, error() + 
-				"The following are valid for printing: INT, BOOL, REAL, " +
-				"CHAR, and STRING variables, values, and scalar parameters." +
-				" CHAR arrays and array parameters.");
+				, this, Errors.InvalidPrintValue);
+	}
+
+	// Prints each value with nothing between them; PRINT never ends the line itself
+	int exec(Frame f) {
+		java.io.PrintStream out = f.interpreter.out;
+		for (printNode p = this; !p.isNull(); p = p.morePrints) {
+			exprNode value = p.outputValue;
+			if (value instanceof strLitNode) {
+				out.print(((strLitNode) value).text());
+			} else if (value.kind.val == Kinds.Array || value.kind.val == Kinds.ArrayParm) {
+				for (int c : (int[]) value.evalArray(f)) {
+					out.print((char) c);
+				}
+			} else {
+				switch (value.type.val) {
+				case Types.Integer:
+					out.print(value.evalInt(f));
+					break;
+				case Types.Character:
+					out.print((char) value.evalInt(f));
+					break;
+				case Types.Boolean:
+					out.print(value.evalInt(f) != 0);
+					break;
+				default:
+					out.print(value.evalFloat(f));
+					break;
+				}
+			}
+		}
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+		for (printNode p = this; !p.isNull(); p = p.morePrints) {
+			exprNode value = p.outputValue;
+			if (value instanceof strLitNode) {
+				m.code.push(((strLitNode) value).text());
+				m.code.invokeStatic("CsxRuntime", "print", "(Ljava/lang/String;)V");
+			} else if (value.kind.val == Kinds.Array || value.kind.val == Kinds.ArrayParm) {
+				value.generate(m);
+				m.code.invokeStatic("CsxRuntime", "print", "([C)V");
+			} else {
+				value.generate(m);
+				m.code.invokeStatic("CsxRuntime", "print", "(" + JvmMethod.descriptor(value.type) + ")V");
+			}
+		}
+	}
+
+	void lower(IrBuilder b) {
+		for (printNode p = this; !p.isNull(); p = p.morePrints) {
+			exprNode value = p.outputValue;
+			if (value instanceof strLitNode) {
+				b.emit(Ir.PRINTS, b.program.string(((strLitNode) value).text()), 0, 0);
+			} else if (value.kind.val == Kinds.Array || value.kind.val == Kinds.ArrayParm) {
+				b.emit(Ir.PRINTA, ((nameNode) value).lowerArray(b), 0, 0);
+			} else {
+				int register = value.lower(b);
+				switch (value.type.val) {
+				case Types.Integer:
+					b.emit(Ir.PRINTI, register, 0, 0);
+					break;
+				case Types.Character:
+					b.emit(Ir.PRINTC, register, 0, 0);
+					break;
+				case Types.Boolean:
+					b.emit(Ir.PRINTB, register, 0, 0);
+					break;
+				default:
+					b.emit(Ir.PRINTF, register, 0, 0);
+					break;
+				}
+			}
+		}
+	}
+
+	void serialize(AstWriter out) {
+		int count = 0;
+		boolean atElements = true;
+		for (printNode c = this; !c.isNull(); c = c.morePrints) {
+			count++;
+			atElements &= AstWriter.atElement(c, c.outputValue);
+		}
+		out.list(AstTags.Print, count, atElements);
+		for (printNode c = this; !c.isNull(); c = c.morePrints) {
+			out.cell(c, atElements);
+			out.node(c.outputValue);
+		}
 	}
 } // class printNode
 
@@ -1473,12 +2287,26 @@ class nullPrintNode extends printNode {
 		return true;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// No type check needed
 	}
+
+	int exec(Frame f) {
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+	}
+
+	void lower(IrBuilder b) {
+	}
+
+	void serialize(AstWriter out) {
+		out.none();
+	}
 } // class nullprintNode
 
 class callNode extends stmtNode {
@@ -1493,36 +2321,37 @@ class callNode extends stmtNode {
 
 	// Print like:
 	// ##: id(args);
-	void Unparse(int indent) {
-		methodName.Unparse(0);
-		System.out.print(" (");
+	void Unparse(CodeWriter out, int indent) {
+		methodName.Unparse(out, 0);
+		out.print(" (");
 
-		args.Unparse(0);
+		args.Unparse(out, 0);
 
-		System.out.print(")");
+		out.print(")");
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		SymbolInfo info;
 		// Make sure id is not already declared
-		info = (SymbolInfo) st.globalLookup(methodName.idname);
+		info = (SymbolInfo) ctx.st.globalLookup(methodName.idname);
 		
-		assertTrue(info != null, error() + methodName.idname + " is not declared.");
+		assertTrue(ctx, info != null, this, Errors.NotDeclared, methodName.idname);
 
 		if (info != null) {
 
 			// Check the types of each argument, so that they evaluate their own types
-			args.checkTypes();
+			args.checkTypes(ctx);
 
 			MethodSymbolInfo methodInfo = (MethodSymbolInfo) info;
 			
-			boolean argsCorrect = true;
+			// A method whose header didn't parse has no signature to check against
+			boolean argsCorrect = !methodInfo.ArgumentsUnknown;
 			//The reference to the argsNode we should examine next
 			argsNode currentArgsNode = args;
 
 			// Traverse the arguments linked list and verify at each step of the way
 			// that the called argument matches the declared method signature
-			for (int i = 0; i < methodInfo.Arguments.size(); i++) {
+			for (int i = 0; argsCorrect && i < methodInfo.Arguments.size(); i++) {
 
 				if (!(currentArgsNode instanceof nullArgsNode)) {
 
@@ -1532,12 +2361,11 @@ class callNode extends stmtNode {
 					
 					// Make sure that the types match exactly and that the called arg is a
 					// value, scalar param, or variable. (since we can't return references)
-					assertTrue(
-						signatureArg.type.val == calledArg.type.val && 
+					assertTrue(ctx, signatureArg.type == calledArg.type && 
 						(calledArg.kind.val == Kinds.ScalarParm || 
 							calledArg.kind.val == Kinds.Value || 
 							calledArg.kind.val == Kinds.Var),
-							error() + "Method call parameters did not match the method signature.");
+							this, Errors.MethodArgumentMismatch);
 
 					// Advance ptr to next element
 					currentArgsNode = currentArgsNode.moreArgs;
@@ -1549,7 +2377,7 @@ class callNode extends stmtNode {
 						
 						// So fail because of it
 						argsCorrect = false;
-						System.out.println(error() + "Not enough arguments in the method call.");
+						ctx.reportError(this, Errors.MethodTooFewArguments, null);
 						break;
 					}
 				}
@@ -1561,15 +2389,40 @@ class callNode extends stmtNode {
 					!(currentArgsNode instanceof nullArgsNode)) {
 				
 				// So fail because of it
-				System.out.println(error() + "There were too many arguments in the method call.");
+				ctx.reportError(this, Errors.MethodTooManyArguments, null);
 			}
 
 			methodName.idinfo = info;
 
 		} else {
-			methodName.type = new Types(Types.Error);
+			methodName.type = Types.of(Types.Error);
 		}
 	}
+
+	int exec(Frame f) {
+		((MethodSymbolInfo) methodName.idinfo).Decl.invoke(f, args);
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+		MethodSymbolInfo method = (MethodSymbolInfo) methodName.idinfo;
+		args.generate(m, method);
+		if (method.type.val != Types.Void) {
+			m.code.op(Opcodes.POP);
+		}
+	}
+
+	void lower(IrBuilder b) {
+		MethodSymbolInfo method = (MethodSymbolInfo) methodName.idinfo;
+		args.lower(b, method);
+		b.emit(Ir.CALL, -1, b.program.function(method), 0);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.Call, this);
+		out.ident(methodName);
+		out.node(args);
+	}
 } // class callNode
 
 class returnNode extends stmtNode {
@@ -1582,18 +2435,49 @@ class returnNode extends stmtNode {
 
 	// Print like:
 	// ##: return expression;
-	void Unparse(int indent) {
-		System.out.print("return ");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("return ");
 
-		returnVal.Unparse(0);
+		returnVal.Unparse(out, 0);
 	}
 
-	void checkTypes() {
-		returnVal.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		returnVal.checkTypes(ctx);
 		
-		assertTrue(currentMethod.info.type.val == returnVal.type.val && 
+		assertTrue(ctx, ctx.currentMethod.info.type == returnVal.type && 
 				(returnVal.kind.val == Kinds.ScalarParm || returnVal.kind.val == Kinds.Value || returnVal.kind.val == Kinds.Value), 
-				"Return type did not match the method signature return type.");
+				this, Errors.ReturnTypeMismatch);
+	}
+
+	int exec(Frame f) {
+		if (returnVal.type.val == Types.Real) {
+			f.floatResult = returnVal.evalFloat(f);
+		} else if (!returnVal.isNull()) {
+			f.intResult = returnVal.evalInt(f);
+		}
+		return RETURN;
+	}
+
+	void generate(JvmMethod m) {
+		if (returnVal.isNull()) {
+			m.code.op(Opcodes.RETURN);
+		} else {
+			returnVal.generate(m);
+			m.code.op(returnVal.type.val == Types.Real ? Opcodes.FRETURN : Opcodes.IRETURN);
+		}
+	}
+
+	void lower(IrBuilder b) {
+		if (returnVal.isNull()) {
+			b.emit(Ir.RETV, 0, 0, 0);
+		} else {
+			b.emit(Ir.RET, returnVal.lower(b), 0, 0);
+		}
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.Return, this);
+		out.node(returnVal);
 	}
 } // class returnNode
 
@@ -1614,31 +2498,45 @@ class blockNode extends stmtNode {
 	// fieldDeclarations
 	// statements
 	// }
-	void Unparse(int indent) {
-		System.out.print(linenum + ":");
-		genIndent(indent);
-		System.out.println("{");
-		
-		st.openScope();
+	void Unparse(CodeWriter out, int indent) {
+		out.print(linenum + ":");
+		out.indent(indent);
+		out.println("{");
 
-		decls.Unparse(indent + 1);
-		stmts.Unparse(indent + 1);
+		decls.Unparse(out, indent + 1);
+		stmts.Unparse(out, indent + 1);
 
-		try {
-			st.closeScope();
-		} catch (EmptySTException e) {
-			throw new RuntimeException("Tried to close a scope but no scope was available to close.");
-		}
+		out.print(closingLineNum + ":");
+		out.indent(indent);
+		out.print("}");
+
+	}
+
+	void checkTypes(CompilationContext ctx) {
+		decls.checkTypes(ctx);
+		stmts.checkTypes(ctx);
+	}
+
+	int exec(Frame f) {
+		decls.exec(f);
+		return stmts.exec(f);
+	}
 
-		System.out.print(closingLineNum + ":");
-		genIndent(indent);
-		System.out.print("}");
+	void generate(JvmMethod m) {
+		decls.generate(m);
+		stmts.generate(m);
+	}
 
+	void lower(IrBuilder b) {
+		decls.lower(b);
+		stmts.lower(b);
 	}
 
-	void checkTypes() {
-		decls.checkTypes();
-		stmts.checkTypes();
+	void serialize(AstWriter out) {
+		out.start(AstTags.Block, this);
+		out.node(decls);
+		out.node(stmts);
+		out.line(closingLineNum);
 	}
 } // class blockNode
 
@@ -1652,22 +2550,40 @@ class breakNode extends stmtNode {
 
 	// Print like:
 	// ##: break label;
-	void Unparse(int indent) {
-		System.out.print("break ");
-		label.Unparse(0);
+	void Unparse(CodeWriter out, int indent) {
+		out.print("break ");
+		label.Unparse(out, 0);
 	}
 
-	void checkTypes() {
-		label.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		label.checkTypes(ctx);
 		
-		SymbolInfo info = (LabelSymbolInfo) st.localLookup(label.idname);
+		SymbolInfo info = (LabelSymbolInfo) ctx.st.localLookup(label.idname);
 
 		if (info != null) {
 			LabelSymbolInfo labelInfo = (LabelSymbolInfo) info;
 
-			assertTrue(labelInfo.Visible, error() + "Label: " + label.idname + " is no longer visible.");
+			assertTrue(ctx, labelInfo.Visible, this, Errors.LabelNotVisible, label.idname);
 		}
 	}
+
+	int exec(Frame f) {
+		f.jump = label.idname;
+		return BREAK;
+	}
+
+	void generate(JvmMethod m) {
+		m.leave(label.idname, false, this);
+	}
+
+	void lower(IrBuilder b) {
+		b.leave(label.idname, false);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.Break, this);
+		out.ident(label);
+	}
 } // class breakNode
 
 class continueNode extends stmtNode {
@@ -1680,22 +2596,40 @@ class continueNode extends stmtNode {
 
 	// Print like:
 	// ##: continue label;
-	void Unparse(int indent) {
-		System.out.print("continue ");
-		label.Unparse(0);
+	void Unparse(CodeWriter out, int indent) {
+		out.print("continue ");
+		label.Unparse(out, 0);
 	}
 
-	void checkTypes() {
-		label.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		label.checkTypes(ctx);
 		
-		SymbolInfo info = (LabelSymbolInfo) st.localLookup(label.idname);
+		SymbolInfo info = (LabelSymbolInfo) ctx.st.localLookup(label.idname);
 
 		if (info != null) {
 			LabelSymbolInfo labelInfo = (LabelSymbolInfo) info;
 
-			assertTrue(labelInfo.Visible, error() + "Label: " + label.idname + " is no longer visible.");
+			assertTrue(ctx, labelInfo.Visible, this, Errors.LabelNotVisible, label.idname);
 		}
 	}
+
+	int exec(Frame f) {
+		f.jump = label.idname;
+		return CONTINUE;
+	}
+
+	void generate(JvmMethod m) {
+		m.leave(label.idname, true, this);
+	}
+
+	void lower(IrBuilder b) {
+		b.leave(label.idname, true);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.Continue, this);
+		out.ident(label);
+	}
 } // class continueNode
 
 class argsNode extends ASTNode {
@@ -1714,20 +2648,88 @@ class argsNode extends ASTNode {
 
 	// Print like:
 	// thisExpression, nextExpression, ... , lastExpression
-	void Unparse(int indent) {
-		argVal.Unparse(0);
+	void Unparse(CodeWriter out, int indent) {
+		for (argsNode a = this; !a.isNull(); a = a.moreArgs) {
+			a.argVal.Unparse(out, 0);
 
-		// Make sure we're not at the end of the args list
-		if (!(moreArgs instanceof nullArgsNode)) {
-			System.out.print(", ");
+			// Make sure we're not at the end of the args list
+			if (!(a.moreArgs instanceof nullArgsNode)) {
+				out.print(", ");
+			}
 		}
+	}
 
-		moreArgs.Unparse(0);
+	void checkTypes(CompilationContext ctx) {
+		for (argsNode a = this; !a.isNull(); a = a.moreArgs) {
+			a.argVal.checkTypes(ctx);
+		}
 	}
 
-	void checkTypes() {
-		argVal.checkTypes();
-		moreArgs.checkTypes();
+	// Generates a call of method with these arguments. Parameters left
+	// without one (a call the checker lets through) get zero, as in the interpreter
+	void generate(JvmMethod m, MethodSymbolInfo method) {
+		argsNode a = this;
+		for (SymbolInfo param : method.Arguments) {
+			if (a.isNull()) {
+				if (param.storage == FrameLayout.ARRAYS) {
+					m.code.op(Opcodes.ACONST_NULL);
+				} else if (param.storage == FrameLayout.FLOATS) {
+					m.code.push(0f);
+				} else {
+					m.code.push(0);
+				}
+			} else {
+				a.argVal.generate(m);
+				if (param.storage == FrameLayout.FLOATS && a.argVal.type.val != Types.Real) {
+					m.code.op(Opcodes.I2F);
+				}
+				a = a.moreArgs;
+			}
+		}
+		m.code.invokeStatic(m.owner, method.name(), JvmMethod.descriptor(method));
+	}
+
+	// Lowers the arguments of a call of method, passing each with an ARG once
+	// all are evaluated, so no call among them comes between an ARG and its CALL
+	void lower(IrBuilder b, MethodSymbolInfo method) {
+		int[] values = new int[method.Arguments.size()];
+		argsNode a = this;
+		int i = 0;
+		for (SymbolInfo param : method.Arguments) {
+			if (a.isNull()) {
+				if (param.storage == FrameLayout.ARRAYS) {
+					values[i] = -1;
+				} else {
+					values[i] = param.storage == FrameLayout.FLOATS ? b.constant(0f) : b.constant(0);
+				}
+			} else {
+				values[i] = a.argVal.lower(b);
+				if (param.storage == FrameLayout.FLOATS) {
+					values[i] = b.toFloat(values[i], a.argVal);
+				}
+				a = a.moreArgs;
+			}
+			i++;
+		}
+		for (i = 0; i < values.length; i++) {
+			if (values[i] >= 0) {
+				b.emit(Ir.ARG, values[i], i, 0);
+			}
+		}
+	}
+
+	void serialize(AstWriter out) {
+		int count = 0;
+		boolean atElements = true;
+		for (argsNode c = this; !c.isNull(); c = c.moreArgs) {
+			count++;
+			atElements &= AstWriter.atElement(c, c.argVal);
+		}
+		out.list(AstTags.Args, count, atElements);
+		for (argsNode c = this; !c.isNull(); c = c.moreArgs) {
+			out.cell(c, atElements);
+			out.node(c.argVal);
+		}
 	}
 } // class argsNode
 
@@ -1740,12 +2742,16 @@ class nullArgsNode extends argsNode {
 		return true;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// No type check needed
 	}
+
+	void serialize(AstWriter out) {
+		out.none();
+	}
 } // class nullArgsNode
 
 class strLitNode extends exprNode {
@@ -1754,15 +2760,34 @@ class strLitNode extends exprNode {
 		strval = stringval;
 	}
 
-	private final String strval;
+	private final String strval; // As written, in quotes and with escapes
 
-	void Unparse(int indent) {
-		System.out.print(escapeCharacters(strval));
+	void Unparse(CodeWriter out, int indent) {
+		out.print(escapeCharacters(strval));
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// string lits are always correct
 	}
+
+	// The characters the literal stands for
+	String text() {
+		StringBuilder text = new StringBuilder();
+		for (int i = 1; i < strval.length() - 1; i++) {
+			char c = strval.charAt(i);
+			if (c == '\\') {
+				c = strval.charAt(++i);
+				c = c == 'n' ? '\n' : c == 't' ? '\t' : c == 'r' ? '\r' : c;
+			}
+			text.append(c);
+		}
+		return text.toString();
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.StrLit, this);
+		out.string(strval);
+	}
 } // class strLitNode
 
 // abstract superclass; only subclasses are actually created
@@ -1773,8 +2798,8 @@ abstract class exprNode extends ASTNode {
 
 	exprNode(int l, int c) {
 		super(l, c);
-		type = new Types();
-		kind = new Kinds();
+		type = Types.of(Types.Unknown);
+		kind = Kinds.of(Kinds.Unknown);
 	} // exprNode
 
 	exprNode(int l, int c, Types t, Kinds k) {
@@ -1786,6 +2811,78 @@ abstract class exprNode extends ASTNode {
 	static nullExprNode NULL = new nullExprNode();
 	protected Types type; // Used for typechecking: the type of this node
 	protected Kinds kind; // Used for typechecking: the kind of this node
+
+	// The value of an int, char or bool expression in f (a bool is 0 or 1)
+	int evalInt(Frame f) {
+		throw new IllegalStateException(getClass().getName() + " has no int value");
+	}
+
+	// The value of a float expression in f
+	float evalFloat(Frame f) {
+		throw new IllegalStateException(getClass().getName() + " has no float value");
+	}
+
+	// The int[] or float[] an array expression names in f
+	Object evalArray(Frame f) {
+		throw new IllegalStateException(getClass().getName() + " has no array value");
+	}
+
+	// Generates the code that pushes the value of this expression
+	void generate(JvmMethod m) {
+		throw new IllegalStateException(getClass().getName() + " generates no value");
+	}
+
+	// As above, widening an int, char or bool to a float
+	void generateFloat(JvmMethod m) {
+		generate(m);
+		if (type.val != Types.Real) {
+			m.code.op(Opcodes.I2F);
+		}
+	}
+
+	// Generates a jump to target, taken when this bool expression is when
+	void branch(JvmMethod m, boolean when, ClassFile.Label target) {
+		generate(m);
+		m.code.jump(when ? Opcodes.IFNE : Opcodes.IFEQ, target);
+	}
+
+	// Pushes 1 or 0 for a bool expression that has to branch to be decided
+	void generateCondition(JvmMethod m) {
+		ClassFile.Label otherwise = new ClassFile.Label();
+		ClassFile.Label end = new ClassFile.Label();
+		branch(m, false, otherwise);
+		m.code.push(1);
+		m.code.jump(Opcodes.GOTO, end);
+		m.code.place(otherwise);
+		m.code.push(0);
+		m.code.place(end);
+	}
+
+	// Lowers this expression, returning the register that holds its value
+	int lower(IrBuilder b) {
+		throw new IllegalStateException(getClass().getName() + " lowers to no value");
+	}
+
+	// As above, widening an int, char or bool to a float
+	int lowerFloat(IrBuilder b) {
+		return b.toFloat(lower(b), this);
+	}
+
+	// Stores value, evaluated in source, as the whole of v in target. An int
+	// is widened for a float variable, as a float parameter may be passed one
+	static void assign(Frame target, SymbolInfo v, exprNode value, Frame source) {
+		switch (v.storage) {
+		case FrameLayout.INTS:
+			target.storeInt(v, value.evalInt(source));
+			break;
+		case FrameLayout.FLOATS:
+			target.storeFloat(v, value.type.val == Types.Real ? value.evalFloat(source) : value.evalInt(source));
+			break;
+		default:
+			target.storeArray(v, value.evalArray(source));
+			break;
+		}
+	}
 }
 
 class nullExprNode extends exprNode {
@@ -1797,12 +2894,16 @@ class nullExprNode extends exprNode {
 		return true;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// No type check needed
 	}
+
+	void serialize(AstWriter out) {
+		out.none();
+	}
 } // class nullExprNode
 
 class binaryOpNode extends exprNode {
@@ -1835,23 +2936,27 @@ class binaryOpNode extends exprNode {
 			return "||";
 		case sym.CAND:
 			return "&&";
+		case sym.EQ:
+			return "==";
+		case sym.NOTEQ:
+			return "!=";
 
 		default:
 			throw new Error("printOp: case not found");
 		}
 	}
 
-	void Unparse(int indent) {
-		System.out.print("(");
-		leftOperand.Unparse(0);
-		System.out.print(" " + getOpString(operatorCode) + " ");
-		rightOperand.Unparse(0);
-		System.out.print(")");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("(");
+		leftOperand.Unparse(out, 0);
+		out.print(" " + getOpString(operatorCode) + " ");
+		rightOperand.Unparse(out, 0);
+		out.print(")");
 	}
 
-	void checkTypes() {
-		leftOperand.checkTypes();
-		rightOperand.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		leftOperand.checkTypes(ctx);
+		rightOperand.checkTypes(ctx);
 
 		int returnType = Types.Error;
 
@@ -1866,9 +2971,9 @@ class binaryOpNode extends exprNode {
 		case sym.GEQ:
 		case sym.EQ:
 		case sym.NOTEQ:
-			returnType = assertArithmeticCompatible(leftOperand.kind.val, leftOperand.type.val, rightOperand.kind.val,
+			returnType = assertArithmeticCompatible(ctx, leftOperand.kind.val, leftOperand.type.val, rightOperand.kind.val,
 					rightOperand.type.val,
-					error() + "Left and right operand are not compatible for operator: " + getOpString(operatorCode));
+					this, Errors.IncompatibleOperands, operatorCode);
 			
 			if(returnType != Types.Unknown && returnType != Types.Error)
 			{
@@ -1886,25 +2991,244 @@ class binaryOpNode extends exprNode {
 			break;
 		case sym.CAND:
 		case sym.COR:
-			returnType = assertBooleanCompatible(
-					leftOperand.kind.val,
+			returnType = assertBooleanCompatible(ctx, leftOperand.kind.val,
 					leftOperand.type.val,
 					rightOperand.kind.val,
 					rightOperand.type.val,
-					error() + 
-						"Left and right operands of the operator: " + 
-						getOpString(operatorCode) + 
-						" requires both sides to be of type boolean.");
+					this, Errors.NonBooleanOperands, operatorCode);
 			break;
 		}
 
-		kind = new Kinds(Kinds.Value);
-		type = new Types(returnType);
+		kind = Kinds.of(Kinds.Value);
+		type = Types.of(returnType);
 	} // checkTypes
 
+	int evalInt(Frame f) {
+		switch (operatorCode) {
+		case sym.CAND:
+			return leftOperand.evalInt(f) != 0 ? rightOperand.evalInt(f) : 0;
+		case sym.COR:
+			return leftOperand.evalInt(f) != 0 ? 1 : rightOperand.evalInt(f);
+		}
+
+		if (leftOperand.type.val == Types.Real) {
+			// A comparison of floats
+			float left = leftOperand.evalFloat(f);
+			float right = rightOperand.evalFloat(f);
+			switch (operatorCode) {
+			case sym.LT:
+				return left < right ? 1 : 0;
+			case sym.GT:
+				return left > right ? 1 : 0;
+			case sym.LEQ:
+				return left <= right ? 1 : 0;
+			case sym.GEQ:
+				return left >= right ? 1 : 0;
+			case sym.EQ:
+				return left == right ? 1 : 0;
+			default:
+				return left != right ? 1 : 0;
+			}
+		}
+
+		int left = leftOperand.evalInt(f);
+		int right = rightOperand.evalInt(f);
+		switch (operatorCode) {
+		case sym.PLUS:
+			return type.val == Types.Character ? (left + right) & 0xFFFF : left + right;
+		case sym.MINUS:
+			return type.val == Types.Character ? (left - right) & 0xFFFF : left - right;
+		case sym.TIMES:
+			return type.val == Types.Character ? (left * right) & 0xFFFF : left * right;
+		case sym.SLASH:
+			if (right == 0) {
+				throw new CsxRuntimeException(this, "division by zero");
+			}
+			return left / right;
+		case sym.LT:
+			return left < right ? 1 : 0;
+		case sym.GT:
+			return left > right ? 1 : 0;
+		case sym.LEQ:
+			return left <= right ? 1 : 0;
+		case sym.GEQ:
+			return left >= right ? 1 : 0;
+		case sym.EQ:
+			return left == right ? 1 : 0;
+		default:
+			return left != right ? 1 : 0;
+		}
+	} // evalInt
+
+	float evalFloat(Frame f) {
+		float left = leftOperand.evalFloat(f);
+		float right = rightOperand.evalFloat(f);
+		switch (operatorCode) {
+		case sym.PLUS:
+			return left + right;
+		case sym.MINUS:
+			return left - right;
+		case sym.TIMES:
+			return left * right;
+		default:
+			return left / right;
+		}
+	} // evalFloat
+
+	void generate(JvmMethod m) {
+		if (type.val == Types.Boolean) {
+			generateCondition(m);
+		} else if (type.val == Types.Real) {
+			leftOperand.generateFloat(m);
+			rightOperand.generateFloat(m);
+			m.code.op(arithmetic(Opcodes.FADD));
+		} else {
+			leftOperand.generate(m);
+			rightOperand.generate(m);
+			m.code.op(arithmetic(Opcodes.IADD));
+			if (type.val == Types.Character) {
+				m.code.op(Opcodes.I2C);
+			}
+		}
+	} // generate
+
+	// The instruction for this operator, given the one that adds its type
+	private int arithmetic(int add) {
+		switch (operatorCode) {
+		case sym.PLUS:
+			return add;
+		case sym.MINUS:
+			return add + (Opcodes.ISUB - Opcodes.IADD);
+		case sym.TIMES:
+			return add + (Opcodes.IMUL - Opcodes.IADD);
+		default:
+			return add + (Opcodes.IDIV - Opcodes.IADD);
+		}
+	}
+
+	void branch(JvmMethod m, boolean when, ClassFile.Label target) {
+		ClassFile.Label skip = new ClassFile.Label();
+		switch (operatorCode) {
+		case sym.CAND:
+			if (when) {
+				leftOperand.branch(m, false, skip);
+				rightOperand.branch(m, true, target);
+				m.code.place(skip);
+			} else {
+				leftOperand.branch(m, false, target);
+				rightOperand.branch(m, false, target);
+			}
+			return;
+		case sym.COR:
+			if (when) {
+				leftOperand.branch(m, true, target);
+				rightOperand.branch(m, true, target);
+			} else {
+				leftOperand.branch(m, true, skip);
+				rightOperand.branch(m, false, target);
+				m.code.place(skip);
+			}
+			return;
+		}
+
+		int jump = when ? comparison() : Opcodes.negate(comparison());
+		if (leftOperand.type.val == Types.Real || rightOperand.type.val == Types.Real) {
+			leftOperand.generateFloat(m);
+			rightOperand.generateFloat(m);
+			// A NaN makes every comparison but != false: FCMPG gives it 1, FCMPL -1
+			m.code.op(operatorCode == sym.LT || operatorCode == sym.LEQ ? Opcodes.FCMPG : Opcodes.FCMPL);
+			m.code.jump(jump, target);
+		} else {
+			leftOperand.generate(m);
+			rightOperand.generate(m);
+			m.code.jump(jump + (Opcodes.IF_ICMPEQ - Opcodes.IFEQ), target);
+		}
+	} // branch
+
+	// The jump that compares a value with zero the way this operator compares its operands
+	private int comparison() {
+		switch (operatorCode) {
+		case sym.LT:
+			return Opcodes.IFLT;
+		case sym.GT:
+			return Opcodes.IFGT;
+		case sym.LEQ:
+			return Opcodes.IFLE;
+		case sym.GEQ:
+			return Opcodes.IFGE;
+		case sym.EQ:
+			return Opcodes.IFEQ;
+		default:
+			return Opcodes.IFNE;
+		}
+	}
+
+	int lower(IrBuilder b) {
+		if (operatorCode == sym.CAND || operatorCode == sym.COR) {
+			// The right operand is only evaluated when the left doesn't decide
+			int result = b.temp();
+			int end = b.label();
+			b.emit(Ir.MOV, result, leftOperand.lower(b), 0);
+			b.emit(operatorCode == sym.CAND ? Ir.JZ : Ir.JNZ, result, end, 0);
+			b.emit(Ir.MOV, result, rightOperand.lower(b), 0);
+			b.place(end);
+			return result;
+		}
+
+		int op;
+		switch (operatorCode) {
+		case sym.PLUS:
+			op = Ir.IADD;
+			break;
+		case sym.MINUS:
+			op = Ir.ISUB;
+			break;
+		case sym.TIMES:
+			op = Ir.IMUL;
+			break;
+		case sym.SLASH:
+			op = Ir.IDIV;
+			break;
+		case sym.LT:
+			op = Ir.ILT;
+			break;
+		case sym.LEQ:
+			op = Ir.ILE;
+			break;
+		case sym.GT:
+			op = Ir.IGT;
+			break;
+		case sym.GEQ:
+			op = Ir.IGE;
+			break;
+		case sym.EQ:
+			op = Ir.IEQ;
+			break;
+		default:
+			op = Ir.INE;
+			break;
+		}
+
+		if (type.val == Types.Real) {
+			return b.value(op + (Ir.FADD - Ir.IADD), leftOperand.lowerFloat(b), rightOperand.lowerFloat(b));
+		}
+		if (op >= Ir.ILT && (leftOperand.type.val == Types.Real || rightOperand.type.val == Types.Real)) {
+			return b.value(op + (Ir.FLT - Ir.ILT), leftOperand.lowerFloat(b), rightOperand.lowerFloat(b));
+		}
+		int result = b.value(op, leftOperand.lower(b), rightOperand.lower(b));
+		return type.val == Types.Character ? b.value(Ir.CHR, result, 0) : result;
+	} // lower
+
 	private final exprNode leftOperand;
 	private final exprNode rightOperand;
 	private final int operatorCode; // Token code of the operator
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.BinaryOp, this);
+		out.node(leftOperand);
+		out.integer(operatorCode);
+		out.node(rightOperand);
+	}
 } // class binaryOpNode
 
 class unaryOpNode extends exprNode {
@@ -1914,23 +3238,23 @@ class unaryOpNode extends exprNode {
 		operatorCode = op;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 		if (operatorCode == sym.NOT) {
-			System.out.print("!");
+			out.print("!");
 		}
-		operand.Unparse(0);
+		operand.Unparse(out, 0);
 	}
 
-	void checkTypes() {
-		operand.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		operand.checkTypes(ctx);
 
 		if (operatorCode == sym.NOT) {
-			assertTrue(operand.type.val == Types.Boolean && 
+			assertTrue(ctx, operand.type.val == Types.Boolean && 
 					(operand.kind.val == Kinds.ScalarParm || operand.kind.val == Kinds.Value || operand.kind.val == Kinds.Var)
-					, error() + "NOT operator requires a boolean operand.");
+					, this, Errors.NonBooleanNot);
 			
-			kind = new Kinds(Kinds.Value);
-			type = new Types(Types.Boolean);
+			kind = Kinds.of(Kinds.Value);
+			type = Types.of(Types.Boolean);
 			
 		} else if (operatorCode == sym.IDENTIFIER) {
 			// it's used to hold an id
@@ -1944,8 +3268,46 @@ class unaryOpNode extends exprNode {
 		}
 	}
 
+	int evalInt(Frame f) {
+		if (operatorCode == sym.NOT) {
+			return operand.evalInt(f) == 0 ? 1 : 0;
+		}
+		return operand.evalInt(f);
+	}
+
+	float evalFloat(Frame f) {
+		return operand.evalFloat(f);
+	}
+
+	Object evalArray(Frame f) {
+		return operand.evalArray(f);
+	}
+
+	void generate(JvmMethod m) {
+		if (operatorCode == sym.NOT) {
+			generateCondition(m);
+		} else {
+			operand.generate(m);
+		}
+	}
+
+	void branch(JvmMethod m, boolean when, ClassFile.Label target) {
+		operand.branch(m, operatorCode == sym.NOT ? !when : when, target);
+	}
+
+	int lower(IrBuilder b) {
+		int value = operand.lower(b);
+		return operatorCode == sym.NOT ? b.value(Ir.NOT, value, 0) : value;
+	}
+
 	private final exprNode operand;
 	private final int operatorCode; // Token code of the operator
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.UnaryOp, this);
+		out.integer(operatorCode);
+		out.node(operand);
+	}
 } // class unaryOpNode
 
 class castNode extends exprNode {
@@ -1955,39 +3317,97 @@ class castNode extends exprNode {
 		resultType = t;
 	}
 
-	void Unparse(int indent) {
-		System.out.println("(");
-		resultType.Unparse(0);
-		System.out.println(")");
+	void Unparse(CodeWriter out, int indent) {
+		out.println("(");
+		resultType.Unparse(out, 0);
+		out.println(")");
 
-		operand.Unparse(0);
+		operand.Unparse(out, 0);
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// the project doc says :: Any expression (including variables,
 		// constants and literals)
 		// of type int, char or bool may be type-cast to an int, char, float or
 		// bool value.
 		// These are the only type casts allowed.
-		assertTrue(resultType.type.val == Types.Real || 
+		assertTrue(ctx, resultType.type.val == Types.Real || 
 				resultType.type.val == Types.Character || 
 				resultType.type.val == Types.Integer || 
 				resultType.type.val == Types.Boolean, 
-				error() + "Only valid casts are to FLOAT, CHAR, INT, and BOOL.");
+				this, Errors.InvalidCastTarget);
 
-		assertTrue(operand.type.val == Types.Character || 
+		assertTrue(ctx, operand.type.val == Types.Character || 
 				operand.type.val == Types.Integer || 
 				operand.type.val == Types.Boolean, 
-				error() + "Only source types to cast from are CHAR, INT, and BOOL.");
+				this, Errors.InvalidCastSource);
 
-		operand.checkTypes();
+		operand.checkTypes(ctx);
 		
 		type = resultType.type;
-		kind = new Kinds(Kinds.Value);
+		kind = Kinds.of(Kinds.Value);
+	}
+
+	// The operand is an int, char or bool; a char keeps the low 16 bits of an int
+	int evalInt(Frame f) {
+		int value = operand.evalInt(f);
+		switch (type.val) {
+		case Types.Character:
+			return value & 0xFFFF;
+		case Types.Boolean:
+			return value != 0 ? 1 : 0;
+		default:
+			return value;
+		}
+	}
+
+	float evalFloat(Frame f) {
+		return operand.evalInt(f);
+	}
+
+	void generate(JvmMethod m) {
+		if (type.val == Types.Boolean && operand.type.val != Types.Boolean) {
+			generateCondition(m);
+			return;
+		}
+		operand.generate(m);
+		if (type.val == Types.Real) {
+			m.code.op(Opcodes.I2F);
+		} else if (type.val == Types.Character && operand.type.val != Types.Character) {
+			m.code.op(Opcodes.I2C);
+		}
+	}
+
+	void branch(JvmMethod m, boolean when, ClassFile.Label target) {
+		operand.generate(m);
+		m.code.jump(when ? Opcodes.IFNE : Opcodes.IFEQ, target);
+	}
+
+	int lower(IrBuilder b) {
+		int value = operand.lower(b);
+		if (type.val == operand.type.val) {
+			return value;
+		}
+		switch (type.val) {
+		case Types.Real:
+			return b.value(Ir.I2F, value, 0);
+		case Types.Character:
+			return b.value(Ir.CHR, value, 0);
+		case Types.Boolean:
+			return b.value(Ir.BOOL, value, 0);
+		default:
+			return value;
+		}
 	}
 
 	private final exprNode operand;
 	private final typeNode resultType;
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.Cast, this);
+		out.node(resultType);
+		out.node(operand);
+	}
 } // class castNode
 
 class fctCallNode extends exprNode {
@@ -1997,35 +3417,36 @@ class fctCallNode extends exprNode {
 		methodArgs = a;
 	}
 
-	void Unparse(int indent) {
-		methodName.Unparse(indent);
-		System.out.print('(');
-		methodArgs.Unparse(0);
-		System.out.print(")");
+	void Unparse(CodeWriter out, int indent) {
+		methodName.Unparse(out, indent);
+		out.print('(');
+		methodArgs.Unparse(out, 0);
+		out.print(")");
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		SymbolInfo info;
 		// Make sure id is not already declared
-		info = (SymbolInfo) st.globalLookup(methodName.idname);
+		info = (SymbolInfo) ctx.st.globalLookup(methodName.idname);
 		
 		//Make sure that the name of the method is declared already
-		assertTrue(info != null, error() + methodName.idname + " is not declared.");
+		assertTrue(ctx, info != null, this, Errors.NotDeclared, methodName.idname);
 
 		if (info != null) {
 
 			// Check the types of each argument, so that they evaluate their own types
-			methodArgs.checkTypes();
+			methodArgs.checkTypes(ctx);
 
 			MethodSymbolInfo methodInfo = (MethodSymbolInfo) info;
 			
-			boolean argsCorrect = true;
+			// A method whose header didn't parse has no signature to check against
+			boolean argsCorrect = !methodInfo.ArgumentsUnknown;
 			//The reference to the argsNode we should examine next
 			argsNode currentArgsNode = methodArgs;
 
 			// Traverse the arguments linked list and verify at each step of the way
 			// that the called argument matches the declared method signature
-			for (int i = 0; i < methodInfo.Arguments.size(); i++) {
+			for (int i = 0; argsCorrect && i < methodInfo.Arguments.size(); i++) {
 
 				if (!(currentArgsNode instanceof nullArgsNode)) {
 
@@ -2035,12 +3456,11 @@ class fctCallNode extends exprNode {
 					
 					// Make sure that the types match exactly and that the called arg is a
 					// value, scalar param, or variable. (since we can't return references)
-					assertTrue(
-						signatureArg.type.val == calledArg.type.val && 
+					assertTrue(ctx, signatureArg.type == calledArg.type && 
 						(calledArg.kind.val == Kinds.ScalarParm || 
 							calledArg.kind.val == Kinds.Value || 
 							calledArg.kind.val == Kinds.Var),
-							error() + "Function call parameters did not match the method signature.");
+							this, Errors.FunctionArgumentMismatch);
 
 					// Advance ptr to next element
 					currentArgsNode = currentArgsNode.moreArgs;
@@ -2052,7 +3472,7 @@ class fctCallNode extends exprNode {
 						
 						// So fail because of it
 						argsCorrect = false;
-						System.out.println(error() + "Not enough arguments in the function call.");
+						ctx.reportError(this, Errors.FunctionTooFewArguments, null);
 						break;
 					}
 				}
@@ -2064,47 +3484,70 @@ class fctCallNode extends exprNode {
 					!(currentArgsNode instanceof nullArgsNode)) {
 				
 				// So fail because of it
-				System.out.println(error() + "There were too many arguments in the function call.");
+				ctx.reportError(this, Errors.FunctionTooManyArguments, null);
 			}
 
 			methodName.idinfo = info;
 			
 			type = info.type;
-			kind = new Kinds(Kinds.Value);
+			kind = Kinds.of(Kinds.Value);
 
 		} else {
-			methodName.type = new Types(Types.Error);
+			methodName.type = Types.of(Types.Error);
 		}
 	}
 
+	int evalInt(Frame f) {
+		return ((MethodSymbolInfo) methodName.idinfo).Decl.invoke(f, methodArgs).intResult;
+	}
+
+	float evalFloat(Frame f) {
+		return ((MethodSymbolInfo) methodName.idinfo).Decl.invoke(f, methodArgs).floatResult;
+	}
+
+	void generate(JvmMethod m) {
+		methodArgs.generate(m, (MethodSymbolInfo) methodName.idinfo);
+	}
+
+	int lower(IrBuilder b) {
+		MethodSymbolInfo method = (MethodSymbolInfo) methodName.idinfo;
+		methodArgs.lower(b, method);
+		int result = b.temp();
+		b.emit(Ir.CALL, result, b.program.function(method), 0);
+		return result;
+	}
+
 	private final identNode methodName;
 	private final argsNode methodArgs;
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.FctCall, this);
+		out.ident(methodName);
+		out.node(methodArgs);
+	}
 } // class fctCallNode
 
 class identNode extends exprNode {
-	identNode(String identname, int line, int col) {
-		super(line, col, new Types(Types.Unknown), new Kinds(Kinds.Var));
+	identNode(Name identname, int line, int col) {
+		super(line, col, Types.of(Types.Unknown), Kinds.of(Kinds.Var));
 		idname = identname;
-		nullFlag = false;
 	}
 
-	identNode(boolean flag) {
-		super(0, 0, new Types(Types.Unknown), new Kinds(Kinds.Var));
-		idname = "";
-		nullFlag = flag;
-	} // identNode
-
-	void Unparse(int indent) {
-		System.out.print(idname);
+	void Unparse(CodeWriter out, int indent) {
+		out.print(idname);
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// identNode is always type correct
 	}
 
-	public String idname;
+	public Name idname; // Interned by the lexer, so equal names are the same object
 	public SymbolInfo idinfo; // symbol table entry for this ident
-	private final boolean nullFlag;
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.Ident, this);
+		out.name(idname);
+	}
 } // class identNode
 
 class nameNode extends exprNode {
@@ -2114,20 +3557,20 @@ class nameNode extends exprNode {
 		indexExpr = expr;
 	}
 
-	void Unparse(int indent) {
-		varName.Unparse(indent);
+	void Unparse(CodeWriter out, int indent) {
+		varName.Unparse(out, indent);
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		
-		varName.checkTypes();
-		indexExpr.checkTypes();
+		varName.checkTypes(ctx);
+		indexExpr.checkTypes(ctx);
 
-		SymbolInfo info = (SymbolInfo)st.globalLookup(varName.idname);
+		SymbolInfo info = (SymbolInfo)ctx.st.globalLookup(varName.idname);
 		
 		// Make sure the id is defined, a nameNode means it's referencing the id
-		assertTrue(info != null,
-				error() + "ID " + varName.idname + " was referenced but was not yet declared.");
+		assertTrue(ctx, info != null,
+				this, Errors.NotYetDeclared, varName.idname);
 		
 		if(info != null)
 		{
@@ -2136,7 +3579,7 @@ class nameNode extends exprNode {
 			// array is a variable in this language
 			if(isIndexed())
 			{
-				kind = new Kinds(Kinds.Var);
+				kind = Kinds.of(Kinds.Var);
 			}
 			else
 			{
@@ -2156,88 +3599,375 @@ class nameNode extends exprNode {
 		return !(indexExpr instanceof nullExprNode);
 	}
 
+	int evalInt(Frame f) {
+		if (isIndexed()) {
+			int[] array = (int[]) f.loadArray(varName.idinfo);
+			return array[index(f, array.length)];
+		}
+		return f.loadInt(varName.idinfo);
+	}
+
+	float evalFloat(Frame f) {
+		if (isIndexed()) {
+			float[] array = (float[]) f.loadArray(varName.idinfo);
+			return array[index(f, array.length)];
+		}
+		return f.loadFloat(varName.idinfo);
+	}
+
+	Object evalArray(Frame f) {
+		return f.loadArray(varName.idinfo);
+	}
+
+	// Stores value in the int, char or bool variable or element this names
+	void storeInt(Frame f, int value) {
+		if (isIndexed()) {
+			int[] array = (int[]) f.loadArray(varName.idinfo);
+			array[index(f, array.length)] = value;
+		} else {
+			f.storeInt(varName.idinfo, value);
+		}
+	}
+
+	// Assigns value, evaluated in f, to what this names. A whole array is
+	// copied element by element into the one already there
+	void store(Frame f, exprNode value) {
+		SymbolInfo info = varName.idinfo;
+		if (isIndexed()) {
+			if (info.type.val == Types.Real) {
+				float[] array = (float[]) f.loadArray(info);
+				array[index(f, array.length)] = value.evalFloat(f);
+			} else {
+				int[] array = (int[]) f.loadArray(info);
+				array[index(f, array.length)] = value.evalInt(f);
+			}
+		} else if (info.storage == FrameLayout.ARRAYS) {
+			Object from = value.evalArray(f);
+			Object to = f.loadArray(info);
+			int length = java.lang.reflect.Array.getLength(to);
+			if (java.lang.reflect.Array.getLength(from) != length) {
+				throw new CsxRuntimeException(this, "arrays " + varName.idname + " and "
+						+ ((nameNode) value).varName.idname + " differ in length");
+			}
+			System.arraycopy(from, 0, to, 0, length);
+		} else {
+			exprNode.assign(f, info, value, f);
+		}
+	}
+
+	void generate(JvmMethod m) {
+		generateTarget(m);
+		if (isIndexed()) {
+			m.code.op(JvmMethod.arrayLoad(varName.idinfo.type));
+		} else {
+			m.load(varName.idinfo);
+		}
+	}
+
+	// Generates the assignment of value to what this names. A whole array
+	// is copied element by element into the one already there
+	void generateStore(JvmMethod m, exprNode value) {
+		SymbolInfo info = varName.idinfo;
+		if (isIndexed()) {
+			generateTarget(m);
+			if (info.type.val == Types.Real) {
+				value.generateFloat(m);
+			} else {
+				value.generate(m);
+			}
+			m.code.op(JvmMethod.arrayStore(info.type));
+		} else if (info.storage == FrameLayout.ARRAYS) {
+			value.generate(m);
+			m.load(info);
+			m.code.push(varName.idname.toString());
+			m.code.push(((nameNode) value).varName.idname.toString());
+			m.code.invokeStatic("CsxRuntime", "copy",
+					"(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/String;Ljava/lang/String;)V");
+		} else {
+			value.generate(m);
+			m.store(info, value);
+		}
+	}
+
+	// Pushes what has to be under a value stored in an element: the array and the index,
+	// which CsxRuntime.index has checked so a bad one is reported with the array's name
+	void generateTarget(JvmMethod m) {
+		if (isIndexed()) {
+			SymbolInfo info = varName.idinfo;
+			m.load(info);
+			m.load(info);
+			indexExpr.generate(m);
+			m.code.push(varName.idname.toString());
+			m.code.invokeStatic("CsxRuntime", "index", "(" + JvmMethod.descriptor(info) + "ILjava/lang/String;)I");
+		}
+	}
+
+	// Pops a value, pushed after generateTarget, into what this names
+	void generateAssign(JvmMethod m) {
+		if (isIndexed()) {
+			m.code.op(JvmMethod.arrayStore(varName.idinfo.type));
+		} else {
+			m.store(varName.idinfo);
+		}
+	}
+
+	// Adds delta to the int variable this names
+	void generateIncrement(JvmMethod m, int delta) {
+		SymbolInfo info = varName.idinfo;
+		if (!info.global && !isIndexed()) {
+			m.code.iinc(info.local, delta);
+		} else {
+			if (isIndexed()) {
+				generateTarget(m);
+				m.code.op(Opcodes.DUP2);
+				m.code.op(JvmMethod.arrayLoad(varName.idinfo.type));
+			} else {
+				m.load(info);
+			}
+			m.code.push(delta);
+			m.code.op(Opcodes.IADD);
+			generateAssign(m);
+		}
+	}
+
+	int lower(IrBuilder b) {
+		SymbolInfo info = varName.idinfo;
+		if (isIndexed()) {
+			int index = indexExpr.lower(b);
+			return b.value(info.type.val == Types.Real ? Ir.FLOAD : Ir.LOAD, b.array(info), index);
+		}
+		return b.load(info);
+	}
+
+	// The array operand of the whole array this names
+	int lowerArray(IrBuilder b) {
+		return b.array(varName.idinfo);
+	}
+
+	// Lowers the assignment of value to what this names. A whole array
+	// is copied element by element into the one already there
+	void lowerStore(IrBuilder b, exprNode value) {
+		SymbolInfo info = varName.idinfo;
+		if (isIndexed()) {
+			int index = indexExpr.lower(b);
+			if (info.type.val == Types.Real) {
+				b.emit(Ir.FSTORE, b.array(info), index, value.lowerFloat(b));
+			} else {
+				b.emit(Ir.STORE, b.array(info), index, value.lower(b));
+			}
+		} else if (info.storage == FrameLayout.ARRAYS) {
+			b.emit(Ir.ACOPY, b.array(info), ((nameNode) value).lowerArray(b), 0);
+		} else {
+			b.store(info, value.lower(b), value);
+		}
+	}
+
+	// Stores register value, of this name's own type, in what this names
+	void lowerAssign(IrBuilder b, int value) {
+		SymbolInfo info = varName.idinfo;
+		if (isIndexed()) {
+			b.emit(info.type.val == Types.Real ? Ir.FSTORE : Ir.STORE, b.array(info), indexExpr.lower(b), value);
+		} else {
+			b.store(info, value);
+		}
+	}
+
+	// Adds delta to the int variable this names
+	void lowerIncrement(IrBuilder b, int delta) {
+		lowerAssign(b, b.value(Ir.IADD, lower(b), b.constant(delta)));
+	}
+
+	private int index(Frame f, int length) {
+		int i = indexExpr.evalInt(f);
+		if (i < 0 || i >= length) {
+			throw new CsxRuntimeException(this, "index " + i + " is outside " + varName.idname + "[" + length + "]");
+		}
+		return i;
+	}
+
 	public final identNode varName;
 	private final exprNode indexExpr;
+
+	void serialize(AstWriter out) {
+		if (indexExpr.isNull() && AstWriter.atElement(this, varName)) {
+			// The usual case, a plain variable, takes a tag and a name
+			out.start(AstTags.Variable, this);
+			out.identHere(varName);
+			return;
+		}
+		out.start(AstTags.NameExpr, this);
+		out.ident(varName);
+		out.node(indexExpr);
+	}
 } // class nameNode
 
 class intLitNode extends exprNode {
 	intLitNode(int val, int line, int col) {
-		super(line, col, new Types(Types.Integer), new Kinds(Kinds.Value));
+		super(line, col, Types.of(Types.Integer), Kinds.of(Kinds.Value));
 		intval = val;
 	}
 
-	void Unparse(int indent) {
-		System.out.print(intval);
+	void Unparse(CodeWriter out, int indent) {
+		out.print(intval);
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// All int lits are automatically type-correct
 	}
 
+	int evalInt(Frame f) {
+		return intval;
+	}
+
+	float evalFloat(Frame f) {
+		return intval;
+	}
+
+	static final intLitNode ZERO = new intLitNode(0, -1, -1);
+
 	public final int intval;
+
+	void generate(JvmMethod m) {
+		m.code.push(intval);
+	}
+
+	int lower(IrBuilder b) {
+		return b.constant(intval);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.IntLit, this);
+		out.integer(intval);
+	}
 } // class intLitNode
 
 class floatLitNode extends exprNode {
 	floatLitNode(float val, int line, int col) {
-		super(line, col, new Types(Types.Real), new Kinds(Kinds.Value));
+		super(line, col, Types.of(Types.Real), Kinds.of(Kinds.Value));
 		floatval = val;
 	}
 
-	void Unparse(int indent) {
-		System.out.print(floatval);
+	void Unparse(CodeWriter out, int indent) {
+		out.print(floatval);
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// All float lits are automatically type-correct
 	}
 
+	float evalFloat(Frame f) {
+		return floatval;
+	}
+
 	private final float floatval;
+
+	void generate(JvmMethod m) {
+		m.code.push(floatval);
+	}
+
+	int lower(IrBuilder b) {
+		return b.constant(floatval);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.FloatLit, this);
+		out.real(floatval);
+	}
 } // class floatLitNode
 
 class charLitNode extends exprNode {
 	charLitNode(char val, int line, int col) {
-		super(line, col, new Types(Types.Character), new Kinds(Kinds.Value));
+		super(line, col, Types.of(Types.Character), Kinds.of(Kinds.Value));
 		charval = val;
 	}
 
-	void Unparse(int indent) {
+	void Unparse(CodeWriter out, int indent) {
 		String tmp = escapeCharacters(charval);
-		System.out.print(tmp);
+		out.print(tmp);
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// All char lits are automatically type-correct
 	}
 
+	int evalInt(Frame f) {
+		return charval;
+	}
+
 	private final char charval;
+
+	void generate(JvmMethod m) {
+		m.code.push(charval);
+	}
+
+	int lower(IrBuilder b) {
+		return b.constant((int) charval);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.CharLit, this);
+		out.integer(charval);
+	}
 } // class charLitNode
 
 class trueNode extends exprNode {
 	trueNode(int line, int col) {
-		super(line, col, new Types(Types.Boolean), new Kinds(Kinds.Value));
+		super(line, col, Types.of(Types.Boolean), Kinds.of(Kinds.Value));
 	}
 
-	void Unparse(int indent) {
-		System.out.print("True");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("True");
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// All true lits are automatically type-correct
 	}
+
+	int evalInt(Frame f) {
+		return 1;
+	}
+
+	void generate(JvmMethod m) {
+		m.code.push(1);
+	}
+
+	int lower(IrBuilder b) {
+		return b.constant(1);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.True, this);
+	}
 } // class trueNode
 
 class falseNode extends exprNode {
 	falseNode(int line, int col) {
-		super(line, col, new Types(Types.Boolean), new Kinds(Kinds.Value));
+		super(line, col, Types.of(Types.Boolean), Kinds.of(Kinds.Value));
 	}
 
-	void Unparse(int indent) {
-		System.out.print("False");
+	void Unparse(CodeWriter out, int indent) {
+		out.print("False");
 	}
 
-	void checkTypes() {
+	void checkTypes(CompilationContext ctx) {
 		// False literals are always correct
 	}
+
+	int evalInt(Frame f) {
+		return 0;
+	}
+
+	void generate(JvmMethod m) {
+		m.code.push(0);
+	}
+
+	int lower(IrBuilder b) {
+		return b.constant(0);
+	}
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.False, this);
+	}
 } // class falseNode
 
 class preIncrStmtNode extends stmtNode {
@@ -2247,28 +3977,45 @@ class preIncrStmtNode extends stmtNode {
 		targetID = id;
 	}
 
-	void Unparse(int indent) {
-		genIndent(indent);
-		System.out.print("++");
-		targetID.Unparse(indent);
+	void Unparse(CodeWriter out, int indent) {
+		out.indent(indent);
+		out.print("++");
+		targetID.Unparse(out, indent);
 	}
 
-	void checkTypes() {
-		targetID.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		targetID.checkTypes(ctx);
 
 		//Make sure that the id is defined
-		SymbolInfo info = (SymbolInfo) st.globalLookup(targetID.varName.idname);
+		SymbolInfo info = (SymbolInfo) ctx.st.globalLookup(targetID.varName.idname);
 
 		if (info != null) {
 			//If so, make sure that it's an integer that is either a scalar param or variable
-			assertTrue(
-				info.type.val == Types.Integer &&
+			assertTrue(ctx, info.type.val == Types.Integer &&
 					(info.kind.val == Kinds.ScalarParm || info.kind.val == Kinds.Var), 
-				error() + "Increment statements can only be applied to parameter or variable integers");
+				this, Errors.InvalidIncrement);
 		}
 	}
 
+	int exec(Frame f) {
+		targetID.storeInt(f, targetID.evalInt(f) + 1);
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+		targetID.generateIncrement(m, 1);
+	}
+
+	void lower(IrBuilder b) {
+		targetID.lowerIncrement(b, 1);
+	}
+
 	private nameNode targetID;
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.PreIncr, this);
+		out.node(targetID);
+	}
 } // class preIncrStmtNode
 
 class postIncrStmtNode extends stmtNode {
@@ -2278,27 +4025,44 @@ class postIncrStmtNode extends stmtNode {
 		targetID = id;
 	}
 
-	void Unparse(int indent) {
-		targetID.Unparse(indent);
-		System.out.print("++");
+	void Unparse(CodeWriter out, int indent) {
+		targetID.Unparse(out, indent);
+		out.print("++");
 	}
 
-	void checkTypes() {
-		targetID.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		targetID.checkTypes(ctx);
 
 		//Make sure that the id is defined
-		SymbolInfo info = (SymbolInfo) st.globalLookup(targetID.varName.idname);
+		SymbolInfo info = (SymbolInfo) ctx.st.globalLookup(targetID.varName.idname);
 
 		if (info != null) {
 			//If so, make sure that it's an integer that is either a scalar param or variable
-			assertTrue(
-				info.type.val == Types.Integer &&
+			assertTrue(ctx, info.type.val == Types.Integer &&
 					(info.kind.val == Kinds.ScalarParm || info.kind.val == Kinds.Var), 
-				error() + "Increment statements can only be applied to parameter or variable integers");
+				this, Errors.InvalidIncrement);
 		}
 	}
 
+	int exec(Frame f) {
+		targetID.storeInt(f, targetID.evalInt(f) + 1);
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+		targetID.generateIncrement(m, 1);
+	}
+
+	void lower(IrBuilder b) {
+		targetID.lowerIncrement(b, 1);
+	}
+
 	private nameNode targetID;
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.PostIncr, this);
+		out.node(targetID);
+	}
 } // class postIncrStmtNode
 
 class preDecStmtNode extends stmtNode {
@@ -2308,27 +4072,44 @@ class preDecStmtNode extends stmtNode {
 		targetID = id;
 	}
 
-	void Unparse(int indent) {
-		System.out.print("--");
-		targetID.Unparse(indent);
+	void Unparse(CodeWriter out, int indent) {
+		out.print("--");
+		targetID.Unparse(out, indent);
 	}
 
-	void checkTypes() {
-		targetID.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		targetID.checkTypes(ctx);
 		
 		//Make sure that the id is defined
-		SymbolInfo info = (SymbolInfo) st.globalLookup(targetID.varName.idname);
+		SymbolInfo info = (SymbolInfo) ctx.st.globalLookup(targetID.varName.idname);
 
 		if (info != null) {
 			//If so, make sure that it's an integer that is either a scalar param or variable
-			assertTrue(
-				info.type.val == Types.Integer &&
+			assertTrue(ctx, info.type.val == Types.Integer &&
 					(info.kind.val == Kinds.ScalarParm || info.kind.val == Kinds.Var), 
-				error() + "Decrement statements can only be applied to parameter or variable integers");
+				this, Errors.InvalidDecrement);
 		}
 	}
 
+	int exec(Frame f) {
+		targetID.storeInt(f, targetID.evalInt(f) - 1);
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+		targetID.generateIncrement(m, -1);
+	}
+
+	void lower(IrBuilder b) {
+		targetID.lowerIncrement(b, -1);
+	}
+
 	private nameNode targetID;
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.PreDec, this);
+		out.node(targetID);
+	}
 } // class preDecStmtNode
 
 class postDecStmtNode extends stmtNode {
@@ -2338,25 +4119,42 @@ class postDecStmtNode extends stmtNode {
 		targetID = id;
 	}
 
-	void Unparse(int indent) {
-		targetID.Unparse(indent);
-		System.out.print("--");
+	void Unparse(CodeWriter out, int indent) {
+		targetID.Unparse(out, indent);
+		out.print("--");
 	}
 
-	void checkTypes() {
-		targetID.checkTypes();
+	void checkTypes(CompilationContext ctx) {
+		targetID.checkTypes(ctx);
 
 		//Make sure that the id is defined
-		SymbolInfo info = (SymbolInfo) st.globalLookup(targetID.varName.idname);
+		SymbolInfo info = (SymbolInfo) ctx.st.globalLookup(targetID.varName.idname);
 
 		if (info != null) {
 			//If so, make sure that it's an integer that is either a scalar param or variable
-			assertTrue(
-				info.type.val == Types.Integer &&
+			assertTrue(ctx, info.type.val == Types.Integer &&
 					(info.kind.val == Kinds.ScalarParm || info.kind.val == Kinds.Var), 
-				error() + "Decrement statements can only be applied to parameter or variable integers");
+				this, Errors.InvalidDecrement);
 		}
 	}
 
+	int exec(Frame f) {
+		targetID.storeInt(f, targetID.evalInt(f) - 1);
+		return NORMAL;
+	}
+
+	void generate(JvmMethod m) {
+		targetID.generateIncrement(m, -1);
+	}
+
+	void lower(IrBuilder b) {
+		targetID.lowerIncrement(b, -1);
+	}
+
 	private nameNode targetID;
+
+	void serialize(AstWriter out) {
+		out.start(AstTags.PostDec, this);
+		out.node(targetID);
+	}
 } // class postDecStmtNode
\ No newline at end of file
@@ -1,13 +1,13 @@
 
 //----------------------------------------------------
 // The following code was generated by CUP v0.10k
-// Fri Dec 04 22:10:30 EST 2015
+// Sat Oct 17 03:32:21 UTC 2026
 //----------------------------------------------------
 
 import java_cup.runtime.*;
 
 /** CUP v0.10k generated parser.
-  * @version Fri Dec 04 22:10:30 EST 2015
+  * @version Sat Oct 17 03:32:21 UTC 2026
   */
 public class parser extends java_cup.runtime.lr_parser {
 
@@ -20,35 +20,37 @@ public class parser extends java_cup.runtime.lr_parser {
   /** Production table. */
   protected static final short _production_table[][] = 
     unpackFromStrings(new String[] {
-    "\000\133\000\002\002\004\000\002\003\007\000\002\004" +
-    "\004\000\002\004\003\000\002\005\004\000\002\005\002" +
-    "\000\002\006\004\000\002\006\002\000\002\007\003\000" +
-    "\002\007\002\000\002\010\013\000\002\010\014\000\002" +
-    "\010\012\000\002\010\013\000\002\010\013\000\002\010" +
-    "\014\000\002\033\003\000\002\011\005\000\002\011\003" +
-    "\000\002\012\004\000\002\012\006\000\002\013\005\000" +
-    "\002\013\007\000\002\013\010\000\002\013\007\000\002" +
-    "\014\004\000\002\014\003\000\002\015\010\000\002\015" +
-    "\012\000\002\015\007\000\002\015\011\000\002\015\007" +
-    "\000\002\015\007\000\002\015\006\000\002\015\007\000" +
-    "\002\015\004\000\002\015\004\000\002\015\005\000\002" +
-    "\015\005\000\002\015\005\000\002\015\007\000\002\015" +
-    "\006\000\002\015\015\000\002\031\004\000\002\031\004" +
-    "\000\002\031\004\000\002\031\004\000\002\031\005\000" +
-    "\002\016\003\000\002\016\003\000\002\016\003\000\002" +
-    "\016\003\000\002\017\005\000\002\017\003\000\002\020" +
-    "\005\000\002\020\003\000\002\021\005\000\002\021\003" +
-    "\000\002\022\005\000\002\022\005\000\002\022\003\000" +
-    "\002\023\005\000\002\023\005\000\002\023\005\000\002" +
-    "\023\005\000\002\023\005\000\002\023\005\000\002\023" +
-    "\003\000\002\024\005\000\002\024\005\000\002\024\003" +
-    "\000\002\025\005\000\002\025\005\000\002\025\003\000" +
-    "\002\026\004\000\002\026\006\000\002\026\003\000\002" +
-    "\027\003\000\002\027\005\000\002\027\006\000\002\027" +
-    "\003\000\002\027\003\000\002\027\003\000\002\027\003" +
-    "\000\002\027\003\000\002\027\003\000\002\027\005\000" +
-    "\002\032\003\000\002\030\003\000\002\030\006\000\002" +
-    "\034\003" });
+    "\000\143\000\002\002\004\000\002\003\007\000\002\004" +
+    "\004\000\002\004\003\000\002\004\005\000\002\005\004" +
+    "\000\002\005\005\000\002\005\002\000\002\006\004\000" +
+    "\002\006\002\000\002\007\003\000\002\007\002\000\002" +
+    "\010\013\000\002\010\014\000\002\010\012\000\002\010" +
+    "\013\000\002\010\013\000\002\010\014\000\002\010\010" +
+    "\000\002\010\010\000\002\010\005\000\002\033\003\000" +
+    "\002\011\005\000\002\011\003\000\002\012\004\000\002" +
+    "\012\006\000\002\013\005\000\002\013\007\000\002\013" +
+    "\010\000\002\013\007\000\002\013\006\000\002\014\004" +
+    "\000\002\014\003\000\002\015\010\000\002\015\012\000" +
+    "\002\015\007\000\002\015\011\000\002\015\007\000\002" +
+    "\015\007\000\002\015\006\000\002\015\007\000\002\015" +
+    "\004\000\002\015\004\000\002\015\005\000\002\015\005" +
+    "\000\002\015\005\000\002\015\007\000\002\015\006\000" +
+    "\002\015\015\000\002\015\004\000\002\015\003\000\002" +
+    "\031\004\000\002\031\004\000\002\031\004\000\002\031" +
+    "\004\000\002\031\005\000\002\016\003\000\002\016\003" +
+    "\000\002\016\003\000\002\016\003\000\002\017\005\000" +
+    "\002\017\003\000\002\020\005\000\002\020\003\000\002" +
+    "\021\005\000\002\021\003\000\002\022\005\000\002\022" +
+    "\005\000\002\022\003\000\002\023\005\000\002\023\005" +
+    "\000\002\023\005\000\002\023\005\000\002\023\005\000" +
+    "\002\023\005\000\002\023\003\000\002\024\005\000\002" +
+    "\024\005\000\002\024\003\000\002\025\005\000\002\025" +
+    "\005\000\002\025\003\000\002\026\004\000\002\026\006" +
+    "\000\002\026\003\000\002\027\003\000\002\027\005\000" +
+    "\002\027\006\000\002\027\003\000\002\027\003\000\002" +
+    "\027\003\000\002\027\003\000\002\027\003\000\002\027" +
+    "\003\000\002\027\005\000\002\032\003\000\002\030\003" +
+    "\000\002\030\006\000\002\034\003" });
 
   /** Access to production table. */
   public short[][] production_table() {return _production_table;}
@@ -56,325 +58,363 @@ public class parser extends java_cup.runtime.lr_parser {
   /** Parse-action table. */
   protected static final short[][] _action_table = 
     unpackFromStrings(new String[] {
-    "\000\337\000\004\036\005\001\002\000\004\002\341\001" +
-    "\002\000\004\056\006\001\002\000\060\010\uffaa\014\uffaa" +
-    "\015\uffaa\020\uffaa\024\uffaa\026\uffaa\027\uffaa\031\uffaa\034" +
-    "\uffaa\035\uffaa\040\uffaa\042\uffaa\044\uffaa\045\uffaa\050\uffaa" +
-    "\051\uffaa\053\uffaa\054\uffaa\055\uffaa\057\uffaa\060\uffaa\061" +
-    "\uffaa\062\uffaa\001\002\000\004\045\010\001\002\000\020" +
-    "\005\013\007\017\023\021\025\012\033\024\046\011\047" +
-    "\ufffa\001\002\000\006\020\uffd0\056\uffd0\001\002\000\004" +
-    "\056\006\001\002\000\006\020\uffce\056\uffce\001\002\000" +
-    "\016\005\013\007\017\023\021\033\024\046\011\047\ufffa" +
-    "\001\002\000\004\047\331\001\002\000\020\005\013\007" +
-    "\017\023\021\025\012\033\024\046\011\047\ufffa\001\002" +
-    "\000\006\020\uffcf\056\uffcf\001\002\000\004\047\ufffe\001" +
-    "\002\000\004\056\ufff1\001\002\000\004\056\006\001\002" +
-    "\000\004\056\006\001\002\000\006\020\uffd1\056\uffd1\001" +
-    "\002\000\012\010\030\014\027\015\026\042\031\001\002" +
-    "\000\050\005\uffec\006\uffec\007\uffec\011\uffec\012\uffec\016" +
-    "\uffec\023\uffec\025\uffec\027\uffec\032\uffec\033\uffec\037\uffec" +
-    "\045\uffec\046\uffec\047\uffec\052\uffec\053\uffec\056\uffec\064" +
-    "\uffec\001\002\000\014\005\013\007\017\020\130\033\024" +
-    "\046\011\001\002\000\004\022\123\001\002\000\024\004" +
-    "\035\013\042\014\051\017\040\021\045\022\034\041\050" +
-    "\043\044\056\006\001\002\000\042\015\uffb4\020\uffb4\024" +
-    "\uffb4\026\uffb4\031\uffb4\034\uffb4\035\uffb4\040\uffb4\050\uffb4" +
-    "\051\uffb4\054\uffb4\055\uffb4\057\uffb4\060\uffb4\061\uffb4\062" +
-    "\uffb4\001\002\000\042\015\uffbb\020\uffbb\024\uffbb\026\uffbb" +
-    "\031\uffbb\034\uffbb\035\uffbb\040\uffbb\050\uffbb\051\uffbb\054" +
-    "\uffbb\055\uffbb\057\076\060\077\061\uffbb\062\uffbb\001\002" +
-    "\000\042\015\uffb1\020\uffb1\024\uffb1\026\uffb1\031\uffb1\034" +
-    "\uffb1\035\uffb1\040\uffb1\050\uffb1\051\uffb1\054\uffb1\055\uffb1" +
-    "\057\uffb1\060\uffb1\061\uffb1\062\uffb1\001\002\000\042\015" +
-    "\uffae\020\uffae\024\uffae\026\uffae\031\uffae\034\uffae\035\uffae" +
-    "\040\uffae\050\uffae\051\uffae\054\uffae\055\uffae\057\uffae\060" +
-    "\uffae\061\uffae\062\uffae\001\002\000\042\015\uffb8\020\uffb8" +
-    "\024\uffb8\026\uffb8\031\uffb8\034\uffb8\035\uffb8\040\uffb8\050" +
-    "\uffb8\051\uffb8\054\uffb8\055\uffb8\057\uffb8\060\uffb8\061\uffb8" +
-    "\062\uffb8\001\002\000\016\015\uffc5\020\uffc5\026\uffc5\034" +
-    "\uffc5\035\uffc5\050\uffc5\001\002\000\042\015\uffad\020\uffad" +
-    "\024\uffad\026\uffad\031\uffad\034\uffad\035\uffad\040\uffad\050" +
-    "\uffad\051\uffad\054\uffad\055\uffad\057\uffad\060\uffad\061\uffad" +
-    "\062\uffad\001\002\000\046\010\112\014\111\015\uffa9\020" +
+    "\000\362\000\004\036\005\001\002\000\004\002\364\001" +
+    "\002\000\004\056\006\001\002\000\062\003\uffa2\010\uffa2" +
+    "\014\uffa2\015\uffa2\020\uffa2\024\uffa2\026\uffa2\027\uffa2\031" +
+    "\uffa2\034\uffa2\035\uffa2\040\uffa2\042\uffa2\044\uffa2\045\uffa2" +
+    "\050\uffa2\051\uffa2\053\uffa2\054\uffa2\055\uffa2\057\uffa2\060" +
+    "\uffa2\061\uffa2\062\uffa2\001\002\000\004\045\010\001\002" +
+    "\000\022\003\024\005\012\007\017\023\021\025\013\033" +
+    "\025\046\011\047\ufff8\001\002\000\006\020\uffc8\056\uffc8" +
+    "\001\002\000\006\020\uffc6\056\uffc6\001\002\000\004\056" +
+    "\006\001\002\000\020\003\356\005\012\007\017\023\021" +
+    "\033\025\046\011\047\ufff8\001\002\000\004\047\353\001" +
+    "\002\000\022\003\024\005\012\007\017\023\021\025\013" +
+    "\033\025\046\011\047\ufff8\001\002\000\006\020\uffc7\056" +
+    "\uffc7\001\002\000\004\047\ufffe\001\002\000\004\056\uffec" +
+    "\001\002\000\004\056\006\001\002\000\004\056\006\001" +
+    "\002\000\006\015\027\047\026\001\002\000\006\020\uffc9" +
+    "\056\uffc9\001\002\000\022\003\ufff6\005\ufff6\007\ufff6\015" +
+    "\032\023\ufff6\033\ufff6\046\ufff6\047\ufff6\001\002\000\022" +
+    "\003\024\005\012\007\017\023\021\025\013\033\025\046" +
+    "\011\047\ufff8\001\002\000\004\047\ufffd\001\002\000\020" +
+    "\003\uffed\005\uffed\007\uffed\023\uffed\033\uffed\046\uffed\047" +
+    "\uffed\001\002\000\054\003\ufff7\005\ufff7\006\ufff7\007\ufff7" +
+    "\011\ufff7\012\ufff7\016\ufff7\023\ufff7\027\ufff7\030\ufff7\032" +
+    "\ufff7\033\ufff7\037\ufff7\045\ufff7\046\ufff7\047\ufff7\052\ufff7" +
+    "\053\ufff7\056\ufff7\063\ufff7\064\ufff7\001\002\000\014\003" +
+    "\034\010\037\014\036\015\035\042\040\001\002\000\004" +
+    "\015\323\001\002\000\052\003\uffe7\005\uffe7\006\uffe7\007" +
+    "\uffe7\011\uffe7\012\uffe7\016\uffe7\023\uffe7\025\uffe7\027\uffe7" +
+    "\032\uffe7\033\uffe7\037\uffe7\045\uffe7\046\uffe7\047\uffe7\052" +
+    "\uffe7\053\uffe7\056\uffe7\064\uffe7\001\002\000\016\003\140" +
+    "\005\012\007\017\020\141\033\025\046\011\001\002\000" +
+    "\004\022\132\001\002\000\024\004\044\013\051\014\060" +
+    "\017\047\021\057\022\043\041\056\043\053\056\006\001" +
+    "\002\000\042\015\uffac\020\uffac\024\uffac\026\uffac\031\uffac" +
+    "\034\uffac\035\uffac\040\uffac\050\uffac\051\uffac\054\uffac\055" +
+    "\uffac\057\uffac\060\uffac\061\uffac\062\uffac\001\002\000\042" +
+    "\015\uffb3\020\uffb3\024\uffb3\026\uffb3\031\uffb3\034\uffb3\035" +
+    "\uffb3\040\uffb3\050\uffb3\051\uffb3\054\uffb3\055\uffb3\057\105" +
+    "\060\106\061\uffb3\062\uffb3\001\002\000\042\015\uffa9\020" +
     "\uffa9\024\uffa9\026\uffa9\031\uffa9\034\uffa9\035\uffa9\040\uffa9" +
     "\050\uffa9\051\uffa9\054\uffa9\055\uffa9\057\uffa9\060\uffa9\061" +
-    "\uffa9\062\uffa9\001\002\000\042\015\uffac\020\uffac\024\uffac" +
-    "\026\uffac\031\uffac\034\uffac\035\uffac\040\uffac\050\uffac\051" +
-    "\uffac\054\uffac\055\uffac\057\uffac\060\uffac\061\uffac\062\uffac" +
-    "\001\002\000\036\015\uffbe\020\uffbe\024\065\026\uffbe\031" +
-    "\070\034\uffbe\035\uffbe\040\066\050\uffbe\051\072\054\067" +
-    "\055\073\061\071\062\074\001\002\000\042\015\uffb0\020" +
-    "\uffb0\024\uffb0\026\uffb0\031\uffb0\034\uffb0\035\uffb0\040\uffb0" +
-    "\050\uffb0\051\uffb0\054\uffb0\055\uffb0\057\uffb0\060\uffb0\061" +
-    "\uffb0\062\uffb0\001\002\000\024\004\035\013\042\014\051" +
-    "\017\040\021\045\022\034\041\050\043\044\056\006\001" +
-    "\002\000\042\015\uffb5\020\uffb5\024\uffb5\026\uffb5\031\uffb5" +
-    "\034\uffb5\035\uffb5\040\uffb5\050\uffb5\051\uffb5\054\uffb5\055" +
-    "\uffb5\057\uffb5\060\uffb5\061\uffb5\062\uffb5\001\002\000\010" +
-    "\015\063\035\060\050\056\001\002\000\042\015\uffaf\020" +
+    "\uffa9\062\uffa9\001\002\000\042\015\uffa6\020\uffa6\024\uffa6" +
+    "\026\uffa6\031\uffa6\034\uffa6\035\uffa6\040\uffa6\050\uffa6\051" +
+    "\uffa6\054\uffa6\055\uffa6\057\uffa6\060\uffa6\061\uffa6\062\uffa6" +
+    "\001\002\000\042\015\uffb0\020\uffb0\024\uffb0\026\uffb0\031" +
+    "\uffb0\034\uffb0\035\uffb0\040\uffb0\050\uffb0\051\uffb0\054\uffb0" +
+    "\055\uffb0\057\uffb0\060\uffb0\061\uffb0\062\uffb0\001\002\000" +
+    "\016\015\uffbd\020\uffbd\026\uffbd\034\uffbd\035\uffbd\050\uffbd" +
+    "\001\002\000\042\015\uffa5\020\uffa5\024\uffa5\026\uffa5\031" +
+    "\uffa5\034\uffa5\035\uffa5\040\uffa5\050\uffa5\051\uffa5\054\uffa5" +
+    "\055\uffa5\057\uffa5\060\uffa5\061\uffa5\062\uffa5\001\002\000" +
+    "\046\010\121\014\120\015\uffa1\020\uffa1\024\uffa1\026\uffa1" +
+    "\031\uffa1\034\uffa1\035\uffa1\040\uffa1\050\uffa1\051\uffa1\054" +
+    "\uffa1\055\uffa1\057\uffa1\060\uffa1\061\uffa1\062\uffa1\001\002" +
+    "\000\042\015\uffa4\020\uffa4\024\uffa4\026\uffa4\031\uffa4\034" +
+    "\uffa4\035\uffa4\040\uffa4\050\uffa4\051\uffa4\054\uffa4\055\uffa4" +
+    "\057\uffa4\060\uffa4\061\uffa4\062\uffa4\001\002\000\036\015" +
+    "\uffb6\020\uffb6\024\074\026\uffb6\031\077\034\uffb6\035\uffb6" +
+    "\040\075\050\uffb6\051\101\054\076\055\102\061\100\062" +
+    "\103\001\002\000\042\015\uffa8\020\uffa8\024\uffa8\026\uffa8" +
+    "\031\uffa8\034\uffa8\035\uffa8\040\uffa8\050\uffa8\051\uffa8\054" +
+    "\uffa8\055\uffa8\057\uffa8\060\uffa8\061\uffa8\062\uffa8\001\002" +
+    "\000\042\015\uffad\020\uffad\024\uffad\026\uffad\031\uffad\034" +
+    "\uffad\035\uffad\040\uffad\050\uffad\051\uffad\054\uffad\055\uffad" +
+    "\057\uffad\060\uffad\061\uffad\062\uffad\001\002\000\010\015" +
+    "\073\035\067\050\065\001\002\000\042\015\uffa7\020\uffa7" +
+    "\024\uffa7\026\uffa7\031\uffa7\034\uffa7\035\uffa7\040\uffa7\050" +
+    "\uffa7\051\uffa7\054\uffa7\055\uffa7\057\uffa7\060\uffa7\061\uffa7" +
+    "\062\uffa7\001\002\000\024\004\044\013\051\014\060\017" +
+    "\047\021\057\022\043\041\056\043\053\056\006\001\002" +
+    "\000\034\004\044\005\012\007\017\013\051\014\060\017" +
+    "\047\021\057\022\043\033\025\041\056\043\053\046\011" +
+    "\056\006\001\002\000\010\020\066\035\067\050\065\001" +
+    "\002\000\004\020\063\001\002\000\024\004\044\013\051" +
+    "\014\060\017\047\021\057\022\043\041\056\043\053\056" +
+    "\006\001\002\000\042\015\uffae\020\uffae\024\uffae\026\uffae" +
+    "\031\uffae\034\uffae\035\uffae\040\uffae\050\uffae\051\uffae\054" +
+    "\uffae\055\uffae\057\uffae\060\uffae\061\uffae\062\uffae\001\002" +
+    "\000\024\004\044\013\051\014\060\017\047\021\057\022" +
+    "\043\041\056\043\053\056\006\001\002\000\042\015\uffa3" +
+    "\020\uffa3\024\uffa3\026\uffa3\031\uffa3\034\uffa3\035\uffa3\040" +
+    "\uffa3\050\uffa3\051\uffa3\054\uffa3\055\uffa3\057\uffa3\060\uffa3" +
+    "\061\uffa3\062\uffa3\001\002\000\024\004\044\013\051\014" +
+    "\060\017\047\021\057\022\043\041\056\043\053\056\006" +
+    "\001\002\000\016\015\uffbf\020\uffbf\026\uffbf\034\uffbf\035" +
+    "\uffbf\050\uffbf\001\002\000\016\015\uffbe\020\uffbe\026\uffbe" +
+    "\034\uffbe\035\uffbe\050\uffbe\001\002\000\042\015\uffaf\020" +
     "\uffaf\024\uffaf\026\uffaf\031\uffaf\034\uffaf\035\uffaf\040\uffaf" +
     "\050\uffaf\051\uffaf\054\uffaf\055\uffaf\057\uffaf\060\uffaf\061" +
-    "\uffaf\062\uffaf\001\002\000\034\004\035\005\013\007\017" +
-    "\013\042\014\051\017\040\021\045\022\034\033\024\041" +
-    "\050\043\044\046\011\056\006\001\002\000\010\020\057" +
-    "\035\060\050\056\001\002\000\004\020\054\001\002\000" +
-    "\024\004\035\013\042\014\051\017\040\021\045\022\034" +
-    "\041\050\043\044\056\006\001\002\000\042\015\uffb6\020" +
-    "\uffb6\024\uffb6\026\uffb6\031\uffb6\034\uffb6\035\uffb6\040\uffb6" +
-    "\050\uffb6\051\uffb6\054\uffb6\055\uffb6\057\uffb6\060\uffb6\061" +
-    "\uffb6\062\uffb6\001\002\000\024\004\035\013\042\014\051" +
-    "\017\040\021\045\022\034\041\050\043\044\056\006\001" +
-    "\002\000\042\015\uffab\020\uffab\024\uffab\026\uffab\031\uffab" +
-    "\034\uffab\035\uffab\040\uffab\050\uffab\051\uffab\054\uffab\055" +
-    "\uffab\057\uffab\060\uffab\061\uffab\062\uffab\001\002\000\024" +
-    "\004\035\013\042\014\051\017\040\021\045\022\034\041" +
-    "\050\043\044\056\006\001\002\000\016\015\uffc7\020\uffc7" +
-    "\026\uffc7\034\uffc7\035\uffc7\050\uffc7\001\002\000\016\015" +
-    "\uffc6\020\uffc6\026\uffc6\034\uffc6\035\uffc6\050\uffc6\001\002" +
-    "\000\050\005\uffeb\006\uffeb\007\uffeb\011\uffeb\012\uffeb\016" +
-    "\uffeb\023\uffeb\025\uffeb\027\uffeb\032\uffeb\033\uffeb\037\uffeb" +
-    "\045\uffeb\046\uffeb\047\uffeb\052\uffeb\053\uffeb\056\uffeb\064" +
-    "\uffeb\001\002\000\042\015\uffb7\020\uffb7\024\uffb7\026\uffb7" +
-    "\031\uffb7\034\uffb7\035\uffb7\040\uffb7\050\uffb7\051\uffb7\054" +
-    "\uffb7\055\uffb7\057\uffb7\060\uffb7\061\uffb7\062\uffb7\001\002" +
-    "\000\024\004\035\013\042\014\051\017\040\021\045\022" +
-    "\034\041\050\043\044\056\006\001\002\000\024\004\035" +
-    "\013\042\014\051\017\040\021\045\022\034\041\050\043" +
-    "\044\056\006\001\002\000\024\004\035\013\042\014\051" +
-    "\017\040\021\045\022\034\041\050\043\044\056\006\001" +
-    "\002\000\024\004\035\013\042\014\051\017\040\021\045" +
-    "\022\034\041\050\043\044\056\006\001\002\000\024\004" +
-    "\035\013\042\014\051\017\040\021\045\022\034\041\050" +
-    "\043\044\056\006\001\002\000\024\004\035\013\042\014" +
-    "\051\017\040\021\045\022\034\041\050\043\044\056\006" +
-    "\001\002\000\024\004\035\013\042\014\051\017\040\021" +
-    "\045\022\034\041\050\043\044\056\006\001\002\000\024" +
-    "\004\035\013\042\014\051\017\040\021\045\022\034\041" +
-    "\050\043\044\056\006\001\002\000\042\015\uffbc\020\uffbc" +
-    "\024\uffbc\026\uffbc\031\uffbc\034\uffbc\035\uffbc\040\uffbc\050" +
-    "\uffbc\051\uffbc\054\uffbc\055\uffbc\057\076\060\077\061\uffbc" +
-    "\062\uffbc\001\002\000\024\004\035\013\042\014\051\017" +
-    "\040\021\045\022\034\041\050\043\044\056\006\001\002" +
-    "\000\024\004\035\013\042\014\051\017\040\021\045\022" +
-    "\034\041\050\043\044\056\006\001\002\000\042\015\uffba" +
-    "\020\uffba\024\uffba\026\uffba\031\uffba\034\uffba\035\uffba\040" +
-    "\uffba\050\uffba\051\uffba\054\uffba\055\uffba\057\uffba\060\uffba" +
-    "\061\uffba\062\uffba\001\002\000\042\015\uffb9\020\uffb9\024" +
-    "\uffb9\026\uffb9\031\uffb9\034\uffb9\035\uffb9\040\uffb9\050\uffb9" +
-    "\051\uffb9\054\uffb9\055\uffb9\057\uffb9\060\uffb9\061\uffb9\062" +
-    "\uffb9\001\002\000\022\015\uffbf\020\uffbf\026\uffbf\034\uffbf" +
-    "\035\uffbf\050\uffbf\061\071\062\074\001\002\000\022\015" +
-    "\uffc2\020\uffc2\026\uffc2\034\uffc2\035\uffc2\050\uffc2\061\071" +
-    "\062\074\001\002\000\042\015\uffbd\020\uffbd\024\uffbd\026" +
-    "\uffbd\031\uffbd\034\uffbd\035\uffbd\040\uffbd\050\uffbd\051\uffbd" +
-    "\054\uffbd\055\uffbd\057\076\060\077\061\uffbd\062\uffbd\001" +
-    "\002\000\022\015\uffc1\020\uffc1\026\uffc1\034\uffc1\035\uffc1" +
-    "\050\uffc1\061\071\062\074\001\002\000\022\015\uffc3\020" +
-    "\uffc3\026\uffc3\034\uffc3\035\uffc3\050\uffc3\061\071\062\074" +
-    "\001\002\000\022\015\uffc0\020\uffc0\026\uffc0\034\uffc0\035" +
-    "\uffc0\050\uffc0\061\071\062\074\001\002\000\022\015\uffc4" +
-    "\020\uffc4\026\uffc4\034\uffc4\035\uffc4\050\uffc4\061\071\062" +
-    "\074\001\002\000\026\004\035\013\042\014\051\017\040" +
-    "\020\117\021\045\022\034\041\050\043\044\056\006\001" +
-    "\002\000\024\004\035\013\042\014\051\017\040\021\045" +
-    "\022\034\041\050\043\044\056\006\001\002\000\010\034" +
-    "\114\035\060\050\056\001\002\000\050\015\uffa8\020\uffa8" +
-    "\024\uffa8\026\uffa8\027\uffa8\031\uffa8\034\uffa8\035\uffa8\040" +
-    "\uffa8\042\uffa8\050\uffa8\051\uffa8\053\uffa8\054\uffa8\055\uffa8" +
-    "\057\uffa8\060\uffa8\061\uffa8\062\uffa8\001\002\000\012\020" +
-    "\uffcc\026\121\035\060\050\056\001\002\000\004\020\120" +
-    "\001\002\000\042\015\uffb3\020\uffb3\024\uffb3\026\uffb3\031" +
-    "\uffb3\034\uffb3\035\uffb3\040\uffb3\050\uffb3\051\uffb3\054\uffb3" +
-    "\055\uffb3\057\uffb3\060\uffb3\061\uffb3\062\uffb3\001\002\000" +
-    "\042\015\uffb2\020\uffb2\024\uffb2\026\uffb2\031\uffb2\034\uffb2" +
-    "\035\uffb2\040\uffb2\050\uffb2\051\uffb2\054\uffb2\055\uffb2\057" +
-    "\uffb2\060\uffb2\061\uffb2\062\uffb2\001\002\000\024\004\035" +
-    "\013\042\014\051\017\040\021\045\022\034\041\050\043" +
-    "\044\056\006\001\002\000\004\020\uffcd\001\002\000\004" +
-    "\034\uffa7\001\002\000\004\034\125\001\002\000\004\015" +
-    "\126\001\002\000\050\005\uffea\006\uffea\007\uffea\011\uffea" +
-    "\012\uffea\016\uffea\023\uffea\025\uffea\027\uffea\032\uffea\033" +
-    "\uffea\037\uffea\045\uffea\046\uffea\047\uffea\052\uffea\053\uffea" +
-    "\056\uffea\064\uffea\001\002\000\006\020\uffef\026\303\001" +
-    "\002\000\004\045\276\001\002\000\004\056\006\001\002" +
-    "\000\004\020\133\001\002\000\004\045\134\001\002\000" +
-    "\044\005\013\006\ufffc\007\017\011\ufffc\012\ufffc\016\ufffc" +
-    "\025\012\027\ufffc\032\ufffc\033\024\037\ufffc\045\ufffc\046" +
-    "\011\052\ufffc\053\ufffc\056\ufffc\064\ufffc\001\002\000\046" +
-    "\005\013\006\ufffc\007\017\011\ufffc\012\ufffc\016\ufffc\025" +
-    "\012\027\ufffc\032\ufffc\033\024\037\ufffc\045\ufffc\046\011" +
-    "\047\ufffc\052\ufffc\053\ufffc\056\ufffc\064\ufffc\001\002\000" +
-    "\004\056\006\001\002\000\032\006\151\011\146\012\154" +
-    "\016\153\027\155\032\141\037\147\045\144\052\142\053" +
-    "\156\056\006\064\157\001\002\000\004\047\267\001\002" +
-    "\000\004\014\260\001\002\000\004\056\006\001\002\000" +
-    "\010\027\252\042\254\053\253\001\002\000\046\005\013" +
-    "\006\ufffc\007\017\011\ufffc\012\ufffc\016\ufffc\025\012\027" +
-    "\ufffc\032\ufffc\033\024\037\ufffc\045\ufffc\046\011\047\ufffc" +
-    "\052\ufffc\053\ufffc\056\ufffc\064\ufffc\001\002\000\034\006" +
-    "\151\011\146\012\154\016\153\027\155\032\141\037\147" +
-    "\045\144\047\uffe7\052\142\053\156\056\006\064\157\001" +
-    "\002\000\004\014\232\001\002\000\026\004\035\013\042" +
-    "\014\051\015\230\017\040\021\045\022\034\041\050\043" +
-    "\044\056\006\001\002\000\004\015\226\001\002\000\004" +
-    "\014\222\001\002\000\016\010\112\014\207\027\uffa9\042" +
-    "\uffa9\044\206\053\uffa9\001\002\000\004\014\177\001\002" +
-    "\000\004\056\006\001\002\000\004\056\006\001\002\000" +
-    "\004\056\006\001\002\000\004\014\160\001\002\000\004" +
-    "\056\006\001\002\000\004\042\162\001\002\000\024\004" +
-    "\035\013\042\014\051\017\040\021\045\022\034\041\050" +
-    "\043\044\056\006\001\002\000\010\015\164\035\060\050" +
-    "\056\001\002\000\024\004\035\013\042\014\051\017\040" +
-    "\021\045\022\034\041\050\043\044\056\006\001\002\000" +
-    "\010\015\166\035\060\050\056\001\002\000\010\027\155" +
-    "\053\156\056\006\001\002\000\020\010\112\015\uffa9\020" +
-    "\uffa9\026\uffa9\027\uffa9\042\uffa9\053\uffa9\001\002\000\004" +
-    "\020\171\001\002\000\032\006\151\011\146\012\154\016" +
-    "\153\027\155\032\141\037\147\045\144\052\142\053\156" +
-    "\056\006\064\157\001\002\000\040\006\uffd7\011\uffd7\012" +
-    "\uffd7\016\uffd7\027\uffd7\030\uffd7\032\uffd7\037\uffd7\045\uffd7" +
-    "\047\uffd7\052\uffd7\053\uffd7\056\uffd7\063\uffd7\064\uffd7\001" +
-    "\002\000\006\015\uffd3\020\uffd3\001\002\000\006\015\uffd6" +
-    "\020\uffd6\001\002\000\004\015\176\001\002\000\040\006" +
-    "\uffda\011\uffda\012\uffda\016\uffda\027\uffda\030\uffda\032\uffda" +
-    "\037\uffda\045\uffda\047\uffda\052\uffda\053\uffda\056\uffda\063" +
-    "\uffda\064\uffda\001\002\000\024\004\035\013\042\014\051" +
-    "\017\040\021\045\022\034\041\050\043\044\056\006\001" +
-    "\002\000\012\020\uffc8\026\204\035\060\050\056\001\002" +
-    "\000\004\020\202\001\002\000\004\015\203\001\002\000" +
-    "\040\006\uffe1\011\uffe1\012\uffe1\016\uffe1\027\uffe1\030\uffe1" +
-    "\032\uffe1\037\uffe1\045\uffe1\047\uffe1\052\uffe1\053\uffe1\056" +
-    "\uffe1\063\uffe1\064\uffe1\001\002\000\024\004\035\013\042" +
-    "\014\051\017\040\021\045\022\034\041\050\043\044\056" +
-    "\006\001\002\000\004\020\uffc9\001\002\000\004\006\215" +
-    "\001\002\000\026\004\035\013\042\014\051\017\040\020" +
-    "\211\021\045\022\034\041\050\043\044\056\006\001\002" +
-    "\000\004\020\213\001\002\000\004\015\212\001\002\000" +
-    "\040\006\uffe0\011\uffe0\012\uffe0\016\uffe0\027\uffe0\030\uffe0" +
-    "\032\uffe0\037\uffe0\045\uffe0\047\uffe0\052\uffe0\053\uffe0\056" +
-    "\uffe0\063\uffe0\064\uffe0\001\002\000\004\015\214\001\002" +
-    "\000\040\006\uffdf\011\uffdf\012\uffdf\016\uffdf\027\uffdf\030" +
-    "\uffdf\032\uffdf\037\uffdf\045\uffdf\047\uffdf\052\uffdf\053\uffdf" +
-    "\056\uffdf\063\uffdf\064\uffdf\001\002\000\004\014\216\001" +
-    "\002\000\024\004\035\013\042\014\051\017\040\021\045" +
-    "\022\034\041\050\043\044\056\006\001\002\000\010\020" +
-    "\220\035\060\050\056\001\002\000\032\006\151\011\146" +
-    "\012\154\016\153\027\155\032\141\037\147\045\144\052" +
-    "\142\053\156\056\006\064\157\001\002\000\040\006\uffe3" +
-    "\011\uffe3\012\uffe3\016\uffe3\027\uffe3\030\uffe3\032\uffe3\037" +
-    "\uffe3\045\uffe3\047\uffe3\052\uffe3\053\uffe3\056\uffe3\063\uffe3" +
-    "\064\uffe3\001\002\000\024\004\035\013\042\014\051\017" +
-    "\040\021\045\022\034\041\050\043\044\056\006\001\002" +
-    "\000\010\020\224\035\060\050\056\001\002\000\032\006" +
-    "\151\011\146\012\154\016\153\027\155\032\141\037\147" +
-    "\045\144\052\142\053\156\056\006\064\157\001\002\000" +
-    "\040\006\uffe4\011\uffe4\012\uffe4\016\uffe4\027\uffe4\030\uffe4" +
-    "\032\uffe4\037\uffe4\045\uffe4\047\uffe4\052\uffe4\053\uffe4\056" +
-    "\uffe4\063\uffe4\064\uffe4\001\002\000\040\006\uffde\011\uffde" +
-    "\012\uffde\016\uffde\027\uffde\030\uffde\032\uffde\037\uffde\045" +
-    "\uffde\047\uffde\052\uffde\053\uffde\056\uffde\063\uffde\064\uffde" +
-    "\001\002\000\010\015\231\035\060\050\056\001\002\000" +
-    "\040\006\uffdd\011\uffdd\012\uffdd\016\uffdd\027\uffdd\030\uffdd" +
-    "\032\uffdd\037\uffdd\045\uffdd\047\uffdd\052\uffdd\053\uffdd\056" +
-    "\uffdd\063\uffdd\064\uffdd\001\002\000\040\006\uffdc\011\uffdc" +
-    "\012\uffdc\016\uffdc\027\uffdc\030\uffdc\032\uffdc\037\uffdc\045" +
-    "\uffdc\047\uffdc\052\uffdc\053\uffdc\056\uffdc\063\uffdc\064\uffdc" +
-    "\001\002\000\024\004\035\013\042\014\051\017\040\021" +
-    "\045\022\034\041\050\043\044\056\006\001\002\000\010" +
-    "\020\234\035\060\050\056\001\002\000\032\006\151\011" +
-    "\146\012\154\016\153\027\155\032\141\037\147\045\144" +
-    "\052\142\053\156\056\006\064\157\001\002\000\006\030" +
-    "\237\063\236\001\002\000\040\006\uffe6\011\uffe6\012\uffe6" +
-    "\016\uffe6\027\uffe6\030\uffe6\032\uffe6\037\uffe6\045\uffe6\047" +
-    "\uffe6\052\uffe6\053\uffe6\056\uffe6\063\uffe6\064\uffe6\001\002" +
-    "\000\032\006\151\011\146\012\154\016\153\027\155\032" +
-    "\141\037\147\045\144\052\142\053\156\056\006\064\157" +
-    "\001\002\000\004\063\241\001\002\000\040\006\uffe5\011" +
-    "\uffe5\012\uffe5\016\uffe5\027\uffe5\030\uffe5\032\uffe5\037\uffe5" +
-    "\045\uffe5\047\uffe5\052\uffe5\053\uffe5\056\uffe5\063\uffe5\064" +
-    "\uffe5\001\002\000\004\047\uffe8\001\002\000\034\006\151" +
-    "\011\146\012\154\016\153\027\155\032\141\037\147\045" +
-    "\144\047\244\052\142\053\156\056\006\064\157\001\002" +
-    "\000\042\006\ufff8\011\ufff8\012\ufff8\015\250\016\ufff8\027" +
-    "\ufff8\030\ufff8\032\ufff8\037\ufff8\045\ufff8\047\ufff8\052\ufff8" +
-    "\053\ufff8\056\ufff8\063\ufff8\064\ufff8\001\002\000\004\047" +
-    "\246\001\002\000\042\006\ufff8\011\ufff8\012\ufff8\015\250" +
-    "\016\ufff8\027\ufff8\030\ufff8\032\ufff8\037\ufff8\045\ufff8\047" +
-    "\ufff8\052\ufff8\053\ufff8\056\ufff8\063\ufff8\064\ufff8\001\002" +
-    "\000\040\006\uffd9\011\uffd9\012\uffd9\016\uffd9\027\uffd9\030" +
-    "\uffd9\032\uffd9\037\uffd9\045\uffd9\047\uffd9\052\uffd9\053\uffd9" +
-    "\056\uffd9\063\uffd9\064\uffd9\001\002\000\052\005\ufff9\006" +
-    "\ufff9\007\ufff9\011\ufff9\012\ufff9\016\ufff9\023\ufff9\027\ufff9" +
-    "\030\ufff9\032\ufff9\033\ufff9\037\ufff9\045\ufff9\046\ufff9\047" +
-    "\ufff9\052\ufff9\053\ufff9\056\ufff9\063\ufff9\064\ufff9\001\002" +
-    "\000\040\006\uffd8\011\uffd8\012\uffd8\016\uffd8\027\uffd8\030" +
-    "\uffd8\032\uffd8\037\uffd8\045\uffd8\047\uffd8\052\uffd8\053\uffd8" +
-    "\056\uffd8\063\uffd8\064\uffd8\001\002\000\006\015\uffd5\020" +
-    "\uffd5\001\002\000\006\015\uffd4\020\uffd4\001\002\000\024" +
-    "\004\035\013\042\014\051\017\040\021\045\022\034\041" +
-    "\050\043\044\056\006\001\002\000\012\015\uffd2\020\uffd2" +
-    "\035\060\050\056\001\002\000\004\015\257\001\002\000" +
-    "\040\006\uffdb\011\uffdb\012\uffdb\016\uffdb\027\uffdb\030\uffdb" +
-    "\032\uffdb\037\uffdb\045\uffdb\047\uffdb\052\uffdb\053\uffdb\056" +
-    "\uffdb\063\uffdb\064\uffdb\001\002\000\004\056\006\001\002" +
-    "\000\006\020\uffca\026\265\001\002\000\004\020\263\001" +
-    "\002\000\004\015\264\001\002\000\040\006\uffe2\011\uffe2" +
-    "\012\uffe2\016\uffe2\027\uffe2\030\uffe2\032\uffe2\037\uffe2\045" +
-    "\uffe2\047\uffe2\052\uffe2\053\uffe2\056\uffe2\063\uffe2\064\uffe2" +
-    "\001\002\000\004\056\006\001\002\000\004\020\uffcb\001" +
-    "\002\000\020\005\ufff8\007\ufff8\015\250\023\ufff8\033\ufff8" +
-    "\046\ufff8\047\ufff8\001\002\000\016\005\ufff2\007\ufff2\023" +
-    "\ufff2\033\ufff2\046\ufff2\047\ufff2\001\002\000\010\010\030" +
-    "\015\026\042\031\001\002\000\034\006\ufffd\011\ufffd\012" +
-    "\ufffd\016\ufffd\027\ufffd\032\ufffd\037\ufffd\045\ufffd\047\ufffd" +
-    "\052\ufffd\053\ufffd\056\ufffd\064\ufffd\001\002\000\010\010" +
-    "\274\020\uffee\026\uffee\001\002\000\004\034\275\001\002" +
-    "\000\006\020\uffed\026\uffed\001\002\000\044\005\013\006" +
-    "\ufffc\007\017\011\ufffc\012\ufffc\016\ufffc\025\012\027\ufffc" +
-    "\032\ufffc\033\024\037\ufffc\045\ufffc\046\011\052\ufffc\053" +
-    "\ufffc\056\ufffc\064\ufffc\001\002\000\032\006\151\011\146" +
-    "\012\154\016\153\027\155\032\141\037\147\045\144\052" +
-    "\142\053\156\056\006\064\157\001\002\000\004\047\301" +
-    "\001\002\000\020\005\ufff8\007\ufff8\015\250\023\ufff8\033" +
-    "\ufff8\046\ufff8\047\ufff8\001\002\000\016\005\ufff3\007\ufff3" +
-    "\023\ufff3\033\ufff3\046\ufff3\047\ufff3\001\002\000\012\005" +
-    "\013\007\017\033\024\046\011\001\002\000\004\020\ufff0" +
-    "\001\002\000\004\014\306\001\002\000\014\005\013\007" +
-    "\017\020\307\033\024\046\011\001\002\000\004\045\321" +
-    "\001\002\000\004\020\311\001\002\000\004\045\312\001" +
-    "\002\000\046\005\013\006\ufffc\007\017\011\ufffc\012\ufffc" +
-    "\016\ufffc\025\012\027\ufffc\032\ufffc\033\024\037\ufffc\045" +
-    "\ufffc\046\011\047\ufffc\052\ufffc\053\ufffc\056\ufffc\064\ufffc" +
-    "\001\002\000\034\006\151\011\146\012\154\016\153\027" +
-    "\155\032\141\037\147\045\144\047\314\052\142\053\156" +
-    "\056\006\064\157\001\002\000\020\005\ufff8\007\ufff8\015" +
-    "\250\023\ufff8\033\ufff8\046\ufff8\047\ufff8\001\002\000\004" +
-    "\047\316\001\002\000\020\005\ufff8\007\ufff8\015\250\023" +
-    "\ufff8\033\ufff8\046\ufff8\047\ufff8\001\002\000\016\005\ufff6" +
-    "\007\ufff6\023\ufff6\033\ufff6\046\ufff6\047\ufff6\001\002\000" +
-    "\016\005\ufff4\007\ufff4\023\ufff4\033\ufff4\046\ufff4\047\ufff4" +
-    "\001\002\000\046\005\013\006\ufffc\007\017\011\ufffc\012" +
-    "\ufffc\016\ufffc\025\012\027\ufffc\032\ufffc\033\024\037\ufffc" +
-    "\045\ufffc\046\011\047\ufffc\052\ufffc\053\ufffc\056\ufffc\064" +
-    "\ufffc\001\002\000\034\006\151\011\146\012\154\016\153" +
-    "\027\155\032\141\037\147\045\144\047\323\052\142\053" +
-    "\156\056\006\064\157\001\002\000\020\005\ufff8\007\ufff8" +
-    "\015\250\023\ufff8\033\ufff8\046\ufff8\047\ufff8\001\002\000" +
-    "\004\047\325\001\002\000\020\005\ufff8\007\ufff8\015\250" +
-    "\023\ufff8\033\ufff8\046\ufff8\047\ufff8\001\002\000\016\005" +
-    "\ufff7\007\ufff7\023\ufff7\033\ufff7\046\ufff7\047\ufff7\001\002" +
-    "\000\016\005\ufff5\007\ufff5\023\ufff5\033\ufff5\046\ufff5\047" +
-    "\ufff5\001\002\000\004\047\uffff\001\002\000\004\002\000" +
-    "\001\002\000\004\047\ufffb\001\002\000\004\056\006\001" +
-    "\002\000\004\014\027\001\002\000\004\042\336\001\002" +
-    "\000\024\004\035\013\042\014\051\017\040\021\045\022" +
-    "\034\041\050\043\044\056\006\001\002\000\010\015\340" +
-    "\035\060\050\056\001\002\000\050\005\uffe9\006\uffe9\007" +
-    "\uffe9\011\uffe9\012\uffe9\016\uffe9\023\uffe9\025\uffe9\027\uffe9" +
-    "\032\uffe9\033\uffe9\037\uffe9\045\uffe9\046\uffe9\047\uffe9\052" +
-    "\uffe9\053\uffe9\056\uffe9\064\uffe9\001\002\000\004\002\001" +
-    "\001\002" });
+    "\uffaf\062\uffaf\001\002\000\052\003\uffe6\005\uffe6\006\uffe6" +
+    "\007\uffe6\011\uffe6\012\uffe6\016\uffe6\023\uffe6\025\uffe6\027" +
+    "\uffe6\032\uffe6\033\uffe6\037\uffe6\045\uffe6\046\uffe6\047\uffe6" +
+    "\052\uffe6\053\uffe6\056\uffe6\064\uffe6\001\002\000\024\004" +
+    "\044\013\051\014\060\017\047\021\057\022\043\041\056" +
+    "\043\053\056\006\001\002\000\024\004\044\013\051\014" +
+    "\060\017\047\021\057\022\043\041\056\043\053\056\006" +
+    "\001\002\000\024\004\044\013\051\014\060\017\047\021" +
+    "\057\022\043\041\056\043\053\056\006\001\002\000\024" +
+    "\004\044\013\051\014\060\017\047\021\057\022\043\041" +
+    "\056\043\053\056\006\001\002\000\024\004\044\013\051" +
+    "\014\060\017\047\021\057\022\043\041\056\043\053\056" +
+    "\006\001\002\000\024\004\044\013\051\014\060\017\047" +
+    "\021\057\022\043\041\056\043\053\056\006\001\002\000" +
+    "\024\004\044\013\051\014\060\017\047\021\057\022\043" +
+    "\041\056\043\053\056\006\001\002\000\024\004\044\013" +
+    "\051\014\060\017\047\021\057\022\043\041\056\043\053" +
+    "\056\006\001\002\000\042\015\uffb4\020\uffb4\024\uffb4\026" +
+    "\uffb4\031\uffb4\034\uffb4\035\uffb4\040\uffb4\050\uffb4\051\uffb4" +
+    "\054\uffb4\055\uffb4\057\105\060\106\061\uffb4\062\uffb4\001" +
+    "\002\000\024\004\044\013\051\014\060\017\047\021\057" +
+    "\022\043\041\056\043\053\056\006\001\002\000\024\004" +
+    "\044\013\051\014\060\017\047\021\057\022\043\041\056" +
+    "\043\053\056\006\001\002\000\042\015\uffb2\020\uffb2\024" +
+    "\uffb2\026\uffb2\031\uffb2\034\uffb2\035\uffb2\040\uffb2\050\uffb2" +
+    "\051\uffb2\054\uffb2\055\uffb2\057\uffb2\060\uffb2\061\uffb2\062" +
+    "\uffb2\001\002\000\042\015\uffb1\020\uffb1\024\uffb1\026\uffb1" +
+    "\031\uffb1\034\uffb1\035\uffb1\040\uffb1\050\uffb1\051\uffb1\054" +
+    "\uffb1\055\uffb1\057\uffb1\060\uffb1\061\uffb1\062\uffb1\001\002" +
+    "\000\022\015\uffb7\020\uffb7\026\uffb7\034\uffb7\035\uffb7\050" +
+    "\uffb7\061\100\062\103\001\002\000\022\015\uffba\020\uffba" +
+    "\026\uffba\034\uffba\035\uffba\050\uffba\061\100\062\103\001" +
+    "\002\000\042\015\uffb5\020\uffb5\024\uffb5\026\uffb5\031\uffb5" +
+    "\034\uffb5\035\uffb5\040\uffb5\050\uffb5\051\uffb5\054\uffb5\055" +
+    "\uffb5\057\105\060\106\061\uffb5\062\uffb5\001\002\000\022" +
+    "\015\uffb9\020\uffb9\026\uffb9\034\uffb9\035\uffb9\050\uffb9\061" +
+    "\100\062\103\001\002\000\022\015\uffbb\020\uffbb\026\uffbb" +
+    "\034\uffbb\035\uffbb\050\uffbb\061\100\062\103\001\002\000" +
+    "\022\015\uffb8\020\uffb8\026\uffb8\034\uffb8\035\uffb8\050\uffb8" +
+    "\061\100\062\103\001\002\000\022\015\uffbc\020\uffbc\026" +
+    "\uffbc\034\uffbc\035\uffbc\050\uffbc\061\100\062\103\001\002" +
+    "\000\026\004\044\013\051\014\060\017\047\020\126\021" +
+    "\057\022\043\041\056\043\053\056\006\001\002\000\024" +
+    "\004\044\013\051\014\060\017\047\021\057\022\043\041" +
+    "\056\043\053\056\006\001\002\000\010\034\123\035\067" +
+    "\050\065\001\002\000\050\015\uffa0\020\uffa0\024\uffa0\026" +
+    "\uffa0\027\uffa0\031\uffa0\034\uffa0\035\uffa0\040\uffa0\042\uffa0" +
+    "\050\uffa0\051\uffa0\053\uffa0\054\uffa0\055\uffa0\057\uffa0\060" +
+    "\uffa0\061\uffa0\062\uffa0\001\002\000\012\020\uffc4\026\130" +
+    "\035\067\050\065\001\002\000\004\020\127\001\002\000" +
+    "\042\015\uffab\020\uffab\024\uffab\026\uffab\031\uffab\034\uffab" +
+    "\035\uffab\040\uffab\050\uffab\051\uffab\054\uffab\055\uffab\057" +
+    "\uffab\060\uffab\061\uffab\062\uffab\001\002\000\042\015\uffaa" +
+    "\020\uffaa\024\uffaa\026\uffaa\031\uffaa\034\uffaa\035\uffaa\040" +
+    "\uffaa\050\uffaa\051\uffaa\054\uffaa\055\uffaa\057\uffaa\060\uffaa" +
+    "\061\uffaa\062\uffaa\001\002\000\024\004\044\013\051\014" +
+    "\060\017\047\021\057\022\043\041\056\043\053\056\006" +
+    "\001\002\000\004\020\uffc5\001\002\000\004\034\uff9f\001" +
+    "\002\000\004\034\134\001\002\000\004\015\135\001\002" +
+    "\000\052\003\uffe5\005\uffe5\006\uffe5\007\uffe5\011\uffe5\012" +
+    "\uffe5\016\uffe5\023\uffe5\025\uffe5\027\uffe5\032\uffe5\033\uffe5" +
+    "\037\uffe5\045\uffe5\046\uffe5\047\uffe5\052\uffe5\053\uffe5\056" +
+    "\uffe5\064\uffe5\001\002\000\006\020\uffea\026\321\001\002" +
+    "\000\004\056\006\001\002\000\004\047\314\001\002\000" +
+    "\004\045\307\001\002\000\004\020\143\001\002\000\004" +
+    "\045\144\001\002\000\046\003\150\005\012\006\ufffa\007" +
+    "\017\011\ufffa\012\ufffa\016\ufffa\025\013\027\ufffa\032\ufffa" +
+    "\033\025\037\ufffa\045\ufffa\046\011\052\ufffa\053\ufffa\056" +
+    "\ufffa\064\ufffa\001\002\000\050\003\150\005\012\006\ufffa" +
+    "\007\017\011\ufffa\012\ufffa\016\ufffa\025\013\027\ufffa\032" +
+    "\ufffa\033\025\037\ufffa\045\ufffa\046\011\047\ufffa\052\ufffa" +
+    "\053\ufffa\056\ufffa\064\ufffa\001\002\000\034\003\166\006" +
+    "\172\011\171\012\155\016\154\027\162\032\161\037\167" +
+    "\045\157\052\174\053\165\056\006\064\160\001\002\000" +
+    "\004\056\006\001\002\000\004\015\151\001\002\000\050" +
+    "\003\150\005\012\006\ufffa\007\017\011\ufffa\012\ufffa\016" +
+    "\ufffa\025\013\027\ufffa\032\ufffa\033\025\037\ufffa\045\ufffa" +
+    "\046\011\047\ufffa\052\ufffa\053\ufffa\056\ufffa\064\ufffa\001" +
+    "\002\000\036\003\ufffb\006\ufffb\011\ufffb\012\ufffb\016\ufffb" +
+    "\027\ufffb\032\ufffb\037\ufffb\045\ufffb\047\ufffb\052\ufffb\053" +
+    "\ufffb\056\ufffb\064\ufffb\001\002\000\012\003\034\010\037" +
+    "\015\035\042\040\001\002\000\004\014\277\001\002\000" +
+    "\004\056\006\001\002\000\004\015\274\001\002\000\050" +
+    "\003\150\005\012\006\ufffa\007\017\011\ufffa\012\ufffa\016" +
+    "\ufffa\025\013\027\ufffa\032\ufffa\033\025\037\ufffa\045\ufffa" +
+    "\046\011\047\ufffa\052\ufffa\053\ufffa\056\ufffa\064\ufffa\001" +
+    "\002\000\004\014\254\001\002\000\004\014\245\001\002" +
+    "\000\004\056\006\001\002\000\016\010\121\014\231\027" +
+    "\uffa1\042\uffa1\044\230\053\uffa1\001\002\000\004\047\226" +
+    "\001\002\000\004\056\006\001\002\000\044\003\uffcf\006" +
+    "\uffcf\011\uffcf\012\uffcf\015\223\016\uffcf\027\uffcf\030\uffcf" +
+    "\032\uffcf\037\uffcf\045\uffcf\047\uffcf\052\uffcf\053\uffcf\056" +
+    "\uffcf\063\uffcf\064\uffcf\001\002\000\026\004\044\013\051" +
+    "\014\060\015\221\017\047\021\057\022\043\041\056\043" +
+    "\053\056\006\001\002\000\036\003\166\006\172\011\171" +
+    "\012\155\016\154\027\162\032\161\037\167\045\157\047" +
+    "\uffe1\052\174\053\165\056\006\064\160\001\002\000\004" +
+    "\014\207\001\002\000\004\014\203\001\002\000\010\027" +
+    "\177\042\201\053\200\001\002\000\004\056\006\001\002" +
+    "\000\004\015\176\001\002\000\042\003\uffd5\006\uffd5\011" +
+    "\uffd5\012\uffd5\016\uffd5\027\uffd5\030\uffd5\032\uffd5\037\uffd5" +
+    "\045\uffd5\047\uffd5\052\uffd5\053\uffd5\056\uffd5\063\uffd5\064" +
+    "\uffd5\001\002\000\006\015\uffcd\020\uffcd\001\002\000\006" +
+    "\015\uffcc\020\uffcc\001\002\000\024\004\044\013\051\014" +
+    "\060\017\047\021\057\022\043\041\056\043\053\056\006" +
+    "\001\002\000\012\015\uffca\020\uffca\035\067\050\065\001" +
+    "\002\000\024\004\044\013\051\014\060\017\047\021\057" +
+    "\022\043\041\056\043\053\056\006\001\002\000\010\020" +
+    "\205\035\067\050\065\001\002\000\034\003\166\006\172" +
+    "\011\171\012\155\016\154\027\162\032\161\037\167\045" +
+    "\157\052\174\053\165\056\006\064\160\001\002\000\042" +
+    "\003\uffde\006\uffde\011\uffde\012\uffde\016\uffde\027\uffde\030" +
+    "\uffde\032\uffde\037\uffde\045\uffde\047\uffde\052\uffde\053\uffde" +
+    "\056\uffde\063\uffde\064\uffde\001\002\000\024\004\044\013" +
+    "\051\014\060\017\047\021\057\022\043\041\056\043\053" +
+    "\056\006\001\002\000\010\020\211\035\067\050\065\001" +
+    "\002\000\034\003\166\006\172\011\171\012\155\016\154" +
+    "\027\162\032\161\037\167\045\157\052\174\053\165\056" +
+    "\006\064\160\001\002\000\006\030\214\063\213\001\002" +
+    "\000\042\003\uffe0\006\uffe0\011\uffe0\012\uffe0\016\uffe0\027" +
+    "\uffe0\030\uffe0\032\uffe0\037\uffe0\045\uffe0\047\uffe0\052\uffe0" +
+    "\053\uffe0\056\uffe0\063\uffe0\064\uffe0\001\002\000\034\003" +
+    "\166\006\172\011\171\012\155\016\154\027\162\032\161" +
+    "\037\167\045\157\052\174\053\165\056\006\064\160\001" +
+    "\002\000\004\063\216\001\002\000\042\003\uffdf\006\uffdf" +
+    "\011\uffdf\012\uffdf\016\uffdf\027\uffdf\030\uffdf\032\uffdf\037" +
+    "\uffdf\045\uffdf\047\uffdf\052\uffdf\053\uffdf\056\uffdf\063\uffdf" +
+    "\064\uffdf\001\002\000\004\047\uffe2\001\002\000\010\015" +
+    "\222\035\067\050\065\001\002\000\042\003\uffd7\006\uffd7" +
+    "\011\uffd7\012\uffd7\016\uffd7\027\uffd7\030\uffd7\032\uffd7\037" +
+    "\uffd7\045\uffd7\047\uffd7\052\uffd7\053\uffd7\056\uffd7\063\uffd7" +
+    "\064\uffd7\001\002\000\042\003\uffd6\006\uffd6\011\uffd6\012" +
+    "\uffd6\016\uffd6\027\uffd6\030\uffd6\032\uffd6\037\uffd6\045\uffd6" +
+    "\047\uffd6\052\uffd6\053\uffd6\056\uffd6\063\uffd6\064\uffd6\001" +
+    "\002\000\042\003\uffd0\006\uffd0\011\uffd0\012\uffd0\016\uffd0" +
+    "\027\uffd0\030\uffd0\032\uffd0\037\uffd0\045\uffd0\047\uffd0\052" +
+    "\uffd0\053\uffd0\056\uffd0\063\uffd0\064\uffd0\001\002\000\006" +
+    "\015\uffcb\020\uffcb\001\002\000\020\010\121\015\uffa1\020" +
+    "\uffa1\026\uffa1\027\uffa1\042\uffa1\053\uffa1\001\002\000\022" +
+    "\003\ufff6\005\ufff6\007\ufff6\015\032\023\ufff6\033\ufff6\046" +
+    "\ufff6\047\ufff6\001\002\000\020\003\ufff0\005\ufff0\007\ufff0" +
+    "\023\ufff0\033\ufff0\046\ufff0\047\ufff0\001\002\000\004\006" +
+    "\237\001\002\000\026\004\044\013\051\014\060\017\047" +
+    "\020\233\021\057\022\043\041\056\043\053\056\006\001" +
+    "\002\000\004\020\235\001\002\000\004\015\234\001\002" +
+    "\000\042\003\uffda\006\uffda\011\uffda\012\uffda\016\uffda\027" +
+    "\uffda\030\uffda\032\uffda\037\uffda\045\uffda\047\uffda\052\uffda" +
+    "\053\uffda\056\uffda\063\uffda\064\uffda\001\002\000\004\015" +
+    "\236\001\002\000\042\003\uffd9\006\uffd9\011\uffd9\012\uffd9" +
+    "\016\uffd9\027\uffd9\030\uffd9\032\uffd9\037\uffd9\045\uffd9\047" +
+    "\uffd9\052\uffd9\053\uffd9\056\uffd9\063\uffd9\064\uffd9\001\002" +
+    "\000\004\014\240\001\002\000\024\004\044\013\051\014" +
+    "\060\017\047\021\057\022\043\041\056\043\053\056\006" +
+    "\001\002\000\010\020\242\035\067\050\065\001\002\000" +
+    "\034\003\166\006\172\011\171\012\155\016\154\027\162" +
+    "\032\161\037\167\045\157\052\174\053\165\056\006\064" +
+    "\160\001\002\000\042\003\uffdd\006\uffdd\011\uffdd\012\uffdd" +
+    "\016\uffdd\027\uffdd\030\uffdd\032\uffdd\037\uffdd\045\uffdd\047" +
+    "\uffdd\052\uffdd\053\uffdd\056\uffdd\063\uffdd\064\uffdd\001\002" +
+    "\000\006\015\uffce\020\uffce\001\002\000\004\056\006\001" +
+    "\002\000\006\020\uffc2\026\252\001\002\000\004\020\250" +
+    "\001\002\000\004\015\251\001\002\000\042\003\uffdc\006" +
+    "\uffdc\011\uffdc\012\uffdc\016\uffdc\027\uffdc\030\uffdc\032\uffdc" +
+    "\037\uffdc\045\uffdc\047\uffdc\052\uffdc\053\uffdc\056\uffdc\063" +
+    "\uffdc\064\uffdc\001\002\000\004\056\006\001\002\000\004" +
+    "\020\uffc3\001\002\000\004\056\006\001\002\000\004\042" +
+    "\256\001\002\000\024\004\044\013\051\014\060\017\047" +
+    "\021\057\022\043\041\056\043\053\056\006\001\002\000" +
+    "\010\015\260\035\067\050\065\001\002\000\024\004\044" +
+    "\013\051\014\060\017\047\021\057\022\043\041\056\043" +
+    "\053\056\006\001\002\000\010\015\262\035\067\050\065" +
+    "\001\002\000\010\027\162\053\165\056\006\001\002\000" +
+    "\004\020\264\001\002\000\034\003\166\006\172\011\171" +
+    "\012\155\016\154\027\162\032\161\037\167\045\157\052" +
+    "\174\053\165\056\006\064\160\001\002\000\042\003\uffd1" +
+    "\006\uffd1\011\uffd1\012\uffd1\016\uffd1\027\uffd1\030\uffd1\032" +
+    "\uffd1\037\uffd1\045\uffd1\047\uffd1\052\uffd1\053\uffd1\056\uffd1" +
+    "\063\uffd1\064\uffd1\001\002\000\036\003\166\006\172\011" +
+    "\171\012\155\016\154\027\162\032\161\037\167\045\157" +
+    "\047\267\052\174\053\165\056\006\064\160\001\002\000" +
+    "\044\003\ufff6\006\ufff6\011\ufff6\012\ufff6\015\032\016\ufff6" +
+    "\027\ufff6\030\ufff6\032\ufff6\037\ufff6\045\ufff6\047\ufff6\052" +
+    "\ufff6\053\ufff6\056\ufff6\063\ufff6\064\ufff6\001\002\000\004" +
+    "\047\271\001\002\000\044\003\ufff6\006\ufff6\011\ufff6\012" +
+    "\ufff6\015\032\016\ufff6\027\ufff6\030\ufff6\032\ufff6\037\ufff6" +
+    "\045\ufff6\047\ufff6\052\ufff6\053\ufff6\056\ufff6\063\ufff6\064" +
+    "\ufff6\001\002\000\042\003\uffd3\006\uffd3\011\uffd3\012\uffd3" +
+    "\016\uffd3\027\uffd3\030\uffd3\032\uffd3\037\uffd3\045\uffd3\047" +
+    "\uffd3\052\uffd3\053\uffd3\056\uffd3\063\uffd3\064\uffd3\001\002" +
+    "\000\042\003\uffd2\006\uffd2\011\uffd2\012\uffd2\016\uffd2\027" +
+    "\uffd2\030\uffd2\032\uffd2\037\uffd2\045\uffd2\047\uffd2\052\uffd2" +
+    "\053\uffd2\056\uffd2\063\uffd2\064\uffd2\001\002\000\042\003" +
+    "\uffd8\006\uffd8\011\uffd8\012\uffd8\016\uffd8\027\uffd8\030\uffd8" +
+    "\032\uffd8\037\uffd8\045\uffd8\047\uffd8\052\uffd8\053\uffd8\056" +
+    "\uffd8\063\uffd8\064\uffd8\001\002\000\004\015\276\001\002" +
+    "\000\042\003\uffd4\006\uffd4\011\uffd4\012\uffd4\016\uffd4\027" +
+    "\uffd4\030\uffd4\032\uffd4\037\uffd4\045\uffd4\047\uffd4\052\uffd4" +
+    "\053\uffd4\056\uffd4\063\uffd4\064\uffd4\001\002\000\024\004" +
+    "\044\013\051\014\060\017\047\021\057\022\043\041\056" +
+    "\043\053\056\006\001\002\000\012\020\uffc0\026\304\035" +
+    "\067\050\065\001\002\000\004\020\302\001\002\000\004" +
+    "\015\303\001\002\000\042\003\uffdb\006\uffdb\011\uffdb\012" +
+    "\uffdb\016\uffdb\027\uffdb\030\uffdb\032\uffdb\037\uffdb\045\uffdb" +
+    "\047\uffdb\052\uffdb\053\uffdb\056\uffdb\063\uffdb\064\uffdb\001" +
+    "\002\000\024\004\044\013\051\014\060\017\047\021\057" +
+    "\022\043\041\056\043\053\056\006\001\002\000\004\020" +
+    "\uffc1\001\002\000\036\003\ufffc\006\ufffc\011\ufffc\012\ufffc" +
+    "\016\ufffc\027\ufffc\032\ufffc\037\ufffc\045\ufffc\047\ufffc\052" +
+    "\ufffc\053\ufffc\056\ufffc\064\ufffc\001\002\000\046\003\150" +
+    "\005\012\006\ufffa\007\017\011\ufffa\012\ufffa\016\ufffa\025" +
+    "\013\027\ufffa\032\ufffa\033\025\037\ufffa\045\ufffa\046\011" +
+    "\052\ufffa\053\ufffa\056\ufffa\064\ufffa\001\002\000\034\003" +
+    "\166\006\172\011\171\012\155\016\154\027\162\032\161" +
+    "\037\167\045\157\052\174\053\165\056\006\064\160\001" +
+    "\002\000\004\047\312\001\002\000\022\003\ufff6\005\ufff6" +
+    "\007\ufff6\015\032\023\ufff6\033\ufff6\046\ufff6\047\ufff6\001" +
+    "\002\000\020\003\ufff1\005\ufff1\007\ufff1\023\ufff1\033\ufff1" +
+    "\046\ufff1\047\ufff1\001\002\000\022\003\ufff6\005\ufff6\007" +
+    "\ufff6\015\032\023\ufff6\033\ufff6\046\ufff6\047\ufff6\001\002" +
+    "\000\020\003\uffee\005\uffee\007\uffee\023\uffee\033\uffee\046" +
+    "\uffee\047\uffee\001\002\000\010\010\317\020\uffe9\026\uffe9" +
+    "\001\002\000\004\034\320\001\002\000\006\020\uffe8\026" +
+    "\uffe8\001\002\000\012\005\012\007\017\033\025\046\011" +
+    "\001\002\000\004\020\uffeb\001\002\000\052\003\uffe3\005" +
+    "\uffe3\006\uffe3\007\uffe3\011\uffe3\012\uffe3\016\uffe3\023\uffe3" +
+    "\025\uffe3\027\uffe3\032\uffe3\033\uffe3\037\uffe3\045\uffe3\046" +
+    "\uffe3\047\uffe3\052\uffe3\053\uffe3\056\uffe3\064\uffe3\001\002" +
+    "\000\004\014\325\001\002\000\016\003\326\005\012\007" +
+    "\017\020\327\033\025\046\011\001\002\000\004\047\350" +
+    "\001\002\000\004\045\341\001\002\000\004\020\331\001" +
+    "\002\000\004\045\332\001\002\000\050\003\150\005\012" +
+    "\006\ufffa\007\017\011\ufffa\012\ufffa\016\ufffa\025\013\027" +
+    "\ufffa\032\ufffa\033\025\037\ufffa\045\ufffa\046\011\047\ufffa" +
+    "\052\ufffa\053\ufffa\056\ufffa\064\ufffa\001\002\000\036\003" +
+    "\166\006\172\011\171\012\155\016\154\027\162\032\161" +
+    "\037\167\045\157\047\334\052\174\053\165\056\006\064" +
+    "\160\001\002\000\022\003\ufff6\005\ufff6\007\ufff6\015\032" +
+    "\023\ufff6\033\ufff6\046\ufff6\047\ufff6\001\002\000\004\047" +
+    "\336\001\002\000\022\003\ufff6\005\ufff6\007\ufff6\015\032" +
+    "\023\ufff6\033\ufff6\046\ufff6\047\ufff6\001\002\000\020\003" +
+    "\ufff4\005\ufff4\007\ufff4\023\ufff4\033\ufff4\046\ufff4\047\ufff4" +
+    "\001\002\000\020\003\ufff2\005\ufff2\007\ufff2\023\ufff2\033" +
+    "\ufff2\046\ufff2\047\ufff2\001\002\000\050\003\150\005\012" +
+    "\006\ufffa\007\017\011\ufffa\012\ufffa\016\ufffa\025\013\027" +
+    "\ufffa\032\ufffa\033\025\037\ufffa\045\ufffa\046\011\047\ufffa" +
+    "\052\ufffa\053\ufffa\056\ufffa\064\ufffa\001\002\000\036\003" +
+    "\166\006\172\011\171\012\155\016\154\027\162\032\161" +
+    "\037\167\045\157\047\343\052\174\053\165\056\006\064" +
+    "\160\001\002\000\022\003\ufff6\005\ufff6\007\ufff6\015\032" +
+    "\023\ufff6\033\ufff6\046\ufff6\047\ufff6\001\002\000\004\047" +
+    "\345\001\002\000\022\003\ufff6\005\ufff6\007\ufff6\015\032" +
+    "\023\ufff6\033\ufff6\046\ufff6\047\ufff6\001\002\000\020\003" +
+    "\ufff5\005\ufff5\007\ufff5\023\ufff5\033\ufff5\046\ufff5\047\ufff5" +
+    "\001\002\000\020\003\ufff3\005\ufff3\007\ufff3\023\ufff3\033" +
+    "\ufff3\046\ufff3\047\ufff3\001\002\000\022\003\ufff6\005\ufff6" +
+    "\007\ufff6\015\032\023\ufff6\033\ufff6\046\ufff6\047\ufff6\001" +
+    "\002\000\020\003\uffef\005\uffef\007\uffef\023\uffef\033\uffef" +
+    "\046\uffef\047\uffef\001\002\000\004\047\uffff\001\002\000" +
+    "\004\002\000\001\002\000\004\047\ufff9\001\002\000\004" +
+    "\056\006\001\002\000\004\047\026\001\002\000\004\014" +
+    "\036\001\002\000\004\042\361\001\002\000\024\004\044" +
+    "\013\051\014\060\017\047\021\057\022\043\041\056\043" +
+    "\053\056\006\001\002\000\010\015\363\035\067\050\065" +
+    "\001\002\000\052\003\uffe4\005\uffe4\006\uffe4\007\uffe4\011" +
+    "\uffe4\012\uffe4\016\uffe4\023\uffe4\025\uffe4\027\uffe4\032\uffe4" +
+    "\033\uffe4\037\uffe4\045\uffe4\046\uffe4\047\uffe4\052\uffe4\053" +
+    "\uffe4\056\uffe4\064\uffe4\001\002\000\004\002\001\001\002" +
+    "" });
 
   /** Access to parse-action table. */
   public short[][] action_table() {return _action_table;}
@@ -382,127 +422,135 @@ public class parser extends java_cup.runtime.lr_parser {
   /** <code>reduce_goto</code> table. */
   protected static final short[][] _reduce_table = 
     unpackFromStrings(new String[] {
-    "\000\337\000\004\003\003\001\001\000\002\001\001\000" +
+    "\000\362\000\004\003\003\001\001\000\002\001\001\000" +
     "\004\032\006\001\001\000\002\001\001\000\002\001\001" +
     "\000\016\004\014\006\017\010\013\013\015\016\022\033" +
-    "\021\001\001\000\002\001\001\000\004\032\334\001\001" +
-    "\000\002\001\001\000\012\006\331\010\013\016\332\033" +
-    "\021\001\001\000\002\001\001\000\016\004\327\006\017" +
+    "\021\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\032\357\001\001\000\012\006\353\010\013\016\354\033" +
+    "\021\001\001\000\002\001\001\000\016\004\351\006\017" +
     "\010\013\013\015\016\022\033\021\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\004\032\304" +
-    "\001\001\000\004\032\024\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\010\011\131\012\126" +
-    "\016\130\001\001\000\004\034\123\001\001\000\022\022" +
-    "\046\023\036\024\042\025\032\026\035\027\045\030\031" +
-    "\032\040\001\001\000\002\001\001\000\002\001\001\000" +
+    "\001\000\002\001\001\000\002\001\001\000\004\032\323" +
+    "\001\001\000\004\032\032\001\001\000\002\001\001\000" +
+    "\002\001\001\000\004\007\030\001\001\000\016\004\027" +
+    "\006\017\010\013\013\015\016\022\033\021\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\010\011" +
+    "\141\012\135\016\136\001\001\000\004\034\132\001\001" +
+    "\000\022\022\054\023\045\024\051\025\041\026\044\027" +
+    "\053\030\040\032\047\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\012\026\063" +
-    "\027\045\030\031\032\040\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\024\016\052\022\051" +
-    "\023\036\024\042\025\032\026\035\027\045\030\031\032" +
-    "\040\001\001\000\002\001\001\000\002\001\001\000\012" +
-    "\026\054\027\045\030\031\032\040\001\001\000\002\001" +
-    "\001\000\020\023\061\024\042\025\032\026\035\027\045" +
-    "\030\031\032\040\001\001\000\002\001\001\000\020\023" +
-    "\060\024\042\025\032\026\035\027\045\030\031\032\040" +
-    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\016\024\107\025\032\026\035" +
-    "\027\045\030\031\032\040\001\001\000\016\024\106\025" +
-    "\032\026\035\027\045\030\031\032\040\001\001\000\016" +
-    "\024\105\025\032\026\035\027\045\030\031\032\040\001" +
-    "\001\000\016\024\104\025\032\026\035\027\045\030\031" +
-    "\032\040\001\001\000\014\025\103\026\035\027\045\030" +
-    "\031\032\040\001\001\000\016\024\102\025\032\026\035" +
-    "\027\045\030\031\032\040\001\001\000\016\024\101\025" +
-    "\032\026\035\027\045\030\031\032\040\001\001\000\014" +
-    "\025\074\026\035\027\045\030\031\032\040\001\001\000" +
-    "\002\001\001\000\012\026\100\027\045\030\031\032\040" +
-    "\001\001\000\012\026\077\027\045\030\031\032\040\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\024" +
-    "\017\115\022\114\023\036\024\042\025\032\026\035\027" +
-    "\045\030\031\032\040\001\001\000\022\022\112\023\036" +
-    "\024\042\025\032\026\035\027\045\030\031\032\040\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\024\017\121\022\114\023\036\024\042\025\032\026\035" +
-    "\027\045\030\031\032\040\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\012" +
+    "\026\071\027\053\030\040\032\047\001\001\000\024\016" +
+    "\061\022\060\023\045\024\051\025\041\026\044\027\053" +
+    "\030\040\032\047\001\001\000\002\001\001\000\002\001" +
+    "\001\000\012\026\063\027\053\030\040\032\047\001\001" +
+    "\000\002\001\001\000\020\023\070\024\051\025\041\026" +
+    "\044\027\053\030\040\032\047\001\001\000\002\001\001" +
+    "\000\020\023\067\024\051\025\041\026\044\027\053\030" +
+    "\040\032\047\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\016\024\116\025" +
+    "\041\026\044\027\053\030\040\032\047\001\001\000\016" +
+    "\024\115\025\041\026\044\027\053\030\040\032\047\001" +
+    "\001\000\016\024\114\025\041\026\044\027\053\030\040" +
+    "\032\047\001\001\000\016\024\113\025\041\026\044\027" +
+    "\053\030\040\032\047\001\001\000\014\025\112\026\044" +
+    "\027\053\030\040\032\047\001\001\000\016\024\111\025" +
+    "\041\026\044\027\053\030\040\032\047\001\001\000\016" +
+    "\024\110\025\041\026\044\027\053\030\040\032\047\001" +
+    "\001\000\014\025\103\026\044\027\053\030\040\032\047" +
+    "\001\001\000\002\001\001\000\012\026\107\027\053\030" +
+    "\040\032\047\001\001\000\012\026\106\027\053\030\040" +
+    "\032\047\001\001\000\002\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\004\032" +
-    "\272\001\001\000\002\001\001\000\002\001\001\000\010" +
-    "\005\136\013\134\016\135\001\001\000\010\005\271\013" +
-    "\134\016\135\001\001\000\004\032\270\001\001\000\014" +
-    "\014\137\015\144\030\142\031\147\032\151\001\001\000" +
-    "\002\001\001\000\002\001\001\000\004\032\255\001\001" +
-    "\000\002\001\001\000\010\005\242\013\134\016\135\001" +
-    "\001\000\014\014\241\015\144\030\142\031\147\032\151" +
-    "\001\001\000\002\001\001\000\022\022\226\023\036\024" +
-    "\042\025\032\026\035\027\045\030\031\032\040\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\004\032\174\001\001\000\006\030\173" +
-    "\032\166\001\001\000\006\030\172\032\166\001\001\000" +
-    "\002\001\001\000\004\032\160\001\001\000\002\001\001" +
-    "\000\022\022\162\023\036\024\042\025\032\026\035\027" +
-    "\045\030\031\032\040\001\001\000\002\001\001\000\022" +
-    "\022\164\023\036\024\042\025\032\026\035\027\045\030" +
-    "\031\032\040\001\001\000\002\001\001\000\010\030\142" +
-    "\031\167\032\166\001\001\000\002\001\001\000\002\001" +
-    "\001\000\012\015\171\030\142\031\147\032\151\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\024\021\200\022\177" +
-    "\023\036\024\042\025\032\026\035\027\045\030\031\032" +
-    "\040\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\024\021\204\022\177\023" +
-    "\036\024\042\025\032\026\035\027\045\030\031\032\040" +
-    "\001\001\000\002\001\001\000\002\001\001\000\024\017" +
-    "\207\022\114\023\036\024\042\025\032\026\035\027\045" +
-    "\030\031\032\040\001\001\000\002\001\001\000\002\001" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\024\017\124\022\123\023\045\024\051\025\041" +
+    "\026\044\027\053\030\040\032\047\001\001\000\022\022" +
+    "\121\023\045\024\051\025\041\026\044\027\053\030\040" +
+    "\032\047\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\024\017\130\022\123\023\045\024\051\025" +
+    "\041\026\044\027\053\030\040\032\047\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\032\315" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\010\005\145\013\144\016\146" +
+    "\001\001\000\010\005\305\013\144\016\146\001\001\000" +
+    "\014\014\163\015\167\030\172\031\155\032\162\001\001" +
+    "\000\004\032\152\001\001\000\002\001\001\000\010\005" +
+    "\151\013\144\016\146\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\032\274\001\001\000" +
+    "\002\001\001\000\010\005\265\013\144\016\146\001\001" +
+    "\000\002\001\001\000\002\001\001\000\006\030\243\032" +
+    "\224\001\001\000\002\001\001\000\002\001\001\000\006" +
+    "\030\223\032\224\001\001\000\002\001\001\000\022\022" +
+    "\217\023\045\024\051\025\041\026\044\027\053\030\040" +
+    "\032\047\001\001\000\014\014\216\015\167\030\172\031" +
+    "\155\032\162\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\032\174\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\022\022\216\023\036\024\042\025" +
-    "\032\026\035\027\045\030\031\032\040\001\001\000\002" +
-    "\001\001\000\012\015\220\030\142\031\147\032\151\001" +
-    "\001\000\002\001\001\000\022\022\222\023\036\024\042" +
-    "\025\032\026\035\027\045\030\031\032\040\001\001\000" +
-    "\002\001\001\000\012\015\224\030\142\031\147\032\151" +
+    "\000\022\022\201\023\045\024\051\025\041\026\044\027" +
+    "\053\030\040\032\047\001\001\000\002\001\001\000\022" +
+    "\022\203\023\045\024\051\025\041\026\044\027\053\030" +
+    "\040\032\047\001\001\000\002\001\001\000\012\015\205" +
+    "\030\172\031\155\032\162\001\001\000\002\001\001\000" +
+    "\022\022\207\023\045\024\051\025\041\026\044\027\053" +
+    "\030\040\032\047\001\001\000\002\001\001\000\012\015" +
+    "\211\030\172\031\155\032\162\001\001\000\002\001\001" +
+    "\000\002\001\001\000\012\015\214\030\172\031\155\032" +
+    "\162\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\022\022\232" +
-    "\023\036\024\042\025\032\026\035\027\045\030\031\032" +
-    "\040\001\001\000\002\001\001\000\012\015\234\030\142" +
-    "\031\147\032\151\001\001\000\002\001\001\000\002\001" +
-    "\001\000\012\015\237\030\142\031\147\032\151\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\014\014\244\015\144\030\142\031\147\032\151\001\001" +
-    "\000\004\007\250\001\001\000\002\001\001\000\004\007" +
-    "\246\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001\000\002\001\001\000\022\022" +
-    "\254\023\036\024\042\025\032\026\035\027\045\030\031" +
-    "\032\040\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\010\020\261\030\260\032\166\001\001" +
-    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\010\020\265\030\260\032\166\001\001" +
-    "\000\002\001\001\000\004\007\267\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\010\005\276\013" +
-    "\134\016\135\001\001\000\014\014\277\015\144\030\142" +
-    "\031\147\032\151\001\001\000\002\001\001\000\004\007" +
-    "\301\001\001\000\002\001\001\000\010\011\303\012\126" +
-    "\016\130\001\001\000\002\001\001\000\002\001\001\000" +
-    "\010\011\307\012\126\016\130\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\010\005\312\013" +
-    "\134\016\135\001\001\000\014\014\314\015\144\030\142" +
-    "\031\147\032\151\001\001\000\004\007\317\001\001\000" +
-    "\002\001\001\000\004\007\316\001\001\000\002\001\001" +
-    "\000\002\001\001\000\010\005\321\013\134\016\135\001" +
-    "\001\000\014\014\323\015\144\030\142\031\147\032\151" +
-    "\001\001\000\004\007\326\001\001\000\002\001\001\000" +
-    "\004\007\325\001\001\000\002\001\001\000\002\001\001" +
+    "\000\004\007\226\001\001\000\002\001\001\000\002\001" +
+    "\001\000\024\017\231\022\123\023\045\024\051\025\041" +
+    "\026\044\027\053\030\040\032\047\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\022\022\240\023" +
+    "\045\024\051\025\041\026\044\027\053\030\040\032\047" +
+    "\001\001\000\002\001\001\000\012\015\242\030\172\031" +
+    "\155\032\162\001\001\000\002\001\001\000\002\001\001" +
+    "\000\010\020\246\030\245\032\224\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\010\020\252\030\245\032\224\001\001\000\002\001" +
+    "\001\000\004\032\254\001\001\000\002\001\001\000\022" +
+    "\022\256\023\045\024\051\025\041\026\044\027\053\030" +
+    "\040\032\047\001\001\000\002\001\001\000\022\022\260" +
+    "\023\045\024\051\025\041\026\044\027\053\030\040\032" +
+    "\047\001\001\000\002\001\001\000\010\030\172\031\262" +
+    "\032\224\001\001\000\002\001\001\000\012\015\264\030" +
+    "\172\031\155\032\162\001\001\000\002\001\001\000\014" +
+    "\014\267\015\167\030\172\031\155\032\162\001\001\000" +
+    "\004\007\272\001\001\000\002\001\001\000\004\007\271" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\024\021\300" +
+    "\022\277\023\045\024\051\025\041\026\044\027\053\030" +
+    "\040\032\047\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\024\021\304\022" +
+    "\277\023\045\024\051\025\041\026\044\027\053\030\040" +
+    "\032\047\001\001\000\002\001\001\000\002\001\001\000" +
+    "\010\005\307\013\144\016\146\001\001\000\014\014\310" +
+    "\015\167\030\172\031\155\032\162\001\001\000\002\001" +
+    "\001\000\004\007\312\001\001\000\002\001\001\000\004" +
+    "\007\314\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\010\011\321\012\135" +
+    "\016\136\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\010\011\327\012\135\016\136\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\004\032\333\001\001\000\002\001\001\000\002\001\001" +
-    "\000\022\022\336\023\036\024\042\025\032\026\035\027" +
-    "\045\030\031\032\040\001\001\000\002\001\001\000\002" +
-    "\001\001\000\002\001\001" });
+    "\002\001\001\000\010\005\332\013\144\016\146\001\001" +
+    "\000\014\014\334\015\167\030\172\031\155\032\162\001" +
+    "\001\000\004\007\337\001\001\000\002\001\001\000\004" +
+    "\007\336\001\001\000\002\001\001\000\002\001\001\000" +
+    "\010\005\341\013\144\016\146\001\001\000\014\014\343" +
+    "\015\167\030\172\031\155\032\162\001\001\000\004\007" +
+    "\346\001\001\000\002\001\001\000\004\007\345\001\001" +
+    "\000\002\001\001\000\002\001\001\000\004\007\350\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\032\356\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\022\022\361" +
+    "\023\045\024\051\025\041\026\044\027\053\030\040\032" +
+    "\047\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001" });
 
   /** Access to <code>reduce_goto</code> table. */
   public short[][] reduce_table() {return _reduce_table;}
@@ -550,15 +598,48 @@ public class parser extends java_cup.runtime.lr_parser {
   public java_cup.runtime.Symbol scan()
     throws java.lang.Exception
     {
- return Scanner.next_token(); 
+ return getScanner().next_token(); 
     }
 
 
+ // State for the compilation unit this parser belongs to
+ CompilationContext ctx;
+
+ public parser(java_cup.runtime.Scanner s, CompilationContext ctx)
+     {
+	  super(s);
+	  this.ctx = ctx;
+     }
+
+ public void report_error(String message, Object info)
+     {
+	  // Same text as lr_parser, but kept with the rest of this unit's output
+	  ctx.out.print(message);
+	  if (info instanceof Symbol && ((Symbol)info).left != -1)
+	       ctx.out.println(" at character " + ((Symbol)info).left + " of input");
+	  else
+	       ctx.out.println("");
+     }
+
  public void syntax_error(Symbol cur_token)
      {
- 	  report_error("CSX syntax error at line "+
-			String.valueOf(((CSXToken)cur_token.value).linenum),
-			null);
+	  // Counted, so P4 knows the tree came from a recovered parse
+	  ctx.reportSyntaxError(((CSXToken)cur_token.value).linenum);
+     }
+
+ // Marks a method whose text had a syntax error, so its body isn't type checked
+ methodDeclNode finishMethod(methodDeclNode m)
+     {
+	  m.hasSyntaxErrors = ctx.syntaxErrorSince(m.linenum);
+	  return m;
+     }
+
+ public void report_fatal_error(String message, Object info)
+     {
+	  // Stop the parse with an exception P4 can catch instead of a bare Exception
+	  done_parsing();
+	  report_error(message, info);
+	  throw new SyntaxErrorException();
      }
 
 }
@@ -587,7 +668,7 @@ class CUP$parser$actions {
       switch (CUP$parser$act_num)
         {
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 90: // intlit ::= INTLIT 
+          case 98: // intlit ::= INTLIT 
             {
               intLitNode RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -601,7 +682,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 89: // name ::= ident LBRACKET expr RBRACKET 
+          case 97: // name ::= ident LBRACKET expr RBRACKET 
             {
               nameNode RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
@@ -618,7 +699,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 88: // name ::= ident 
+          case 96: // name ::= ident 
             {
               nameNode RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -632,7 +713,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 87: // ident ::= IDENTIFIER 
+          case 95: // ident ::= IDENTIFIER 
             {
               identNode RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -648,7 +729,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 86: // unit ::= LPAREN expr RPAREN 
+          case 94: // unit ::= LPAREN expr RPAREN 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -665,7 +746,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 85: // unit ::= rw_FALSE 
+          case 93: // unit ::= rw_FALSE 
             {
               exprNode RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -680,7 +761,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 84: // unit ::= rw_TRUE 
+          case 92: // unit ::= rw_TRUE 
             {
               exprNode RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -695,7 +776,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 83: // unit ::= STRLIT 
+          case 91: // unit ::= STRLIT 
             {
               exprNode RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -711,7 +792,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 82: // unit ::= FLOATLIT 
+          case 90: // unit ::= FLOATLIT 
             {
               exprNode RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -727,7 +808,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 81: // unit ::= CHARLIT 
+          case 89: // unit ::= CHARLIT 
             {
               exprNode RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -743,7 +824,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 80: // unit ::= INTLIT 
+          case 88: // unit ::= INTLIT 
             {
               exprNode RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -759,7 +840,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 79: // unit ::= ident LPAREN args RPAREN 
+          case 87: // unit ::= ident LPAREN args RPAREN 
             {
               exprNode RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
@@ -776,7 +857,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 78: // unit ::= ident LPAREN RPAREN 
+          case 86: // unit ::= ident LPAREN RPAREN 
             {
               exprNode RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -790,7 +871,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 77: // unit ::= name 
+          case 85: // unit ::= name 
             {
               exprNode RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -804,7 +885,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 76: // unary ::= unit 
+          case 84: // unary ::= unit 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -818,7 +899,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 75: // unary ::= LPAREN type RPAREN unary 
+          case 83: // unary ::= LPAREN type RPAREN unary 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
@@ -838,7 +919,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 74: // unary ::= NOT unary 
+          case 82: // unary ::= NOT unary 
             {
               exprNode RESULT = null;
 		int oppleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -855,7 +936,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 73: // pri ::= unary 
+          case 81: // pri ::= unary 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -869,7 +950,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 72: // pri ::= pri SLASH unary 
+          case 80: // pri ::= pri SLASH unary 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -886,7 +967,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 71: // pri ::= pri TIMES unary 
+          case 79: // pri ::= pri TIMES unary 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -903,7 +984,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 70: // factor ::= pri 
+          case 78: // factor ::= pri 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -917,7 +998,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 69: // factor ::= factor MINUS pri 
+          case 77: // factor ::= factor MINUS pri 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -934,7 +1015,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 68: // factor ::= factor PLUS pri 
+          case 76: // factor ::= factor PLUS pri 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -951,7 +1032,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 67: // term ::= factor 
+          case 75: // term ::= factor 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -965,7 +1046,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 66: // term ::= factor NOTEQ factor 
+          case 74: // term ::= factor NOTEQ factor 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -982,7 +1063,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 65: // term ::= factor EQ factor 
+          case 73: // term ::= factor EQ factor 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -999,7 +1080,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 64: // term ::= factor GEQ factor 
+          case 72: // term ::= factor GEQ factor 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1016,7 +1097,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 63: // term ::= factor LEQ factor 
+          case 71: // term ::= factor LEQ factor 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1033,7 +1114,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 62: // term ::= factor GT factor 
+          case 70: // term ::= factor GT factor 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1050,7 +1131,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 61: // term ::= factor LT factor 
+          case 69: // term ::= factor LT factor 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1067,7 +1148,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 60: // expr ::= term 
+          case 68: // expr ::= term 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1081,7 +1162,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 59: // expr ::= expr CAND term 
+          case 67: // expr ::= expr CAND term 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1098,7 +1179,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 58: // expr ::= expr COR term 
+          case 66: // expr ::= expr COR term 
             {
               exprNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1115,7 +1196,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 57: // printlist ::= expr 
+          case 65: // printlist ::= expr 
             {
               printNode RESULT = null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1129,7 +1210,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 56: // printlist ::= expr COMMA printlist 
+          case 64: // printlist ::= expr COMMA printlist 
             {
               printNode RESULT = null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1146,7 +1227,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 55: // readlist ::= name 
+          case 63: // readlist ::= name 
             {
               readNode RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1160,7 +1241,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 54: // readlist ::= name COMMA readlist 
+          case 62: // readlist ::= name COMMA readlist 
             {
               readNode RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1177,7 +1258,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 53: // args ::= expr 
+          case 61: // args ::= expr 
             {
               argsNode RESULT = null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1191,7 +1272,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 52: // args ::= expr COMMA args 
+          case 60: // args ::= expr COMMA args 
             {
               argsNode RESULT = null;
 		int eleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1208,7 +1289,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 51: // type ::= rw_FLOAT 
+          case 59: // type ::= rw_FLOAT 
             {
               typeNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1222,7 +1303,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 50: // type ::= rw_BOOL 
+          case 58: // type ::= rw_BOOL 
             {
               typeNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1236,7 +1317,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 49: // type ::= rw_CHAR 
+          case 57: // type ::= rw_CHAR 
             {
               typeNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1250,7 +1331,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 48: // type ::= rw_INT 
+          case 56: // type ::= rw_INT 
             {
               typeNode RESULT = null;
 		int lleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1264,7 +1345,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 47: // update ::= name ASG expr 
+          case 55: // update ::= name ASG expr 
             {
               stmtNode RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1281,7 +1362,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 46: // update ::= DEC name 
+          case 54: // update ::= DEC name 
             {
               stmtNode RESULT = null;
 		int decleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1298,7 +1379,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 45: // update ::= name DEC 
+          case 53: // update ::= name DEC 
             {
               stmtNode RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1315,7 +1396,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 44: // update ::= name INC 
+          case 52: // update ::= name INC 
             {
               stmtNode RESULT = null;
 		int nleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1332,7 +1413,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 43: // update ::= INC name 
+          case 51: // update ::= INC name 
             {
               stmtNode RESULT = null;
 		int incleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1349,7 +1430,31 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 42: // stmt ::= rw_FOR LPAREN ident ASG expr SEMI expr SEMI update RPAREN stmt 
+          case 50: // stmt ::= error 
+            {
+              stmtNode RESULT = null;
+		
+					// Resynchronized before a closing brace or the start of another statement
+					RESULT = stmtNode.NULL;
+				
+              CUP$parser$result = new java_cup.runtime.Symbol(11/*stmt*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 49: // stmt ::= error SEMI 
+            {
+              stmtNode RESULT = null;
+		
+					// Resynchronized after the next semicolon
+					RESULT = stmtNode.NULL;
+				
+              CUP$parser$result = new java_cup.runtime.Symbol(11/*stmt*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 48: // stmt ::= rw_FOR LPAREN ident ASG expr SEMI expr SEMI update RPAREN stmt 
             {
               stmtNode RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-10)).left;
@@ -1378,7 +1483,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 41: // stmt ::= LBRACE fielddecls RBRACE optionalsemi 
+          case 47: // stmt ::= LBRACE fielddecls RBRACE optionalsemi 
             {
               stmtNode RESULT = null;
 		int lbleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
@@ -1398,7 +1503,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 40: // stmt ::= LBRACE fielddecls stmts RBRACE optionalsemi 
+          case 46: // stmt ::= LBRACE fielddecls stmts RBRACE optionalsemi 
             {
               stmtNode RESULT = null;
 		int lbleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).left;
@@ -1421,7 +1526,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 39: // stmt ::= rw_CONTINUE ident SEMI 
+          case 45: // stmt ::= rw_CONTINUE ident SEMI 
             {
               stmtNode RESULT = null;
 		int cleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1438,7 +1543,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 38: // stmt ::= rw_BREAK ident SEMI 
+          case 44: // stmt ::= rw_BREAK ident SEMI 
             {
               stmtNode RESULT = null;
 		int bleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1455,7 +1560,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 37: // stmt ::= rw_RETURN expr SEMI 
+          case 43: // stmt ::= rw_RETURN expr SEMI 
             {
               stmtNode RESULT = null;
 		int rleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1472,7 +1577,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 36: // stmt ::= rw_RETURN SEMI 
+          case 42: // stmt ::= rw_RETURN SEMI 
             {
               stmtNode RESULT = null;
 		int rleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1486,7 +1591,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 35: // stmt ::= update SEMI 
+          case 41: // stmt ::= update SEMI 
             {
               stmtNode RESULT = null;
 		int uleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1500,7 +1605,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 34: // stmt ::= ident LPAREN args RPAREN SEMI 
+          case 40: // stmt ::= ident LPAREN args RPAREN SEMI 
             {
               stmtNode RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).left;
@@ -1517,7 +1622,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 33: // stmt ::= ident LPAREN RPAREN SEMI 
+          case 39: // stmt ::= ident LPAREN RPAREN SEMI 
             {
               stmtNode RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
@@ -1531,7 +1636,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 32: // stmt ::= rw_PRINT LPAREN printlist RPAREN SEMI 
+          case 38: // stmt ::= rw_PRINT LPAREN printlist RPAREN SEMI 
             {
               stmtNode RESULT = null;
 		int pListleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1545,7 +1650,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 31: // stmt ::= rw_READ LPAREN readlist RPAREN SEMI 
+          case 37: // stmt ::= rw_READ LPAREN readlist RPAREN SEMI 
             {
               stmtNode RESULT = null;
 		int rleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).left;
@@ -1562,7 +1667,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 30: // stmt ::= ident COLON rw_WHILE LPAREN expr RPAREN stmt 
+          case 36: // stmt ::= ident COLON rw_WHILE LPAREN expr RPAREN stmt 
             {
               stmtNode RESULT = null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).left;
@@ -1582,7 +1687,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 29: // stmt ::= rw_WHILE LPAREN expr RPAREN stmt 
+          case 35: // stmt ::= rw_WHILE LPAREN expr RPAREN stmt 
             {
               stmtNode RESULT = null;
 		int wleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).left;
@@ -1602,7 +1707,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 28: // stmt ::= rw_IF LPAREN expr RPAREN stmt rw_ELSE stmt rw_ENDIF 
+          case 34: // stmt ::= rw_IF LPAREN expr RPAREN stmt rw_ELSE stmt rw_ENDIF 
             {
               stmtNode RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).left;
@@ -1628,7 +1733,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 27: // stmt ::= rw_IF LPAREN expr RPAREN stmt rw_ENDIF 
+          case 33: // stmt ::= rw_IF LPAREN expr RPAREN stmt rw_ENDIF 
             {
               stmtNode RESULT = null;
 		int ileft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).left;
@@ -1651,7 +1756,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 26: // stmts ::= stmt 
+          case 32: // stmts ::= stmt 
             {
               stmtsNode RESULT = null;
 		int stmtleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1665,7 +1770,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 25: // stmts ::= stmt stmts 
+          case 31: // stmts ::= stmt stmts 
             {
               stmtsNode RESULT = null;
 		int stmtleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1682,7 +1787,25 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 24: // fielddecl ::= rw_CONST ident ASG expr SEMI 
+          case 30: // fielddecl ::= type ident error SEMI 
+            {
+              declNode RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).right;
+		typeNode t = (typeNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).right;
+		identNode id = (identNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		
+					// Still declared, so later uses of it aren't reported too
+					RESULT = new varDeclNode(id, t, exprNode.NULL, t.linenum, t.colnum);
+				
+              CUP$parser$result = new java_cup.runtime.Symbol(9/*fielddecl*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 29: // fielddecl ::= rw_CONST ident ASG expr SEMI 
             {
               declNode RESULT = null;
 		int cleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).left;
@@ -1702,7 +1825,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 23: // fielddecl ::= type ident LBRACKET intlit RBRACKET SEMI 
+          case 28: // fielddecl ::= type ident LBRACKET intlit RBRACKET SEMI 
             {
               declNode RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).left;
@@ -1722,7 +1845,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 22: // fielddecl ::= type ident ASG expr SEMI 
+          case 27: // fielddecl ::= type ident ASG expr SEMI 
             {
               declNode RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).left;
@@ -1742,7 +1865,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 21: // fielddecl ::= type ident SEMI 
+          case 26: // fielddecl ::= type ident SEMI 
             {
               declNode RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1759,7 +1882,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 20: // argdecl ::= type ident LBRACKET RBRACKET 
+          case 25: // argdecl ::= type ident LBRACKET RBRACKET 
             {
               argDeclNode RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
@@ -1776,7 +1899,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 19: // argdecl ::= type ident 
+          case 24: // argdecl ::= type ident 
             {
               argDeclNode RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1793,7 +1916,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 18: // argdecls ::= argdecl 
+          case 23: // argdecls ::= argdecl 
             {
               argDeclsNode RESULT = null;
 		int aleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1807,7 +1930,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 17: // argdecls ::= argdecl COMMA argdecls 
+          case 22: // argdecls ::= argdecl COMMA argdecls 
             {
               argDeclsNode RESULT = null;
 		int aleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1824,7 +1947,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 16: // void ::= rw_VOID 
+          case 21: // void ::= rw_VOID 
             {
               voidTypeNode RESULT = null;
 		int vleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
@@ -1838,7 +1961,65 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 15: // methoddecl ::= type ident LPAREN argdecls RPAREN LBRACE fielddecls stmts RBRACE optionalsemi 
+          case 20: // methoddecl ::= error RBRACE optionalsemi 
+            {
+              methodDeclNode RESULT = null;
+		
+					RESULT = null;
+				
+              CUP$parser$result = new java_cup.runtime.Symbol(6/*methoddecl*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 19: // methoddecl ::= type ident LPAREN error RBRACE optionalsemi 
+            {
+              methodDeclNode RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).right;
+		typeNode t = (typeNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).right;
+		identNode id = (identNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		int rbleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
+		int rbright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
+		CSXToken rb = (CSXToken)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		
+					methodDeclNode m = new methodDeclNode(id, argDeclsNode.NULL, t, fieldDeclsNode.NULL, stmtsNode.NULL, t.linenum, t.colnum, rb.linenum);
+					m.hasSyntaxErrors = true;
+					m.argsUnknown = true;
+					RESULT = m;
+				
+              CUP$parser$result = new java_cup.runtime.Symbol(6/*methoddecl*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 18: // methoddecl ::= void ident LPAREN error RBRACE optionalsemi 
+            {
+              methodDeclNode RESULT = null;
+		int vleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).left;
+		int vright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).right;
+		voidTypeNode v = (voidTypeNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).right;
+		identNode id = (identNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		int rbleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
+		int rbright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
+		CSXToken rb = (CSXToken)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		
+					// Only the name and type of a method with a broken header are kept
+					methodDeclNode m = new methodDeclNode(id, argDeclsNode.NULL, v, fieldDeclsNode.NULL, stmtsNode.NULL, v.linenum, v.colnum, rb.linenum);
+					m.hasSyntaxErrors = true;
+					m.argsUnknown = true;
+					RESULT = m;
+				
+              CUP$parser$result = new java_cup.runtime.Symbol(6/*methoddecl*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 17: // methoddecl ::= type ident LPAREN argdecls RPAREN LBRACE fielddecls stmts RBRACE optionalsemi 
             {
               methodDeclNode RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-9)).left;
@@ -1860,14 +2041,14 @@ class CUP$parser$actions {
 		int rbright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
 		CSXToken rb = (CSXToken)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
 		
-					RESULT = new methodDeclNode(id, aDecls, t, fDecls, s, t.linenum, t.colnum, rb.linenum);
+					RESULT = parser.finishMethod(new methodDeclNode(id, aDecls, t, fDecls, s, t.linenum, t.colnum, rb.linenum));
 				
               CUP$parser$result = new java_cup.runtime.Symbol(6/*methoddecl*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-9)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
             }
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 14: // methoddecl ::= type ident LPAREN RPAREN LBRACE fielddecls stmts RBRACE optionalsemi 
+          case 16: // methoddecl ::= type ident LPAREN RPAREN LBRACE fielddecls stmts RBRACE optionalsemi 
             {
               methodDeclNode RESULT = null;
 		int tleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).left;
@@ -1886,14 +2067,14 @@ class CUP$parser$actions {
 		int rbright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
 		CSXToken rb = (CSXToken)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
 		
-					RESULT = new methodDeclNode(id, argDeclsNode.NULL, t, fDecls, s, t.linenum, t.colnum, rb.linenum);
+					RESULT = parser.finishMethod(new methodDeclNode(id, argDeclsNode.NULL, t, fDecls, s, t.linenum, t.colnum, rb.linenum));
 				
               CUP$parser$result = new java_cup.runtime.Symbol(6/*methoddecl*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
             }
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 13: // methoddecl ::= void ident LPAREN argdecls RPAREN LBRACE fielddecls RBRACE optionalsemi 
+          case 15: // methoddecl ::= void ident LPAREN argdecls RPAREN LBRACE fielddecls RBRACE optionalsemi 
             {
               methodDeclNode RESULT = null;
 		int vleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).left;
@@ -1912,14 +2093,14 @@ class CUP$parser$actions {
 		int rbright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
 		CSXToken rb = (CSXToken)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
 		
-					RESULT = new methodDeclNode(id, aDecls, v, fDecls, stmtsNode.NULL, v.linenum, v.colnum, rb.linenum);
+					RESULT = parser.finishMethod(new methodDeclNode(id, aDecls, v, fDecls, stmtsNode.NULL, v.linenum, v.colnum, rb.linenum));
 				
               CUP$parser$result = new java_cup.runtime.Symbol(6/*methoddecl*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
             }
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 12: // methoddecl ::= void ident LPAREN RPAREN LBRACE fielddecls RBRACE optionalsemi 
+          case 14: // methoddecl ::= void ident LPAREN RPAREN LBRACE fielddecls RBRACE optionalsemi 
             {
               methodDeclNode RESULT = null;
 		int vleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).left;
@@ -1935,14 +2116,14 @@ class CUP$parser$actions {
 		int rbright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
 		CSXToken rb = (CSXToken)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
 		
-					RESULT = new methodDeclNode(id, argDeclsNode.NULL, v, fDecls, stmtsNode.NULL, v.linenum, v.colnum, rb.linenum);
+					RESULT = parser.finishMethod(new methodDeclNode(id, argDeclsNode.NULL, v, fDecls, stmtsNode.NULL, v.linenum, v.colnum, rb.linenum));
 				
               CUP$parser$result = new java_cup.runtime.Symbol(6/*methoddecl*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
             }
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 11: // methoddecl ::= void ident LPAREN argdecls RPAREN LBRACE fielddecls stmts RBRACE optionalsemi 
+          case 13: // methoddecl ::= void ident LPAREN argdecls RPAREN LBRACE fielddecls stmts RBRACE optionalsemi 
             {
               methodDeclNode RESULT = null;
 		int vleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-9)).left;
@@ -1964,14 +2145,14 @@ class CUP$parser$actions {
 		int rbright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
 		CSXToken rb = (CSXToken)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
 		
-					RESULT = new methodDeclNode(id, aDecls, v, fDecls, s, v.linenum, v.colnum, rb.linenum);
+					RESULT = parser.finishMethod(new methodDeclNode(id, aDecls, v, fDecls, s, v.linenum, v.colnum, rb.linenum));
 				
               CUP$parser$result = new java_cup.runtime.Symbol(6/*methoddecl*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-9)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
             }
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 10: // methoddecl ::= void ident LPAREN RPAREN LBRACE fielddecls stmts RBRACE optionalsemi 
+          case 12: // methoddecl ::= void ident LPAREN RPAREN LBRACE fielddecls stmts RBRACE optionalsemi 
             {
               methodDeclNode RESULT = null;
 		int vleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).left;
@@ -1990,14 +2171,14 @@ class CUP$parser$actions {
 		int rbright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
 		CSXToken rb = (CSXToken)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
 		
-					RESULT = new methodDeclNode(id, argDeclsNode.NULL, v, fDecls, s, v.linenum, v.colnum, rb.linenum);
+					RESULT = parser.finishMethod(new methodDeclNode(id, argDeclsNode.NULL, v, fDecls, s, v.linenum, v.colnum, rb.linenum));
 				
               CUP$parser$result = new java_cup.runtime.Symbol(6/*methoddecl*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
             }
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 9: // optionalsemi ::= 
+          case 11: // optionalsemi ::= 
             {
               nullNode RESULT = null;
 
@@ -2006,7 +2187,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 8: // optionalsemi ::= SEMI 
+          case 10: // optionalsemi ::= SEMI 
             {
               nullNode RESULT = null;
 
@@ -2015,7 +2196,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 7: // methoddecls ::= 
+          case 9: // methoddecls ::= 
             {
               methodDeclsNode RESULT = null;
 		
@@ -2026,7 +2207,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 6: // methoddecls ::= methoddecl methoddecls 
+          case 8: // methoddecls ::= methoddecl methoddecls 
             {
               methodDeclsNode RESULT = null;
 		int mleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -2036,14 +2217,15 @@ class CUP$parser$actions {
 		int mDeclsright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right;
 		methodDeclsNode mDecls = (methodDeclsNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-0)).value;
 		
-					RESULT = new methodDeclsNode(m, mDecls, m.linenum, m.colnum);
+					// A method that couldn't be parsed at all is null
+					RESULT = m == null ? mDecls : new methodDeclsNode(m, mDecls, m.linenum, m.colnum);
 				
               CUP$parser$result = new java_cup.runtime.Symbol(4/*methoddecls*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
             }
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 5: // fielddecls ::= 
+          case 7: // fielddecls ::= 
             {
               fieldDeclsNode RESULT = null;
 		
@@ -2054,7 +2236,22 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 4: // fielddecls ::= fielddecl fielddecls 
+          case 6: // fielddecls ::= error SEMI fielddecls 
+            {
+              fieldDeclsNode RESULT = null;
+		int fDeclsleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
+		int fDeclsright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right;
+		fieldDeclsNode fDecls = (fieldDeclsNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-0)).value;
+		
+					// A declaration that didn't parse is dropped
+					RESULT = fDecls;
+				
+              CUP$parser$result = new java_cup.runtime.Symbol(3/*fielddecls*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 5: // fielddecls ::= fielddecl fielddecls 
             {
               fieldDeclsNode RESULT = null;
 		int fleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -2070,6 +2267,21 @@ class CUP$parser$actions {
             }
           return CUP$parser$result;
 
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 4: // memberdecls ::= error SEMI memberdecls 
+            {
+              memberDeclsNode RESULT = null;
+		int memDeclsleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).left;
+		int memDeclsright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right;
+		memberDeclsNode memDecls = (memberDeclsNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-0)).value;
+		
+					// A field that didn't parse is dropped
+					RESULT = memDecls;
+				
+              CUP$parser$result = new java_cup.runtime.Symbol(2/*memberdecls*/, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-0)).right, RESULT);
+            }
+          return CUP$parser$result;
+
           /*. . . . . . . . . . . . . . . . . . . .*/
           case 3: // memberdecls ::= methoddecls 
             {
@@ -1,7 +1,7 @@
 
 //----------------------------------------------------
 // The following code was generated by CUP v0.10k
-// Fri Dec 04 22:10:30 EST 2015
+// Sat Oct 17 03:32:21 UTC 2026
 //----------------------------------------------------
 
 /** CUP generated class containing symbol constants. */
@@ -52,6 +52,7 @@ public class sym {
   public static final int CAND = 38;
   public static final int RBRACE = 37;
   public static final int LEQ = 39;
+  public static final int BADTOKEN = 51;
   public static final int rw_BREAK = 40;
   public static final int DEC = 41;
   public static final int rw_ENDIF = 49;
@@ -0,0 +1,153 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.nio.file.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+
+/**************************************************
+ * A tree written by AstWriter and read back by AstReader must be the tree
+ * the parser built, field for field, and unparse to the same text: the
+ * samples in Tests/ as they are, and damaged so that error recovery builds
+ * the trees. A stream that isn't a whole tree must fail to read.
+ ****************************************************/
+
+class AstRoundTripTest
+{
+	static final PrintStream QUIET = new PrintStream(OutputStream.nullOutputStream());
+
+	/* The samples, found from the top of the tree or from the module Maven runs in */
+	static List<Path> samples() throws IOException
+	{
+		Path dir = Paths.get("Tests");
+		if (!Files.isDirectory(dir)) {
+			dir = Paths.get("..", "Tests");
+		}
+		List<Path> files = new ArrayList<Path>();
+		try (DirectoryStream<Path> csx = Files.newDirectoryStream(dir, "*.csx")) {
+			for (Path file : csx) {
+				files.add(file);
+			}
+		}
+		Collections.sort(files);
+		assertFalse(files.isEmpty(), "no samples in " + dir);
+		return files;
+	}
+
+	/* The tree the CUP parser builds, or null if recovery gave up */
+	static classNode parse(String source) throws Exception
+	{
+		Scanner scanner = new Scanner();
+		scanner.reset(new StringReader(source), QUIET);
+		try {
+			return (classNode) new parser(scanner, new CompilationContext(QUIET)).parse().value;
+		} catch (SyntaxErrorException e) {
+			return null;
+		}
+	}
+
+	static byte[] encode(ASTNode tree) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		AstWriter writer = new AstWriter(bytes);
+		writer.writeTree(tree);
+		writer.flush();
+		return bytes.toByteArray();
+	}
+
+	static String unparse(ASTNode tree)
+	{
+		StringBuilder text = new StringBuilder();
+		CodeWriter code = new CodeWriter(text);
+		tree.Unparse(code, 0);
+		code.flush();
+		return text.toString();
+	}
+
+	/* Null if the two subtrees match, otherwise the field path to where they differ */
+	static String difference(Object a, Object b) throws IllegalAccessException
+	{
+		if (a == b) {
+			return null;
+		}
+		if (a == null || b == null || a.getClass() != b.getClass()) {
+			return ": " + a + " vs " + b;
+		}
+		if (a instanceof Name) {
+			return a.toString().equals(b.toString()) ? null : ": " + a + " vs " + b;
+		}
+		if (!(a instanceof ASTNode)) {
+			return a.equals(b) ? null : ": " + a + " vs " + b;
+		}
+		for (Class<?> c = a.getClass(); c != Object.class; c = c.getSuperclass()) {
+			for (Field f : c.getDeclaredFields()) {
+				if (!Modifier.isStatic(f.getModifiers())) {
+					f.setAccessible(true);
+					String difference = difference(f.get(a), f.get(b));
+					if (difference != null) {
+						return "." + f.getName() + difference;
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	static void assertRoundTrips(String label, classNode tree) throws Exception
+	{
+		ASTNode read = new AstReader(new ByteArrayInputStream(encode(tree))).readTree();
+		assertNull(difference(tree, read), label);
+		assertEquals(unparse(tree), unparse(read), label);
+	}
+
+	@Test
+	void samplesRoundTrip() throws Exception
+	{
+		for (Path file : samples()) {
+			classNode tree = parse(Files.readString(file));
+			assertNotNull(tree, file.toString());
+			assertRoundTrips(file.toString(), tree);
+		}
+	}
+
+	@Test
+	void damagedSamplesRoundTrip() throws Exception
+	{
+		Random random = new Random(1);
+		for (Path file : samples()) {
+			String source = Files.readString(file);
+			for (int i = 0; i < 20; i++) {
+				// Cut out a few characters, which leaves syntax errors for recovery to work around
+				int at = random.nextInt(source.length());
+				int end = Math.min(source.length(), at + 1 + random.nextInt(8));
+				classNode tree = parse(source.substring(0, at) + source.substring(end));
+				if (tree != null) {
+					assertRoundTrips(file + " without " + at + ".." + end, tree);
+				}
+			}
+		}
+	}
+
+	@Test
+	void encodingIsSmallerThanSource() throws Exception
+	{
+		long source = 0;
+		long encoded = 0;
+		for (Path file : samples()) {
+			source += Files.size(file);
+			encoded += encode(parse(Files.readString(file))).length;
+		}
+		assertTrue(encoded < source * 3 / 4, encoded + " bytes encoded from " + source + " of source");
+	}
+
+	@Test
+	void partialTreeFailsToRead() throws Exception
+	{
+		byte[] whole = encode(parse(Files.readString(samples().get(0))));
+		byte[] part = Arrays.copyOf(whole, whole.length / 2);
+		assertThrows(IOException.class, () -> new AstReader(new ByteArrayInputStream(part)).readTree());
+		byte[] foreign = "class A { }".getBytes("US-ASCII");
+		assertThrows(IOException.class, () -> new AstReader(new ByteArrayInputStream(foreign)).readTree());
+	}
+} // class AstRoundTripTest
@@ -0,0 +1,94 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+
+/**************************************************
+ * An IncrementalChecker that has seen earlier versions of a file must print
+ * exactly what a full check of the edited file prints, whether it parsed
+ * only the methods an edit touched or fell back to parsing everything: the
+ * samples in Tests/ put through a run of random edits, and edits to one
+ * method of a larger class, which must not parse the rest again.
+ ****************************************************/
+
+class IncrementalCheckerTest
+{
+	/* What P4 prints for source, checked incrementally if checker isn't null */
+	static String check(String source, IncrementalChecker checker) throws Exception
+	{
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer, true, "UTF-8");
+		P4.check(new StringReader(source), out, checker);
+		return buffer.toString("UTF-8");
+	}
+
+	/* source with a few characters cut out of it, or something typed in, at random */
+	static String edit(String source, Random random)
+	{
+		String[] typed = { "\n", "\n\t\t", " ", "x", "1", ";", "}", "{", "//", "##", "\"", "int j;\n", "j = 2;\n" };
+		int at = random.nextInt(source.length() + 1);
+		if (random.nextBoolean() && at < source.length()) {
+			return source.substring(0, at) + source.substring(Math.min(source.length(), at + 1 + random.nextInt(4)));
+		}
+		return source.substring(0, at) + typed[random.nextInt(typed.length)] + source.substring(at);
+	}
+
+	@Test
+	void editedSamplesPrintAsInFull() throws Exception
+	{
+		Random random = new Random(1);
+		for (Path file : AstRoundTripTest.samples()) {
+			String source = Files.readString(file);
+			IncrementalChecker checker = new IncrementalChecker();
+			check(source, checker);
+			for (int i = 0; i < 30; i++) {
+				// Undo now and then, so there are clean versions to start from again
+				String edited = random.nextInt(4) == 0 ? Files.readString(file) : edit(source, random);
+				assertEquals(check(edited, null), check(edited, checker), file + " after edit " + i);
+				source = edited;
+			}
+		}
+	}
+
+	/* A class of methods methods, every third with a type error, and a main */
+	static String program(int methods)
+	{
+		StringBuilder source = new StringBuilder("class P {\n\tint g = 1;\n");
+		for (int i = 0; i < methods; i++) {
+			source.append("\tint f").append(i).append("(int a) {\n")
+					.append("\t\tint j = a;\n")
+					.append(i % 3 == 0 ? "\t\tj = true;\n" : "\t\tj = j + g;\n")
+					.append("\t\treturn j;\n\t}\n");
+		}
+		return source.append("\tvoid main() {\n\t\tprint(f1(2));\n\t}\n}\n").toString();
+	}
+
+	@Test
+	void bodyEditsParseOnlyThatMethod() throws Exception
+	{
+		String source = program(30);
+		IncrementalChecker checker = new IncrementalChecker();
+		check(source, checker);
+		assertEquals(-1, checker.reparsed);
+
+		String[][] edits = {
+			{ "int f10(int a) {\n\t\tint j = a;\n", "int f10(int a) {\n\t\tint j = a;\n\n\t\tj = q;\n" },
+			{ "int f20(int a) {\n\t\tint j = a;\n\t\tj = j + g;\n", "int f20(int a) {\n\t\tint j = a;\n" },
+			{ "print(f1(2));", "print(f1(3));\n" },
+		};
+		for (String[] edit : edits) {
+			source = source.replace(edit[0], edit[1]);
+			assertEquals(check(source, null), check(source, checker), edit[1]);
+			assertEquals(1, checker.reparsed, edit[1]);
+			assertEquals(1, checker.rechecked, edit[1]);
+			assertEquals(30, checker.reused, edit[1]);
+		}
+
+		// A header edit changes what every body is checked against
+		source = source.replace("int f5(int a)", "int f5(bool a)");
+		assertEquals(check(source, null), check(source, checker));
+		assertEquals(-1, checker.reparsed);
+	}
+} // class IncrementalCheckerTest
@@ -0,0 +1,179 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.file.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**************************************************
+ * Programs compiled by JvmBackend must behave as they do in the
+ * Interpreter and on the IR: the same output, and the same message on
+ * the same line when they fail. A program too large for a class file is
+ * interpreted instead, without stopping the batch.
+ ****************************************************/
+
+class JvmBackendTest
+{
+	@AfterEach
+	void resetOptions()
+	{
+		P4.run = false;
+		P4.jvm = false;
+		P4.ir = false;
+		P4.classDir = null;
+	}
+
+	/* Checks and runs source as P4 --run would with engine ("tree", "jvm" or "ir"), returning what it printed */
+	static String run(String source, String engine) throws Exception
+	{
+		P4.run = true;
+		P4.jvm = engine.equals("jvm");
+		P4.ir = engine.equals("ir");
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer, true, "UTF-8");
+		assertEquals(P4.PASSED, P4.check(new StringReader(source), out, null));
+		return buffer.toString("UTF-8");
+	}
+
+	static void assertSameInAllEngines(String source, String error) throws Exception
+	{
+		String tree = run(source, "tree");
+		assertTrue(tree.contains(error), tree);
+		assertEquals(tree, run(source, "jvm"));
+		assertEquals(tree, run(source, "ir"));
+	}
+
+	@Test
+	void indexOutsideArray() throws Exception
+	{
+		assertSameInAllEngines("""
+				class A {
+					int g[10];
+					void main() {
+						int i = 0;
+						for (i = 0; i < 10; i++)
+							g[i] = i;
+						print(g[9], '\\n');
+						print(g[i]);
+					}
+				}
+				""", "Runtime error (line 8): index 10 is outside g[10].");
+	}
+
+	@Test
+	void negativeIndexStoringFloat() throws Exception
+	{
+		assertSameInAllEngines("""
+				class A {
+					void main() {
+						float a[3];
+						int k = 0 - 1;
+						a[k] = 1.0;
+					}
+				}
+				""", "Runtime error (line 5): index -1 is outside a[3].");
+	}
+
+	@Test
+	void indexOutsideBoolArray() throws Exception
+	{
+		assertSameInAllEngines("""
+				class A {
+					void main() {
+						bool d[2];
+						int x = 5;
+						d[1] = true;
+						print(d[1]);
+						d[x] = false;
+					}
+				}
+				""", "Runtime error (line 7): index 5 is outside d[2].");
+	}
+
+	@Test
+	void arraysOfDifferentLengths() throws Exception
+	{
+		assertSameInAllEngines("""
+				class A {
+					int a[3];
+					int b[4];
+					void main() {
+						a = b;
+					}
+				}
+				""", "Runtime error (line 5): arrays a and b differ in length.");
+	}
+
+	@Test
+	void divisionByZero() throws Exception
+	{
+		assertSameInAllEngines("""
+				class A {
+					int z = 0;
+					void main() {
+						print(7 / z);
+					}
+				}
+				""", "Runtime error (line 4): division by zero.");
+	}
+
+	@Test
+	void breakToNoLoop() throws Exception
+	{
+		assertSameInAllEngines("""
+				class A {
+					void main() {
+						int i = 0;
+						while (i < 3) {
+							break nowhere;
+						}
+					}
+				}
+				""", "Runtime error (line 2): no loop labelled nowhere to leave in main.");
+	}
+
+	/* A main of statements statements, each adding to and printing a variable */
+	static String hugeMain(int statements)
+	{
+		StringBuilder source = new StringBuilder("class Huge {\n\tvoid main() {\n\t\tint x = 0;\n");
+		for (int i = 0; i < statements; i++) {
+			source.append("\t\tx = x + ").append(i % 100).append(";\n");
+		}
+		source.append("\t\tprint(x);\n\t}\n}\n");
+		return source.toString();
+	}
+
+	@Test
+	void hugeMainIsInterpreted() throws Exception
+	{
+		String source = hugeMain(20000);
+		String tree = run(source, "tree");
+		String jvm = run(source, "jvm");
+		String note = "Note: running Huge in the interpreter, as method main compiles to ";
+		assertTrue(jvm.contains(note), jvm);
+		assertEquals(tree, jvm.replaceFirst(note + ".*\\R", ""));
+	}
+
+	@Test
+	void hugeMainWritesNoClassFile(@TempDir Path dir) throws Exception
+	{
+		P4.classDir = dir;
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer, true, "UTF-8");
+		assertEquals(P4.PASSED, P4.check(new StringReader(hugeMain(20000)), out, null));
+		assertTrue(buffer.toString("UTF-8").contains("Error: no class file written, as method main compiles to "));
+		assertFalse(Files.exists(dir.resolve("csx/Huge.class")));
+	}
+
+	@Test
+	void smallMainIsCompiled(@TempDir Path dir) throws Exception
+	{
+		P4.classDir = dir;
+		String source = hugeMain(100);
+		String jvm = run(source, "jvm");
+		assertFalse(jvm.contains("Note:"), jvm);
+		assertEquals(run(source, "tree"), jvm);
+		assertTrue(Files.exists(dir.resolve("csx/Huge.class")));
+	}
+} // class JvmBackendTest
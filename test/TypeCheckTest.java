@@ -0,0 +1,71 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import org.junit.jupiter.api.Test;
+
+/**************************************************
+ * Type checking checks every value of a PRINT, and stops with a message
+ * once --max-errors errors have been reported, whether the program is a
+ * class or a CSX-lite block of fields and statements.
+ ****************************************************/
+
+class TypeCheckTest
+{
+	static final String NOT_PRINTABLE = "The following are valid for printing: INT, BOOL, REAL, CHAR, and STRING "
+			+ "variables, values, and scalar parameters. CHAR arrays and array parameters.";
+
+	/* Checks source as P4 does, returning the errors it reported */
+	static String errors(String source) throws Exception
+	{
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer, true, "UTF-8");
+		assertEquals(P4.TYPE_ERRORS, P4.check(new StringReader(source), out, null));
+		StringBuilder errors = new StringBuilder();
+		for (String line : buffer.toString("UTF-8").split("\\R")) {
+			if (line.startsWith("Error")) {
+				errors.append(line).append('\n');
+			}
+		}
+		return errors.toString();
+	}
+
+	@Test
+	void everyPrintValueIsChecked() throws Exception
+	{
+		assertEquals("Error (line 3): ID zz was referenced but was not yet declared.\n"
+				+ "Error (line 3): " + NOT_PRINTABLE + "\n"
+				+ "Error (line 4): " + NOT_PRINTABLE + "\n", errors("""
+				class A {
+					void main() {
+						print(1, zz);
+						print('a', 2, main);
+					}
+				}
+				"""));
+	}
+
+	/* A CSX-lite program assigning 1 to each of the (undeclared) names given */
+	static csxLiteNode assignments(String... names)
+	{
+		NameTable table = new NameTable();
+		stmtsNode stmts = stmtsNode.NULL;
+		for (int i = names.length - 1; i >= 0; i--) {
+			int line = i + 1;
+			identNode id = new identNode(table.lookup(names[i]), line, 1);
+			nameNode target = new nameNode(id, exprNode.NULL, line, 1);
+			stmts = new stmtsNode(new asgNode(target, new intLitNode(1, line, 5), line, 1), stmts, line, 1);
+		}
+		return new csxLiteNode(fieldDeclsNode.NULL, stmts, 0, 0);
+	}
+
+	@Test
+	void csxLiteStopsAtErrorLimit() throws Exception
+	{
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer, true, "UTF-8");
+		CompilationContext ctx = new CompilationContext(out, 2);
+		assertFalse(assignments("a", "b", "c", "d").isTypeCorrect(ctx));
+		assertEquals(2, ctx.diagnostics.errorCount());
+		assertTrue(buffer.toString("UTF-8").contains("Reached the limit of 2 errors, type checking stopped."));
+	}
+} // class TypeCheckTest